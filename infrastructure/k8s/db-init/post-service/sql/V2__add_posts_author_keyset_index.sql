@@ -0,0 +1,8 @@
+-- Keyset pagination of an author's posts. Post ids are ULIDs, so id order is
+-- creation order and no created_at sort is needed:
+--   WHERE author_id = ? AND is_deleted = false AND id < ? ORDER BY id DESC
+-- The new index has author_id as its leading column, so it replaces the
+-- single-column one.
+CREATE INDEX IF NOT EXISTS idx_posts_author_id_desc
+    ON posts (author_id, id DESC) WHERE is_deleted = false;
+DROP INDEX IF EXISTS idx_posts_author_id;
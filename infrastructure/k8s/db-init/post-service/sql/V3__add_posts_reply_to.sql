@@ -0,0 +1,9 @@
+-- Replies point at their parent post. The entity has always mapped
+-- reply_to_id, but the column was missing from V1.
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS reply_to_id UUID;
+
+-- Thread loading walks the reply tree one level at a time:
+--   WHERE reply_to_id = ? AND is_deleted = false [AND id > ?] ORDER BY id LIMIT ?
+-- Ids are ULIDs, so each branch comes back in reply order.
+CREATE INDEX IF NOT EXISTS idx_posts_reply_to_id
+    ON posts (reply_to_id, id) WHERE is_deleted = false;
@@ -0,0 +1,11 @@
+-- Transactional outbox: domain events are inserted in the same transaction as
+-- the write that produced them and relayed to Kafka by OutboxRelay, which
+-- deletes each row once the broker has acknowledged it.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id            BIGSERIAL    PRIMARY KEY,
+    aggregate_key VARCHAR(64)  NOT NULL,
+    topic         VARCHAR(128) NOT NULL,
+    event_class   VARCHAR(255) NOT NULL,
+    payload       BYTEA        NOT NULL,
+    created_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
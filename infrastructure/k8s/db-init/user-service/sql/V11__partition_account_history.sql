@@ -0,0 +1,42 @@
+-- Monthly range partitioning of account_history.
+--
+-- Partitions are named account_history_pYYYYMM. user-service creates the
+-- upcoming months and drops those past retention at runtime
+-- (AccountHistoryPartitionManager); this migration only converts the table
+-- and creates partitions for the rows that already exist plus the next
+-- months, so the service can start against it.
+ALTER TABLE account_history RENAME TO account_history_legacy;
+
+CREATE TABLE account_history (
+    id          UUID        NOT NULL DEFAULT gen_random_uuid(),
+    user_id     UUID        NOT NULL,
+    action      VARCHAR(50) NOT NULL,
+    detail      JSONB,
+    ip          INET,
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (created_at, id)
+) PARTITION BY RANGE (created_at);
+
+-- Keyset reads: WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_account_history_user_created
+    ON account_history (user_id, created_at DESC, id DESC);
+
+DO $$
+DECLARE
+    m     DATE;
+    last  DATE := date_trunc('month', NOW() + INTERVAL '2 months');
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(created_at)), date_trunc('month', NOW()))
+      INTO m FROM account_history_legacy;
+    WHILE m <= last LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF account_history FOR VALUES FROM (%L) TO (%L)',
+            'account_history_p' || to_char(m, 'YYYYMM'), m, (m + INTERVAL '1 month')::date);
+        m := (m + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO account_history (id, user_id, action, detail, ip, created_at)
+SELECT id, user_id, action, detail, ip, created_at FROM account_history_legacy;
+
+DROP TABLE account_history_legacy;
@@ -0,0 +1,5 @@
+-- Keyset pagination of a user's pending follow-request inbox:
+--   WHERE target_id = ? AND status = 'PENDING' AND (created_at, id) < (?, ?)
+--   ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_follow_req_target_pending
+    ON follow_requests (target_id, created_at DESC, id DESC) WHERE status = 'PENDING';
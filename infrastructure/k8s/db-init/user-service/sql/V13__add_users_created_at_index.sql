@@ -0,0 +1,3 @@
+-- Incremental catch-up of the per-pod user existence filter:
+--   SELECT id, username FROM users WHERE created_at > ?
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users (created_at);
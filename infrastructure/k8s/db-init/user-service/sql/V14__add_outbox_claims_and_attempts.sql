@@ -0,0 +1,18 @@
+-- Outbox relay claims and poison-row parking.
+--   claimed_until: a relay has leased the row until then, or a failed row is
+--                  backing off; later rows of its key wait for it either way.
+--   attempts / last_error: failed sends so far and the latest error.
+--   parked_at: set once a row can never be sent or has run out of attempts;
+--              parked rows are skipped and no longer hold back their key.
+-- Re-queue a parked row after fixing the cause with
+--   UPDATE outbox_events SET parked_at = NULL, attempts = 0 WHERE id = ?;
+ALTER TABLE outbox_events
+    ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMPTZ,
+    ADD COLUMN IF NOT EXISTS attempts      INT         NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS last_error    TEXT,
+    ADD COLUMN IF NOT EXISTS parked_at     TIMESTAMPTZ;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending
+    ON outbox_events (id) WHERE parked_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_key_pending
+    ON outbox_events (aggregate_key, id) WHERE parked_at IS NULL;
@@ -0,0 +1,3 @@
+-- Incremental catch-up of the per-pod prefix index, which also drops deleted accounts:
+--   SELECT ... FROM users WHERE created_at > ? UNION SELECT ... FROM users WHERE deleted_at > ?
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at ON users (deleted_at) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,9 @@
+-- Keyset pagination for followers / following lists:
+--   WHERE following_id = ? AND (created_at, follower_id) < (?, ?) ORDER BY created_at DESC, follower_id DESC
+CREATE INDEX IF NOT EXISTS idx_followers_following_created
+    ON followers (following_id, created_at DESC, follower_id DESC);
+CREATE INDEX IF NOT EXISTS idx_followers_follower_created
+    ON followers (follower_id, created_at DESC, following_id DESC);
+
+-- Superseded by idx_followers_following_created (same leading column)
+DROP INDEX IF EXISTS idx_followers_following_id;
@@ -0,0 +1,10 @@
+-- Trigram indexes for user search. ILIKE '%q%' and similarity() ranking can
+-- both use them, replacing the sequential scan of users on every keystroke.
+-- Queries shorter than 3 characters yield no trigrams; those are served by the
+-- in-memory prefix index instead.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm
+    ON users USING GIN (username gin_trgm_ops) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_users_display_name_trgm
+    ON users USING GIN (display_name gin_trgm_ops) WHERE is_deleted = false;
@@ -58,4 +58,5 @@ public final class MessageKeys {
     public static final String FORBIDDEN = "ACCESS_FORBIDDEN";
     public static final String INTERNAL_ERROR = "INTERNAL_SERVER_ERROR";
     public static final String EXTERNAL_SERVICE_DOWN = "EXTERNAL_SERVICE_UNAVAILABLE";
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
 }
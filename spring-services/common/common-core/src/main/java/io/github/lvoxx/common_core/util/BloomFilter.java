@@ -0,0 +1,107 @@
+package io.github.lvoxx.common_core.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe, insert-only Bloom filter over strings.
+ *
+ * <p>
+ * {@link #mightContain} never returns {@code false} for a key that was
+ * {@link #put}, and returns {@code true} for an absent key with roughly the
+ * probability given at creation. Entries cannot be removed; callers rebuild a
+ * fresh filter to drop them.
+ *
+ * <p>
+ * Bits live in an {@link AtomicLongArray}, so concurrent {@code put} and
+ * {@code mightContain} calls need no locking. Bit positions use double hashing
+ * ({@code h1 + i * h2}) over {@link StringHash}, a 64-bit FNV-1a hash of the key.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+    private final AtomicLong bitsSet = new AtomicLong();
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long numBits, int numHashes) {
+        this.words = new AtomicLongArray(Math.toIntExact((numBits + 63) / 64));
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * @param expectedInsertions keys the filter should hold at {@code fpp}
+     * @param fpp                target false-positive probability, in (0, 1)
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp must be in (0, 1): " + fpp);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    public void put(String key) {
+        long hash = StringHash.hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        boolean changed = false;
+        for (int i = 1; i <= numHashes; i++) {
+            changed |= set(index(h1 + (long) i * h2));
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = StringHash.hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = index(h1 + (long) i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Probability that an absent key is reported present, given the bits set so far. */
+    public double expectedFpp() {
+        return Math.pow((double) bitsSet.get() / numBits, numHashes);
+    }
+
+    /** Keys that set at least one new bit; close to the distinct keys inserted. */
+    public long approximateInsertions() {
+        return insertions.get();
+    }
+
+    public long bitSize() {
+        return numBits;
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private long index(long combined) {
+        return Math.floorMod(combined, numBits);
+    }
+
+    private boolean set(long bit) {
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        bitsSet.incrementAndGet();
+        return true;
+    }
+}
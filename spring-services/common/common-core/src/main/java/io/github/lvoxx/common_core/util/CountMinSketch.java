@@ -0,0 +1,117 @@
+package io.github.lvoxx.common_core.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe count-min sketch over strings: approximate frequencies in fixed
+ * memory, however many distinct keys are counted.
+ *
+ * <p>
+ * {@link #estimate} never under-counts a key, and over-counts it by more than
+ * {@code epsilon * totalCount()} with probability at most {@code delta}, both
+ * given at creation. Counts cannot be decremented.
+ *
+ * <p>
+ * Counters live in an {@link AtomicLongArray}, one row per hash function, so
+ * concurrent {@code add} and {@code estimate} calls need no locking. Columns
+ * use double hashing ({@code h1 + i * h2}) over the same {@link StringHash} as
+ * {@link BloomFilter}.
+ */
+public final class CountMinSketch {
+
+    private final AtomicLongArray counters;
+    private final int width;
+    private final int depth;
+    private final AtomicLong total = new AtomicLong();
+
+    private CountMinSketch(int width, int depth) {
+        this.counters = new AtomicLongArray(Math.multiplyExact(width, depth));
+        this.width = width;
+        this.depth = depth;
+    }
+
+    /**
+     * @param epsilon over-count bound, as a fraction of the total count, in (0, 1)
+     * @param delta   probability that an estimate exceeds that bound, in (0, 1)
+     */
+    public static CountMinSketch create(double epsilon, double delta) {
+        if (epsilon <= 0 || epsilon >= 1) {
+            throw new IllegalArgumentException("epsilon must be in (0, 1): " + epsilon);
+        }
+        if (delta <= 0 || delta >= 1) {
+            throw new IllegalArgumentException("delta must be in (0, 1): " + delta);
+        }
+        int w = (int) Math.ceil(Math.E / epsilon);
+        int d = Math.max(1, (int) Math.ceil(Math.log(1 / delta)));
+        return new CountMinSketch(w, d);
+    }
+
+    /**
+     * Adds {@code count} occurrences of {@code key}.
+     *
+     * @return the key's estimate after the add
+     */
+    public long add(String key, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be non-negative: " + count);
+        }
+        long hash = StringHash.hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, counters.addAndGet(cell(i, h1, h2), count));
+        }
+        total.addAndGet(count);
+        return min;
+    }
+
+    public long estimate(String key) {
+        long hash = StringHash.hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, counters.get(cell(i, h1, h2)));
+        }
+        return min;
+    }
+
+    /**
+     * Adds every count of {@code other} into this sketch, as if its keys had
+     * been added here. Both must have been created with the same parameters.
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Sketch dimensions differ: "
+                    + width + "x" + depth + " vs " + other.width + "x" + other.depth);
+        }
+        for (int i = 0; i < counters.length(); i++) {
+            long v = other.counters.get(i);
+            if (v != 0) {
+                counters.addAndGet(i, v);
+            }
+        }
+        total.addAndGet(other.total.get());
+    }
+
+    /** Sum of all counts added. */
+    public long totalCount() {
+        return total.get();
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private int cell(int row, int h1, int h2) {
+        return row * width + Math.floorMod(h1 + (long) (row + 1) * h2, width);
+    }
+}
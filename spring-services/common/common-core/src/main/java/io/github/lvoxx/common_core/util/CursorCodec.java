@@ -0,0 +1,164 @@
+package io.github.lvoxx.common_core.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import io.github.lvoxx.common_core.exception.ValidationException;
+import io.github.lvoxx.common_core.message.MessageKeys;
+
+/**
+ * Encodes keyset pagination positions as opaque, URL-safe cursor strings.
+ *
+ * <p>
+ * A cursor carries the sort key ({@code created_at}, microsecond precision to
+ * match PostgreSQL {@code TIMESTAMPTZ}) and the UUID tiebreaker of the last row
+ * served. Clients must treat the value as opaque.
+ *
+ * <p>
+ * Relevance-ranked lists use the {@link ScorePosition} variant instead, where
+ * the sort key is the {@code real} score computed by the query. Lists ordered
+ * by a time-ordered ULID primary key need no separate sort key and use
+ * {@link #encodeId} / {@link #decodeId}. Lists served from a versioned,
+ * precomputed ranking use {@link SnapshotPosition}: the version being read and
+ * the rank to continue from.
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    /** Decoded keyset position: rows strictly older than this come next. */
+    public record Position(Instant createdAt, UUID id) {
+    }
+
+    /** Decoded position in a list ordered by {@code score DESC, id DESC}. */
+    public record ScorePosition(float score, UUID id) {
+    }
+
+    /** Decoded position in a precomputed ranking: its version and the next rank. */
+    public record SnapshotPosition(long snapshot, int offset) {
+    }
+
+    public static String encode(Instant createdAt, UUID id) {
+        long micros = Math.addExact(Math.multiplyExact(createdAt.getEpochSecond(), 1_000_000L),
+                createdAt.getNano() / 1_000L);
+        return ENCODER.encodeToString((micros + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded position, or {@code null} for a {@code null}/blank cursor
+     * @throws ValidationException {@code INVALID_CURSOR} if the value was not
+     *                             produced by {@link #encode}
+     */
+    public static Position decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            long micros = Long.parseLong(raw.substring(0, sep));
+            Instant createdAt = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    Math.floorMod(micros, 1_000_000L) * 1_000L);
+            return new Position(createdAt, UUID.fromString(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ValidationException(MessageKeys.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * Encodes a ranked-list position. {@link Float#toString} round-trips
+     * exactly, so the decoded score compares equal to the one PostgreSQL
+     * returned.
+     */
+    public static String encode(float score, UUID id) {
+        return ENCODER.encodeToString((Float.toString(score) + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded position, or {@code null} for a {@code null}/blank cursor
+     * @throws ValidationException {@code INVALID_CURSOR} if the value was not
+     *                             produced by {@link #encode(float, UUID)}
+     */
+    public static ScorePosition decodeScore(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new ScorePosition(Float.parseFloat(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ValidationException(MessageKeys.INVALID_CURSOR);
+        }
+    }
+
+    /** Encodes the id of the last row served from a list ordered by {@code id DESC}. */
+    public static String encodeId(UUID id) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+    }
+
+    /**
+     * @return the decoded id, or {@code null} for a {@code null}/blank cursor
+     * @throws ValidationException {@code INVALID_CURSOR} if the value was not
+     *                             produced by {@link #encodeId}
+     */
+    public static UUID decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] raw = DECODER.decode(cursor);
+            if (raw.length != 16) {
+                throw new ValidationException(MessageKeys.INVALID_CURSOR);
+            }
+            ByteBuffer buf = ByteBuffer.wrap(raw);
+            return new UUID(buf.getLong(), buf.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(MessageKeys.INVALID_CURSOR);
+        }
+    }
+
+    /** Encodes the next rank to serve from version {@code snapshot} of a precomputed ranking. */
+    public static String encodeSnapshot(long snapshot, int offset) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(12)
+                .putLong(snapshot)
+                .putInt(offset)
+                .array());
+    }
+
+    /**
+     * @return the decoded position, or {@code null} for a {@code null}/blank cursor
+     * @throws ValidationException {@code INVALID_CURSOR} if the value was not
+     *                             produced by {@link #encodeSnapshot}
+     */
+    public static SnapshotPosition decodeSnapshot(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] raw = DECODER.decode(cursor);
+            if (raw.length != 12) {
+                throw new ValidationException(MessageKeys.INVALID_CURSOR);
+            }
+            ByteBuffer buf = ByteBuffer.wrap(raw);
+            long snapshot = buf.getLong();
+            int offset = buf.getInt();
+            if (offset < 0) {
+                throw new ValidationException(MessageKeys.INVALID_CURSOR);
+            }
+            return new SnapshotPosition(snapshot, offset);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(MessageKeys.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.lvoxx.common_core.util;
+
+/**
+ * 64-bit string hash shared by {@link BloomFilter} and {@link CountMinSketch}:
+ * FNV-1a over the key's chars, then the splitmix64 finalizer. Both halves of the
+ * result are well mixed, so callers split it into {@code h1} and {@code h2} for
+ * double hashing.
+ */
+final class StringHash {
+
+    private StringHash() {
+    }
+
+    static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // splitmix64 finalizer: spreads FNV's weak low bits across both halves
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -39,4 +39,20 @@ public final class UlidGenerator {
         ULID.Value value = ULID.parseULID(ulid);
         return new UUID(value.getMostSignificantBits(), value.getLeastSignificantBits());
     }
+
+    /**
+     * Extract the embedded creation time (epoch millis) from a ULID-backed
+     * {@link UUID}. The first 48 bits of a ULID are its timestamp.
+     */
+    public static long timestampOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * The smallest ULID-backed {@link UUID} with creation time
+     * {@code epochMillis}, for range scans such as {@code id >= minAt(t)}.
+     */
+    public static UUID minAt(long epochMillis) {
+        return new UUID(epochMillis << 16, 0L);
+    }
 }
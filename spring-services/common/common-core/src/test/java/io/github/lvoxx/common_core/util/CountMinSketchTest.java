@@ -0,0 +1,99 @@
+package io.github.lvoxx.common_core.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("CountMinSketch — approximate counts within the configured error bound")
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("estimate: given skewed counts → never under-counts, over-counts past epsilon*N at most delta of the time")
+    void estimate_givenSkewedCounts_staysWithinErrorBound() {
+        double epsilon = 0.01;
+        double delta = 0.01;
+        CountMinSketch sketch = CountMinSketch.create(epsilon, delta);
+        Map<String, Long> exact = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // Zipf-like: a few heavy keys and a long tail
+            String key = "tag" + (int) (Math.pow(random.nextDouble(), 3) * 5_000);
+            long count = 1 + random.nextInt(3);
+            sketch.add(key, count);
+            exact.merge(key, count, Long::sum);
+        }
+        long total = exact.values().stream().mapToLong(Long::longValue).sum();
+
+        long overBound = exact.entrySet().stream()
+                .filter(e -> {
+                    long estimate = sketch.estimate(e.getKey());
+                    assertThat(estimate).as("estimate of %s", e.getKey()).isGreaterThanOrEqualTo(e.getValue());
+                    return estimate > e.getValue() + epsilon * total;
+                })
+                .count();
+
+        assertThat(sketch.totalCount()).isEqualTo(total);
+        assertThat((double) overBound / exact.size()).isLessThanOrEqualTo(delta);
+    }
+
+    @Test
+    @DisplayName("add: returns the key's estimate after the add")
+    void add_returnsEstimate() {
+        CountMinSketch sketch = CountMinSketch.create(0.001, 0.01);
+
+        sketch.add("java", 3);
+
+        assertThat(sketch.add("java", 2)).isEqualTo(5).isEqualTo(sketch.estimate("java"));
+        assertThat(sketch.estimate("never-added")).isZero();
+    }
+
+    @Test
+    @DisplayName("add: given negative count → rejected")
+    void add_givenNegativeCount_throws() {
+        CountMinSketch sketch = CountMinSketch.create(0.01, 0.01);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> sketch.add("java", -1));
+    }
+
+    @Test
+    @DisplayName("merge: given sketches of equal dimensions → counts and totals add up")
+    void merge_givenEqualDimensions_sumsCounts() {
+        CountMinSketch a = CountMinSketch.create(0.001, 0.01);
+        CountMinSketch b = CountMinSketch.create(0.001, 0.01);
+        a.add("java", 4);
+        a.add("kotlin", 1);
+        b.add("java", 6);
+        b.add("scala", 2);
+
+        a.merge(b);
+
+        assertThat(a.estimate("java")).isEqualTo(10);
+        assertThat(a.estimate("kotlin")).isEqualTo(1);
+        assertThat(a.estimate("scala")).isEqualTo(2);
+        assertThat(a.totalCount()).isEqualTo(13);
+        assertThat(b.estimate("java")).as("the merged-in sketch is unchanged").isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("merge: given different dimensions → rejected")
+    void merge_givenDifferentDimensions_throws() {
+        CountMinSketch a = CountMinSketch.create(0.001, 0.01);
+        CountMinSketch b = CountMinSketch.create(0.01, 0.01);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> a.merge(b));
+    }
+
+    @Test
+    @DisplayName("create: given epsilon or delta outside (0, 1) → rejected")
+    void create_givenOutOfRangeParameters_throws() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CountMinSketch.create(0, 0.01));
+        assertThatIllegalArgumentException().isThrownBy(() -> CountMinSketch.create(0.01, 1));
+    }
+}
@@ -1,5 +1,8 @@
 package io.github.lvoxx.common_keys;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Centralised Redis cache key prefixes used across the platform.
  *
@@ -20,6 +23,31 @@ public final class CacheKeys {
     private CacheKeys() {
     }
 
+    /**
+     * Redis TTL per cache name, following the guideline documented on each
+     * constant below. Read by redis-starter's cache manager; caches not listed
+     * fall back to {@code sssm.cache.default-ttl}.
+     */
+    public static final Map<String, Duration> TTLS = Map.ofEntries(
+            Map.entry(UserService.PROFILE, Duration.ofMinutes(5)),
+            Map.entry(UserService.PROFILE_USERNAME, Duration.ofMinutes(5)),
+            Map.entry(UserService.PROFILE_RESPONSE, Duration.ofMinutes(5)),
+            Map.entry(UserService.FOLLOWER_COUNT, Duration.ofMinutes(1)),
+            Map.entry(UserService.FOLLOWING_COUNT, Duration.ofMinutes(1)),
+            Map.entry(UserService.FOLLOWERS_LIST, Duration.ofSeconds(30)),
+            Map.entry(UserService.FOLLOWING_LIST, Duration.ofSeconds(30)),
+            Map.entry(UserService.BLOCK_STATUS, Duration.ofMinutes(5)),
+            Map.entry(UserService.BLOCK_SET, Duration.ofMinutes(5)),
+            Map.entry(UserService.USER_SETTINGS_KEY, Duration.ofMinutes(5)),
+            Map.entry(UserService.FOLLOW_REQUESTS_LIST, Duration.ofSeconds(60)),
+            Map.entry(Post.POST_DETAIL, Duration.ofMinutes(2)),
+            Map.entry(Post.POST_THREAD, Duration.ofSeconds(30)),
+            Map.entry(Group.GROUP_DETAIL, Duration.ofMinutes(5)),
+            Map.entry(Group.GROUP_MEMBER_COUNT, Duration.ofMinutes(1)),
+            Map.entry(Search.SEARCH_TRENDING_HASHTAGS, Duration.ofMinutes(5)),
+            Map.entry(Search.SEARCH_SUGGESTIONS, Duration.ofSeconds(60)),
+            Map.entry(Notification.NOTIFICATION_UNREAD_COUNT, Duration.ofSeconds(30)));
+
     // ── User ──────────────────────────────────────────────────────────────────
     public static final class UserService {
         /** Full user profile keyed by userId (UUID). TTL: 5 min. */
@@ -28,6 +56,9 @@ public final class CacheKeys {
         /** Full user profile keyed by username (String). TTL: 5 min. */
         public static final String PROFILE_USERNAME = "user:profile:username:";
 
+        /** Public profile already encoded as JSON, plus its ETag, keyed by username. TTL: 5 min. */
+        public static final String PROFILE_RESPONSE = "user:profile:response:";
+
         /** Follower count keyed by userId. TTL: 1 min. */
         public static final String FOLLOWER_COUNT = "user:followers:count:";
 
@@ -55,6 +86,12 @@ public final class CacheKeys {
         /** Block status keyed by "{blockerId}:{blockedId}". TTL: 5 min. */
         public static final String BLOCK_STATUS = "user:block:status:";
 
+        /**
+         * Sorted ids a user has blocked or been blocked by, keyed by userId.
+         * TTL: 5 min.
+         */
+        public static final String BLOCK_SET = "user:block:set:";
+
         /** User privacy/messaging settings keyed by userId. TTL: 5 min. */
         public static final String USER_SETTINGS_KEY = "user:settings:";
 
@@ -68,11 +105,50 @@ public final class CacheKeys {
         /** Full post detail keyed by postId (UUID). TTL: 2 min. */
         public static final String POST_DETAIL = "post:detail:";
 
-        /** Home feed page keyed by userId + cursor. TTL: 30 s. */
+        /**
+         * Home timeline sorted set keyed by userId (member = postId, score = ULID
+         * epoch millis). Written by fan-out, capped by size. No TTL.
+         */
         public static final String POST_HOME_FEED = "post:feed:home:";
 
-        /** Explore / trending feed. TTL: 60 s. */
+        /** Recent posts sorted set keyed by authorId, used for pull/backfill. No TTL. */
+        public static final String POST_AUTHOR_TIMELINE = "post:feed:author:";
+
+        /** Follower id set keyed by userId (projection of follow events). No TTL. */
+        public static final String POST_GRAPH_FOLLOWERS = "post:graph:followers:";
+
+        /** Followed id set keyed by userId (projection of follow events). No TTL. */
+        public static final String POST_GRAPH_FOLLOWING = "post:graph:following:";
+
+        /** Set of author ids above the fan-out follower threshold. No TTL. */
+        public static final String POST_GRAPH_CELEBRITIES = "post:graph:celebrities";
+
+        /**
+         * Newest post summaries (JSON) keyed by {@code {authorId}}, newest
+         * first, capped by size. Serves the first pages of an author's posts.
+         * A companion {@code <key>:gen} counts writes to fence fills. TTL: 10 min.
+         */
+        public static final String POST_AUTHOR_RING = "post:ring:author:";
+
+        /**
+         * First page of a post's thread (ancestors plus a bounded reply tree)
+         * keyed by postId. Evicted on reply creation and deletion. TTL: 30 s.
+         */
+        public static final String POST_THREAD = "post:thread:";
+
+        /**
+         * Explore ranking, sharded by visibility: {@code <prefix>:<visibility>}
+         * holds the version of the current ranking, a sorted set at
+         * {@code <prefix>:<visibility>:<version>} (member = postId, score =
+         * explore score). Rebuilt every minute; old versions expire after 10 min.
+         */
         public static final String POST_EXPLORE_FEED = "post:feed:explore";
+
+        /**
+         * Weighted like/repost counts (sorted set: postId → weight) keyed by the
+         * start of a 10 min bucket in epoch millis. TTL: velocity window.
+         */
+        public static final String POST_EXPLORE_VELOCITY = "post:explore:velocity:";
     }
 
     // ── Group ─────────────────────────────────────────────────────────────────
@@ -91,6 +167,12 @@ public final class CacheKeys {
         /** Trending hashtags. TTL: 5 min. */
         public static final String SEARCH_TRENDING_HASHTAGS = "search:trending:hashtags";
 
+        /**
+         * Hashtag counts (hash: tag → count) keyed by epoch minute, summed from
+         * every post-service pod's partial top-K. Expire after the trending window.
+         */
+        public static final String SEARCH_TRENDING_HASHTAG_MINUTE = "search:trending:hashtags:minute:";
+
         /** Search suggestion autocomplete keyed by query prefix. TTL: 60 s. */
         public static final String SEARCH_SUGGESTIONS = "search:suggestions:";
     }
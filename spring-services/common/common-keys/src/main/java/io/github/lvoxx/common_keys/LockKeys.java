@@ -38,6 +38,20 @@ public final class LockKeys {
         return "lock:user:profile:update:" + userId;
     }
 
+    /**
+     * Ensures only one pod recomputes follower/following counters at a time.
+     */
+    public static String counterReconcile() {
+        return "lock:user:counters:reconcile";
+    }
+
+    /**
+     * Ensures only one pod creates or drops {@code account_history} partitions at a time.
+     */
+    public static String accountHistoryPartitions() {
+        return "lock:user:history:partitions";
+    }
+
     // ── Post domain ───────────────────────────────────────────────────────────
 
     /**
@@ -50,6 +64,20 @@ public final class LockKeys {
         return "lock:post:like:" + userId + ":" + postId;
     }
 
+    /**
+     * Ensures only one pod rebuilds the explore ranking at a time.
+     */
+    public static String exploreRanking() {
+        return "lock:post:explore:ranking";
+    }
+
+    /**
+     * Ensures only one pod recomputes the trending hashtag list at a time.
+     */
+    public static String trendingHashtags() {
+        return "lock:search:trending:hashtags";
+    }
+
     // ── Group domain ──────────────────────────────────────────────────────────
 
     /**
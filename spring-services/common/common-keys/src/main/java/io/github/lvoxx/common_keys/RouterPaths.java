@@ -11,17 +11,25 @@ public final class RouterPaths {
     public static class UserService {
         public static final String ABOUTME = "/api/v1/users/me";
         public static final String SEARCH = "/api/v1/users/search";
+        public static final String SEARCH_SUGGEST = "/api/v1/users/search/suggest";
         public static final String HISTORY = "/api/v1/users/me/history";
         public static final String FOLLOW_REQUESTS = "/api/v1/users/me/follow-requests";
         public static final String BY_USERNAME = "/api/v1/users/{username}";
         public static final String FOLLOWERS = "/api/v1/users/{userId}/followers";
         public static final String FOLLOWING = "/api/v1/users/{userId}/following";
+        public static final String KNOWN_FOLLOWERS = "/api/v1/users/{userId}/followers/known";
+        public static final String RELATIONSHIP = "/api/v1/users/{userId}/relationship";
         public static final String UPDATE_AVATAR = "/api/v1/users/me/avatar";
         public static final String UPDATE_BACKGROUND = "/api/v1/users/me/background";
         public static final String UPDATE_SETTINGS = "/api/v1/users/me/settings";
         public static final String RESPOND_FOLLOW_REQUEST = "/api/v1/users/me/follow-requests/{reqId}";
+        public static final String RESPOND_FOLLOW_REQUESTS_BULK = "/api/v1/users/me/follow-requests/bulk";
         public static final String SUBMIT_VERIFICATION = "/api/v1/users/me/verify";
         public static final String FOLLOW = "/api/v1/users/{userId}/follow";
+        public static final String ADMIN_EXPORT_USERS = "/api/v1/admin/users/export/users";
+        public static final String ADMIN_EXPORT_FOLLOWERS = "/api/v1/admin/users/export/followers";
+        public static final String ADMIN_EXPORT_BLOCKS = "/api/v1/admin/users/export/blocks";
+        public static final String ADMIN_REPUBLISH_PROFILES = "/api/v1/admin/users/republish/profiles";
     }
 
     public static class PostService {
@@ -35,6 +43,7 @@ public final class RouterPaths {
         public static final String REPOST_POST = "/api/v1/posts/{postId}/repost";
         public static final String BOOKMARK_POST = "/api/v1/posts/{postId}/bookmark";
         public static final String REPORT_POST = "/api/v1/posts/{postId}/report";
+        public static final String ADMIN_IMPORT_FOLLOW_GRAPH = "/api/v1/admin/posts/feed/follow-graph";
     }
 
     public static class PostInteractionService {
@@ -2,8 +2,10 @@ package io.github.lvoxx.post_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "io.github.lvoxx")
+@EnableScheduling
 public class PostServiceApplication {
 
 	public static void main(String[] args) {
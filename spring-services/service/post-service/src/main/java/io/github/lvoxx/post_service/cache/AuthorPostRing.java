@@ -0,0 +1,270 @@
+package io.github.lvoxx.post_service.cache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.common_core.util.CursorCodec;
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.post_service.dto.PostResponse;
+import io.github.lvoxx.post_service.properties.AuthorRingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * The newest {@code sssm.author-ring.size} posts of each author, as a Redis
+ * list of {@link PostResponse} JSON, newest first — so profile pages of
+ * popular accounts are served without a Postgres query.
+ *
+ * <p>
+ * A ring is either absent or holds exactly the author's newest posts: it is
+ * created only from the database, when a first page finds it missing, and a
+ * new post is pushed only onto a ring that already exists. Deleting a post
+ * drops the ring instead of editing it. Every write also bumps the author's
+ * write counter, and a fill is only stored if the counter has not moved since
+ * before its database read — otherwise a post created or deleted during the
+ * read would be missing from, or resurrected in, the ring until it expires
+ * after {@code sssm.author-ring.ttl}. A ring shorter than its capacity holds
+ * all of the author's posts, so any page of it can be served; otherwise pages
+ * that run past its end go to the database.
+ *
+ * <p>
+ * Each pod keeps a ring it has read for {@code local-ttl}, so a burst of views
+ * of one profile costs one Redis read per pod.
+ *
+ * <p>
+ * Metric: {@code post.author_ring.requests}, tagged {@code tier}
+ * ({@code celebrity} / {@code regular}, as classified by the feed) and
+ * {@code result} ({@code hit} / {@code miss}).
+ */
+@Slf4j
+@Component
+public class AuthorPostRing {
+
+    /**
+     * Fills an absent ring unless written since: ARGV[1] = TTL in ms, ARGV[2] =
+     * counter read before loading, ARGV[3..] = posts, newest first. Every
+     * script takes KEYS[1] = ring, KEYS[2] = its write counter; the counter
+     * lives as long as a ring, far longer than a fill's database read.
+     */
+    private static final RedisScript<Long> FILL = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then return 0 end
+            redis.call('RPUSH', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /** Pushes onto an existing ring only: ARGV[1] = TTL in ms, ARGV[2] = post, ARGV[3] = capacity. */
+    private static final RedisScript<Long> PUSH = RedisScript.of("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            local n = redis.call('LPUSHX', KEYS[1], ARGV[2])
+            if n > 0 then redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[3]) - 1) end
+            return n
+            """, Long.class);
+
+    /** Drops a ring: ARGV[1] = TTL in ms. */
+    private static final RedisScript<Long> DROP = RedisScript.of("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private record Ring(List<PostResponse> posts, boolean celebrity) {
+    }
+
+    private final ReactiveStringRedisTemplate redis;
+    private final JsonMapper jsonMapper;
+    private final AuthorRingProperties props;
+    private final MeterRegistry registry;
+    private final Cache<UUID, Ring> local;
+
+    public AuthorPostRing(ReactiveStringRedisTemplate redis, JsonMapper jsonMapper,
+            AuthorRingProperties props, MeterRegistry registry) {
+        this.redis = redis;
+        this.jsonMapper = jsonMapper;
+        this.props = props;
+        this.registry = registry;
+        this.local = props.getLocalTtl().isPositive()
+                ? Caffeine.newBuilder()
+                        .maximumSize(props.getLocalMaxSize())
+                        .expireAfterWrite(props.getLocalTtl())
+                        .build()
+                : null;
+    }
+
+    /**
+     * Serves one page of an author's posts from the ring.
+     *
+     * @param after  id of the last post of the previous page, or {@code null}
+     * @param loader reads the author's newest {@code n} posts from the
+     *               database, to fill a missing ring on a first page
+     * @return the page, or empty if it must be read from the database
+     */
+    public Mono<PageResponse<PostResponse>> page(UUID authorId, UUID after, int size,
+            IntFunction<Mono<List<PostResponse>>> loader) {
+        if (!props.isEnabled()) {
+            return Mono.empty();
+        }
+        return ring(authorId, after == null ? loader : null)
+                .flatMap(ring -> {
+                    PageResponse<PostResponse> page = slice(ring.posts(), after, size);
+                    count(ring.celebrity(), page != null);
+                    return Mono.justOrEmpty(page);
+                });
+    }
+
+    /** Puts a new post at the head of its author's ring, if the ring exists. */
+    public Mono<Void> onPostCreated(PostResponse post) {
+        if (!props.isEnabled()) {
+            return Mono.empty();
+        }
+        return redis.execute(PUSH, keys(post.authorId()),
+                        List.of(ttlMillis(), jsonMapper.writeValueAsString(post), String.valueOf(props.getSize())))
+                .then(Mono.fromRunnable(() -> evictLocal(post.authorId())));
+    }
+
+    /** Drops the author's ring; the next first page refills it from the database. */
+    public Mono<Void> onPostDeleted(UUID authorId) {
+        if (!props.isEnabled()) {
+            return Mono.empty();
+        }
+        return redis.execute(DROP, keys(authorId), List.of(ttlMillis()))
+                .then(Mono.fromRunnable(() -> evictLocal(authorId)));
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    /** @param loader fills a missing ring, or {@code null} to report it as empty */
+    private Mono<Ring> ring(UUID authorId, IntFunction<Mono<List<PostResponse>>> loader) {
+        Ring cached = local != null ? local.getIfPresent(authorId) : null;
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        // The write counter is read with the ring, so before any database read that fills it
+        return Mono.zip(
+                redis.opsForList().range(key(authorId), 0, -1).collectList(),
+                redis.opsForSet().isMember(CacheKeys.Post.POST_GRAPH_CELEBRITIES, authorId.toString()),
+                redis.opsForValue().get(generationKey(authorId)).defaultIfEmpty("0"))
+                .flatMap(t -> {
+                    if (!t.getT1().isEmpty()) {
+                        return Mono.just(remember(authorId, new Ring(decode(t.getT1()), t.getT2())));
+                    }
+                    if (loader == null) {
+                        return Mono.just(new Ring(List.of(), t.getT2()));
+                    }
+                    return loader.apply(props.getSize())
+                            .flatMap(posts -> {
+                                Ring ring = new Ring(posts, t.getT2());
+                                // A fill refused as stale still answers this request, but is not kept locally
+                                return fill(authorId, posts, t.getT3())
+                                        .map(filled -> filled ? remember(authorId, ring) : ring);
+                            });
+                });
+    }
+
+    /** @return whether the ring was stored */
+    private Mono<Boolean> fill(UUID authorId, List<PostResponse> posts, String generation) {
+        if (posts.isEmpty()) {
+            return Mono.just(false);
+        }
+        List<String> args = Stream.concat(
+                Stream.of(ttlMillis(), generation),
+                posts.stream().map(jsonMapper::writeValueAsString))
+                .toList();
+        return redis.execute(FILL, keys(authorId), args)
+                .next()
+                .map(stored -> stored == 1L)
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    log.warn("Author ring fill failed for {}: {}", authorId, e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    /**
+     * @return the page after {@code after}, or {@code null} if the ring cannot
+     *         tell it completely
+     */
+    private PageResponse<PostResponse> slice(List<PostResponse> posts, UUID after, int size) {
+        int start = 0;
+        if (after != null) {
+            start = indexOf(posts, after) + 1;
+            if (start == 0) {
+                return null;
+            }
+        }
+        int end = start + size;
+        // One post past the page proves there is a next page
+        if (end < posts.size()) {
+            return PageResponse.of(posts.subList(start, end),
+                    CursorCodec.encodeId(posts.get(end - 1).id()));
+        }
+        // A ring below capacity holds every post the author has
+        if (posts.size() < props.getSize()) {
+            return PageResponse.of(posts.subList(Math.min(start, posts.size()), posts.size()), null);
+        }
+        return null;
+    }
+
+    private static int indexOf(List<PostResponse> posts, UUID id) {
+        for (int i = 0; i < posts.size(); i++) {
+            if (posts.get(i).id().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private List<PostResponse> decode(List<String> json) {
+        return json.stream().map(s -> jsonMapper.readValue(s, PostResponse.class)).toList();
+    }
+
+    private Ring remember(UUID authorId, Ring ring) {
+        if (local != null) {
+            local.put(authorId, ring);
+        }
+        return ring;
+    }
+
+    private void evictLocal(UUID authorId) {
+        if (local != null) {
+            local.invalidate(authorId);
+        }
+    }
+
+    private void count(boolean celebrity, boolean hit) {
+        registry.counter("post.author_ring.requests",
+                "tier", celebrity ? "celebrity" : "regular",
+                "result", hit ? "hit" : "miss").increment();
+    }
+
+    private String ttlMillis() {
+        return String.valueOf(props.getTtl().toMillis());
+    }
+
+    /** Hash-tagged on the author, so a ring and its counter share a cluster slot. */
+    private static String key(UUID authorId) {
+        return CacheKeys.Post.POST_AUTHOR_RING + "{" + authorId + "}";
+    }
+
+    private static String generationKey(UUID authorId) {
+        return key(authorId) + ":gen";
+    }
+
+    private static List<String> keys(UUID authorId) {
+        return List.of(key(authorId), generationKey(authorId));
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.lvoxx.post_service.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One line of user-service's followers export: {@code from} follows
+ * {@code to}.
+ */
+public record FollowEdgeRow(UUID from, UUID to, Instant createdAt) {
+}
@@ -0,0 +1,16 @@
+package io.github.lvoxx.post_service.dto;
+
+import java.util.List;
+
+/**
+ * A post with the replies loaded under it.
+ *
+ * @param repliesCursor non-null when more replies exist than {@code replies}
+ *                      holds; pass it with this post's id to the thread route
+ *                      to load them
+ */
+public record ThreadNode(
+                PostResponse post,
+                List<ThreadNode> replies,
+                String repliesCursor) {
+}
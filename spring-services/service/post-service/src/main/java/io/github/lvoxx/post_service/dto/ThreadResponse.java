@@ -0,0 +1,15 @@
+package io.github.lvoxx.post_service.dto;
+
+import java.util.List;
+
+/**
+ * A post in its conversation.
+ *
+ * @param ancestors the posts it replies to, root first; empty when loading a
+ *                  further page of replies
+ * @param thread    the post and a bounded tree of its replies
+ */
+public record ThreadResponse(
+                List<PostResponse> ancestors,
+                ThreadNode thread) {
+}
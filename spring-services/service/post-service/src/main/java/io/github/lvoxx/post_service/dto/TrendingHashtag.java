@@ -0,0 +1,14 @@
+package io.github.lvoxx.post_service.dto;
+
+/**
+ * One entry of the published trending list.
+ *
+ * @param hashtag lower-cased, without the leading {@code #}
+ * @param count   posts using it within the trending window
+ * @param score   {@code count} with older minutes decayed; the list is ordered by it
+ */
+public record TrendingHashtag(
+                String hashtag,
+                long count,
+                double score) {
+}
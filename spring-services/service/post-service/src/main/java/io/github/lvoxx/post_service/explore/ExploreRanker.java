@@ -0,0 +1,161 @@
+package io.github.lvoxx.post_service.explore;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_core.util.UlidGenerator;
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.common_keys.LockKeys;
+import io.github.lvoxx.post_service.entity.Post;
+import io.github.lvoxx.post_service.properties.ExploreProperties;
+import io.github.lvoxx.post_service.repository.PostRepository;
+import io.github.lvoxx.redis_starter.service.LockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rebuilds the explore ranking every {@code refresh-interval}, so the feed is
+ * a range read on a sorted set instead of a sort over {@code posts}.
+ *
+ * <p>
+ * Candidates are the newest {@code recent-candidates} public posts of the last
+ * {@code max-age}, plus the {@code engaged-candidates} posts with the most
+ * interactions in the last {@code velocity-window} of buckets written by
+ * {@code ExploreService#recordInteraction}. Each is scored
+ * {@code (1 + interactions per hour) / (age in hours + 2)^gravity} and the top
+ * {@code list-size} are written as a new version; the pointer key is switched
+ * to it last. Old versions expire after {@code snapshot-ttl}, so a client
+ * paging through one keeps a stable order.
+ *
+ * <p>
+ * Rankings are kept per visibility; only {@code PUBLIC} is built, since posts
+ * carry no locale to shard by.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExploreRanker {
+
+    static final String VISIBILITY = "PUBLIC";
+
+    private final ReactiveStringRedisTemplate redis;
+    private final LockService lockService;
+    private final PostRepository postRepository;
+    private final ExploreProperties props;
+
+    /** Holds the version currently served. */
+    public static String pointerKey() {
+        return CacheKeys.Post.POST_EXPLORE_FEED + ":" + VISIBILITY.toLowerCase(Locale.ROOT);
+    }
+
+    public static String snapshotKey(long version) {
+        return pointerKey() + ":" + version;
+    }
+
+    /**
+     * Scores the candidates and publishes a new ranking version.
+     *
+     * @return number of posts ranked; empty if another pod holds the lock
+     */
+    @Scheduled(fixedDelayString = "${sssm.explore.refresh-interval:PT1M}")
+    public Mono<Integer> rank() {
+        if (!props.isEnabled()) {
+            return Mono.just(0);
+        }
+        return lockService.withLock(LockKeys.exploreRanking(), 0L, props.getRefreshInterval().toMillis(),
+                () -> Mono.defer(() -> {
+                    long now = System.currentTimeMillis();
+                    return velocities(now).flatMap(velocity -> candidates(now, velocity.keySet())
+                            .collectList()
+                            .flatMap(posts -> publish(now, score(now, posts, velocity))));
+                }))
+                .onErrorResume(e -> {
+                    log.warn("Explore ranking failed: {}", e.getMessage());
+                    return Mono.just(0);
+                });
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    /** Interactions per post summed over the buckets of the window, heaviest {@code engaged-candidates} only. */
+    private Mono<Map<UUID, Double>> velocities(long now) {
+        long bucketMs = props.getVelocityBucket().toMillis();
+        long newest = Math.floorDiv(now, bucketMs) * bucketMs;
+        int buckets = (int) Math.max(1, props.getVelocityWindow().toMillis() / bucketMs);
+        return Flux.range(0, buckets)
+                .concatMap(i -> redis.opsForZSet().reverseRangeWithScores(
+                        CacheKeys.Post.POST_EXPLORE_VELOCITY + (newest - i * bucketMs),
+                        Range.closed(0L, (long) props.getEngagedCandidates() - 1)))
+                .collect(HashMap<UUID, Double>::new, (sums, t) -> sums.merge(
+                        UUID.fromString(t.getValue()), t.getScore(), Double::sum))
+                .map(sums -> {
+                    Map<UUID, Double> top = new HashMap<>();
+                    sums.entrySet().stream()
+                            .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                            .limit(props.getEngagedCandidates())
+                            .forEach(e -> top.put(e.getKey(), e.getValue()));
+                    return top;
+                });
+    }
+
+    /** Newest eligible posts, then the engaged posts they missed, checked against the same rules. */
+    private Flux<Post> candidates(long now, Set<UUID> engaged) {
+        UUID oldest = UlidGenerator.minAt(now - props.getMaxAge().toMillis());
+        return postRepository.findExploreCandidates(oldest, VISIBILITY, props.getRecentCandidates())
+                .collectMap(Post::getId)
+                .flatMapMany(recent -> {
+                    UUID[] missing = engaged.stream()
+                            .filter(id -> !recent.containsKey(id) && id.compareTo(oldest) > 0)
+                            .toArray(UUID[]::new);
+                    Flux<Post> extra = missing.length == 0 ? Flux.empty()
+                            : postRepository.findLiveByIds(missing).filter(ExploreRanker::eligible);
+                    return Flux.fromIterable(recent.values()).concatWith(extra);
+                });
+    }
+
+    private static boolean eligible(Post p) {
+        return VISIBILITY.equals(p.getVisibility()) && "PUBLISHED".equals(p.getStatus())
+                && p.getGroupId() == null && p.getReplyToId() == null && !"REPOST".equals(p.getPostType());
+    }
+
+    private List<ZSetOperations.TypedTuple<String>> score(long now, List<Post> posts, Map<UUID, Double> velocity) {
+        double windowHours = props.getVelocityWindow().toMillis() / (double) Duration.ofHours(1).toMillis();
+        return posts.stream()
+                .map(p -> {
+                    double ageHours = (now - UlidGenerator.timestampOf(p.getId())) / 3_600_000.0;
+                    double perHour = velocity.getOrDefault(p.getId(), 0.0) / windowHours;
+                    double score = (1 + perHour) / Math.pow(Math.max(0, ageHours) + 2, props.getGravity());
+                    return ZSetOperations.TypedTuple.of(p.getId().toString(), score);
+                })
+                .sorted(Comparator.comparing(ZSetOperations.TypedTuple<String>::getScore).reversed())
+                .limit(props.getListSize())
+                .toList();
+    }
+
+    private Mono<Integer> publish(long version, List<ZSetOperations.TypedTuple<String>> ranked) {
+        if (ranked.isEmpty()) {
+            return Mono.just(0);
+        }
+        String key = snapshotKey(version);
+        return redis.opsForZSet().addAll(key, ranked)
+                .then(redis.expire(key, props.getSnapshotTtl()))
+                // Switched last, so readers never see a half-written version
+                .then(redis.opsForValue().set(pointerKey(), Long.toString(version), props.getSnapshotTtl()))
+                .doOnSuccess(ok -> log.debug("Explore ranking {} published with {} posts", version, ranked.size()))
+                .thenReturn(ranked.size());
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.lvoxx.post_service.grpc;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import io.github.lvoxx.post_service.dto.PostResponse;
+import io.github.lvoxx.post_service.service.PostLookupService;
+import io.github.lvoxx.post_service.service.PostService;
+import io.github.lvoxx.proto.post.CheckPostExistsRequest;
+import io.github.lvoxx.proto.post.CheckPostExistsResponse;
+import io.github.lvoxx.proto.post.FindPostByIdRequest;
+import io.github.lvoxx.proto.post.FindPostsByIdsRequest;
+import io.github.lvoxx.proto.post.PostListResponse;
+import io.github.lvoxx.proto.post.ReactorPostServiceGrpc;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@GrpcService
+@RequiredArgsConstructor
+public class PostGrpcService extends ReactorPostServiceGrpc.PostServiceImplBase {
+
+    private final PostService postService;
+    private final PostLookupService postLookup;
+
+    @Override
+    public Mono<io.github.lvoxx.proto.post.PostResponse> findPostById(Mono<FindPostByIdRequest> request) {
+        return request.flatMap(req -> postService.getPost(UUID.fromString(req.getPostId())))
+                .map(PostGrpcService::toProto);
+    }
+
+    @Override
+    public Mono<CheckPostExistsResponse> checkPostExists(Mono<CheckPostExistsRequest> request) {
+        return request.flatMap(req -> postLookup.findPosts(List.of(UUID.fromString(req.getPostId()))))
+                .map(found -> CheckPostExistsResponse.newBuilder().setExists(!found.isEmpty()).build());
+    }
+
+    /**
+     * Resolves through the post cache: L1, then one Redis MGET, then a single
+     * query for the misses. Posts come back in request order; unknown or
+     * deleted IDs are skipped.
+     */
+    @Override
+    public Mono<PostListResponse> findPostsByIds(Mono<FindPostsByIdsRequest> request) {
+        return request.flatMap(req -> {
+            List<UUID> ids = req.getPostIdsList().stream()
+                    .map(UUID::fromString)
+                    .distinct()
+                    .toList();
+            return postLookup.findPosts(ids)
+                    .map(found -> PostListResponse.newBuilder()
+                            .addAllPosts(ids.stream()
+                                    .map(found::get)
+                                    .filter(Objects::nonNull)
+                                    .map(PostGrpcService::toProto)
+                                    .toList())
+                            .build());
+        });
+    }
+
+    static io.github.lvoxx.proto.post.PostResponse toProto(PostResponse p) {
+        return io.github.lvoxx.proto.post.PostResponse.newBuilder()
+                .setPostId(p.id().toString())
+                .setAuthorId(p.authorId().toString())
+                .setContent(nullToEmpty(p.content()))
+                .setStatus(nullToEmpty(p.status()))
+                .setPostType(nullToEmpty(p.postType()))
+                .setRepostOfId(idOrEmpty(p.repostOfId()))
+                .setCreatedAtMs(p.createdAt() != null ? p.createdAt().toEpochMilli() : 0L)
+                .setGroupId(idOrEmpty(p.groupId()))
+                .setVisibility(nullToEmpty(p.visibility()))
+                .setReplyToId(idOrEmpty(p.replyToId()))
+                .build();
+    }
+
+    private static String nullToEmpty(String s) {
+        return s != null ? s : "";
+    }
+
+    private static String idOrEmpty(UUID id) {
+        return id != null ? id.toString() : "";
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.lvoxx.post_service.kafka;
+
+import java.util.UUID;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_keys.KafkaTopics;
+import io.github.lvoxx.post.PostLikedEvent;
+import io.github.lvoxx.post.PostRepostedEvent;
+import io.github.lvoxx.post_service.properties.ExploreProperties;
+import io.github.lvoxx.post_service.service.ExploreService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counts likes and reposts towards the interaction velocity the explore
+ * ranking scores posts by.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExploreEventConsumer {
+
+        private final ExploreService exploreService;
+        private final ExploreProperties props;
+
+        @KafkaListener(topics = KafkaTopics.Post.POST_LIKED, groupId = "${spring.application.name}-explore")
+        public void onPostLiked(@Payload PostLikedEvent event, Acknowledgment ack) {
+                exploreService.recordInteraction(UUID.fromString(event.getPostId()), props.getLikeWeight()).block();
+                ack.acknowledge();
+        }
+
+        @KafkaListener(topics = KafkaTopics.Post.POST_REPOSTED, groupId = "${spring.application.name}-explore")
+        public void onPostReposted(@Payload PostRepostedEvent event, Acknowledgment ack) {
+                exploreService.recordInteraction(UUID.fromString(event.getPostId()), props.getRepostWeight()).block();
+                ack.acknowledge();
+        }
+}
@@ -0,0 +1,67 @@
+package io.github.lvoxx.post_service.kafka;
+
+import java.util.UUID;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_keys.KafkaTopics;
+import io.github.lvoxx.post.PostCreatedEvent;
+import io.github.lvoxx.post_service.service.FeedService;
+import io.github.lvoxx.user.UserFollowedEvent;
+import io.github.lvoxx.user.UserUnfollowedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the Redis home timelines in sync with post and follow-graph events.
+ *
+ * <p>
+ * Topics consumed:
+ * <ul>
+ * <li>{@code post.created} — fan the new post out to followers</li>
+ * <li>{@code user.followed} — record the edge and backfill recent posts</li>
+ * <li>{@code user.unfollowed} — drop the edge and the author's posts</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedEventConsumer {
+
+        private final FeedService feedService;
+
+        @KafkaListener(topics = KafkaTopics.Post.POST_CREATED, groupId = "${spring.application.name}-feed")
+        public void onPostCreated(@Payload PostCreatedEvent event, Acknowledgment ack) {
+                if (event.getGroupId() != null) {
+                        // Group posts are served by group feeds, not the home timeline
+                        ack.acknowledge();
+                        return;
+                }
+                feedService.onPostCreated(UUID.fromString(event.getPostId()), UUID.fromString(event.getAuthorId()))
+                                .doOnError(e -> log.error("Fan-out failed post={}: {}", event.getPostId(),
+                                                e.getMessage()))
+                                .block();
+                ack.acknowledge();
+        }
+
+        @KafkaListener(topics = KafkaTopics.User.USER_FOLLOWED, groupId = "${spring.application.name}-feed")
+        public void onUserFollowed(@Payload UserFollowedEvent event, Acknowledgment ack) {
+                feedService.onFollowed(UUID.fromString(event.getFollowerId()), UUID.fromString(event.getFollowingId()))
+                                .doOnError(e -> log.error("Follow projection failed follower={} following={}: {}",
+                                                event.getFollowerId(), event.getFollowingId(), e.getMessage()))
+                                .block();
+                ack.acknowledge();
+        }
+
+        @KafkaListener(topics = KafkaTopics.User.USER_UNFOLLOWED, groupId = "${spring.application.name}-feed")
+        public void onUserUnfollowed(@Payload UserUnfollowedEvent event, Acknowledgment ack) {
+                feedService.onUnfollowed(UUID.fromString(event.getFollowerId()), UUID.fromString(event.getFollowingId()))
+                                .doOnError(e -> log.error("Unfollow projection failed follower={} following={}: {}",
+                                                event.getFollowerId(), event.getFollowingId(), e.getMessage()))
+                                .block();
+                ack.acknowledge();
+        }
+}
@@ -57,6 +57,7 @@ public class PostEventPublisher {
                                 .setContent(post.getContent())
                                 .setPostType(post.getPostType())
                                 .setGroupId(post.getGroupId() != null ? post.getGroupId().toString() : null)
+                                .setVisibility(post.getVisibility())
                                 .build();
 
                 return send("post.created", post.getId().toString(), event);
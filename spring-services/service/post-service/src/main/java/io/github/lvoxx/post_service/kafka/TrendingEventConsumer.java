@@ -0,0 +1,35 @@
+package io.github.lvoxx.post_service.kafka;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_keys.KafkaTopics;
+import io.github.lvoxx.post.PostCreatedEvent;
+import io.github.lvoxx.post_service.trending.TrendingHashtagEngine;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Feeds the hashtags of new public posts to the trending engine.
+ *
+ * <p>
+ * Pods share one consumer group, so each post is counted once and each pod
+ * holds a partial count that the engine merges in Redis.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingEventConsumer {
+
+        private final TrendingHashtagEngine engine;
+
+        @KafkaListener(topics = KafkaTopics.Post.POST_CREATED, groupId = "${spring.application.name}-trending")
+        public void onPostCreated(@Payload PostCreatedEvent event, Acknowledgment ack) {
+                // Only public posts count: hashtags of group, followers-only and private posts
+                // must not leak into the trending list. Events without a visibility are skipped.
+                if (event.getGroupId() == null && "PUBLIC".equals(event.getVisibility())) {
+                        engine.record(event.getContent());
+                }
+                ack.acknowledge();
+        }
+}
@@ -0,0 +1,23 @@
+package io.github.lvoxx.post_service.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.author-ring")
+public class AuthorRingProperties {
+    /** Serve the first pages of an author's posts from the ring. */
+    private boolean enabled = true;
+    /** Newest posts kept per author; deeper pages are read from Postgres. */
+    private int size = 60;
+    /** Rings not refilled within this long expire, bounding any drift from the database. */
+    private Duration ttl = Duration.ofMinutes(10);
+    /** How long a pod reuses a ring it read from Redis; {@code 0} disables the local copy. */
+    private Duration localTtl = Duration.ofSeconds(1);
+    /** Authors whose rings are held locally at once. */
+    private int localMaxSize = 10_000;
+}
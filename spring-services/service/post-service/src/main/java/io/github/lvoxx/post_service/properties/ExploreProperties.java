@@ -0,0 +1,35 @@
+package io.github.lvoxx.post_service.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.explore")
+public class ExploreProperties {
+    /** Rank posts for the explore feed and record interaction velocity. */
+    private boolean enabled = true;
+    /** How often the ranking is rebuilt. */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+    /** Posts older than this are not ranked. */
+    private Duration maxAge = Duration.ofHours(48);
+    /** Newest eligible posts read from Postgres per rebuild. */
+    private int recentCandidates = 5_000;
+    /** Posts with the most recent interactions added per rebuild, however far down the newest list. */
+    private int engagedCandidates = 2_000;
+    /** Posts kept in the ranking; the feed ends after them. */
+    private int listSize = 1_000;
+    /** Width of one interaction bucket. */
+    private Duration velocityBucket = Duration.ofMinutes(10);
+    /** Interactions within this long count towards velocity. */
+    private Duration velocityWindow = Duration.ofHours(1);
+    private double likeWeight = 1.0;
+    private double repostWeight = 3.0;
+    /** Age decay exponent: score = (1 + interactions per hour) / (age in hours + 2)^gravity. */
+    private double gravity = 1.5;
+    /** How long a ranking version stays readable, so clients paging through it see no duplicates. */
+    private Duration snapshotTtl = Duration.ofMinutes(10);
+}
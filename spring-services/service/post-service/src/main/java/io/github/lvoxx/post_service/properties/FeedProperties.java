@@ -0,0 +1,21 @@
+package io.github.lvoxx.post_service.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.feed")
+public class FeedProperties {
+    /** Authors with at least this many followers are pulled at read time instead of fanned out. */
+    private long celebrityThreshold = 10_000;
+    /** Max entries kept in each home timeline sorted set. */
+    private int homeTimelineMaxSize = 800;
+    /** Max entries kept in each author's recent-posts sorted set. */
+    private int authorTimelineMaxSize = 200;
+    /** Posts copied into the follower's timeline when a new follow happens. */
+    private int backfillSize = 50;
+    /** Concurrent Redis writes while fanning out to followers. */
+    private int fanoutConcurrency = 64;
+}
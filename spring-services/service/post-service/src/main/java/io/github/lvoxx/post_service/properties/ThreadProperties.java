@@ -0,0 +1,21 @@
+package io.github.lvoxx.post_service.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.thread")
+public class ThreadProperties {
+    /** Parent posts shown above the requested one; older ones are cut off. */
+    private int maxAncestors = 20;
+    /** Reply levels loaded below the requested post; deeper replies are loaded per branch. */
+    private int maxDepth = 3;
+    /** Direct replies of the requested post per page. */
+    private int pageSize = 20;
+    /** Replies shown under each deeper post before its branch needs its own page. */
+    private int branchSize = 5;
+    /** Upper bound on replies loaded per request; the deepest level is dropped past it. */
+    private int maxNodes = 300;
+}
@@ -0,0 +1,33 @@
+package io.github.lvoxx.post_service.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.trending")
+public class TrendingProperties {
+    /** Count hashtags of new posts and publish the trending list. */
+    private boolean enabled = true;
+    /** Hashtags each pod reports per minute; should comfortably exceed {@code top-size}. */
+    private int candidatesPerMinute = 200;
+    /** Over-count bound of the per-minute sketch, as a fraction of that minute's hashtags. */
+    private double sketchEpsilon = 0.001;
+    /** Probability that a sketch estimate exceeds that bound. */
+    private double sketchDelta = 0.01;
+    /** Hashtags counted per post; the rest are ignored so one post cannot stuff the list. */
+    private int maxTagsPerPost = 10;
+    /** Minutes of counts that make up the trending score. */
+    private Duration window = Duration.ofHours(1);
+    /** Age at which a minute's counts weigh half as much as the current minute's. */
+    private Duration halfLife = Duration.ofMinutes(15);
+    /** Hashtags in the published list. */
+    private int topSize = 50;
+    /** How often a pod reports the minutes it has closed. */
+    private Duration flushInterval = Duration.ofSeconds(5);
+    /** How often the trending list is recomputed; well under its 5 min TTL. */
+    private Duration publishInterval = Duration.ofSeconds(30);
+}
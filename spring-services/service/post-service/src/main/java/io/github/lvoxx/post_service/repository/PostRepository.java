@@ -13,13 +13,27 @@ public interface PostRepository extends ReactiveCrudRepository<Post, UUID> {
 
     Mono<Post> findByIdAndIsDeletedFalse(UUID id);
 
-    @Query("SELECT * FROM posts WHERE reply_to_id = :postId AND is_deleted = false")
-    Mono<Post> findByPostId(UUID postId);
-
-    @Query("SELECT * FROM posts WHERE author_id = :authorId AND is_deleted = false ORDER BY created_at DESC LIMIT :limit")
-    Flux<Post> findByAuthorIdOrderByCreatedAtDesc(UUID authorId, int limit);
-
-    @Query("SELECT * FROM posts WHERE author_id IN (:authorIds) AND is_deleted = false AND status = 'PUBLISHED' ORDER BY created_at DESC LIMIT :limit")
-    Flux<Post> findHomeFeed(java.util.List<UUID> authorIds, int limit);
+    /** Cache misses of a batch lookup, in one round trip; row order is unspecified. */
+    @Query("SELECT * FROM posts WHERE id = ANY(:ids) AND is_deleted = false")
+    Flux<Post> findLiveByIds(UUID[] ids);
+
+    /**
+     * One page of an author's posts, newest first. Post ids are ULIDs, so id
+     * order is creation order and the id alone is the keyset position; served
+     * by {@code idx_posts_author_id_desc}.
+     */
+    @Query("SELECT * FROM posts WHERE author_id = :authorId AND is_deleted = false AND id < :beforeId "
+            + "ORDER BY id DESC LIMIT :limit")
+    Flux<Post> findByAuthorIdBefore(UUID authorId, UUID beforeId, int limit);
+
+    /**
+     * Newest published top-level posts of one visibility created after
+     * {@code afterId}'s timestamp; candidates of the explore ranking job, never
+     * read per request. Walks the primary key backwards.
+     */
+    @Query("SELECT * FROM posts WHERE id > :afterId AND visibility = :visibility AND status = 'PUBLISHED' "
+            + "AND is_deleted = false AND group_id IS NULL AND reply_to_id IS NULL AND post_type <> 'REPOST' "
+            + "ORDER BY id DESC LIMIT :limit")
+    Flux<Post> findExploreCandidates(UUID afterId, String visibility, int limit);
 
 }
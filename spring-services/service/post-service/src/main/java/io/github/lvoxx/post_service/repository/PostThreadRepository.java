@@ -0,0 +1,108 @@
+package io.github.lvoxx.post_service.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.github.lvoxx.post_service.entity.Post;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reply-tree queries on {@code posts}, written as recursive CTEs so a whole
+ * thread is one round trip instead of one query per level.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostThreadRepository {
+
+    /**
+     * One row of a thread.
+     *
+     * @param depth      {@code 0} for the requested post, negative for its
+     *                   ancestors ({@code -1} is the parent), positive for replies
+     * @param hasReplies whether a reply has live replies of its own; always
+     *                   {@code false} for the requested post and its ancestors
+     */
+    public record ThreadRow(Post post, int depth, boolean hasReplies) {
+    }
+
+    // Each level takes at most :branchLimit replies per parent, via LATERAL since
+    // a recursive term cannot LIMIT per parent. Rows are ordered shallowest first,
+    // so :maxNodes cuts the deepest level.
+    private static final String THREAD = """
+            WITH RECURSIVE ancestors AS (
+                    SELECT p.*, 0 AS depth FROM posts p WHERE p.id = :postId
+                UNION ALL
+                    SELECT p.*, a.depth - 1 FROM ancestors a JOIN posts p ON p.id = a.reply_to_id
+                    WHERE a.depth > -:maxAncestors
+            ),
+            descendants AS (
+                    SELECT c.*, 1 AS depth FROM (
+                        SELECT * FROM posts
+                        WHERE reply_to_id = :postId AND is_deleted = false AND id > :afterId
+                        ORDER BY id LIMIT :pageLimit) c
+                UNION ALL
+                    SELECT c.*, d.depth + 1 FROM descendants d
+                    CROSS JOIN LATERAL (
+                        SELECT * FROM posts
+                        WHERE reply_to_id = d.id AND is_deleted = false
+                        ORDER BY id LIMIT :branchLimit) c
+                    WHERE d.depth < :maxDepth
+            )
+            (SELECT a.*, false AS has_replies FROM ancestors a WHERE a.is_deleted = false)
+            UNION ALL
+            (SELECT d.*, EXISTS (SELECT 1 FROM posts r WHERE r.reply_to_id = d.id AND r.is_deleted = false)
+                    AS has_replies
+             FROM descendants d ORDER BY d.depth, d.id LIMIT :maxNodes)
+            """;
+
+    private static final String ANCESTOR_IDS = """
+            WITH RECURSIVE ancestors AS (
+                    SELECT id, reply_to_id, 0 AS depth FROM posts WHERE id = :postId
+                UNION ALL
+                    SELECT p.id, p.reply_to_id, a.depth + 1 FROM ancestors a JOIN posts p ON p.id = a.reply_to_id
+                    WHERE a.depth < :maxDepth
+            )
+            SELECT id FROM ancestors WHERE depth > 0 ORDER BY depth
+            """;
+
+    private final DatabaseClient db;
+    private final R2dbcEntityTemplate template;
+
+    /**
+     * The live ancestors of {@code postId}, the post itself if live, and its live
+     * replies after {@code afterId} down to {@code maxDepth} levels. Ancestors
+     * are walked through deleted posts, which are left out of the result.
+     *
+     * @param pageLimit   direct replies of {@code postId} to load
+     * @param branchLimit replies to load under each deeper post
+     */
+    public Flux<ThreadRow> findThread(UUID postId, UUID afterId, int maxAncestors, int maxDepth,
+            int pageLimit, int branchLimit, int maxNodes) {
+        return db.sql(THREAD)
+                .bind("postId", postId)
+                .bind("afterId", afterId)
+                .bind("maxAncestors", maxAncestors)
+                .bind("maxDepth", maxDepth)
+                .bind("pageLimit", pageLimit)
+                .bind("branchLimit", branchLimit)
+                .bind("maxNodes", maxNodes)
+                .map((row, meta) -> new ThreadRow(
+                        template.getConverter().read(Post.class, row, meta),
+                        row.get("depth", Integer.class),
+                        Boolean.TRUE.equals(row.get("has_replies", Boolean.class))))
+                .all();
+    }
+
+    /** Ids of up to {@code maxDepth} ancestors of {@code postId}, deleted or not, parent first. */
+    public Flux<UUID> findAncestorIds(UUID postId, int maxDepth) {
+        return db.sql(ANCESTOR_IDS)
+                .bind("postId", postId)
+                .bind("maxDepth", maxDepth)
+                .map(row -> row.get("id", UUID.class))
+                .all();
+    }
+}
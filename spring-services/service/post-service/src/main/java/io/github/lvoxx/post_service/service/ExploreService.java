@@ -0,0 +1,26 @@
+package io.github.lvoxx.post_service.service;
+
+import java.util.UUID;
+
+import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.post_service.dto.PostResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Explore feed served from the precomputed ranking of {@code ExploreRanker}.
+ * A page is one {@code ZREVRANGE} on the ranking plus a post multi-get;
+ * nothing sorts {@code posts} at request time.
+ */
+public interface ExploreService {
+
+    /**
+     * Reads one page of public posts, best first. A cursor keeps reading the
+     * ranking version its first page came from while that version lives.
+     *
+     * @param cursor opaque cursor returned with the previous page, or {@code null}
+     */
+    Mono<PageResponse<PostResponse>> getExploreFeed(String cursor, int size);
+
+    /** Adds {@code weight} to the post's interaction velocity. */
+    Mono<Void> recordInteraction(UUID postId, double weight);
+}
@@ -0,0 +1,54 @@
+package io.github.lvoxx.post_service.service;
+
+import java.util.UUID;
+
+import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.post_service.dto.FollowEdgeRow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hybrid fan-out home timeline store.
+ *
+ * <p>
+ * Posts of regular authors are pushed into each follower's Redis sorted set on
+ * write. Posts of "celebrity" authors (follower count above
+ * {@code sssm.feed.celebrity-threshold}) are only kept in the author's own
+ * timeline and merged in at read time.
+ *
+ * <p>
+ * The follow graph both depend on is a projection of {@code user.followed} /
+ * {@code user.unfollowed}, so edges older than those events are missing until
+ * {@link #importFollows} has read user-service's followers export. Cut-over:
+ * deploy, stream the export into the import endpoint, then rewind the feed
+ * consumer group to the time the export started, so unfollows that happened
+ * while it ran are applied again over the imported edges.
+ */
+public interface FeedService {
+
+    /** Largest page {@link #readHomeTimeline} returns; smaller sizes are raised to 1. */
+    int MAX_PAGE_SIZE = 50;
+
+    Mono<Void> onPostCreated(UUID postId, UUID authorId);
+
+    Mono<Void> removePost(UUID postId, UUID authorId);
+
+    Mono<Void> onFollowed(UUID followerId, UUID followingId);
+
+    Mono<Void> onUnfollowed(UUID followerId, UUID followingId);
+
+    /**
+     * Records existing follow edges, as {@link #onFollowed} would but without
+     * copying posts into home timelines. Idempotent.
+     *
+     * @return number of edges read
+     */
+    Mono<Long> importFollows(Flux<FollowEdgeRow> edges);
+
+    /**
+     * Reads one page of post IDs, newest first.
+     *
+     * @param cursor opaque cursor returned with the previous page, or {@code null}
+     */
+    Mono<PageResponse<UUID>> readHomeTimeline(UUID userId, String cursor, int size);
+}
@@ -0,0 +1,21 @@
+package io.github.lvoxx.post_service.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import io.github.lvoxx.post_service.dto.PostResponse;
+import reactor.core.publisher.Mono;
+
+public interface PostLookupService {
+
+    /**
+     * Resolves many posts in at most two round trips: one Redis {@code MGET}
+     * on the {@code POST_DETAIL} cache for whatever this pod's L1 does not
+     * hold, then a single {@code id = ANY(...)} query for the misses. Loaded
+     * posts are written back to the cache.
+     * Deleted or unknown IDs are absent from the returned map; callers join by
+     * ID to keep their own ordering.
+     */
+    Mono<Map<UUID, PostResponse>> findPosts(Collection<UUID> postIds);
+}
@@ -9,6 +9,10 @@ import io.github.lvoxx.post_service.dto.PostResponse;
 import reactor.core.publisher.Mono;
 
 public interface PostService {
+
+    /** Largest page {@link #getHomeFeed} and {@link #getUserPosts} return; smaller sizes are raised to 1. */
+    int MAX_PAGE_SIZE = 50;
+
     Mono<PostResponse> createPost(UserPrincipal principal, CreatePostRequest req);
 
     Mono<PostResponse> getPost(UUID postId);
@@ -0,0 +1,30 @@
+package io.github.lvoxx.post_service.service;
+
+import java.util.UUID;
+
+import io.github.lvoxx.post_service.dto.ThreadResponse;
+import reactor.core.publisher.Mono;
+
+public interface ThreadService {
+
+    /**
+     * Loads a post with its ancestors and a bounded tree of its replies in one
+     * query. Without a cursor the first page is served from the
+     * {@code POST_THREAD} cache; a cursor from a {@code repliesCursor} loads the
+     * next replies of that post, without ancestors.
+     */
+    Mono<ThreadResponse> getThread(UUID postId, String cursor);
+
+    /**
+     * Evicts the cached threads that show replies of {@code parentId}: its own
+     * and those of its ancestors within the loaded depth. Call after a reply to
+     * it is created or deleted.
+     */
+    Mono<Void> onRepliesChanged(UUID parentId);
+
+    /**
+     * Evicts the deleted post's thread and, for a reply, those that show it.
+     * Threads of its own replies list it as an ancestor until they expire.
+     */
+    Mono<Void> onPostDeleted(UUID postId, UUID parentId);
+}
@@ -0,0 +1,89 @@
+package io.github.lvoxx.post_service.service.impl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.common_core.util.CursorCodec;
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.post_service.dto.PostResponse;
+import io.github.lvoxx.post_service.explore.ExploreRanker;
+import io.github.lvoxx.post_service.properties.ExploreProperties;
+import io.github.lvoxx.post_service.service.ExploreService;
+import io.github.lvoxx.post_service.service.PostLookupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExploreServiceImpl implements ExploreService {
+
+    private final ReactiveStringRedisTemplate redis;
+    private final PostLookupService postLookup;
+    private final ExploreProperties props;
+
+    @Override
+    public Mono<PageResponse<PostResponse>> getExploreFeed(String cursor, int size) {
+        return Mono.defer(() -> {
+            CursorCodec.SnapshotPosition pos = CursorCodec.decodeSnapshot(cursor);
+            if (pos == null) {
+                return currentSnapshot().flatMap(v -> page(v, 0, size));
+            }
+            return page(pos.snapshot(), pos.offset(), size)
+                    // The version expired mid-scroll: carry on at the same rank of the current one
+                    .switchIfEmpty(Mono.defer(() -> currentSnapshot()
+                            .filter(v -> v != pos.snapshot())
+                            .flatMap(v -> page(v, pos.offset(), size))));
+        }).defaultIfEmpty(PageResponse.of(List.of(), null));
+    }
+
+    @Override
+    public Mono<Void> recordInteraction(UUID postId, double weight) {
+        if (!props.isEnabled()) {
+            return Mono.empty();
+        }
+        long bucketMs = props.getVelocityBucket().toMillis();
+        long bucket = Math.floorDiv(System.currentTimeMillis(), bucketMs) * bucketMs;
+        String key = CacheKeys.Post.POST_EXPLORE_VELOCITY + bucket;
+        return redis.opsForZSet().incrementScore(key, postId.toString(), weight)
+                .then(redis.expire(key, props.getVelocityWindow().plus(props.getVelocityBucket())))
+                .then();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private Mono<Long> currentSnapshot() {
+        return redis.opsForValue().get(ExploreRanker.pointerKey()).map(Long::parseLong);
+    }
+
+    /** @return the page, or empty if version {@code snapshot} no longer exists */
+    private Mono<PageResponse<PostResponse>> page(long snapshot, int offset, int size) {
+        String key = ExploreRanker.snapshotKey(snapshot);
+        // One id past the page proves there is a next page
+        return redis.opsForZSet().reverseRange(key, Range.closed((long) offset, (long) offset + size))
+                .map(UUID::fromString)
+                .collectList()
+                .flatMap(ids -> ids.isEmpty() && offset > 0
+                        ? redis.hasKey(key).flatMap(exists -> exists
+                                ? Mono.just(PageResponse.<PostResponse>of(List.of(), null))
+                                : Mono.empty())
+                        : hydrate(ids, snapshot, offset, size));
+    }
+
+    private Mono<PageResponse<PostResponse>> hydrate(List<UUID> ids, long snapshot, int offset, int size) {
+        boolean hasMore = ids.size() > size;
+        List<UUID> page = hasMore ? ids.subList(0, size) : ids;
+        return postLookup.findPosts(page)
+                .map(byId -> PageResponse.of(
+                        // Posts deleted since the ranking was built are skipped
+                        page.stream().map(byId::get).filter(Objects::nonNull).toList(),
+                        hasMore ? CursorCodec.encodeSnapshot(snapshot, offset + size) : null));
+    }
+}
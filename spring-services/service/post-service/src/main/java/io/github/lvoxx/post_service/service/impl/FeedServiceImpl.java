@@ -0,0 +1,214 @@
+package io.github.lvoxx.post_service.service.impl;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.common_core.util.CursorCodec;
+import io.github.lvoxx.common_core.util.UlidGenerator;
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.post_service.dto.FollowEdgeRow;
+import io.github.lvoxx.post_service.properties.FeedProperties;
+import io.github.lvoxx.post_service.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Redis-backed implementation of {@link FeedService}.
+ *
+ * <p>
+ * Keys (all sorted sets use member = postId, score = ULID epoch millis):
+ * <ul>
+ * <li>{@link CacheKeys.Post#POST_HOME_FEED} — per-user home timeline, fan-out target</li>
+ * <li>{@link CacheKeys.Post#POST_AUTHOR_TIMELINE} — per-author recent posts, pull source</li>
+ * <li>{@link CacheKeys.Post#POST_GRAPH_FOLLOWERS} / {@link CacheKeys.Post#POST_GRAPH_FOLLOWING}
+ * — follow graph projected from {@code user.followed} / {@code user.unfollowed}</li>
+ * <li>{@link CacheKeys.Post#POST_GRAPH_CELEBRITIES} — authors served by pull</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedServiceImpl implements FeedService {
+
+    /** Extra entries read per source so same-millisecond posts before the cursor can be skipped. */
+    private static final int CURSOR_SLACK = 16;
+
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::postId, Comparator.reverseOrder());
+
+    private final ReactiveStringRedisTemplate redis;
+    private final FeedProperties props;
+
+    @Override
+    public Mono<Void> onPostCreated(UUID postId, UUID authorId) {
+        String member = postId.toString();
+        String author = authorId.toString();
+        double score = UlidGenerator.timestampOf(postId);
+
+        Mono<Void> own = push(authorTimelineKey(author), member, score, props.getAuthorTimelineMaxSize())
+                .then(push(homeKey(author), member, score, props.getHomeTimelineMaxSize()));
+
+        Mono<Void> fanOut = isCelebrity(author).flatMap(celebrity -> celebrity
+                ? Mono.<Void>empty()
+                : redis.opsForSet().scan(followersKey(author))
+                        .flatMap(follower -> push(homeKey(follower), member, score,
+                                props.getHomeTimelineMaxSize()), props.getFanoutConcurrency())
+                        .then());
+
+        return own.then(fanOut)
+                .doOnSuccess(v -> log.debug("Fanned out post={} author={}", member, author));
+    }
+
+    @Override
+    public Mono<Void> removePost(UUID postId, UUID authorId) {
+        String member = postId.toString();
+        String author = authorId.toString();
+
+        Mono<Void> own = redis.opsForZSet().remove(authorTimelineKey(author), member)
+                .then(redis.opsForZSet().remove(homeKey(author), member))
+                .then();
+
+        // Celebrity posts were never pushed; stale IDs are also dropped at read time.
+        Mono<Void> fanOut = isCelebrity(author).flatMap(celebrity -> celebrity
+                ? Mono.<Void>empty()
+                : redis.opsForSet().scan(followersKey(author))
+                        .flatMap(follower -> redis.opsForZSet().remove(homeKey(follower), member),
+                                props.getFanoutConcurrency())
+                        .then());
+
+        return own.then(fanOut);
+    }
+
+    @Override
+    public Mono<Void> onFollowed(UUID followerId, UUID followingId) {
+        String follower = followerId.toString();
+        String following = followingId.toString();
+
+        return addEdge(follower, following)
+                .flatMap(celebrity -> celebrity ? Mono.<Void>empty() : backfill(follower, following));
+    }
+
+    @Override
+    public Mono<Void> onUnfollowed(UUID followerId, UUID followingId) {
+        String follower = followerId.toString();
+        String following = followingId.toString();
+
+        return redis.opsForSet().remove(followersKey(following), follower)
+                .then(redis.opsForSet().remove(followingKey(follower), following))
+                .then(redis.opsForSet().size(followersKey(following)))
+                .flatMap(count -> count < props.getCelebrityThreshold()
+                        ? redis.opsForSet().remove(CacheKeys.Post.POST_GRAPH_CELEBRITIES, following)
+                        : Mono.just(0L))
+                .then(redis.opsForZSet().range(authorTimelineKey(following), Range.closed(0L, -1L))
+                        .collectList())
+                .flatMap(postIds -> postIds.isEmpty()
+                        ? Mono.<Void>empty()
+                        : redis.opsForZSet().remove(homeKey(follower), postIds.toArray()).then());
+    }
+
+    @Override
+    public Mono<Long> importFollows(Flux<FollowEdgeRow> edges) {
+        return edges
+                .flatMap(e -> addEdge(e.from().toString(), e.to().toString()), props.getFanoutConcurrency())
+                .count()
+                .doOnSuccess(n -> log.info("Imported {} follow edges", n));
+    }
+
+    @Override
+    public Mono<PageResponse<UUID>> readHomeTimeline(UUID userId, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return Mono.defer(() -> {
+            UUID after = CursorCodec.decodeId(cursor);
+            String afterMember = after != null ? after.toString() : null;
+            double maxScore = after != null ? UlidGenerator.timestampOf(after) : Double.POSITIVE_INFINITY;
+            String user = userId.toString();
+            int fetch = limit + 1 + CURSOR_SLACK;
+
+            // Own fanned-out timeline plus the recent posts of every followed celebrity
+            Flux<String> sources = Flux.just(homeKey(user))
+                    .concatWith(redis.opsForSet()
+                            .intersect(followingKey(user), CacheKeys.Post.POST_GRAPH_CELEBRITIES)
+                            .map(this::authorTimelineKey));
+
+            return sources
+                    .flatMap(key -> redis.opsForZSet()
+                            .reverseRangeByScoreWithScores(key, Range.closed(Double.NEGATIVE_INFINITY, maxScore),
+                                    Limit.limit().count(fetch))
+                            .map(t -> new Entry(t.getValue(), t.getScore())))
+                    .filter(e -> afterMember == null || e.score() < maxScore || e.postId().compareTo(afterMember) < 0)
+                    .distinct(Entry::postId)
+                    .sort(NEWEST_FIRST)
+                    .take(limit + 1)
+                    .map(e -> UUID.fromString(e.postId()))
+                    .collectList()
+                    .map(ids -> {
+                        if (ids.size() <= limit) {
+                            return PageResponse.of(ids, null);
+                        }
+                        List<UUID> page = ids.subList(0, limit);
+                        return PageResponse.of(page, CursorCodec.encodeId(page.getLast()));
+                    });
+        });
+    }
+
+    /** Records the edge and marks {@code following} a celebrity once over the threshold; emits whether it is. */
+    private Mono<Boolean> addEdge(String follower, String following) {
+        return redis.opsForSet().add(followersKey(following), follower)
+                .then(redis.opsForSet().add(followingKey(follower), following))
+                .then(redis.opsForSet().size(followersKey(following)))
+                .flatMap(count -> count >= props.getCelebrityThreshold()
+                        ? redis.opsForSet().add(CacheKeys.Post.POST_GRAPH_CELEBRITIES, following).thenReturn(true)
+                        : Mono.just(false));
+    }
+
+    private Mono<Void> backfill(String follower, String following) {
+        return redis.opsForZSet()
+                .reverseRangeWithScores(authorTimelineKey(following), Range.closed(0L, props.getBackfillSize() - 1L))
+                .collectList()
+                .flatMap(tuples -> tuples.isEmpty()
+                        ? Mono.<Void>empty()
+                        : redis.opsForZSet().addAll(homeKey(follower), tuples)
+                                .then(trim(homeKey(follower), props.getHomeTimelineMaxSize())));
+    }
+
+    private Mono<Void> push(String key, String member, double score, int maxSize) {
+        return redis.opsForZSet().add(key, member, score).then(trim(key, maxSize));
+    }
+
+    /** Keeps only the newest {@code maxSize} entries (ZREMRANGEBYRANK key 0 -(maxSize+1)). */
+    private Mono<Void> trim(String key, int maxSize) {
+        return redis.opsForZSet().removeRange(key, Range.closed(0L, -(maxSize + 1L))).then();
+    }
+
+    private Mono<Boolean> isCelebrity(String authorId) {
+        return redis.opsForSet().isMember(CacheKeys.Post.POST_GRAPH_CELEBRITIES, authorId);
+    }
+
+    private String homeKey(String userId) {
+        return CacheKeys.Post.POST_HOME_FEED + userId;
+    }
+
+    private String authorTimelineKey(String authorId) {
+        return CacheKeys.Post.POST_AUTHOR_TIMELINE + authorId;
+    }
+
+    private String followersKey(String userId) {
+        return CacheKeys.Post.POST_GRAPH_FOLLOWERS + userId;
+    }
+
+    private String followingKey(String userId) {
+        return CacheKeys.Post.POST_GRAPH_FOLLOWING + userId;
+    }
+
+    private record Entry(String postId, double score) {
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.lvoxx.post_service.service.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.post_service.dto.PostResponse;
+import io.github.lvoxx.post_service.entity.Post;
+import io.github.lvoxx.post_service.repository.PostRepository;
+import io.github.lvoxx.post_service.service.PostLookupService;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class PostLookupServiceImpl implements PostLookupService {
+
+    private final PostRepository postRepo;
+    private final ReactiveCacheService cacheService;
+
+    @Override
+    public Mono<Map<UUID, PostResponse>> findPosts(Collection<UUID> postIds) {
+        Set<UUID> ids = new LinkedHashSet<>(postIds);
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return cacheService.getAll(CacheKeys.Post.POST_DETAIL, ids, PostResponse.class)
+                .flatMap(found -> {
+                    UUID[] misses = ids.stream().filter(id -> !found.containsKey(id)).toArray(UUID[]::new);
+                    if (misses.length == 0) {
+                        return Mono.just(found);
+                    }
+                    return postRepo.findLiveByIds(misses)
+                            .map(this::toResponse)
+                            .collectMap(PostResponse::id, p -> p)
+                            .flatMap(loaded -> cacheService.putAll(CacheKeys.Post.POST_DETAIL, loaded)
+                                    .thenReturn(loaded))
+                            .map(loaded -> {
+                                Map<UUID, PostResponse> all = new HashMap<>(found);
+                                all.putAll(loaded);
+                                return all;
+                            });
+                });
+    }
+
+    private PostResponse toResponse(Post p) {
+        return new PostResponse(p.getId(), p.getAuthorId(), p.getGroupId(), p.getContent(),
+                p.getPostType(), p.getStatus(), p.getVisibility(),
+                p.getIsEdited(), p.getIsPinned(), p.getReplyToId(), p.getRepostOfId(), p.getCreatedAt());
+    }
+}
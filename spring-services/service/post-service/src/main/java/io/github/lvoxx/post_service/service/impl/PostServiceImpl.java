@@ -1,9 +1,10 @@
 package io.github.lvoxx.post_service.service.impl;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import io.github.lvoxx.common_core.exception.ForbiddenException;
@@ -11,16 +12,23 @@ import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
 import io.github.lvoxx.common_core.message.MessageKeys;
 import io.github.lvoxx.common_core.model.PageResponse;
 import io.github.lvoxx.common_core.security.UserPrincipal;
+import io.github.lvoxx.common_core.util.CursorCodec;
 import io.github.lvoxx.common_core.util.UlidGenerator;
 import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
+import io.github.lvoxx.post_service.cache.AuthorPostRing;
 import io.github.lvoxx.post_service.dto.CreatePostRequest;
 import io.github.lvoxx.post_service.dto.PostResponse;
 import io.github.lvoxx.post_service.entity.Post;
 import io.github.lvoxx.post_service.kafka.PostEventPublisher;
 import io.github.lvoxx.post_service.repository.PostRepository;
+import io.github.lvoxx.post_service.service.FeedService;
+import io.github.lvoxx.post_service.service.PostLookupService;
 import io.github.lvoxx.post_service.service.PostService;
+import io.github.lvoxx.post_service.service.ThreadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -28,8 +36,16 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    /** Sorts after every post id, so {@code id < NEWEST} starts from the newest post. */
+    private static final UUID NEWEST = new UUID(-1L, -1L);
+
     private final PostRepository postRepo;
     private final PostEventPublisher eventPublisher;
+    private final FeedService feedService;
+    private final PostLookupService postLookup;
+    private final ReactiveCacheService cache;
+    private final AuthorPostRing authorRing;
+    private final ThreadService threadService;
 
     @Override
     public Mono<PostResponse> createPost(UserPrincipal principal, CreatePostRequest req) {
@@ -47,15 +63,27 @@ public class PostServiceImpl implements PostService {
 
         return postRepo.save(post)
                 .flatMap(saved -> eventPublisher.publishPostCreated(saved).thenReturn(saved))
-                .map(this::toResponse);
+                .map(this::toResponse)
+                .flatMap(created -> authorRing.onPostCreated(created)
+                        .onErrorResume(e -> {
+                            log.warn("Author ring push failed for post={}: {}", created.id(), e.getMessage());
+                            return Mono.empty();
+                        })
+                        .then(created.replyToId() == null ? Mono.<Void>empty()
+                                : threadService.onRepliesChanged(created.replyToId())
+                                        .onErrorResume(e -> {
+                                            log.warn("Thread cache eviction failed for post={}: {}", created.id(),
+                                                    e.getMessage());
+                                            return Mono.empty();
+                                        }))
+                        .thenReturn(created));
     }
 
     @Override
-    @Cacheable(value = CacheKeys.Post.POST_DETAIL, key = "#postId")
     public Mono<PostResponse> getPost(UUID postId) {
-        return postRepo.findByIdAndIsDeletedFalse(postId)
-                .switchIfEmpty(Mono.error(new ResourceNotFoundException(MessageKeys.POST_NOT_FOUND, postId)))
-                .map(this::toResponse);
+        return cache.get(CacheKeys.Post.POST_DETAIL, postId, PostResponse.class,
+                () -> postRepo.findByIdAndIsDeletedFalse(postId).map(this::toResponse))
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException(MessageKeys.POST_NOT_FOUND, postId)));
     }
 
     @Override
@@ -70,25 +98,57 @@ public class PostServiceImpl implements PostService {
                     post.softDelete(principal.userId());
                     return postRepo.save(post);
                 })
+                .flatMap(deleted -> feedService.removePost(deleted.getId(), deleted.getAuthorId())
+                        .onErrorResume(e -> {
+                            log.warn("Timeline cleanup failed for post={}: {}", postId, e.getMessage());
+                            return Mono.empty();
+                        })
+                        .then(authorRing.onPostDeleted(deleted.getAuthorId())
+                                .onErrorResume(e -> {
+                                    log.warn("Author ring cleanup failed for post={}: {}", postId, e.getMessage());
+                                    return Mono.empty();
+                                }))
+                        .then(threadService.onPostDeleted(deleted.getId(), deleted.getReplyToId())
+                                .onErrorResume(e -> {
+                                    log.warn("Thread cache eviction failed for post={}: {}", postId, e.getMessage());
+                                    return Mono.empty();
+                                })))
                 .then();
     }
 
     @Override
     public Mono<PageResponse<PostResponse>> getHomeFeed(UserPrincipal principal, String cursor, int size) {
-        // Simplified — real impl would load followed users from user-service via
-        // WebClient/cache
-        return postRepo.findByAuthorIdOrderByCreatedAtDesc(principal.userId(), size)
-                .map(this::toResponse)
-                .collectList()
-                .map(items -> PageResponse.of(items, items.size() >= size ? "next" : null));
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return feedService.readHomeTimeline(principal.userId(), cursor, limit)
+                .flatMap(page -> postLookup.findPosts(page.items())
+                        .map(byId -> new PageResponse<>(
+                                page.items().stream()
+                                        .map(byId::get)
+                                        .filter(Objects::nonNull)
+                                        .toList(),
+                                page.nextCursor(), page.hasMore(), null)));
     }
 
     @Override
     public Mono<PageResponse<PostResponse>> getUserPosts(UUID userId, String cursor, int size) {
-        return postRepo.findByAuthorIdOrderByCreatedAtDesc(userId, size)
-                .map(this::toResponse)
-                .collectList()
-                .map(items -> PageResponse.of(items, items.size() >= size ? "next" : null));
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return Mono.defer(() -> {
+            UUID after = CursorCodec.decodeId(cursor);
+            return authorRing.page(userId, after, limit, n -> findUserPosts(userId, NEWEST, n).collectList())
+                    .switchIfEmpty(Mono.defer(() -> findUserPosts(userId,
+                            Objects.requireNonNullElse(after, NEWEST), limit + 1)
+                            .collectList()
+                            .map(posts -> {
+                                boolean hasMore = posts.size() > limit;
+                                List<PostResponse> page = hasMore ? posts.subList(0, limit) : posts;
+                                return PageResponse.of(page,
+                                        hasMore ? CursorCodec.encodeId(page.getLast().id()) : null);
+                            })));
+        });
+    }
+
+    private Flux<PostResponse> findUserPosts(UUID userId, UUID before, int limit) {
+        return postRepo.findByAuthorIdBefore(userId, before, limit).map(this::toResponse);
     }
 
     private PostResponse toResponse(Post p) {
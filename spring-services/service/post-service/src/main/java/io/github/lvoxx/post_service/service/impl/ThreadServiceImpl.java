@@ -0,0 +1,151 @@
+package io.github.lvoxx.post_service.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
+import io.github.lvoxx.common_core.message.MessageKeys;
+import io.github.lvoxx.common_core.util.CursorCodec;
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.post_service.dto.PostResponse;
+import io.github.lvoxx.post_service.dto.ThreadNode;
+import io.github.lvoxx.post_service.dto.ThreadResponse;
+import io.github.lvoxx.post_service.entity.Post;
+import io.github.lvoxx.post_service.properties.ThreadProperties;
+import io.github.lvoxx.post_service.repository.PostThreadRepository;
+import io.github.lvoxx.post_service.repository.PostThreadRepository.ThreadRow;
+import io.github.lvoxx.post_service.service.ThreadService;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThreadServiceImpl implements ThreadService {
+
+    /** Sorts before every post id, so {@code id > OLDEST} starts from the first reply. */
+    private static final UUID OLDEST = new UUID(0L, 0L);
+
+    private final PostThreadRepository threadRepo;
+    private final ThreadProperties props;
+    private final ReactiveCacheService cache;
+    private final CacheManager cacheManager;
+
+    @Override
+    public Mono<ThreadResponse> getThread(UUID postId, String cursor) {
+        if (cursor == null) {
+            return cache.get(CacheKeys.Post.POST_THREAD, postId, ThreadResponse.class, () -> load(postId, null));
+        }
+        return Mono.defer(() -> load(postId, CursorCodec.decodeId(cursor)));
+    }
+
+    @Override
+    public Mono<Void> onRepliesChanged(UUID parentId) {
+        return threadRepo.findAncestorIds(parentId, props.getMaxDepth())
+                .startWith(parentId)
+                .collectList()
+                .flatMap(this::evict);
+    }
+
+    @Override
+    public Mono<Void> onPostDeleted(UUID postId, UUID parentId) {
+        return evict(List.of(postId))
+                .then(parentId != null ? onRepliesChanged(parentId) : Mono.empty());
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    /** @param after last reply of the previous page, or {@code null} for the first page */
+    private Mono<ThreadResponse> load(UUID postId, UUID after) {
+        boolean firstPage = after == null;
+        // One row past each limit proves a branch has more replies
+        return threadRepo.findThread(postId, firstPage ? OLDEST : after,
+                        firstPage ? props.getMaxAncestors() : 0, props.getMaxDepth(),
+                        props.getPageSize() + 1, props.getBranchSize() + 1, props.getMaxNodes())
+                .collectList()
+                .flatMap(rows -> Mono.justOrEmpty(assemble(rows)))
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException(MessageKeys.POST_NOT_FOUND, postId)));
+    }
+
+    /** @return the thread, or {@code null} if the requested post is not live */
+    private ThreadResponse assemble(List<ThreadRow> rows) {
+        int deepest = 0;
+        int replies = 0;
+        for (ThreadRow row : rows) {
+            if (row.depth() > 0) {
+                replies++;
+                deepest = Math.max(deepest, row.depth());
+            }
+        }
+        // A full result may have cut the deepest level mid-branch; drop that
+        // level whole so its parents offer a cursor instead of looking complete
+        int cutDepth = replies >= props.getMaxNodes() && deepest > 1 ? deepest : Integer.MAX_VALUE;
+
+        PostResponse post = null;
+        List<ThreadRow> ancestors = new ArrayList<>();
+        Map<UUID, List<ThreadRow>> children = new HashMap<>();
+        for (ThreadRow row : rows) {
+            if (row.depth() == 0) {
+                post = toResponse(row.post());
+            } else if (row.depth() < 0) {
+                ancestors.add(row);
+            } else if (row.depth() < cutDepth) {
+                children.computeIfAbsent(row.post().getReplyToId(), k -> new ArrayList<>()).add(row);
+            }
+        }
+        if (post == null) {
+            return null;
+        }
+        ancestors.sort(Comparator.comparingInt(ThreadRow::depth));
+        return new ThreadResponse(
+                ancestors.stream().map(r -> toResponse(r.post())).toList(),
+                node(post, false, children, props.getPageSize()));
+    }
+
+    /**
+     * @param hasReplies whether {@code post} has replies that may not have been
+     *                   loaded (below the depth limit or cut by the node limit)
+     */
+    private ThreadNode node(PostResponse post, boolean hasReplies, Map<UUID, List<ThreadRow>> children, int limit) {
+        List<ThreadRow> loaded = children.getOrDefault(post.id(), List.of());
+        if (loaded.isEmpty()) {
+            return new ThreadNode(post, List.of(), hasReplies ? CursorCodec.encodeId(OLDEST) : null);
+        }
+        boolean more = loaded.size() > limit;
+        List<ThreadRow> shown = more ? loaded.subList(0, limit) : loaded;
+        return new ThreadNode(post,
+                shown.stream()
+                        .map(r -> node(toResponse(r.post()), r.hasReplies(), children, props.getBranchSize()))
+                        .toList(),
+                more ? CursorCodec.encodeId(shown.getLast().post().getId()) : null);
+    }
+
+    private Mono<Void> evict(Collection<UUID> postIds) {
+        Cache threads = cacheManager.getCache(CacheKeys.Post.POST_THREAD);
+        if (threads == null) {
+            return Mono.empty();
+        }
+        // Cache.evict writes to Redis synchronously
+        return Mono.fromRunnable(() -> postIds.forEach(threads::evict))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private PostResponse toResponse(Post p) {
+        return new PostResponse(p.getId(), p.getAuthorId(), p.getGroupId(), p.getContent(),
+                p.getPostType(), p.getStatus(), p.getVisibility(),
+                p.getIsEdited(), p.getIsPinned(), p.getReplyToId(), p.getRepostOfId(), p.getCreatedAt());
+    }
+}
@@ -0,0 +1,284 @@
+package io.github.lvoxx.post_service.trending;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_core.util.CountMinSketch;
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.common_keys.LockKeys;
+import io.github.lvoxx.post_service.dto.TrendingHashtag;
+import io.github.lvoxx.post_service.properties.TrendingProperties;
+import io.github.lvoxx.redis_starter.service.LockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Streaming trending-hashtag counts, published as one JSON list under
+ * {@link CacheKeys.Search#SEARCH_TRENDING_HASHTAGS} so readers need a single
+ * {@code GET}.
+ *
+ * <p>
+ * Each pod counts the hashtags of the posts it consumes in per-minute buckets:
+ * a count-min sketch estimates every tag's count in fixed memory, and the
+ * {@code candidates-per-minute} tags with the highest estimates are kept by
+ * name. When a minute closes, the pod adds its candidates' estimates to that
+ * minute's Redis hash, so the hash holds the sum of every pod's partial top-K.
+ *
+ * <p>
+ * One pod at a time then scores the last {@code window} of closed minutes,
+ * weighting each minute by {@code 0.5^(age / half-life)}, and writes the top
+ * {@code top-size} tags with the list's 5 min TTL. A tag must rank among a
+ * pod's candidates in some minute to be counted at all, so tags too rare to
+ * make any pod's cut never trend.
+ *
+ * <p>
+ * Metric: {@code post.trending.hashtags} — hashtags counted.
+ */
+@Slf4j
+@Component
+public class TrendingHashtagEngine {
+
+    /** {@code #} not preceded by a word character, then a letter and up to 99 letters, digits or {@code _}. */
+    private static final Pattern HASHTAG = Pattern.compile("(?<![\\p{L}\\p{N}_&#])#(\\p{L}[\\p{L}\\p{N}_]{0,99})");
+
+    /** Adds counts into a minute's hash: ARGV[1] = TTL in ms, ARGV[2..] = tag, count pairs. */
+    private static final RedisScript<Long> REPORT = RedisScript.of("""
+            for i = 2, #ARGV, 2 do
+              redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return (#ARGV - 1) / 2
+            """, Long.class);
+
+    /** Minute hashes outlive the window by this much, so the oldest minute is still there when scored. */
+    private static final Duration RETENTION_SLACK = Duration.ofMinutes(5);
+
+    /** One minute of one pod's hashtags: a sketch of all of them and the heaviest by name. */
+    private static final class Minute {
+        final long epochMinute;
+        final CountMinSketch sketch;
+        final int capacity;
+        final Map<String, Long> candidates = new HashMap<>();
+        /** Lowest estimate among full candidates; a tag must beat it to get in. */
+        long floor;
+        /** Set once the minute's counts have been taken for reporting; later adds are refused. */
+        boolean sealed;
+
+        Minute(long epochMinute, TrendingProperties props) {
+            this.epochMinute = epochMinute;
+            this.sketch = CountMinSketch.create(props.getSketchEpsilon(), props.getSketchDelta());
+            this.capacity = props.getCandidatesPerMinute();
+        }
+
+        /** Counts {@code tag}; {@code false} if the minute is already sealed and nothing was counted. */
+        synchronized boolean add(String tag) {
+            if (sealed) {
+                return false;
+            }
+            long estimate = sketch.add(tag, 1);
+            if (candidates.containsKey(tag) || candidates.size() < capacity) {
+                candidates.put(tag, estimate);
+                if (candidates.size() == capacity) {
+                    floor = lightest().getValue();
+                }
+                return true;
+            }
+            if (estimate > floor) {
+                candidates.remove(lightest().getKey());
+                candidates.put(tag, estimate);
+                floor = lightest().getValue();
+            }
+            return true;
+        }
+
+        /** Seals the minute and returns its candidates with their final estimates. */
+        synchronized Map<String, Long> seal() {
+            sealed = true;
+            Map<String, Long> counts = new HashMap<>(candidates.size());
+            candidates.keySet().forEach(tag -> counts.put(tag, sketch.estimate(tag)));
+            return counts;
+        }
+
+        private Map.Entry<String, Long> lightest() {
+            return candidates.entrySet().stream().min(Map.Entry.comparingByValue()).orElseThrow();
+        }
+    }
+
+    private final ReactiveStringRedisTemplate redis;
+    private final LockService lockService;
+    private final JsonMapper jsonMapper;
+    private final TrendingProperties props;
+    private final MeterRegistry registry;
+
+    private final AtomicReference<Minute> current = new AtomicReference<>();
+    private final ConcurrentLinkedQueue<Minute> closed = new ConcurrentLinkedQueue<>();
+
+    public TrendingHashtagEngine(ReactiveStringRedisTemplate redis, LockService lockService,
+            JsonMapper jsonMapper, TrendingProperties props, MeterRegistry registry) {
+        this.redis = redis;
+        this.lockService = lockService;
+        this.jsonMapper = jsonMapper;
+        this.props = props;
+        this.registry = registry;
+    }
+
+    /** Counts the hashtags of one new post. */
+    public void record(String content) {
+        if (!props.isEnabled() || content == null) {
+            return;
+        }
+        Set<String> tags = extract(content, props.getMaxTagsPerPost());
+        if (tags.isEmpty()) {
+            return;
+        }
+        Minute minute = minute(epochMinute());
+        for (String tag : tags) {
+            // A recorder that picked the minute just before it closed finds it
+            // sealed once flush has read it; the tag goes to the current minute
+            while (!minute.add(tag)) {
+                minute = minute(epochMinute());
+            }
+        }
+        registry.counter("post.trending.hashtags").increment(tags.size());
+    }
+
+    /**
+     * Reports every minute this pod has closed to Redis.
+     *
+     * @return number of tag counts reported
+     */
+    @Scheduled(fixedDelayString = "${sssm.trending.flush-interval:PT5S}")
+    public Mono<Long> flush() {
+        return Mono.defer(() -> {
+            // Closes the current minute even when no post has arrived since it ended
+            minute(epochMinute());
+            List<Minute> ready = new ArrayList<>();
+            for (Minute m; (m = closed.poll()) != null;) {
+                ready.add(m);
+            }
+            return Flux.fromIterable(ready)
+                    .concatMap(this::report)
+                    .reduce(0L, Long::sum);
+        });
+    }
+
+    /**
+     * Scores the closed minutes of the window and publishes the trending list.
+     *
+     * @return number of hashtags published; empty if another pod holds the lock
+     */
+    @Scheduled(fixedDelayString = "${sssm.trending.publish-interval:PT30S}")
+    public Mono<Integer> publish() {
+        if (!props.isEnabled()) {
+            return Mono.just(0);
+        }
+        return lockService.withLock(LockKeys.trendingHashtags(), 0L, props.getPublishInterval().toMillis(),
+                () -> Mono.defer(() -> {
+                    long now = epochMinute();
+                    double halfLifeMinutes = Math.max(1, props.getHalfLife().toMinutes());
+                    Map<String, long[]> counts = new HashMap<>();
+                    Map<String, Double> scores = new HashMap<>();
+                    return Flux.range(1, (int) Math.max(1, props.getWindow().toMinutes()))
+                            .concatMap(age -> redis.<String, String>opsForHash()
+                                    .entries(CacheKeys.Search.SEARCH_TRENDING_HASHTAG_MINUTE + (now - age))
+                                    .doOnNext(e -> {
+                                        long count = Long.parseLong(e.getValue());
+                                        // The newest closed minute weighs 1
+                                        double weight = Math.pow(0.5, (age - 1) / halfLifeMinutes);
+                                        counts.computeIfAbsent(e.getKey(), k -> new long[1])[0] += count;
+                                        scores.merge(e.getKey(), count * weight, Double::sum);
+                                    }))
+                            .then(Mono.fromSupplier(() -> top(counts, scores)))
+                            .flatMap(top -> redis.opsForValue()
+                                    .set(CacheKeys.Search.SEARCH_TRENDING_HASHTAGS, jsonMapper.writeValueAsString(top),
+                                            CacheKeys.TTLS.get(CacheKeys.Search.SEARCH_TRENDING_HASHTAGS))
+                                    .thenReturn(top.size()));
+                }))
+                .onErrorResume(e -> {
+                    log.warn("Trending hashtag publish failed: {}", e.getMessage());
+                    return Mono.just(0);
+                });
+    }
+
+    /** Distinct lower-cased hashtags of {@code content}, in order, at most {@code limit}. */
+    static Set<String> extract(String content, int limit) {
+        Set<String> tags = new LinkedHashSet<>();
+        Matcher m = HASHTAG.matcher(content);
+        while (tags.size() < limit && m.find()) {
+            tags.add(m.group(1).toLowerCase(Locale.ROOT));
+        }
+        return tags;
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    /** The bucket for {@code epochMinute}, closing the previous one if it has ended. */
+    private Minute minute(long epochMinute) {
+        Minute cur = current.get();
+        while (cur == null || cur.epochMinute < epochMinute) {
+            Minute next = new Minute(epochMinute, props);
+            if (current.compareAndSet(cur, next)) {
+                if (cur != null) {
+                    closed.add(cur);
+                }
+                return next;
+            }
+            cur = current.get();
+        }
+        return cur;
+    }
+
+    private Mono<Long> report(Minute minute) {
+        Map<String, Long> counts = minute.seal();
+        if (counts.isEmpty()) {
+            return Mono.just(0L);
+        }
+        List<String> args = new ArrayList<>(1 + counts.size() * 2);
+        args.add(String.valueOf(props.getWindow().plus(RETENTION_SLACK).toMillis()));
+        counts.forEach((tag, count) -> {
+            args.add(tag);
+            args.add(String.valueOf(count));
+        });
+        // A failed report is dropped rather than retried: a retry after a lost
+        // reply would count the minute twice
+        return redis.execute(REPORT, List.of(CacheKeys.Search.SEARCH_TRENDING_HASHTAG_MINUTE + minute.epochMinute),
+                        args)
+                .next()
+                .defaultIfEmpty(0L)
+                .onErrorResume(e -> {
+                    log.warn("Trending hashtag report failed for minute {}: {}", minute.epochMinute, e.getMessage());
+                    return Mono.just(0L);
+                });
+    }
+
+    private List<TrendingHashtag> top(Map<String, long[]> counts, Map<String, Double> scores) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(props.getTopSize())
+                .map(e -> new TrendingHashtag(e.getKey(), counts.get(e.getKey())[0], e.getValue()))
+                .toList();
+    }
+
+    private static long epochMinute() {
+        return System.currentTimeMillis() / 60_000;
+    }
+}
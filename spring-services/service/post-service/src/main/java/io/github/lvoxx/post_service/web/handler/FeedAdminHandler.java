@@ -0,0 +1,57 @@
+package io.github.lvoxx.post_service.web.handler;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import io.github.lvoxx.common_core.exception.ForbiddenException;
+import io.github.lvoxx.common_core.message.MessageKeys;
+import io.github.lvoxx.common_core.security.UserPrincipal;
+import io.github.lvoxx.common_core.util.ReactiveContextUtil;
+import io.github.lvoxx.post_service.dto.FollowEdgeRow;
+import io.github.lvoxx.post_service.service.FeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux functional handler for admin-only home-feed maintenance.
+ *
+ * @see FeedService
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Tag(name = "Feed admin", description = "Bootstrap of the home-feed follow graph")
+@SecurityRequirement(name = "bearerAuth")
+public class FeedAdminHandler {
+
+    private final FeedService feedService;
+
+    /**
+     * Loads follow edges into the home-feed follow graph. The body is
+     * user-service's followers export, streamed through unchanged.
+     *
+     * @param req body: NDJSON, one {@link FollowEdgeRow} per line
+     * @return 200 with the number of edges read, 403 for non-admins
+     */
+    @Operation(summary = "Import follow graph", description = "Admin only. Reads the NDJSON followers export of "
+            + "user-service and records every edge in the home-feed follow graph. Safe to repeat.")
+    @ApiResponse(responseCode = "200", description = "Number of edges imported")
+    @ApiResponse(responseCode = "403", description = "Caller is not an admin")
+    public Mono<ServerResponse> importFollowGraph(ServerRequest req) {
+        return ReactiveContextUtil.getCurrentUser()
+                .filter(UserPrincipal::isAdmin)
+                .switchIfEmpty(Mono.error(new ForbiddenException(MessageKeys.FORBIDDEN)))
+                .doOnNext(p -> log.info("Follow graph import requested by {}", p.userId()))
+                .flatMap(p -> feedService.importFollows(req.bodyToFlux(FollowEdgeRow.class)))
+                .flatMap(count -> ServerResponse.ok()
+                        .bodyValue(io.github.lvoxx.common_core.model.ApiResponse.success(Map.of("edges", count))));
+    }
+}
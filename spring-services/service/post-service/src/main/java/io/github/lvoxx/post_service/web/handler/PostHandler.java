@@ -9,7 +9,9 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 
 import io.github.lvoxx.common_core.util.ReactiveContextUtil;
 import io.github.lvoxx.post_service.dto.CreatePostRequest;
+import io.github.lvoxx.post_service.service.ExploreService;
 import io.github.lvoxx.post_service.service.PostService;
+import io.github.lvoxx.post_service.service.ThreadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -43,6 +45,8 @@ import reactor.core.publisher.Mono;
 public class PostHandler {
 
     private final PostService postService;
+    private final ThreadService threadService;
+    private final ExploreService exploreService;
 
     /**
      * Tạo bài viết mới (ORIGINAL, REPLY, REPOST, QUOTE, AUTO).
@@ -130,16 +134,25 @@ public class PostHandler {
 
     /**
      * Lấy explore feed — bài viết trending cho người dùng chưa đăng nhập hoặc khám
-     * phá nội dung mới.
+     * phá nội dung mới. Xếp hạng được tính sẵn mỗi phút theo độ mới và lượt
+     * like/repost gần đây; mỗi trang chỉ là một lần đọc sorted set trên Redis.
      *
-     * @param req query: {@code cursor}, {@code size}
-     * @return 200 với danh sách bài viết trending
+     * @param req query: {@code cursor} (optional), {@code size} (default 20, max
+     *            50)
+     * @return 200 với {@link io.github.lvoxx.common_core.model.PageResponse} các
+     *         PostResponse
      */
-    @Operation(summary = "Explore feed", description = "Feed khám phá dựa trên trending score. Không yêu cầu đăng nhập.")
+    @Operation(summary = "Explore feed", description = "Feed khám phá dựa trên trending score. Không yêu cầu đăng nhập. "
+            + "Cursor giữ nguyên bảng xếp hạng của trang đầu trong 10 phút nên không lặp bài. Max size=50.")
+    @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Con trỏ phân trang")
+    @Parameter(name = "size", in = ParameterIn.QUERY, description = "Số bài mỗi trang (default 20)")
     @ApiResponse(responseCode = "200", description = "Explore feed")
     public Mono<ServerResponse> getExploreFeed(ServerRequest req) {
-        return ServerResponse.ok()
-                .bodyValue(io.github.lvoxx.common_core.model.ApiResponse.success(java.util.List.of()));
+        String cursor = req.queryParam("cursor").orElse(null);
+        int size = Math.min(Math.max(Integer.parseInt(req.queryParam("size").orElse("20")), 1), 50);
+        return exploreService.getExploreFeed(cursor, size)
+                .flatMap(page -> ServerResponse.ok()
+                        .bodyValue(io.github.lvoxx.common_core.model.ApiResponse.success(page)));
     }
 
     /**
@@ -162,17 +175,26 @@ public class PostHandler {
     }
 
     /**
-     * Lấy thread đầy đủ của một bài viết (post gốc + tất cả reply theo cấu trúc
-     * cây).
+     * Lấy thread của một bài viết: chuỗi bài viết cha (từ gốc xuống) và cây reply
+     * giới hạn theo độ sâu và số reply mỗi nhánh, tải bằng một truy vấn.
+     * Trang đầu được cache 30 giây.
      *
-     * @param req path: {@code postId}
-     * @return 200 với cấu trúc thread
+     * @param req path: {@code postId}; query: {@code cursor} (optional) —
+     *            {@code repliesCursor} của một node để tải tiếp reply của nhánh đó
+     * @return 200 với {@link io.github.lvoxx.post_service.dto.ThreadResponse}
      */
-    @Operation(summary = "Lấy thread bài viết", description = "Trả về bài viết gốc kèm toàn bộ reply theo dạng cây phân cấp.")
+    @Operation(summary = "Lấy thread bài viết", description = "Trả về chuỗi bài viết cha và cây reply phân cấp (giới hạn độ sâu). "
+            + "Nhánh còn reply có `repliesCursor` — gọi lại route này với id của node đó và cursor để tải tiếp.")
+    @Parameter(name = "postId", in = ParameterIn.PATH, description = "UUID bài viết", required = true)
+    @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Con trỏ phân trang reply")
     @ApiResponse(responseCode = "200", description = "Thread bài viết")
     @ApiResponse(responseCode = "404", description = "Post không tồn tại")
     public Mono<ServerResponse> getThread(ServerRequest req) {
-        return getPost(req);
+        UUID postId = UUID.fromString(req.pathVariable("postId"));
+        String cursor = req.queryParam("cursor").orElse(null);
+        return threadService.getThread(postId, cursor)
+                .flatMap(thread -> ServerResponse.ok()
+                        .bodyValue(io.github.lvoxx.common_core.model.ApiResponse.success(thread)));
     }
 
     /**
@@ -8,6 +8,7 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
 import io.github.lvoxx.common_keys.RouterPaths;
+import io.github.lvoxx.post_service.web.handler.FeedAdminHandler;
 import io.github.lvoxx.post_service.web.handler.PostHandler;
 
 @Configuration
@@ -27,4 +28,11 @@ public class PostRouter {
                 .POST(RouterPaths.PostService.REPORT_POST, h::reportPost)
                 .build();
     }
+
+    @Bean
+    public RouterFunction<ServerResponse> feedAdminRoutes(FeedAdminHandler h) {
+        return route()
+                .POST(RouterPaths.PostService.ADMIN_IMPORT_FOLLOW_GRAPH, h::importFollowGraph)
+                .build();
+    }
 }
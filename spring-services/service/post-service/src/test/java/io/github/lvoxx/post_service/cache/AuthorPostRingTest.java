@@ -0,0 +1,184 @@
+package io.github.lvoxx.post_service.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveListOperations;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.github.lvoxx.post_service.dto.PostResponse;
+import io.github.lvoxx.post_service.properties.AuthorRingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import tools.jackson.databind.json.JsonMapper;
+
+@Tag("unit")
+@DisplayName("AuthorPostRing — newest posts per author in Redis")
+@ExtendWith(MockitoExtension.class)
+class AuthorPostRingTest {
+
+    @Mock private ReactiveStringRedisTemplate redis;
+    @Mock private ReactiveListOperations<String, String> lists;
+    @Mock private ReactiveSetOperations<String, String> sets;
+    @Mock private ReactiveValueOperations<String, String> values;
+
+    private final JsonMapper json = JsonMapper.builder().build();
+    private final UUID authorId = UUID.randomUUID();
+
+    /** The author's ring and write counter as Redis would hold them after each script. */
+    private final List<String> ring = new ArrayList<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private AuthorPostRing authorRing;
+
+    @BeforeEach
+    void setUp() {
+        AuthorRingProperties props = new AuthorRingProperties();
+        props.setSize(3);
+        props.setLocalTtl(Duration.ZERO);
+        authorRing = new AuthorPostRing(redis, json, props, new SimpleMeterRegistry());
+
+        lenient().when(redis.opsForList()).thenReturn(lists);
+        lenient().when(redis.opsForSet()).thenReturn(sets);
+        lenient().when(redis.opsForValue()).thenReturn(values);
+        lenient().when(lists.range(anyString(), eq(0L), eq(-1L)))
+                .thenAnswer(inv -> Flux.fromIterable(List.copyOf(ring)));
+        lenient().when(sets.isMember(anyString(), anyString())).thenReturn(Mono.just(false));
+        lenient().when(values.get(anyString()))
+                .thenAnswer(inv -> generation.get() == 0 ? Mono.empty() : Mono.just(String.valueOf(generation.get())));
+        lenient().when(redis.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenAnswer(inv -> Flux.just(runScript(inv.getArgument(0), inv.getArgument(2))));
+    }
+
+    // ── Fill ──────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("page: given missing ring and no concurrent write → fills it, next page served from Redis")
+    void page_givenMissingRing_fillsAndServesFromRing() {
+        List<PostResponse> posts = List.of(post(), post());
+        AtomicInteger loads = new AtomicInteger();
+        IntFunction<Mono<List<PostResponse>>> loader = n -> {
+            loads.incrementAndGet();
+            return Mono.just(posts);
+        };
+
+        StepVerifier.create(authorRing.page(authorId, null, 10, loader))
+                .expectNextMatches(page -> page.items().equals(posts))
+                .verifyComplete();
+        StepVerifier.create(authorRing.page(authorId, null, 10, loader))
+                .expectNextMatches(page -> page.items().equals(posts))
+                .verifyComplete();
+
+        assertThat(loads).hasValue(1);
+        assertThat(ring).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("page: given post created while the fill reads the database → fill dropped, post not lost")
+    void page_givenCreateDuringLoad_dropsFill() {
+        List<PostResponse> before = List.of(post());
+        PostResponse created = post();
+
+        StepVerifier.create(authorRing.page(authorId, null, 10,
+                        n -> authorRing.onPostCreated(created).thenReturn(before)))
+                .expectNextMatches(page -> page.items().equals(before))
+                .verifyComplete();
+
+        assertThat(ring).isEmpty();
+        StepVerifier.create(authorRing.page(authorId, null, 10, n -> Mono.just(List.of(created, before.getFirst()))))
+                .expectNextMatches(page -> page.items().getFirst().equals(created))
+                .verifyComplete();
+        assertThat(ring).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("page: given post deleted while the fill reads the database → deleted post not resurrected")
+    void page_givenDeleteDuringLoad_dropsFill() {
+        PostResponse deleted = post();
+
+        StepVerifier.create(authorRing.page(authorId, null, 10,
+                        n -> authorRing.onPostDeleted(authorId).thenReturn(List.of(deleted))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(ring).isEmpty();
+    }
+
+    // ── Writes ────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("onPostCreated: given existing ring → new post at the head, capacity kept")
+    void onPostCreated_givenRing_pushesToHead() {
+        List<PostResponse> posts = List.of(post(), post(), post());
+        authorRing.page(authorId, null, 10, n -> Mono.just(posts)).block();
+        PostResponse created = post();
+
+        StepVerifier.create(authorRing.onPostCreated(created)).verifyComplete();
+
+        assertThat(ring).hasSize(3);
+        assertThat(json.readValue(ring.getFirst(), PostResponse.class)).isEqualTo(created);
+    }
+
+    @Test
+    @DisplayName("onPostCreated: given no ring → nothing stored")
+    void onPostCreated_givenNoRing_storesNothing() {
+        StepVerifier.create(authorRing.onPostCreated(post())).verifyComplete();
+
+        assertThat(ring).isEmpty();
+        assertThat(generation).hasValue(1);
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    /** Runs the ring's Lua scripts against {@link #ring} and {@link #generation}. */
+    private long runScript(RedisScript<?> script, List<String> args) {
+        String lua = script.getScriptAsString();
+        if (lua.contains("RPUSH")) {
+            if (!ring.isEmpty() || !args.get(1).equals(String.valueOf(generation.get()))) {
+                return 0;
+            }
+            ring.addAll(args.subList(2, args.size()));
+            return 1;
+        }
+        generation.incrementAndGet();
+        if (lua.contains("LPUSHX")) {
+            if (ring.isEmpty()) {
+                return 0;
+            }
+            ring.addFirst(args.get(1));
+            while (ring.size() > Integer.parseInt(args.get(2))) {
+                ring.removeLast();
+            }
+            return ring.size();
+        }
+        boolean existed = !ring.isEmpty();
+        ring.clear();
+        return existed ? 1 : 0;
+    }
+
+    private PostResponse post() {
+        return new PostResponse(UUID.randomUUID(), authorId, null, "p", "ORIGINAL", "PUBLISHED", "PUBLIC",
+                false, false, null, null, null);
+    }
+}
@@ -0,0 +1,225 @@
+package io.github.lvoxx.post_service.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.common_core.util.UlidGenerator;
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.post_service.dto.FollowEdgeRow;
+import io.github.lvoxx.post_service.properties.FeedProperties;
+import io.github.lvoxx.post_service.service.impl.FeedServiceImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("FeedService — hybrid fan-out home timeline")
+@ExtendWith(MockitoExtension.class)
+class FeedServiceImplTest {
+
+    @Mock private ReactiveStringRedisTemplate redis;
+    @Mock private ReactiveZSetOperations<String, String> zsets;
+    @Mock private ReactiveSetOperations<String, String> sets;
+
+    private FeedServiceImpl feedService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redis.opsForZSet()).thenReturn(zsets);
+        lenient().when(redis.opsForSet()).thenReturn(sets);
+        lenient().when(sets.intersect(anyString(), anyString())).thenReturn(Flux.empty());
+        feedService = new FeedServiceImpl(redis, new FeedProperties());
+        userId = UUID.randomUUID();
+    }
+
+    // ── readHomeTimeline: page size ──────────────────────────────────────────
+
+    @Test
+    @DisplayName("readHomeTimeline: given size=0 → raised to one post with a cursor")
+    void readHomeTimeline_givenZeroSize_returnsOnePost() {
+        UUID older = postAt(1_000);
+        UUID newer = postAt(2_000);
+        timeline(homeKey(userId), older, newer);
+
+        StepVerifier.create(feedService.readHomeTimeline(userId, null, 0))
+                .expectNextMatches(page -> page.items().equals(List.of(newer)) && page.nextCursor() != null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("readHomeTimeline: given negative size → raised to one post")
+    void readHomeTimeline_givenNegativeSize_returnsOnePost() {
+        UUID only = postAt(1_000);
+        timeline(homeKey(userId), only);
+
+        StepVerifier.create(feedService.readHomeTimeline(userId, null, -5))
+                .expectNextMatches(page -> page.items().equals(List.of(only)) && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("readHomeTimeline: given size above the maximum → reads at most MAX_PAGE_SIZE per source")
+    void readHomeTimeline_givenHugeSize_capsRedisRead() {
+        timeline(homeKey(userId));
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+
+        StepVerifier.create(feedService.readHomeTimeline(userId, null, 1_000_000))
+                .expectNextMatches(page -> page.items().isEmpty())
+                .verifyComplete();
+
+        verify(zsets).reverseRangeByScoreWithScores(eq(homeKey(userId)), any(), limit.capture());
+        assertThat(limit.getValue().getCount()).isLessThanOrEqualTo(FeedService.MAX_PAGE_SIZE + 1 + 16);
+    }
+
+    // ── readHomeTimeline: merge ──────────────────────────────────────────────
+
+    @Test
+    @DisplayName("readHomeTimeline: given followed celebrity → its timeline merged newest first, duplicates once")
+    void readHomeTimeline_givenFollowedCelebrity_mergesAuthorTimeline() {
+        UUID celebrity = UUID.randomUUID();
+        UUID pushed = postAt(1_000);
+        UUID pulled = postAt(2_000);
+        UUID both = postAt(3_000);
+        when(sets.intersect(CacheKeys.Post.POST_GRAPH_FOLLOWING + userId, CacheKeys.Post.POST_GRAPH_CELEBRITIES))
+                .thenReturn(Flux.just(celebrity.toString()));
+        timeline(homeKey(userId), pushed, both);
+        timeline(CacheKeys.Post.POST_AUTHOR_TIMELINE + celebrity, pulled, both);
+
+        StepVerifier.create(feedService.readHomeTimeline(userId, null, 10))
+                .expectNextMatches(page -> page.items().equals(List.of(both, pulled, pushed))
+                        && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    // ── readHomeTimeline: cursor paging ──────────────────────────────────────
+
+    @Test
+    @DisplayName("readHomeTimeline: given cursor chain → every post once, in order, last page without cursor")
+    void readHomeTimeline_givenCursorChain_pagesThroughTimeline() {
+        UUID p1 = postAt(1_000);
+        UUID p2 = postAt(2_000);
+        UUID p3 = postAt(3_000);
+        UUID p4 = postAt(4_000);
+        UUID p5 = postAt(5_000);
+        timeline(homeKey(userId), p1, p2, p3, p4, p5);
+
+        PageResponse<UUID> first = feedService.readHomeTimeline(userId, null, 2).block();
+        PageResponse<UUID> second = feedService.readHomeTimeline(userId, first.nextCursor(), 2).block();
+        PageResponse<UUID> third = feedService.readHomeTimeline(userId, second.nextCursor(), 2).block();
+
+        assertThat(first.items()).containsExactly(p5, p4);
+        assertThat(second.items()).containsExactly(p3, p2);
+        assertThat(third.items()).containsExactly(p1);
+        assertThat(third.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("readHomeTimeline: given posts in the cursor's millisecond → only those after it returned")
+    void readHomeTimeline_givenSameMillisecondPosts_skipsThoseBeforeCursor() {
+        UUID a = postAt(1_000, 3);
+        UUID b = postAt(1_000, 2);
+        UUID c = postAt(1_000, 1);
+        UUID older = postAt(500);
+        timeline(homeKey(userId), a, b, c, older);
+
+        PageResponse<UUID> first = feedService.readHomeTimeline(userId, null, 2).block();
+        PageResponse<UUID> second = feedService.readHomeTimeline(userId, first.nextCursor(), 2).block();
+
+        assertThat(first.items()).containsExactly(a, b);
+        assertThat(second.items()).containsExactly(c, older);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    // ── importFollows ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("importFollows: given edges → both directions recorded, counted")
+    void importFollows_givenEdges_recordsBothDirections() {
+        UUID author = UUID.randomUUID();
+        UUID reader = UUID.randomUUID();
+        when(sets.add(anyString(), anyString())).thenReturn(Mono.just(1L));
+        when(sets.size(anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(feedService.importFollows(Flux.just(new FollowEdgeRow(reader, author, null))))
+                .expectNext(1L)
+                .verifyComplete();
+
+        verify(sets).add(CacheKeys.Post.POST_GRAPH_FOLLOWERS + author, reader.toString());
+        verify(sets).add(CacheKeys.Post.POST_GRAPH_FOLLOWING + reader, author.toString());
+        verify(sets, never()).add(eq(CacheKeys.Post.POST_GRAPH_CELEBRITIES), anyString());
+        verifyNoInteractions(zsets);
+    }
+
+    @Test
+    @DisplayName("importFollows: given author reaching the celebrity threshold → marked celebrity")
+    void importFollows_givenThresholdReached_marksCelebrity() {
+        UUID author = UUID.randomUUID();
+        when(sets.add(anyString(), anyString())).thenReturn(Mono.just(1L));
+        when(sets.size(anyString())).thenReturn(Mono.just(new FeedProperties().getCelebrityThreshold()));
+
+        StepVerifier.create(feedService.importFollows(Flux.just(new FollowEdgeRow(UUID.randomUUID(), author, null))))
+                .expectNext(1L)
+                .verifyComplete();
+
+        verify(sets).add(CacheKeys.Post.POST_GRAPH_CELEBRITIES, author.toString());
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    /**
+     * Stubs a sorted set holding {@code postIds}, scored by their ULID timestamps,
+     * answering ZREVRANGEBYSCORE with the requested upper bound and count.
+     */
+    @SuppressWarnings("unchecked")
+    private void timeline(String key, UUID... postIds) {
+        List<TypedTuple<String>> tuples = Flux.fromArray(postIds)
+                .map(id -> TypedTuple.of(id.toString(), (double) UlidGenerator.timestampOf(id)))
+                .collectSortedList((a, b) -> Double.compare(b.getScore(), a.getScore()) != 0
+                        ? Double.compare(b.getScore(), a.getScore())
+                        : b.getValue().compareTo(a.getValue()))
+                .block();
+        lenient().when(zsets.reverseRangeByScoreWithScores(eq(key), any(), any()))
+                .thenAnswer(inv -> {
+                    Range<Double> range = inv.getArgument(1);
+                    Limit limit = inv.getArgument(2);
+                    double max = range.getUpperBound().getValue().orElse(Double.POSITIVE_INFINITY);
+                    return Flux.fromIterable(tuples)
+                            .filter(t -> t.getScore() <= max)
+                            .take(limit.getCount());
+                });
+    }
+
+    private static UUID postAt(long epochMillis) {
+        return UlidGenerator.minAt(epochMillis);
+    }
+
+    /** The {@code seq}-th post of {@code epochMillis}; a higher seq sorts newer within the millisecond. */
+    private static UUID postAt(long epochMillis, long seq) {
+        return new UUID(UlidGenerator.minAt(epochMillis).getMostSignificantBits(), seq);
+    }
+
+    private static String homeKey(UUID userId) {
+        return CacheKeys.Post.POST_HOME_FEED + userId;
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.lvoxx.post_service.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.lvoxx.post_service.entity.Post;
+import io.github.lvoxx.post_service.repository.PostRepository;
+import io.github.lvoxx.post_service.service.impl.PostLookupServiceImpl;
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("PostLookupService — batched post hydration")
+@ExtendWith(MockitoExtension.class)
+class PostLookupServiceImplTest {
+
+    @Mock
+    private PostRepository postRepo;
+
+    private PostLookupServiceImpl postLookup;
+
+    @BeforeEach
+    void setUp() {
+        postLookup = new PostLookupServiceImpl(postRepo,
+                new ReactiveCacheService(RedisBackedCaches.manager(), new TwoTierCacheProperties()));
+    }
+
+    @Test
+    @DisplayName("findPosts: given posts loaded once → second lookup served from cache")
+    void findPosts_givenLoadedOnce_secondLookupSkipsDatabase() {
+        UUID postId = UUID.randomUUID();
+        when(postRepo.findLiveByIds(any(UUID[].class)))
+                .thenReturn(Flux.just(Post.builder().id(postId).authorId(UUID.randomUUID()).content("hi").build()));
+
+        StepVerifier.create(postLookup.findPosts(List.of(postId)))
+                .expectNextMatches(map -> "hi".equals(map.get(postId).content()))
+                .verifyComplete();
+        StepVerifier.create(postLookup.findPosts(List.of(postId)))
+                .expectNextMatches(map -> "hi".equals(map.get(postId).content()))
+                .verifyComplete();
+
+        verify(postRepo, times(1)).findLiveByIds(any(UUID[].class));
+    }
+
+    @Test
+    @DisplayName("findPosts: given deleted post → absent from result and not cached")
+    void findPosts_givenDeletedPost_omitsIt() {
+        UUID postId = UUID.randomUUID();
+        when(postRepo.findLiveByIds(any(UUID[].class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(postLookup.findPosts(List.of(postId)))
+                .expectNextMatches(map -> map.isEmpty())
+                .verifyComplete();
+        StepVerifier.create(postLookup.findPosts(List.of(postId)))
+                .expectNextMatches(map -> map.isEmpty())
+                .verifyComplete();
+
+        verify(postRepo, times(2)).findLiveByIds(any(UUID[].class));
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.lvoxx.post_service.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import io.github.lvoxx.redis_starter.config.TwoTierCacheAutoConfiguration;
+
+/**
+ * {@link RedisCacheManager} with the starter's default serialization over an
+ * in-memory map, so cached values go through the same encoding they would in
+ * Redis.
+ */
+final class RedisBackedCaches {
+
+    private RedisBackedCaches() {
+    }
+
+    static RedisCacheManager manager() {
+        RedisCacheManager manager = RedisCacheManager.builder(new MapWriter())
+                .cacheDefaults(TwoTierCacheAutoConfiguration.defaultCacheConfig().disableCachingNullValues())
+                .build();
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    private static final class MapWriter implements RedisCacheWriter {
+
+        private final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public byte[] get(String name, byte[] key) {
+            return entries.get(string(key));
+        }
+
+        @Override
+        public boolean supportsAsyncRetrieve() {
+            return true;
+        }
+
+        @Override
+        public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+            return CompletableFuture.completedFuture(get(name, key));
+        }
+
+        @Override
+        public void put(String name, byte[] key, byte[] value, Duration ttl) {
+            entries.put(string(key), value);
+        }
+
+        @Override
+        public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+            put(name, key, value, ttl);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+            return entries.putIfAbsent(string(key), value);
+        }
+
+        @Override
+        public void evict(String name, byte[] key) {
+            entries.remove(string(key));
+        }
+
+        @Override
+        public void clear(String name, byte[] pattern) {
+            entries.clear();
+        }
+
+        @Override
+        public void clearStatistics(String name) {
+        }
+
+        @Override
+        public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector collector) {
+            return this;
+        }
+
+        @Override
+        public CacheStatistics getCacheStatistics(String cacheName) {
+            return CacheStatisticsCollector.none().getCacheStatistics(cacheName);
+        }
+
+        private static String string(byte[] key) {
+            return new String(key, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.lvoxx.post_service.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import io.github.lvoxx.post_service.dto.ThreadResponse;
+import io.github.lvoxx.post_service.entity.Post;
+import io.github.lvoxx.post_service.properties.ThreadProperties;
+import io.github.lvoxx.post_service.repository.PostThreadRepository;
+import io.github.lvoxx.post_service.repository.PostThreadRepository.ThreadRow;
+import io.github.lvoxx.post_service.service.impl.ThreadServiceImpl;
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("ThreadService — conversation views")
+@ExtendWith(MockitoExtension.class)
+class ThreadServiceImplTest {
+
+    @Mock
+    private PostThreadRepository threadRepo;
+
+    private ThreadServiceImpl threadService;
+
+    private final UUID rootId = UUID.randomUUID();
+    private final UUID postId = UUID.randomUUID();
+    private final UUID replyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        RedisCacheManager caches = RedisBackedCaches.manager();
+        threadService = new ThreadServiceImpl(threadRepo, new ThreadProperties(),
+                new ReactiveCacheService(caches, new TwoTierCacheProperties()), caches);
+        lenient().when(threadRepo.findThread(eq(postId), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt()))
+                .thenAnswer(inv -> Flux.just(
+                        new ThreadRow(post(rootId, null), -1, true),
+                        new ThreadRow(post(postId, rootId), 0, true),
+                        new ThreadRow(post(replyId, postId), 1, false)));
+    }
+
+    @Test
+    @DisplayName("getThread: given first page read twice → second read served from cache")
+    void getThread_givenReadTwice_queriesDatabaseOnce() {
+        ThreadResponse first = threadService.getThread(postId, null).block();
+
+        StepVerifier.create(threadService.getThread(postId, null))
+                .expectNextMatches(t -> t.equals(first)
+                        && t.ancestors().getFirst().id().equals(rootId)
+                        && t.thread().replies().getFirst().post().id().equals(replyId))
+                .verifyComplete();
+
+        verify(threadRepo, times(1)).findThread(eq(postId), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("onPostDeleted: given cached thread → next read queries again")
+    void onPostDeleted_givenCachedThread_evicts() {
+        threadService.getThread(postId, null).block();
+
+        StepVerifier.create(threadService.onPostDeleted(postId, null)).verifyComplete();
+        StepVerifier.create(threadService.getThread(postId, null))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(threadRepo, times(2)).findThread(eq(postId), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    private static Post post(UUID id, UUID replyToId) {
+        return Post.builder().id(id).authorId(UUID.randomUUID()).replyToId(replyToId).content("p").build();
+    }
+}
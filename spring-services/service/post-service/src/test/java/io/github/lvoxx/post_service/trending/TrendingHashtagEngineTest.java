@@ -0,0 +1,56 @@
+package io.github.lvoxx.post_service.trending;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("TrendingHashtagEngine.extract — hashtag parsing")
+class TrendingHashtagEngineTest {
+
+    @Test
+    @DisplayName("extract: given mixed-case repeats → distinct lower-cased tags in order of appearance")
+    void extract_givenMixedCase_lowerCasesAndDeduplicates() {
+        assertThat(TrendingHashtagEngine.extract("#Java rocks, #SPRING and #java again", 10))
+                .containsExactly("java", "spring");
+    }
+
+    @Test
+    @DisplayName("extract: given non-ASCII letters → lower-cased without locale surprises")
+    void extract_givenUnicode_lowerCasesWithRootLocale() {
+        assertThat(TrendingHashtagEngine.extract("Mùa #HÈ và #Istanbul", 10))
+                .containsExactly("hè", "istanbul");
+    }
+
+    @Test
+    @DisplayName("extract: given # after a word character, another # or & → not a hashtag")
+    void extract_givenPrecedingWordCharacter_isSkipped() {
+        assertThat(TrendingHashtagEngine.extract("issue#42 c#sharp ##double &#39;quote a_#b", 10))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("extract: given tag starting with a digit or underscore → skipped")
+    void extract_givenNonLetterStart_isSkipped() {
+        assertThat(TrendingHashtagEngine.extract("#2024 #_private #ok_2024", 10))
+                .containsExactly("ok_2024");
+    }
+
+    @Test
+    @DisplayName("extract: given tag longer than 100 characters → cut to the first 100")
+    void extract_givenLongTag_isCappedAt100Characters() {
+        String tag = "a".repeat(150);
+
+        assertThat(TrendingHashtagEngine.extract("#" + tag, 10))
+                .containsExactly("a".repeat(100));
+    }
+
+    @Test
+    @DisplayName("extract: given more tags than the limit → only the first ones")
+    void extract_givenMoreThanLimit_stopsAtLimit() {
+        assertThat(TrendingHashtagEngine.extract("#a #b #c #d", 2))
+                .containsExactly("a", "b");
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.lvoxx.user_service.dto;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Immutable, cache-friendly set of user ids: each UUID is stored as two longs
+ * in {@link UUID#compareTo} order, so membership is a binary search and the
+ * serialized form is 16 bytes per id.
+ */
+public record BlockSet(long[] ids) implements Serializable {
+
+    public static final BlockSet EMPTY = new BlockSet(new long[0]);
+
+    public static BlockSet of(Collection<UUID> userIds) {
+        UUID[] sorted = userIds.stream().distinct().sorted().toArray(UUID[]::new);
+        long[] ids = new long[sorted.length * 2];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[2 * i] = sorted[i].getMostSignificantBits();
+            ids[2 * i + 1] = sorted[i].getLeastSignificantBits();
+        }
+        return new BlockSet(ids);
+    }
+
+    public boolean contains(UUID userId) {
+        long msb = userId.getMostSignificantBits();
+        long lsb = userId.getLeastSignificantBits();
+        int lo = 0;
+        int hi = size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = Long.compare(ids[2 * mid], msb);
+            if (cmp == 0) {
+                cmp = Long.compare(ids[2 * mid + 1], lsb);
+            }
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return ids.length / 2;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.lvoxx.user_service.dto;
+
+import java.util.UUID;
+
+/**
+ * How far a user's stored follower/following counts are from the
+ * {@code followers} table: actual minus stored.
+ */
+public record CounterDrift(
+                UUID id,
+                int followers,
+                int following) {
+}
@@ -0,0 +1,11 @@
+package io.github.lvoxx.user_service.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One line of the {@code followers} or {@code user_blocks} export:
+ * {@code from} follows or blocks {@code to}.
+ */
+public record EdgeExportRow(UUID from, UUID to, Instant createdAt) {
+}
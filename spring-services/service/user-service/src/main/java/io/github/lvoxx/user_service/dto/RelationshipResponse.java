@@ -0,0 +1,8 @@
+package io.github.lvoxx.user_service.dto;
+
+public record RelationshipResponse(
+        boolean following,
+        boolean followedBy,
+        long knownFollowerCount,
+        long mutualFollowerCount) {
+}
@@ -0,0 +1,13 @@
+package io.github.lvoxx.user_service.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public record RespondFollowRequestsRequest(
+        @NotEmpty @Size(max = 100) List<UUID> requestIds,
+        @Pattern(regexp = "(?i)APPROVE|REJECT") String action) {
+}
@@ -0,0 +1,23 @@
+package io.github.lvoxx.user_service.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** One line of the {@code users} export; soft-deleted users are included and flagged. */
+public record UserExportRow(
+        UUID id,
+        String username,
+        String displayName,
+        String bio,
+        String avatarUrl,
+        boolean isVerified,
+        boolean isPrivate,
+        String role,
+        String status,
+        long followerCount,
+        long followingCount,
+        long postCount,
+        boolean isDeleted,
+        Instant createdAt,
+        Instant updatedAt) {
+}
@@ -18,5 +18,6 @@ public record UserResponse(
                 Integer followingCount,
                 Integer postCount,
                 String role,
+                String status,
                 Instant createdAt) {
 }
@@ -0,0 +1,12 @@
+package io.github.lvoxx.user_service.dto;
+
+import java.util.UUID;
+
+/**
+ * One row of a ranked user search: the user and its trigram relevance, which
+ * is also the keyset position of the next page.
+ */
+public record UserSearchHit(
+                UUID id,
+                float searchRank) {
+}
@@ -0,0 +1,36 @@
+package io.github.lvoxx.user_service.entity;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A domain event waiting to be relayed to Kafka. {@code payload} is the
+ * Avro binary encoding of an instance of {@code eventClass}. The remaining
+ * fields are relay bookkeeping; see {@code OutboxRelay}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("outbox_events")
+public class OutboxEvent {
+    @Id
+    private Long id;
+    private String aggregateKey;
+    private String topic;
+    private String eventClass;
+    private byte[] payload;
+    private Instant createdAt;
+    private Instant claimedUntil;
+    @Builder.Default
+    private Integer attempts = 0;
+    private String lastError;
+    private Instant parkedAt;
+}
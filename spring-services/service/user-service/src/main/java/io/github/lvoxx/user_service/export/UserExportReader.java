@@ -0,0 +1,104 @@
+package io.github.lvoxx.user_service.export;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import io.github.lvoxx.user_service.dto.EdgeExportRow;
+import io.github.lvoxx.user_service.dto.UserExportRow;
+import io.github.lvoxx.user_service.properties.ExportProperties;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streams whole tables through a server-side cursor, for bulk exports.
+ *
+ * <p>
+ * Each stream runs in its own read-only {@code REPEATABLE READ} transaction,
+ * so it sees one consistent snapshot, and sets a fetch size, so the driver
+ * reads {@code sssm.export.fetch-size} rows per round trip from an open portal
+ * instead of materialising the result. Rows are only fetched as the subscriber
+ * requests them: memory stays flat however large the table, and a slow client
+ * slows the cursor down rather than filling the heap. The price is a snapshot
+ * held open for as long as the client keeps reading.
+ */
+@Component
+public class UserExportReader {
+
+    private static final String USERS_SQL = "SELECT id, username, display_name, bio, avatar_url, "
+            + "is_verified, is_private, role, status, follower_count, following_count, post_count, "
+            + "is_deleted, created_at, updated_at FROM users";
+    private static final String FOLLOWERS_SQL = "SELECT follower_id, following_id, created_at FROM followers";
+    private static final String BLOCKS_SQL = "SELECT blocker_id, blocked_id, created_at FROM user_blocks";
+
+    private final DatabaseClient db;
+    private final ExportProperties props;
+    private final TransactionalOperator snapshotTx;
+
+    public UserExportReader(DatabaseClient db, ReactiveTransactionManager txManager, ExportProperties props) {
+        this.db = db;
+        this.props = props;
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        definition.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTx = TransactionalOperator.create(txManager, definition);
+    }
+
+    /** Every user, including soft-deleted ones; no particular order. */
+    public Flux<UserExportRow> users() {
+        return stream(USERS_SQL, row -> new UserExportRow(
+                row.get("id", UUID.class),
+                row.get("username", String.class),
+                row.get("display_name", String.class),
+                row.get("bio", String.class),
+                row.get("avatar_url", String.class),
+                Boolean.TRUE.equals(row.get("is_verified", Boolean.class)),
+                Boolean.TRUE.equals(row.get("is_private", Boolean.class)),
+                row.get("role", String.class),
+                row.get("status", String.class),
+                count(row, "follower_count"),
+                count(row, "following_count"),
+                count(row, "post_count"),
+                Boolean.TRUE.equals(row.get("is_deleted", Boolean.class)),
+                row.get("created_at", Instant.class),
+                row.get("updated_at", Instant.class)));
+    }
+
+    /** Every follow edge, follower to followed; no particular order. */
+    public Flux<EdgeExportRow> followers() {
+        return stream(FOLLOWERS_SQL, row -> new EdgeExportRow(
+                row.get("follower_id", UUID.class),
+                row.get("following_id", UUID.class),
+                row.get("created_at", Instant.class)));
+    }
+
+    /** Every block edge, blocker to blocked; no particular order. */
+    public Flux<EdgeExportRow> blocks() {
+        return stream(BLOCKS_SQL, row -> new EdgeExportRow(
+                row.get("blocker_id", UUID.class),
+                row.get("blocked_id", UUID.class),
+                row.get("created_at", Instant.class)));
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private <T> Flux<T> stream(String sql, Function<Readable, T> mapper) {
+        return db.sql(sql)
+                .filter(statement -> statement.fetchSize(props.getFetchSize()))
+                .map(mapper)
+                .all()
+                .as(snapshotTx::transactional);
+    }
+
+    private static long count(Readable row, String column) {
+        Integer value = row.get(column, Integer.class);
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,221 @@
+package io.github.lvoxx.user_service.graph;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.github.lvoxx.user_service.properties.FollowGraphProperties;
+import io.github.lvoxx.user_service.repository.FollowerRepository;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Per-pod cache of follow-graph adjacency as compressed bitmaps, so overlap
+ * questions ("follows you", mutual followers, followers you know) are set
+ * intersections in memory instead of self-joins on {@code followers}.
+ *
+ * <p>
+ * Users are numbered with dense {@code int} ids, which is what lets a
+ * {@link RoaringBitmap} hold a follower set. An id lives as long as some
+ * cached set contains it and is never handed out again, so a bitmap a request
+ * still holds cannot name the wrong user. Sets are loaded lazily from Postgres
+ * and patched in place from {@code user.followed} / {@code user.unfollowed}
+ * events (see {@code FollowGraphConsumer}).
+ *
+ * <p>
+ * Memory is bounded by {@code max-heap-bytes}, which weighs each set by its
+ * bitmap plus the id mappings it keeps alive; the least recently used sets are
+ * evicted first. Sets over {@code max-set-size} are not cached at all: their
+ * reads complete empty and callers fall back to SQL.
+ *
+ * <p>
+ * Cached bitmaps are never mutated: an edge change swaps in a modified copy,
+ * so readers may intersect them without locking. Patching an entry whose load
+ * is still in flight waits for the load, so an edge committed while the load
+ * was reading is not lost.
+ */
+@Slf4j
+@Component
+public class FollowGraphCache {
+
+    /** Estimated heap of one id mapping: two map entries, the UUID and its reference count. */
+    static final int ID_BYTES = 160;
+
+    /** A dense id and the number of cached sets that contain it. */
+    private static final class DenseId {
+        final int id;
+        int refs;
+
+        DenseId(int id) {
+            this.id = id;
+        }
+    }
+
+    /** One direction of the graph: its cached sets and the users too large to cache. */
+    private final class Adjacency {
+        final AsyncCache<UUID, RoaringBitmap> sets;
+        final Cache<UUID, Boolean> oversized;
+        final Function<UUID, Flux<UUID>> query;
+
+        Adjacency(long maxBytes, Function<UUID, Flux<UUID>> query) {
+            this.query = query;
+            this.sets = Caffeine.newBuilder()
+                    .maximumWeight(maxBytes)
+                    .weigher((UUID k, RoaringBitmap v) -> weight(v))
+                    .expireAfterAccess(props.getExpireAfterAccess())
+                    .removalListener((UUID k, RoaringBitmap v, RemovalCause cause) -> {
+                        // Replacements come from patches, which adjust reference counts themselves
+                        if (v != null && cause != RemovalCause.REPLACED) {
+                            release(v);
+                        }
+                    })
+                    .buildAsync();
+            // Remembered so an oversized set is not re-scanned on every read
+            this.oversized = Caffeine.newBuilder()
+                    .maximumSize(10_000)
+                    .expireAfterWrite(props.getExpireAfterAccess())
+                    .build();
+        }
+
+        Mono<RoaringBitmap> get(UUID userId) {
+            if (oversized.getIfPresent(userId) != null) {
+                return Mono.empty();
+            }
+            int maxSetSize = props.getMaxSetSize();
+            // The future is shared by concurrent callers; one cancelling must not abort it.
+            // A load that completes empty leaves no entry behind.
+            return Mono.fromFuture(() -> sets.get(userId, (k, executor) -> query.apply(k)
+                    .take(maxSetSize + 1L)
+                    .collectList()
+                    .flatMap(members -> {
+                        if (members.size() > maxSetSize) {
+                            oversized.put(k, Boolean.TRUE);
+                            log.info("Follow-graph set of {} is over {} users, not cached", k, maxSetSize);
+                            return Mono.<RoaringBitmap>empty();
+                        }
+                        RoaringBitmap set = new RoaringBitmap();
+                        members.forEach(m -> set.add(intern(m)));
+                        set.runOptimize();
+                        return Mono.just(set);
+                    })
+                    .toFuture()), true);
+        }
+
+        void patch(UUID key, UUID member, boolean add) {
+            sets.synchronous().asMap().computeIfPresent(key, (k, current) -> {
+                // Ids are only assigned when the affected set is cached, so events for
+                // users nobody has asked about do not grow the id map
+                DenseId known = ids.get(member);
+                if ((known != null && current.contains(known.id)) == add) {
+                    return current;
+                }
+                RoaringBitmap copy = current.clone();
+                if (add) {
+                    copy.add(intern(member));
+                } else {
+                    copy.remove(known.id);
+                    release(member);
+                }
+                return copy;
+            });
+        }
+    }
+
+    private final FollowGraphProperties props;
+    private final ConcurrentHashMap<UUID, DenseId> ids = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, UUID> users = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final Adjacency followers;
+    private final Adjacency following;
+
+    public FollowGraphCache(FollowerRepository followerRepo, FollowGraphProperties props) {
+        this.props = props;
+        // The budget is shared evenly between the two directions
+        this.followers = new Adjacency(props.getMaxHeapBytes() / 2, followerRepo::findAllFollowerIds);
+        this.following = new Adjacency(props.getMaxHeapBytes() / 2, followerRepo::findAllFollowingIds);
+    }
+
+    /** Dense ids of the followers of {@code userId}; empty if there are more than {@code max-set-size}. */
+    public Mono<RoaringBitmap> followers(UUID userId) {
+        return followers.get(userId);
+    }
+
+    /** Dense ids of the users {@code userId} follows; empty if there are more than {@code max-set-size}. */
+    public Mono<RoaringBitmap> following(UUID userId) {
+        return following.get(userId);
+    }
+
+    /** Whether {@code set}, read from this cache, contains {@code userId}. */
+    public boolean contains(RoaringBitmap set, UUID userId) {
+        DenseId known = ids.get(userId);
+        return known != null && set.contains(known.id);
+    }
+
+    /**
+     * The user numbered {@code denseId}, or {@code null} if no cached set holds
+     * it any more (the bitmap it came from has since been evicted).
+     */
+    public UUID userId(int denseId) {
+        return users.get(denseId);
+    }
+
+    // ── Event maintenance ─────────────────────────────────────────────────────
+
+    public void onFollowed(UUID followerId, UUID followingId) {
+        followers.patch(followingId, followerId, true);
+        following.patch(followerId, followingId, true);
+    }
+
+    public void onUnfollowed(UUID followerId, UUID followingId) {
+        followers.patch(followingId, followerId, false);
+        following.patch(followerId, followingId, false);
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private static int weight(RoaringBitmap set) {
+        return (int) Math.min(Integer.MAX_VALUE, set.getSizeInBytes() + (long) set.getCardinality() * ID_BYTES);
+    }
+
+    /** Takes a reference on {@code userId}'s dense id, numbering it if new. */
+    private int intern(UUID userId) {
+        return ids.compute(userId, (k, known) -> {
+            if (known == null) {
+                // Unsigned in the bitmaps: 2^32 ids before wrapping, far beyond a pod's lifetime
+                known = new DenseId(nextId.getAndIncrement());
+                users.put(known.id, k);
+            }
+            known.refs++;
+            return known;
+        }).id;
+    }
+
+    private void release(UUID userId) {
+        ids.computeIfPresent(userId, (k, known) -> {
+            if (--known.refs > 0) {
+                return known;
+            }
+            users.remove(known.id);
+            return null;
+        });
+    }
+
+    private void release(RoaringBitmap set) {
+        set.forEach((int id) -> {
+            UUID userId = users.get(id);
+            if (userId != null) {
+                release(userId);
+            }
+        });
+    }
+}
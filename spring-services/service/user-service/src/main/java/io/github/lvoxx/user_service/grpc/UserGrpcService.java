@@ -1,10 +1,14 @@
 package io.github.lvoxx.user_service.grpc;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
 import io.github.lvoxx.proto.user.CheckUserBlockedRequest;
 import io.github.lvoxx.proto.user.CheckUserBlockedResponse;
+import io.github.lvoxx.proto.user.CheckUsersBlockedRequest;
+import io.github.lvoxx.proto.user.CheckUsersBlockedResponse;
 import io.github.lvoxx.proto.user.FindUserByIdRequest;
 import io.github.lvoxx.proto.user.FindUsersByIdsRequest;
 import io.github.lvoxx.proto.user.GetNotifPreferencesRequest;
@@ -12,15 +16,19 @@ import io.github.lvoxx.proto.user.GetUserSettingsRequest;
 import io.github.lvoxx.proto.user.NotifPreferencesResponse;
 import io.github.lvoxx.proto.user.UserListResponse;
 import io.github.lvoxx.proto.user.UserResponse;
+import io.github.lvoxx.proto.user.UserSettingsChange;
 import io.github.lvoxx.proto.user.UserSettingsResponse;
+import io.github.lvoxx.proto.user.WatchUserSettingsRequest;
 import io.github.lvoxx.proto.user.ReactorUserServiceGrpc;
 import io.github.lvoxx.user_service.entity.User;
 import io.github.lvoxx.user_service.repository.UserRepository;
 import io.github.lvoxx.user_service.service.BlockService;
+import io.github.lvoxx.user_service.service.UserLookupService;
 import io.github.lvoxx.user_service.service.UserSettingsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -28,9 +36,16 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class UserGrpcService extends ReactorUserServiceGrpc.UserServiceImplBase {
 
+    static final NotifPreferencesResponse DEFAULT_NOTIF_PREFERENCES = NotifPreferencesResponse.newBuilder()
+        .setPushEnabled(true)
+        .setEmailEnabled(true)
+        .build();
+
     private final UserRepository userRepository;
     private final BlockService blockService;
     private final UserSettingsService userSettingsService;
+    private final UserLookupService userLookup;
+    private final UserSettingsWatchHub settingsWatch;
 
     @Override
     public Mono<UserResponse> findUserById(Mono<FindUserByIdRequest> request) {
@@ -41,16 +56,27 @@ public class UserGrpcService extends ReactorUserServiceGrpc.UserServiceImplBase
         );
     }
 
+    /**
+     * Resolves through the profile cache: L1, then one Redis {@code MGET}, then
+     * a single query for the misses shared with any overlapping lookup already
+     * in flight.
+     * Users come back in request order; unknown or deleted IDs are skipped.
+     */
     @Override
     public Mono<UserListResponse> findUsersByIds(Mono<FindUsersByIdsRequest> request) {
         return request.flatMap(req -> {
             var ids = req.getUserIdsList().stream()
                     .map(UUID::fromString)
+                    .distinct()
                     .toList();
-            return userRepository.findAllById(ids)
-                .map(this::toProto)
-                .collectList()
-                .map(list -> UserListResponse.newBuilder().addAllUsers(list).build());
+            return userLookup.findProfiles(ids)
+                .map(found -> UserListResponse.newBuilder()
+                    .addAllUsers(ids.stream()
+                        .map(found::get)
+                        .filter(Objects::nonNull)
+                        .map(this::toProto)
+                        .toList())
+                    .build());
         });
     }
 
@@ -64,15 +90,29 @@ public class UserGrpcService extends ReactorUserServiceGrpc.UserServiceImplBase
         );
     }
 
+    @Override
+    public Flux<CheckUsersBlockedResponse> checkUsersBlocked(Flux<CheckUsersBlockedRequest> request) {
+        // concatMap keeps responses in request order for the caller to correlate
+        return request.concatMap(req -> {
+            List<UUID> ids = req.getUserIdsList().stream()
+                    .map(UUID::fromString)
+                    .toList();
+            return blockService.isBlockedAny(UUID.fromString(req.getViewerId()), ids)
+                .map(blocked -> CheckUsersBlockedResponse.newBuilder()
+                    .setViewerId(req.getViewerId())
+                    .addAllBlockedUserIds(ids.stream()
+                        .filter(blocked::get)
+                        .map(UUID::toString)
+                        .toList())
+                    .build());
+        });
+    }
+
     @Override
     public Mono<UserSettingsResponse> getUserSettings(Mono<GetUserSettingsRequest> request) {
         return request.flatMap(req ->
             userSettingsService.getOrDefault(UUID.fromString(req.getUserId()))
-                .map(s -> UserSettingsResponse.newBuilder()
-                    .setReadReceipts(s.readReceipts())
-                    .setOnlineStatus(s.onlineStatus())
-                    .setNotificationLevel(s.notificationLevel())
-                    .build())
+                .map(UserGrpcService::toProto)
         );
     }
 
@@ -80,19 +120,55 @@ public class UserGrpcService extends ReactorUserServiceGrpc.UserServiceImplBase
     public Mono<NotifPreferencesResponse> getNotifPreferences(Mono<GetNotifPreferencesRequest> request) {
         return request.flatMap(req ->
             userRepository.findByIdAndIsDeletedFalse(UUID.fromString(req.getUserId()))
-                .map(u -> NotifPreferencesResponse.newBuilder()
-                    .setFcmToken(u.getFcmToken() != null ? u.getFcmToken() : "")
-                    .setApnsToken(u.getApnsToken() != null ? u.getApnsToken() : "")
-                    .setPushEnabled(Boolean.TRUE.equals(u.getPushEnabled()))
-                    .setEmailEnabled(Boolean.TRUE.equals(u.getEmailEnabled()))
-                    .build())
-                .defaultIfEmpty(NotifPreferencesResponse.newBuilder()
-                    .setPushEnabled(true)
-                    .setEmailEnabled(true)
-                    .build())
+                .map(UserGrpcService::toNotifProto)
+                .defaultIfEmpty(DEFAULT_NOTIF_PREFERENCES)
         );
     }
 
+    /**
+     * Streams every settings change on this pod for the caller's near cache;
+     * see {@link UserSettingsWatchHub#watch}.
+     */
+    @Override
+    public Flux<UserSettingsChange> watchUserSettings(Mono<WatchUserSettingsRequest> request) {
+        return request.flatMapMany(req -> {
+            log.info("Settings watcher connected: {}", req.getClientName());
+            return settingsWatch.watch()
+                .doFinally(signal -> log.info("Settings watcher {} ended: {}", req.getClientName(), signal));
+        });
+    }
+
+    static UserSettingsResponse toProto(io.github.lvoxx.user_service.dto.UserSettingsResponse s) {
+        return UserSettingsResponse.newBuilder()
+            .setReadReceipts(s.readReceipts())
+            .setOnlineStatus(s.onlineStatus())
+            .setNotificationLevel(s.notificationLevel())
+            .build();
+    }
+
+    static NotifPreferencesResponse toNotifProto(User u) {
+        return NotifPreferencesResponse.newBuilder()
+            .setFcmToken(u.getFcmToken() != null ? u.getFcmToken() : "")
+            .setApnsToken(u.getApnsToken() != null ? u.getApnsToken() : "")
+            .setPushEnabled(Boolean.TRUE.equals(u.getPushEnabled()))
+            .setEmailEnabled(Boolean.TRUE.equals(u.getEmailEnabled()))
+            .build();
+    }
+
+    private UserResponse toProto(io.github.lvoxx.user_service.dto.UserResponse user) {
+        return UserResponse.newBuilder()
+            .setUserId(user.id().toString())
+            .setUsername(user.username())
+            .setDisplayName(user.displayName() != null ? user.displayName() : "")
+            .setAvatarUrl(user.avatarUrl() != null ? user.avatarUrl() : "")
+            .setIsVerified(Boolean.TRUE.equals(user.isVerified()))
+            .setIsPrivate(Boolean.TRUE.equals(user.isPrivate()))
+            .setRole(user.role() != null ? user.role() : "USER")
+            .setStatus(user.status() != null ? user.status() : "ACTIVE")
+            .setCreatedAtMs(user.createdAt() != null ? user.createdAt().toEpochMilli() : 0L)
+            .build();
+    }
+
     private UserResponse toProto(User user) {
         return UserResponse.newBuilder()
             .setUserId(user.getId().toString())
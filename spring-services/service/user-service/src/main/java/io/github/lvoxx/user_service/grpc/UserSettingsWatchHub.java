@@ -0,0 +1,131 @@
+package io.github.lvoxx.user_service.grpc;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.proto.user.UserSettingsChange;
+import io.github.lvoxx.user_service.service.UserSettingsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+/**
+ * Fans settings changes out to {@code WatchUserSettings} streams on every pod.
+ *
+ * <p>
+ * A write on any pod publishes the user id on {@link #CHANNEL} once the cached
+ * settings are evicted (see {@code UserSettingsServiceImpl}). Each pod holds one subscription to that channel, reads
+ * the user's current settings from the database once, and multicasts the
+ * result to all of its watchers. Nothing is replayed: a watcher that connects, falls
+ * behind or loses a message must drop its cache, which is what the first
+ * (empty) message and stream errors tell it to do. For the same reason, when
+ * the channel subscription drops every active watcher is errored and new
+ * watchers are refused until it has been re-established.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSettingsWatchHub {
+
+    /** Redis channel carrying the id of a user whose settings changed. */
+    public static final String CHANNEL = "user:settings:changed";
+
+    /** Changes buffered per watcher before it is cut off to resynchronise. */
+    static final int WATCHER_BUFFER = 1024;
+
+    /** First delay before resubscribing to {@link #CHANNEL} after it drops. */
+    static final Duration RESUBSCRIBE_BACKOFF = Duration.ofMillis(200);
+
+    /** Upper bound on the delay between resubscribe attempts. */
+    static final Duration MAX_RESUBSCRIBE_BACKOFF = Duration.ofSeconds(30);
+
+    private final ReactiveStringRedisTemplate redis;
+    private final UserSettingsService settingsService;
+
+    // Replaced whenever the channel drops, so watchers of the old one can be errored
+    private final AtomicReference<Sinks.Many<UserSettingsChange>> changes = new AtomicReference<>(newSink());
+    private volatile boolean connected;
+    private Disposable subscription;
+
+    @PostConstruct
+    void subscribe() {
+        subscription = Flux.defer(() -> redis.listenToChannel(CHANNEL))
+                .doOnSubscribe(s -> connected = true)
+                .map(msg -> UUID.fromString(msg.getMessage()))
+                .concatMap(this::snapshot)
+                .onErrorContinue((e, msg) -> log.warn("Dropped settings change {}: {}", msg, e.getMessage()))
+                // The channel only completes when the connection goes away; resubscribe as for an error
+                .concatWith(Flux.error(() -> new IllegalStateException("Settings change subscription completed")))
+                .doOnError(this::dropWatchers)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, RESUBSCRIBE_BACKOFF)
+                        .maxBackoff(MAX_RESUBSCRIBE_BACKOFF)
+                        .transientErrors(true))
+                .subscribe(change -> changes.get().tryEmitNext(change),
+                        e -> log.warn("Settings change subscription terminated: {}", e.getMessage()));
+    }
+
+    @PreDestroy
+    void close() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        connected = false;
+        changes.get().tryEmitComplete();
+    }
+
+    /**
+     * Live changes, preceded by an empty marker emitted once this watcher is
+     * registered — anything the client cached before the marker may be stale.
+     * Fails straight away while this pod is not subscribed to {@link #CHANNEL}.
+     */
+    public Flux<UserSettingsChange> watch() {
+        return Flux.<UserSettingsChange>create(sink -> {
+            if (!connected) {
+                sink.error(new IllegalStateException("Settings change feed unavailable"));
+                return;
+            }
+            Disposable live = changes.get().asFlux().subscribe(sink::next, sink::error, sink::complete);
+            sink.onDispose(live);
+            // Checked again after registering: a drop from here on errors this watcher through the sink
+            if (!connected) {
+                sink.error(new IllegalStateException("Settings change feed unavailable"));
+                return;
+            }
+            sink.next(UserSettingsChange.getDefaultInstance());
+        })
+                .onBackpressureBuffer(WATCHER_BUFFER, dropped -> {
+                }, BufferOverflowStrategy.ERROR);
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private static Sinks.Many<UserSettingsChange> newSink() {
+        return Sinks.many().multicast().directBestEffort();
+    }
+
+    private void dropWatchers(Throwable cause) {
+        log.warn("Settings change subscription dropped, cutting off watchers: {}", cause.getMessage());
+        connected = false;
+        changes.getAndSet(newSink())
+                .tryEmitError(new IllegalStateException("Settings change feed interrupted", cause));
+    }
+
+    private Mono<UserSettingsChange> snapshot(UUID userId) {
+        return settingsService.reload(userId)
+                .map(settings -> UserSettingsChange.newBuilder()
+                        .setUserId(userId.toString())
+                        .setSettings(UserGrpcService.toProto(settings))
+                        .build());
+    }
+}
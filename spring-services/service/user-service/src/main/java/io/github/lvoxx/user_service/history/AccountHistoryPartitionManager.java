@@ -0,0 +1,97 @@
+package io.github.lvoxx.user_service.history;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_keys.LockKeys;
+import io.github.lvoxx.redis_starter.service.LockService;
+import io.github.lvoxx.user_service.properties.HistoryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps {@code account_history} partitioned by month: creates
+ * {@code account_history_pYYYYMM} for the current month and the next
+ * {@code sssm.history.partitions-ahead}, and drops partitions older than
+ * {@code sssm.history.retention-months}. Dropping a partition is how expired
+ * history is deleted — no row-by-row {@code DELETE}, no vacuum debt.
+ *
+ * <p>
+ * Runs once on startup and then on {@code sssm.history.maintenance-cron},
+ * guarded by a distributed lock so only one pod issues DDL.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountHistoryPartitionManager {
+
+    static final String PREFIX = "account_history_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PREFIX + "\\d{6}");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final DatabaseClient db;
+    private final LockService lockService;
+    private final HistoryProperties props;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain().subscribe(
+                n -> log.info("Account history partitions ready, dropped {} expired", n),
+                e -> log.warn("Account history partition maintenance failed: {}", e.getMessage()));
+    }
+
+    /**
+     * @return number of expired partitions dropped; empty if another pod holds the lock
+     */
+    @Scheduled(cron = "${sssm.history.maintenance-cron:0 15 2 * * *}")
+    public Mono<Long> maintain() {
+        YearMonth now = YearMonth.now(ZoneOffset.UTC);
+        return lockService.withLock(LockKeys.accountHistoryPartitions(), 0L, Duration.ofMinutes(10).toMillis(),
+                () -> createAhead(now).then(dropExpired(now)));
+    }
+
+    private Mono<Void> createAhead(YearMonth now) {
+        return Flux.range(0, props.getPartitionsAhead() + 1)
+                .map(now::plusMonths)
+                .concatMap(month -> {
+                    LocalDate from = month.atDay(1);
+                    LocalDate to = month.plusMonths(1).atDay(1);
+                    // DDL cannot take bind parameters; every value here is generated, not user input
+                    return db.sql("CREATE TABLE IF NOT EXISTS " + name(month)
+                            + " PARTITION OF account_history FOR VALUES FROM ('" + from + "') TO ('" + to + "')")
+                            .then();
+                })
+                .then();
+    }
+
+    private Mono<Long> dropExpired(YearMonth now) {
+        String oldestKept = name(now.minusMonths(props.getRetentionMonths() - 1L));
+        return db.sql("SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = 'account_history'::regclass")
+                .map(row -> row.get("relname", String.class))
+                .all()
+                // Fixed-width names sort chronologically
+                .filter(n -> PARTITION_NAME.matcher(n).matches() && n.compareTo(oldestKept) < 0)
+                .concatMap(n -> db.sql("DROP TABLE IF EXISTS " + n).then()
+                        .doOnSuccess(v -> log.info("Dropped expired history partition {}", n))
+                        .thenReturn(n))
+                .count();
+    }
+
+    static String name(YearMonth month) {
+        return PREFIX + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.lvoxx.user_service.kafka;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_keys.KafkaTopics;
+import io.github.lvoxx.user.UserFollowedEvent;
+import io.github.lvoxx.user.UserUnfollowedEvent;
+import io.github.lvoxx.user_service.graph.FollowGraphCache;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps this pod's {@link FollowGraphCache} in sync with follow edges written
+ * by any pod.
+ *
+ * <p>
+ * Every pod needs every edge, so partitions are assigned manually instead of
+ * through a consumer group, and no offsets are committed: nothing is left
+ * behind in the broker when a pod goes away. Each start reads from the end —
+ * sets loaded after startup already include earlier edges, and only cached
+ * sets are patched.
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowGraphConsumer implements ConsumerSeekAware {
+
+        private final FollowGraphCache graph;
+
+        @KafkaListener(topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                        topic = KafkaTopics.User.USER_FOLLOWED,
+                        partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")))
+        public void onFollowed(@Payload UserFollowedEvent event) {
+                graph.onFollowed(UUID.fromString(event.getFollowerId()), UUID.fromString(event.getFollowingId()));
+        }
+
+        @KafkaListener(topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                        topic = KafkaTopics.User.USER_UNFOLLOWED,
+                        partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")))
+        public void onUnfollowed(@Payload UserUnfollowedEvent event) {
+                graph.onUnfollowed(UUID.fromString(event.getFollowerId()), UUID.fromString(event.getFollowingId()));
+        }
+
+        @Override
+        public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+                callback.seekToEnd(assignments.keySet());
+        }
+}
@@ -0,0 +1,59 @@
+package io.github.lvoxx.user_service.kafka;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+
+/**
+ * Avro binary encoding of events stored in {@code outbox_events}. The schema
+ * is not stored with the row; it is resolved from the generated class, so the
+ * relay must run the same event classes that wrote the row.
+ */
+final class OutboxCodec {
+
+    private static final Map<String, SpecificDatumReader<SpecificRecord>> READERS = new ConcurrentHashMap<>();
+
+    private OutboxCodec() {}
+
+    @SuppressWarnings("unchecked")
+    static byte[] encode(SpecificRecord record) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        try {
+            new SpecificDatumWriter<SpecificRecord>((Class<SpecificRecord>) record.getClass())
+                    .write(record, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static SpecificRecord decode(String eventClass, byte[] payload) {
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload, null);
+        try {
+            return READERS.computeIfAbsent(eventClass, OutboxCodec::readerFor).read(null, decoder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SpecificDatumReader<SpecificRecord> readerFor(String eventClass) {
+        try {
+            return new SpecificDatumReader<>((Class<SpecificRecord>) Class.forName(eventClass));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unknown outbox event class " + eventClass, e);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.lvoxx.user_service.kafka;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.github.lvoxx.user_service.entity.OutboxEvent;
+import io.github.lvoxx.user_service.properties.OutboxProperties;
+import io.github.lvoxx.user_service.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Relays {@code outbox_events} rows written by {@link UserEventPublisher} to
+ * Kafka.
+ *
+ * <p>
+ * Each poll claims a batch in a short transaction: a Postgres advisory lock
+ * keeps claims from different pods apart, and claimed rows are leased for
+ * {@code claim-lease} so no other poll picks them up. The transaction commits
+ * before anything is sent, so no connection or row lock is held across Kafka
+ * round trips. Keys are then published concurrently, events of one key strictly
+ * in insert order, and acknowledged rows are deleted. Delivery is
+ * at-least-once: a pod that dies mid-batch leaves its rows to be claimed again
+ * once the lease runs out.
+ *
+ * <p>
+ * A failed send halts its key: the row's {@code attempts} and
+ * {@code last_error} are recorded and it backs off exponentially, holding back
+ * the rest of its key. After {@code max-attempts} failures — or at once for a
+ * row that can never be sent (undecodable, or rejected by the producer as too
+ * large or unserializable) — the row is parked: it is skipped from then on and
+ * no longer blocks its key. Parked rows stay in the table for inspection.
+ *
+ * <p>
+ * Metrics: {@code user.outbox.lag} (age of the oldest unrelayed event),
+ * {@code user.outbox.relay.delay} (insert-to-ack time per event),
+ * {@code user.outbox.published} and {@code user.outbox.parked}.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    /** Advisory lock id shared by every user-service pod. */
+    static final long RELAY_LOCK_KEY = 0x7573_6572_6f75_7462L;
+
+    /** Longest {@code last_error} kept per row. */
+    static final int MAX_ERROR_LENGTH = 1000;
+
+    /** A send that failed, and whether retrying it could ever help. */
+    private static final class RelayFailure extends RuntimeException {
+        final OutboxEvent event;
+        final boolean poison;
+
+        RelayFailure(OutboxEvent event, boolean poison, Throwable cause) {
+            super(cause);
+            this.event = event;
+            this.poison = poison;
+        }
+    }
+
+    private final OutboxRepository outboxRepo;
+    private final ReactiveKafkaProducerTemplate<String, SpecificRecord> kafka;
+    private final TransactionalOperator tx;
+    private final OutboxProperties props;
+
+    private final Counter published;
+    private final Counter parked;
+    private final Timer relayDelay;
+    private final AtomicLong lagMs = new AtomicLong();
+
+    public OutboxRelay(OutboxRepository outboxRepo,
+            ReactiveKafkaProducerTemplate<String, SpecificRecord> kafka,
+            TransactionalOperator tx,
+            OutboxProperties props,
+            MeterRegistry registry) {
+        this.outboxRepo = outboxRepo;
+        this.kafka = kafka;
+        this.tx = tx;
+        this.props = props;
+        this.published = Counter.builder("user.outbox.published")
+                .description("Outbox events acknowledged by Kafka")
+                .register(registry);
+        this.parked = Counter.builder("user.outbox.parked")
+                .description("Outbox events given up on and left in the table")
+                .register(registry);
+        this.relayDelay = Timer.builder("user.outbox.relay.delay")
+                .description("Time from outbox insert to Kafka acknowledgement")
+                .register(registry);
+        Gauge.builder("user.outbox.lag", lagMs, v -> v.get() / 1000.0)
+                .description("Age of the oldest event not yet relayed")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${sssm.outbox.poll-interval:PT0.2S}")
+    public Mono<Integer> relay() {
+        return claim()
+                .flatMap(this::publish)
+                .defaultIfEmpty(0)
+                .flatMap(n -> updateLag().thenReturn(n))
+                .onErrorResume(e -> {
+                    log.warn("Outbox relay poll failed: {}", e.getMessage());
+                    return Mono.just(0);
+                });
+    }
+
+    // ── Internals ─────────────────────────────────────────────────────────────
+
+    /** Leases the next batch, oldest first; empty if another pod is claiming. */
+    private Mono<List<OutboxEvent>> claim() {
+        return tx.transactional(outboxRepo.tryRelayLock(RELAY_LOCK_KEY)
+                .filter(Boolean::booleanValue)
+                .flatMap(locked -> outboxRepo
+                        .claimNextBatch(props.getBatchSize(), props.getClaimLease().toMillis())
+                        .sort(Comparator.comparing(OutboxEvent::getId))
+                        .collectList()));
+    }
+
+    private Mono<Integer> publish(List<OutboxEvent> batch) {
+        if (batch.isEmpty()) {
+            return Mono.just(0);
+        }
+        Map<String, List<OutboxEvent>> byKey = batch.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getAggregateKey, LinkedHashMap::new,
+                        Collectors.toList()));
+        return Flux.fromIterable(byKey.values())
+                .flatMap(this::publishInOrder)
+                .collectList()
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(0)
+                        : outboxRepo.deleteByIds(ids.toArray(Long[]::new)).thenReturn(ids.size()))
+                .doOnNext(n -> log.debug("Relayed {} of {} outbox events", n, batch.size()));
+    }
+
+    /** Emits the ids of the key's events that were acknowledged, stopping at the first failure. */
+    private Flux<Long> publishInOrder(List<OutboxEvent> events) {
+        return Flux.fromIterable(events)
+                .concatMap(e -> Mono.fromCallable(() -> OutboxCodec.decode(e.getEventClass(), e.getPayload()))
+                        .onErrorMap(err -> new RelayFailure(e, true, err))
+                        .flatMap(record -> kafka.send(e.getTopic(), e.getAggregateKey(), record)
+                                .onErrorMap(err -> new RelayFailure(e, isPoison(err), err)))
+                        .doOnSuccess(r -> {
+                            published.increment();
+                            if (e.getCreatedAt() != null) {
+                                relayDelay.record(Duration.between(e.getCreatedAt(), Instant.now()));
+                            }
+                        })
+                        .thenReturn(e.getId()))
+                .onErrorResume(RelayFailure.class, f -> recordFailure(f, events).thenMany(Flux.empty()));
+    }
+
+    /**
+     * Backs the failed row off or parks it, and hands the key's later rows
+     * back: they are claimed again once the failed row is sent or parked.
+     */
+    private Mono<Void> recordFailure(RelayFailure failure, List<OutboxEvent> events) {
+        OutboxEvent e = failure.event;
+        int attempts = e.getAttempts() == null ? 0 : e.getAttempts();
+        boolean park = failure.poison || attempts + 1 >= props.getMaxAttempts();
+        String error = truncate(String.valueOf(failure.getCause()));
+        if (park) {
+            parked.increment();
+            log.error("Outbox event id={} key={} topic={} parked after {} attempt(s): {}",
+                    e.getId(), e.getAggregateKey(), e.getTopic(), attempts + 1, error);
+        } else {
+            log.warn("Outbox relay halted for key={}, will retry: {}", e.getAggregateKey(), error);
+        }
+        Long[] later = events.stream()
+                .map(OutboxEvent::getId)
+                .filter(id -> id > e.getId())
+                .toArray(Long[]::new);
+        return outboxRepo.recordFailure(e.getId(), error, backoff(attempts).toMillis(), park)
+                .then(later.length == 0 ? Mono.empty() : outboxRepo.releaseByIds(later))
+                .onErrorResume(err -> {
+                    // The claim lease still runs out, after which the rows are retried as before
+                    log.warn("Could not record outbox failure for id={}: {}", e.getId(), err.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /** Doubles per failed attempt, from {@code retry-backoff} up to {@code max-retry-backoff}. */
+    private Duration backoff(int previousAttempts) {
+        Duration max = props.getMaxRetryBackoff();
+        Duration backoff = props.getRetryBackoff().multipliedBy(1L << Math.min(previousAttempts, 30));
+        return backoff.compareTo(max) > 0 ? max : backoff;
+    }
+
+    /** Failures the producer will repeat for the same record however often it is retried. */
+    private static boolean isPoison(Throwable err) {
+        for (Throwable t = err; t != null; t = t.getCause()) {
+            if (t instanceof RecordTooLargeException || t instanceof SerializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private Mono<Void> updateLag() {
+        return outboxRepo.findOldestCreatedAt()
+                .map(oldest -> Math.max(0L, Duration.between(oldest, Instant.now()).toMillis()))
+                .defaultIfEmpty(0L)
+                .doOnNext(lagMs::set)
+                .then();
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.lvoxx.user_service.kafka;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_core.exception.ConflictException;
+import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.properties.ExportProperties;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Re-sends {@code user.profile.updated} for every live user, so consumers that
+ * keep a projection of profiles (search index, analytics) can be rebuilt from
+ * Kafka.
+ *
+ * <p>
+ * Events go straight to Kafka rather than through the outbox: a re-publish is
+ * not tied to any write, and routing millions of rows through
+ * {@code outbox_events} would only delay live events queued behind them. Users
+ * are read by id in pages of {@code sssm.export.republish-batch-size}, so no
+ * transaction stays open for the length of the run, and sends are paced to the
+ * requested rate in tenth-of-a-second slices. A send failure stops the run;
+ * the event is an idempotent upsert, so the run can simply be started again.
+ * One run per pod at a time.
+ *
+ * <p>
+ * Metric: {@code user.republish.published}.
+ */
+@Slf4j
+@Component
+public class ProfileRepublisher {
+
+    /** A second's budget is sent in this many slices, to avoid one burst per second. */
+    static final int SLICES_PER_SECOND = 10;
+
+    private static final UUID START = new UUID(0L, 0L);
+
+    private final UserRepository userRepo;
+    private final ReactiveKafkaProducerTemplate<String, SpecificRecord> kafka;
+    private final ExportProperties props;
+    private final Counter published;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ProfileRepublisher(UserRepository userRepo,
+            ReactiveKafkaProducerTemplate<String, SpecificRecord> kafka,
+            ExportProperties props,
+            MeterRegistry registry) {
+        this.userRepo = userRepo;
+        this.kafka = kafka;
+        this.props = props;
+        this.published = Counter.builder("user.republish.published")
+                .description("Profile events re-published by a bulk re-publish")
+                .register(registry);
+    }
+
+    /**
+     * Starts a run in the background and completes immediately.
+     *
+     * @param ratePerSecond events sent per second, at least 1
+     * @return error {@link ConflictException} if a run is already in progress
+     */
+    public Mono<Void> start(int ratePerSecond) {
+        return Mono.fromRunnable(() -> {
+            if (!running.compareAndSet(false, true)) {
+                throw new ConflictException("REPUBLISH_IN_PROGRESS");
+            }
+            log.info("Profile re-publish started at {} events/s", ratePerSecond);
+            run(ratePerSecond)
+                    .doFinally(signal -> running.set(false))
+                    .subscribe(
+                            n -> log.info("Profile re-publish finished, {} events sent", n),
+                            e -> log.warn("Profile re-publish stopped: {}", e.getMessage()));
+        });
+    }
+
+    /** Whether a run is in progress on this pod. */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /** @return number of events sent */
+    Mono<Long> run(int ratePerSecond) {
+        int slice = Math.max(1, ratePerSecond / SLICES_PER_SECOND);
+        Duration sliceInterval = Duration.ofNanos(1_000_000_000L * slice / ratePerSecond);
+        return profiles()
+                .buffer(slice)
+                // A slice takes at least its interval, longer if Kafka is slower
+                .concatMap(users -> Mono.when(send(users), Mono.delay(sliceInterval))
+                        .thenReturn(users.size()), 1)
+                .reduce(0L, Long::sum);
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private Flux<User> profiles() {
+        int batch = props.getRepublishBatchSize();
+        return userRepo.findProfilesAfter(START, batch).collectList()
+                .expand(page -> page.size() < batch
+                        ? Mono.empty()
+                        : userRepo.findProfilesAfter(page.getLast().getId(), batch).collectList())
+                .flatMapIterable(Function.identity());
+    }
+
+    private Mono<Void> send(List<User> users) {
+        return Flux.fromIterable(users)
+                .flatMap(user -> kafka.send(UserEventPublisher.PROFILE_UPDATED_TOPIC, user.getId().toString(),
+                        UserEventPublisher.profileUpdatedEvent(user)))
+                .doOnNext(result -> published.increment())
+                .then();
+    }
+}
@@ -4,7 +4,6 @@ import java.time.Instant;
 import java.util.UUID;
 
 import org.apache.avro.specific.SpecificRecord;
-import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
 import org.springframework.stereotype.Component;
 
 import io.github.lvoxx.common_core.util.UlidGenerator;
@@ -14,18 +13,24 @@ import io.github.lvoxx.user.UserAvatarChangedEvent;
 import io.github.lvoxx.user.UserFollowedEvent;
 import io.github.lvoxx.user.UserProfileUpdatedEvent;
 import io.github.lvoxx.user.UserUnfollowedEvent;
+import io.github.lvoxx.user_service.entity.OutboxEvent;
 import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.repository.OutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
 /**
  * Publishes user domain events to Kafka using Avro-serialised
- * {@link SpecificRecord} objects.
+ * {@link SpecificRecord} objects, through the transactional outbox.
  *
  * <p>
- * Each method corresponds to one Kafka topic. The Avro schema is registered
- * automatically with the Confluent Schema Registry on first publish.
+ * Each method corresponds to one Kafka topic. Events are not sent inline: they
+ * are inserted into {@code outbox_events} in the caller's transaction, so they
+ * commit or roll back with the write that produced them, and
+ * {@link OutboxRelay} sends them afterwards. Write latency therefore does not
+ * depend on the broker. The Avro schema is registered automatically with the
+ * Confluent Schema Registry on first relay.
  *
  * <p>
  * Topics:
@@ -42,36 +47,25 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class UserEventPublisher {
 
-        private final ReactiveKafkaProducerTemplate<String, SpecificRecord> kafka;
+        static final String PROFILE_UPDATED_TOPIC = "user.profile.updated";
+
+        private final OutboxRepository outbox;
 
         /**
          * Publishes a {@link UserProfileUpdatedEvent} to {@code user.profile.updated}.
          *
          * @param user the updated {@link User} entity
-         * @return a {@link Mono} that completes when the record has been acknowledged
-         *         by Kafka
+         * @return a {@link Mono} that completes when the event is in the outbox
          */
         public Mono<Void> publishProfileUpdated(User user) {
-                UserProfileUpdatedEvent event = UserProfileUpdatedEvent.newBuilder()
-                                .setEventId(UlidGenerator.generate())
-                                .setEventType(EventTypes.UserService.USER_PROFILE_UPDATED)
-                                .setVersion("1")
-                                .setTimestamp(Instant.now())
-                                .setProducerService(ServiceNames.USER_SERVICE)
-                                .setUserId(user.getId().toString())
-                                .setUsername(user.getUsername())
-                                .setDisplayName(user.getDisplayName())
-                                .setAvatarUrl(user.getAvatarUrl())
-                                .build();
-
-                return send("user.profile.updated", user.getId().toString(), event);
+                return send(PROFILE_UPDATED_TOPIC, user.getId().toString(), profileUpdatedEvent(user));
         }
 
         /**
          * Publishes a {@link UserAvatarChangedEvent} to {@code user.avatar.changed}.
          *
          * @param user the user whose avatar was updated
-         * @return a {@link Mono} that completes on acknowledgement
+         * @return a {@link Mono} that completes when the event is in the outbox
          */
         public Mono<Void> publishAvatarChanged(User user) {
                 UserAvatarChangedEvent event = UserAvatarChangedEvent.newBuilder()
@@ -92,7 +86,7 @@ public class UserEventPublisher {
          * reusing the avatar schema (same shape, different topic).
          *
          * @param user the user whose background was updated
-         * @return a {@link Mono} that completes on acknowledgement
+         * @return a {@link Mono} that completes when the event is in the outbox
          */
         public Mono<Void> publishBackgroundChanged(User user) {
                 UserAvatarChangedEvent event = UserAvatarChangedEvent.newBuilder()
@@ -114,7 +108,7 @@ public class UserEventPublisher {
          * @param followerId       UUID of the user who initiated the follow
          * @param followingId      UUID of the user who was followed
          * @param followerUsername username of the follower (for notification text)
-         * @return a {@link Mono} that completes on acknowledgement
+         * @return a {@link Mono} that completes when the event is in the outbox
          */
         public Mono<Void> publishFollowed(UUID followerId, UUID followingId, String followerUsername) {
                 UserFollowedEvent event = UserFollowedEvent.newBuilder()
@@ -136,7 +130,7 @@ public class UserEventPublisher {
          *
          * @param followerId  UUID of the user who unfollowed
          * @param followingId UUID of the user who was unfollowed
-         * @return a {@link Mono} that completes on acknowledgement
+         * @return a {@link Mono} that completes when the event is in the outbox
          */
         public Mono<Void> publishUnfollowed(UUID followerId, UUID followingId) {
                 UserUnfollowedEvent event = UserUnfollowedEvent.newBuilder()
@@ -152,12 +146,31 @@ public class UserEventPublisher {
                 return send("user.unfollowed", followerId.toString(), event);
         }
 
+        /** Also used by {@link ProfileRepublisher}, which sends it without the outbox. */
+        static UserProfileUpdatedEvent profileUpdatedEvent(User user) {
+                return UserProfileUpdatedEvent.newBuilder()
+                                .setEventId(UlidGenerator.generate())
+                                .setEventType(EventTypes.UserService.USER_PROFILE_UPDATED)
+                                .setVersion("1")
+                                .setTimestamp(Instant.now())
+                                .setProducerService(ServiceNames.USER_SERVICE)
+                                .setUserId(user.getId().toString())
+                                .setUsername(user.getUsername())
+                                .setDisplayName(user.getDisplayName())
+                                .setAvatarUrl(user.getAvatarUrl())
+                                .build();
+        }
+
         private Mono<Void> send(String topic, String key, SpecificRecord record) {
-                return kafka.send(topic, key, record)
-                                .doOnSuccess(r -> log.info("Published Avro event to topic={} key={} schema={}",
-                                                topic, key, record.getSchema().getName()))
-                                .doOnError(e -> log.error("Failed to publish Avro event to topic={} key={}: {}",
-                                                topic, key, e.getMessage()))
+                return outbox.save(OutboxEvent.builder()
+                                .aggregateKey(key)
+                                .topic(topic)
+                                .eventClass(record.getClass().getName())
+                                .payload(OutboxCodec.encode(record))
+                                .createdAt(Instant.now())
+                                .build())
+                                .doOnSuccess(e -> log.debug("Queued Avro event id={} topic={} key={} schema={}",
+                                                e.getId(), topic, key, record.getSchema().getName()))
                                 .then();
         }
 }
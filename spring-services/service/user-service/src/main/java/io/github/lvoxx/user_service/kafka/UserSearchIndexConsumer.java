@@ -0,0 +1,44 @@
+package io.github.lvoxx.user_service.kafka;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_keys.KafkaTopics;
+import io.github.lvoxx.user.UserProfileUpdatedEvent;
+import io.github.lvoxx.user_service.search.UserPrefixIndex;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps this pod's {@link UserPrefixIndex} in sync with profile changes.
+ *
+ * <p>
+ * The index lives in memory on every pod, so partitions are assigned manually
+ * instead of through a consumer group, and no offsets are committed. Each
+ * start reads from the end — the startup warm-up already covers everything
+ * before it.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndexConsumer implements ConsumerSeekAware {
+
+        private final UserPrefixIndex prefixIndex;
+
+        @KafkaListener(topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                        topic = KafkaTopics.User.USER_PROFILE_UPDATED,
+                        partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")))
+        public void onProfileUpdated(@Payload UserProfileUpdatedEvent event) {
+                prefixIndex.upsert(UUID.fromString(event.getUserId()), event.getUsername(), event.getDisplayName());
+        }
+
+        @Override
+        public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+                callback.seekToEnd(assignments.keySet());
+        }
+}
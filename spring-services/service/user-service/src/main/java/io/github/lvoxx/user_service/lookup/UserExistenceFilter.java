@@ -0,0 +1,210 @@
+package io.github.lvoxx.user_service.lookup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.common_core.util.BloomFilter;
+import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.properties.ExistenceFilterProperties;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Per-pod Bloom filter of existing user ids and usernames, so lookups for
+ * values that definitely do not exist — mostly scrapers probing — are answered
+ * 404 without a cache or database round trip.
+ *
+ * <p>
+ * Accounts are created outside this service, so the filter is kept complete
+ * by two loops: a full rebuild every {@code rebuild-interval} (swapped in
+ * atomically, and the only way deleted users leave) and a catch-up every
+ * {@code catch-up-interval} that adds rows by {@code created_at}. The filter
+ * fails open: until the first build, or when catch-up has been failing for
+ * {@code max-staleness}, every value is reported as possibly existing.
+ */
+@Slf4j
+@Component
+public class UserExistenceFilter {
+
+    /** Which lookup a metric belongs to. */
+    public enum Kind {
+        ID, USERNAME;
+
+        final String tag = name().toLowerCase();
+    }
+
+    private record Snapshot(BloomFilter filter, Instant caughtUpTo, Instant syncedAt) {
+        Snapshot withCatchUp(Instant to) {
+            return new Snapshot(filter, to, Instant.now());
+        }
+    }
+
+    private final UserRepository userRepo;
+    private final ExistenceFilterProperties props;
+    private final MeterRegistry registry;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    public UserExistenceFilter(UserRepository userRepo, ExistenceFilterProperties props, MeterRegistry registry) {
+        this.userRepo = userRepo;
+        this.props = props;
+        this.registry = registry;
+        Gauge.builder("user.existence_filter.expected_fpp", current,
+                        ref -> ref.get() != null ? ref.get().filter().expectedFpp() : Double.NaN)
+                .description("Estimated false-positive probability of the existence filter")
+                .register(registry);
+        Gauge.builder("user.existence_filter.entries", current,
+                        ref -> ref.get() != null ? ref.get().filter().approximateInsertions() : 0)
+                .description("Approximate ids and usernames held by the existence filter")
+                .register(registry);
+    }
+
+    // ── Queries ───────────────────────────────────────────────────────────────
+
+    /** Side-effect free; safe in cache-annotation conditions. */
+    public boolean mightExistByUsername(String username) {
+        return mightContain(usernameKey(username));
+    }
+
+    /** Side-effect free; safe in cache-annotation conditions. */
+    public boolean mightExistById(UUID id) {
+        return mightContain(idKey(id));
+    }
+
+    /**
+     * {@link #mightExistByUsername} / {@link #mightExistById} for the lookup path:
+     * also counts the outcome.
+     */
+    public boolean admit(Kind kind, Object value) {
+        boolean admitted = kind == Kind.ID ? mightExistById((UUID) value) : mightExistByUsername((String) value);
+        counter(admitted ? "user.existence_filter.admitted" : "user.existence_filter.rejected", kind).increment();
+        return admitted;
+    }
+
+    /**
+     * Records that an admitted lookup found nothing: a false positive, or a user
+     * deleted since the last rebuild.
+     */
+    public void recordFalsePositive(Kind kind) {
+        counter("user.existence_filter.false_positive", kind).increment();
+    }
+
+    // ── Maintenance ───────────────────────────────────────────────────────────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (props.isEnabled()) {
+            rebuild().subscribe(
+                    n -> log.info("User existence filter built with {} users", n),
+                    e -> log.warn("User existence filter build failed, lookups unfiltered: {}", e.getMessage()));
+        }
+    }
+
+    /**
+     * Builds a new filter from every live user and swaps it in.
+     *
+     * @return number of users added
+     */
+    @Scheduled(fixedDelayString = "${sssm.existence-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${sssm.existence-filter.rebuild-interval:PT6H}")
+    public Mono<Long> rebuild() {
+        if (!props.isEnabled()) {
+            return Mono.just(0L);
+        }
+        return Mono.defer(() -> {
+            Instant started = Instant.now();
+            return userRepo.countByIsDeletedFalse()
+                    // Two keys per user: id and username
+                    .map(live -> BloomFilter.create(
+                            Math.max(props.getMinCapacity(), (long) (live * props.getGrowthFactor()) * 2),
+                            props.getFpp()))
+                    .flatMap(filter -> fillFrom(filter, new UUID(0L, 0L), 0L)
+                            // Rows created while paging may sort before the last id read
+                            .flatMap(added -> catchUpInto(filter, started.minus(props.getCatchUpOverlap()))
+                                    .doOnNext(to -> current.set(new Snapshot(filter, to, Instant.now())))
+                                    .thenReturn(added)));
+        });
+    }
+
+    /**
+     * Adds accounts created since the last catch-up.
+     *
+     * @return number of rows read
+     */
+    @Scheduled(fixedDelayString = "${sssm.existence-filter.catch-up-interval:PT2S}")
+    public Mono<Long> catchUp() {
+        return Mono.defer(() -> {
+            Snapshot snapshot = current.get();
+            if (snapshot == null) {
+                return Mono.just(0L);
+            }
+            Instant since = snapshot.caughtUpTo().minus(props.getCatchUpOverlap());
+            Instant startedAt = Instant.now();
+            return userRepo.findKeysCreatedSince(since)
+                    .doOnNext(u -> put(snapshot.filter(), u))
+                    .count()
+                    .doOnNext(n -> current.compareAndSet(snapshot, snapshot.withCatchUp(startedAt)))
+                    .onErrorResume(e -> {
+                        log.warn("User existence filter catch-up failed: {}", e.getMessage());
+                        return Mono.just(0L);
+                    });
+        });
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private boolean mightContain(String key) {
+        Snapshot snapshot = current.get();
+        if (!props.isEnabled() || snapshot == null
+                || Duration.between(snapshot.syncedAt(), Instant.now()).compareTo(props.getMaxStaleness()) > 0) {
+            return true;
+        }
+        return snapshot.filter().mightContain(key);
+    }
+
+    private Mono<Long> fillFrom(BloomFilter filter, UUID afterId, long addedSoFar) {
+        return userRepo.findActiveKeysAfter(afterId, props.getRebuildBatchSize())
+                .doOnNext(u -> put(filter, u))
+                .collectList()
+                .flatMap(page -> page.size() < props.getRebuildBatchSize()
+                        ? Mono.just(addedSoFar + page.size())
+                        : fillFrom(filter, page.getLast().getId(), addedSoFar + page.size()));
+    }
+
+    private Mono<Instant> catchUpInto(BloomFilter filter, Instant since) {
+        Instant startedAt = Instant.now();
+        return userRepo.findKeysCreatedSince(since)
+                .doOnNext(u -> put(filter, u))
+                .then(Mono.just(startedAt));
+    }
+
+    private static void put(BloomFilter filter, User user) {
+        filter.put(idKey(user.getId()));
+        if (user.getUsername() != null) {
+            filter.put(usernameKey(user.getUsername()));
+        }
+    }
+
+    private Counter counter(String name, Kind kind) {
+        return registry.counter(name, "kind", kind.tag);
+    }
+
+    private static String idKey(UUID id) {
+        return "i:" + id;
+    }
+
+    private static String usernameKey(String username) {
+        return "u:" + username;
+    }
+}
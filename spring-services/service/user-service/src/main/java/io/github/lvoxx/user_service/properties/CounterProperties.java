@@ -0,0 +1,26 @@
+package io.github.lvoxx.user_service.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.counters")
+public class CounterProperties {
+    /** How often buffered counter deltas are written to {@code users}. */
+    private Duration flushInterval = Duration.ofSeconds(1);
+    /** When the follower/following reconciliation job runs. */
+    private String reconcileCron = "0 30 3 * * *";
+    /** Users recomputed per reconciliation statement. */
+    private int reconcileBatchSize = 500;
+    /**
+     * How long a drift must persist before reconciliation corrects it. Longer
+     * than {@code flush-interval}, so every pod has flushed the deltas it held
+     * when the drift was first seen.
+     */
+    private Duration reconcileSettle = Duration.ofSeconds(5);
+}
@@ -0,0 +1,32 @@
+package io.github.lvoxx.user_service.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.existence-filter")
+public class ExistenceFilterProperties {
+    /** When false every lookup goes to cache/DB as before. */
+    private boolean enabled = true;
+    /** Target false-positive probability at the sized capacity. */
+    private double fpp = 0.01;
+    /** Capacity headroom over the live user count, so growth until the next rebuild keeps the rate. */
+    private double growthFactor = 1.5;
+    /** Lower bound on sized capacity. */
+    private long minCapacity = 100_000;
+    /** Full rebuild period; the only way deleted users leave the filter. */
+    private Duration rebuildInterval = Duration.ofHours(6);
+    /** Rows per page during a rebuild. */
+    private int rebuildBatchSize = 10_000;
+    /** How often accounts created elsewhere are added. */
+    private Duration catchUpInterval = Duration.ofSeconds(2);
+    /** Re-read window before the last catch-up, covering rows committed late. */
+    private Duration catchUpOverlap = Duration.ofMinutes(1);
+    /** If the last catch-up is older than this, the filter stops rejecting. */
+    private Duration maxStaleness = Duration.ofSeconds(30);
+}
@@ -0,0 +1,20 @@
+package io.github.lvoxx.user_service.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.export")
+public class ExportProperties {
+    /** Rows fetched per cursor round trip by the streaming export. */
+    private int fetchSize = 1000;
+    /** Users read per page by the profile re-publish. */
+    private int republishBatchSize = 1000;
+    /** Events per second the profile re-publish sends when no rate is given. */
+    private int republishRate = 2000;
+    /** Upper bound on the requested re-publish rate. */
+    private int maxRepublishRate = 20000;
+}
@@ -0,0 +1,25 @@
+package io.github.lvoxx.user_service.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.follow-graph")
+public class FollowGraphProperties {
+    /**
+     * Heap budget for cached follower/following sets, in bytes (per pod): the
+     * bitmaps plus the dense-id mappings they keep alive.
+     */
+    private long maxHeapBytes = 256L * 1024 * 1024;
+    /** Bitmaps not read for this long are evicted and reloaded on next use. */
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+    /** Sets larger than this are not cached; overlap queries on them go to Postgres. */
+    private int maxSetSize = 200_000;
+    /** Upper bound on {@code size} for the known-followers endpoint. */
+    private int maxKnownFollowers = 50;
+}
@@ -0,0 +1,30 @@
+package io.github.lvoxx.user_service.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.history")
+public class HistoryProperties {
+    /** Entries buffered in memory before {@code record} falls back to a direct insert. */
+    private int queueCapacity = 10_000;
+    /** Rows per multi-row insert. */
+    private int batchSize = 500;
+    /** How often buffered entries are written. */
+    private Duration flushInterval = Duration.ofMillis(500);
+    /** How far back {@code getHistory} reads; older partitions are never scanned. */
+    private Duration readWindow = Duration.ofDays(90);
+    /** Largest page {@code getHistory} returns. */
+    private int maxPageSize = 50;
+    /** Monthly partitions kept, including the current month. */
+    private int retentionMonths = 13;
+    /** Future monthly partitions kept created ahead of time. */
+    private int partitionsAhead = 2;
+    /** When partitions are created and expired ones dropped. */
+    private String maintenanceCron = "0 15 2 * * *";
+}
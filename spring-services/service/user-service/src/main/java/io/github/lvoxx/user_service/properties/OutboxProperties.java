@@ -0,0 +1,29 @@
+package io.github.lvoxx.user_service.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.outbox")
+public class OutboxProperties {
+    /** Delay between relay polls of {@code outbox_events}. */
+    private Duration pollInterval = Duration.ofMillis(200);
+    /** Rows read and published per relay poll. */
+    private int batchSize = 200;
+    /**
+     * How long a poll owns the rows it claimed; past it another poll may claim
+     * them again. Longer than the producer's delivery timeout.
+     */
+    private Duration claimLease = Duration.ofMinutes(5);
+    /** Failed sends of one row before it is parked. */
+    private int maxAttempts = 15;
+    /** Back-off after a row's first failed send; doubles with each further failure. */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+    /** Upper bound on the back-off between sends of one row. */
+    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+}
@@ -0,0 +1,22 @@
+package io.github.lvoxx.user_service.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sssm.search")
+public class SearchProperties {
+    /** Users held in each pod's autocomplete prefix index (most-followed first). */
+    private int prefixIndexMaxUsers = 200_000;
+    /** How often the prefix index picks up accounts created or deleted elsewhere. */
+    private Duration prefixIndexCatchUpInterval = Duration.ofSeconds(5);
+    /** Re-read window behind the last catch-up, covering commits that land late. */
+    private Duration prefixIndexCatchUpOverlap = Duration.ofMinutes(1);
+    /** Upper bound on {@code size} for search and suggest requests. */
+    private int maxPageSize = 50;
+}
@@ -1,15 +1,42 @@
 package io.github.lvoxx.user_service.repository;
 
+import java.time.Instant;
 import java.util.UUID;
 
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 import io.github.lvoxx.user_service.entity.AccountHistory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface AccountHistoryRepository extends ReactiveCrudRepository<AccountHistory, UUID> {
 
-    @Query("SELECT * FROM account_history WHERE user_id = :userId ORDER BY created_at DESC LIMIT :limit")
-    Flux<AccountHistory> findByUserIdOrderByCreatedAtDesc(UUID userId, int limit);
+    /**
+     * Multi-row insert of parallel arrays. {@code detail} must be a JSON
+     * document and is cast to {@code JSONB}, {@code ip} to {@code INET}; both
+     * read back as text.
+     */
+    @Modifying
+    @Query("INSERT INTO account_history (id, user_id, action, detail, ip, created_at) "
+            + "SELECT h.id, h.user_id, h.action, h.detail::jsonb, h.ip::inet, h.created_at "
+            + "FROM unnest(:ids, :userIds, :actions, :details, :ips, :createdAts) "
+            + "AS h(id, user_id, action, detail, ip, created_at)")
+    Mono<Integer> insertBatch(UUID[] ids, UUID[] userIds, String[] actions, String[] details, String[] ips,
+            Instant[] createdAts);
+
+    // Keyset pagination over (created_at, id). The created_at >= :since bound
+    // lets Postgres prune every monthly partition older than the read window.
+
+    @Query("SELECT id, user_id, action, detail #>> '{}' AS detail, ip::text AS ip, created_at "
+            + "FROM account_history WHERE user_id = :userId AND created_at >= :since "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<AccountHistory> findRecentByUserId(UUID userId, Instant since, int limit);
+
+    @Query("SELECT id, user_id, action, detail #>> '{}' AS detail, ip::text AS ip, created_at "
+            + "FROM account_history WHERE user_id = :userId AND created_at >= :since "
+            + "AND (created_at, id) < (:createdAt, :id) "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<AccountHistory> findRecentByUserIdBefore(UUID userId, Instant since, Instant createdAt, UUID id, int limit);
 }
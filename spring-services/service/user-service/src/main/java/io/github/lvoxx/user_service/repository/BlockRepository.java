@@ -2,9 +2,11 @@ package io.github.lvoxx.user_service.repository;
 
 import java.util.UUID;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 import io.github.lvoxx.user_service.entity.UserBlock;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface BlockRepository extends ReactiveCrudRepository<UserBlock, UUID> {
@@ -12,4 +14,13 @@ public interface BlockRepository extends ReactiveCrudRepository<UserBlock, UUID>
     Mono<Boolean> existsByBlockerIdAndBlockedId(UUID blockerId, UUID blockedId);
 
     Mono<Void> deleteByBlockerIdAndBlockedId(UUID blockerId, UUID blockedId);
+
+    /**
+     * Users {@code userId} has blocked plus users who have blocked
+     * {@code userId}. Served by the PK and idx_user_blocks_blocked_id.
+     */
+    @Query("SELECT blocked_id FROM user_blocks WHERE blocker_id = :userId "
+            + "UNION "
+            + "SELECT blocker_id FROM user_blocks WHERE blocked_id = :userId")
+    Flux<UUID> findBlockCounterparts(UUID userId);
 }
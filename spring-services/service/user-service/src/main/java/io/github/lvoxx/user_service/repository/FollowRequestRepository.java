@@ -1,7 +1,9 @@
 package io.github.lvoxx.user_service.repository;
 
+import java.time.Instant;
 import java.util.UUID;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 import io.github.lvoxx.user_service.entity.FollowRequest;
@@ -10,9 +12,30 @@ import reactor.core.publisher.Mono;
 
 public interface FollowRequestRepository extends ReactiveCrudRepository<FollowRequest, UUID> {
 
-    Flux<FollowRequest> findByTargetIdAndStatus(UUID targetId, String status);
-
     Mono<FollowRequest> findByRequesterIdAndTargetId(UUID requesterId, UUID targetId);
 
     Mono<Boolean> existsByRequesterIdAndTargetIdAndStatus(UUID requesterId, UUID targetId, String status);
+
+    // Keyset pagination over (created_at, id), newest first, served by the
+    // partial index idx_follow_req_target_pending.
+
+    @Query("SELECT * FROM follow_requests WHERE target_id = :targetId AND status = 'PENDING' "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<FollowRequest> findPendingByTargetId(UUID targetId, int limit);
+
+    @Query("SELECT * FROM follow_requests WHERE target_id = :targetId AND status = 'PENDING' "
+            + "AND (created_at, id) < (:createdAt, :id) "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<FollowRequest> findPendingByTargetIdBefore(UUID targetId, Instant createdAt, UUID id, int limit);
+
+    /**
+     * Moves the caller's still-PENDING requests among {@code ids} to {@code status}.
+     * Ids that are unknown, owned by another user or already actioned are skipped.
+     *
+     * @return requester ids of the requests actually transitioned
+     */
+    @Query("UPDATE follow_requests SET status = :status "
+            + "WHERE id = ANY(:ids) AND target_id = :targetId AND status = 'PENDING' "
+            + "RETURNING requester_id")
+    Flux<UUID> resolvePending(UUID targetId, UUID[] ids, String status);
 }
@@ -1,7 +1,9 @@
 package io.github.lvoxx.user_service.repository;
 
+import java.time.Instant;
 import java.util.UUID;
 
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
@@ -13,11 +15,70 @@ public interface FollowerRepository extends ReactiveCrudRepository<Follower, UUI
 
     Mono<Boolean> existsByFollowerIdAndFollowingId(UUID followerId, UUID followingId);
 
-    Mono<Void> deleteByFollowerIdAndFollowingId(UUID followerId, UUID followingId);
+    // Single-statement, idempotent writes: the affected-row count (0 or 1)
+    // says whether the edge actually changed, and drives the counter delta.
 
-    @Query("SELECT * FROM followers WHERE following_id = :userId ORDER BY created_at DESC LIMIT :limit")
+    @Modifying
+    @Query("INSERT INTO followers (follower_id, following_id, created_at) "
+            + "VALUES (:followerId, :followingId, NOW()) ON CONFLICT DO NOTHING")
+    Mono<Integer> insertIfAbsent(UUID followerId, UUID followingId);
+
+    /**
+     * Bulk form of {@link #insertIfAbsent} for one followed user.
+     *
+     * @return follower ids whose edge was actually created
+     */
+    @Query("INSERT INTO followers (follower_id, following_id, created_at) "
+            + "SELECT f, :followingId, NOW() FROM unnest(:followerIds) AS f "
+            + "ON CONFLICT DO NOTHING RETURNING follower_id")
+    Flux<UUID> insertAllIfAbsent(UUID[] followerIds, UUID followingId);
+
+    @Modifying
+    @Query("DELETE FROM followers WHERE follower_id = :followerId AND following_id = :followingId")
+    Mono<Integer> deleteIfPresent(UUID followerId, UUID followingId);
+
+    // Keyset pagination over (created_at, <other side id>) — served by the
+    // idx_followers_*_created composite indexes, O(page) at any depth.
+
+    @Query("SELECT * FROM followers WHERE following_id = :userId "
+            + "ORDER BY created_at DESC, follower_id DESC LIMIT :limit")
     Flux<Follower> findFollowersByUserId(UUID userId, int limit);
 
-    @Query("SELECT * FROM followers WHERE follower_id = :userId ORDER BY created_at DESC LIMIT :limit")
+    @Query("SELECT * FROM followers WHERE following_id = :userId "
+            + "AND (created_at, follower_id) < (:createdAt, :followerId) "
+            + "ORDER BY created_at DESC, follower_id DESC LIMIT :limit")
+    Flux<Follower> findFollowersByUserIdBefore(UUID userId, Instant createdAt, UUID followerId, int limit);
+
+    @Query("SELECT * FROM followers WHERE follower_id = :userId "
+            + "ORDER BY created_at DESC, following_id DESC LIMIT :limit")
     Flux<Follower> findFollowingByUserId(UUID userId, int limit);
+
+    @Query("SELECT * FROM followers WHERE follower_id = :userId "
+            + "AND (created_at, following_id) < (:createdAt, :followingId) "
+            + "ORDER BY created_at DESC, following_id DESC LIMIT :limit")
+    Flux<Follower> findFollowingByUserIdBefore(UUID userId, Instant createdAt, UUID followingId, int limit);
+
+    // Full adjacency of one user, for the in-memory follow-graph cache.
+
+    @Query("SELECT follower_id FROM followers WHERE following_id = :userId")
+    Flux<UUID> findAllFollowerIds(UUID userId);
+
+    @Query("SELECT following_id FROM followers WHERE follower_id = :userId")
+    Flux<UUID> findAllFollowingIds(UUID userId);
+
+    // Overlap queries for users whose sets are too large for the follow-graph
+    // cache. "Known" followers of a target are followers the viewer follows;
+    // "mutual" followers follow both users.
+
+    @Query("SELECT count(*) FROM followers v JOIN followers t ON t.follower_id = v.following_id "
+            + "WHERE v.follower_id = :viewerId AND t.following_id = :targetId")
+    Mono<Long> countKnownFollowers(UUID viewerId, UUID targetId);
+
+    @Query("SELECT count(*) FROM followers v JOIN followers t ON t.follower_id = v.follower_id "
+            + "WHERE v.following_id = :viewerId AND t.following_id = :targetId")
+    Mono<Long> countMutualFollowers(UUID viewerId, UUID targetId);
+
+    @Query("SELECT v.following_id FROM followers v JOIN followers t ON t.follower_id = v.following_id "
+            + "WHERE v.follower_id = :viewerId AND t.following_id = :targetId LIMIT :limit")
+    Flux<UUID> findKnownFollowerIds(UUID viewerId, UUID targetId, int limit);
 }
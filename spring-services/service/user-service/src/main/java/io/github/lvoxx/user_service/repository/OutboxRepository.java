@@ -0,0 +1,60 @@
+package io.github.lvoxx.user_service.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import io.github.lvoxx.user_service.entity.OutboxEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface OutboxRepository extends R2dbcRepository<OutboxEvent, Long> {
+
+    /**
+     * Leases up to {@code limit} relayable rows, oldest first, for
+     * {@code leaseMs}. A row is skipped while an earlier row of its key is
+     * leased or backing off, so a key never has two rows in flight. Rows come
+     * back in no particular order.
+     */
+    @Query("UPDATE outbox_events SET claimed_until = NOW() + :leaseMs * INTERVAL '1 millisecond' "
+            + "WHERE id IN (SELECT e.id FROM outbox_events e "
+            + "    WHERE e.parked_at IS NULL AND (e.claimed_until IS NULL OR e.claimed_until < NOW()) "
+            + "    AND NOT EXISTS (SELECT 1 FROM outbox_events p "
+            + "        WHERE p.aggregate_key = e.aggregate_key AND p.id < e.id "
+            + "        AND p.parked_at IS NULL AND p.claimed_until >= NOW()) "
+            + "    ORDER BY e.id LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "RETURNING *")
+    Flux<OutboxEvent> claimNextBatch(int limit, long leaseMs);
+
+    @Modifying
+    @Query("DELETE FROM outbox_events WHERE id = ANY(:ids)")
+    Mono<Integer> deleteByIds(Long[] ids);
+
+    /** Hands leased rows back unsent, for the next poll. */
+    @Modifying
+    @Query("UPDATE outbox_events SET claimed_until = NULL WHERE id = ANY(:ids)")
+    Mono<Integer> releaseByIds(Long[] ids);
+
+    /**
+     * Records a failed send: the row backs off for {@code backoffMs}, holding
+     * back the rest of its key, or is parked for good.
+     */
+    @Modifying
+    @Query("UPDATE outbox_events SET attempts = attempts + 1, last_error = :error, "
+            + "claimed_until = NOW() + :backoffMs * INTERVAL '1 millisecond', "
+            + "parked_at = CASE WHEN :park THEN NOW() END "
+            + "WHERE id = :id")
+    Mono<Integer> recordFailure(long id, String error, long backoffMs, boolean park);
+
+    @Query("SELECT created_at FROM outbox_events WHERE parked_at IS NULL ORDER BY id LIMIT 1")
+    Mono<Instant> findOldestCreatedAt();
+
+    /**
+     * Transaction-scoped advisory lock: true for exactly one relay at a time,
+     * released automatically at commit or rollback.
+     */
+    @Query("SELECT pg_try_advisory_xact_lock(:key)")
+    Mono<Boolean> tryRelayLock(long key);
+}
@@ -1,10 +1,15 @@
 package io.github.lvoxx.user_service.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.UUID;
 
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
+import io.github.lvoxx.user_service.dto.CounterDrift;
+import io.github.lvoxx.user_service.dto.UserSearchHit;
 import io.github.lvoxx.user_service.entity.User;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -15,12 +20,42 @@ public interface UserRepository extends ReactiveCrudRepository<User, UUID> {
 
     Mono<User> findByIdAndIsDeletedFalse(UUID id);
 
+    Flux<User> findAllByIdInAndIsDeletedFalse(Collection<UUID> ids);
+
     Mono<User> findByKeycloakId(UUID keycloakId);
 
     Mono<Boolean> existsByUsername(String username);
 
-    @Query("SELECT * FROM users WHERE (username ILIKE '%' || :query || '%' OR display_name ILIKE '%' || :query || '%') AND is_deleted = false LIMIT :limit")
-    Flux<User> searchByUsernameOrDisplayName(String query, int limit);
+    // ── Search (served by the idx_users_*_trgm GIN indexes) ───────────────────
+    // :pattern is the LIKE-escaped query wrapped in '%'; rows are ranked by
+    // trigram similarity and paged by keyset over (search_rank, id). Only ids
+    // are returned; callers hydrate them through the profile cache.
+
+    @Query("SELECT s.id, s.search_rank FROM (SELECT u.id, GREATEST(similarity(u.username, :query), "
+            + "similarity(COALESCE(u.display_name, ''), :query)) AS search_rank FROM users u "
+            + "WHERE u.is_deleted = false AND (u.username ILIKE :pattern OR u.display_name ILIKE :pattern)) s "
+            + "ORDER BY s.search_rank DESC, s.id DESC LIMIT :limit")
+    Flux<UserSearchHit> searchRanked(String query, String pattern, int limit);
+
+    @Query("SELECT s.id, s.search_rank FROM (SELECT u.id, GREATEST(similarity(u.username, :query), "
+            + "similarity(COALESCE(u.display_name, ''), :query)) AS search_rank FROM users u "
+            + "WHERE u.is_deleted = false AND (u.username ILIKE :pattern OR u.display_name ILIKE :pattern)) s "
+            + "WHERE (s.search_rank, s.id) < (:rank, :afterId) "
+            + "ORDER BY s.search_rank DESC, s.id DESC LIMIT :limit")
+    Flux<UserSearchHit> searchRankedAfter(String query, String pattern, float rank, UUID afterId, int limit);
+
+    /** Seed set for the in-memory prefix index: the accounts people search for most. */
+    @Query("SELECT id, username, display_name, follower_count FROM users "
+            + "WHERE is_deleted = false ORDER BY follower_count DESC LIMIT :limit")
+    Flux<User> findMostFollowed(int limit);
+
+    /**
+     * Accounts created or deleted since the prefix index last caught up; only
+     * the indexed fields and {@code is_deleted} are read.
+     */
+    @Query("SELECT id, username, display_name, is_deleted FROM users WHERE created_at > :since "
+            + "UNION SELECT id, username, display_name, is_deleted FROM users WHERE deleted_at > :since")
+    Flux<User> findSearchKeysChangedSince(Instant since);
 
     @Query("UPDATE users SET follower_count = follower_count + :delta WHERE id = :userId")
     Mono<Void> incrementFollowerCount(UUID userId, int delta);
@@ -30,4 +65,72 @@ public interface UserRepository extends ReactiveCrudRepository<User, UUID> {
 
     @Query("UPDATE users SET post_count = post_count + :delta WHERE id = :userId")
     Mono<Void> incrementPostCount(UUID userId, int delta);
+
+    // ── Write-behind counters (see UserCounterService) ─────────────────────────
+
+    /** Applies one flush of buffered deltas to many users in a single statement. */
+    @Modifying
+    @Query("UPDATE users u SET "
+            + "follower_count = GREATEST(u.follower_count + d.followers, 0), "
+            + "following_count = GREATEST(u.following_count + d.following, 0) "
+            + "FROM UNNEST(:ids, :followers, :following) AS d(id, followers, following) "
+            + "WHERE u.id = d.id")
+    Mono<Integer> applyCounterDeltas(UUID[] ids, Integer[] followers, Integer[] following);
+
+    /**
+     * Transaction-scoped advisory lock, taken shared by counter flushes and
+     * exclusively by reconciliation.
+     */
+    @Query("SELECT true FROM pg_advisory_xact_lock_shared(:key)")
+    Mono<Boolean> lockCountersShared(long key);
+
+    /** Exclusive counterpart of {@link #lockCountersShared(long)}. */
+    @Query("SELECT true FROM pg_advisory_xact_lock(:key)")
+    Mono<Boolean> lockCountersExclusive(long key);
+
+    @Query("SELECT id FROM users WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<UUID> findIdsAfter(UUID afterId, int limit);
+
+    // ── Existence filter (see UserExistenceFilter) ────────────────────────────
+
+    Mono<Long> countByIsDeletedFalse();
+
+    /** One page of a full existence-filter rebuild; only {@code id} and {@code username} are read. */
+    @Query("SELECT id, username FROM users WHERE is_deleted = false AND id > :afterId ORDER BY id LIMIT :limit")
+    Flux<User> findActiveKeysAfter(UUID afterId, int limit);
+
+    /** Accounts created since the filter last caught up; deleted ones included, which is harmless. */
+    @Query("SELECT id, username FROM users WHERE created_at > :since")
+    Flux<User> findKeysCreatedSince(Instant since);
+
+    /** Users among {@code ids} whose follower/following counts disagree with {@code followers}. */
+    @Query("SELECT d.id, d.followers, d.following FROM (SELECT u.id, "
+            + "(SELECT COUNT(*) FROM followers f WHERE f.following_id = u.id)::int - u.follower_count AS followers, "
+            + "(SELECT COUNT(*) FROM followers f WHERE f.follower_id = u.id)::int - u.following_count AS following "
+            + "FROM users u WHERE u.id = ANY(:ids)) d "
+            + "WHERE d.followers <> 0 OR d.following <> 0")
+    Flux<CounterDrift> findCounterDrift(UUID[] ids);
+
+    /**
+     * Recomputes follower/following counts from {@code followers}, but only
+     * for users whose drift is still exactly the one seen earlier by
+     * {@link #findCounterDrift(UUID[])}.
+     */
+    @Modifying
+    @Query("UPDATE users u SET follower_count = c.followers, following_count = c.following "
+            + "FROM (SELECT x.id, x.followers_drift, x.following_drift, "
+            + "(SELECT COUNT(*) FROM followers f WHERE f.following_id = x.id)::int AS followers, "
+            + "(SELECT COUNT(*) FROM followers f WHERE f.follower_id = x.id)::int AS following "
+            + "FROM UNNEST(:ids, :followersDrift, :followingDrift) AS x(id, followers_drift, following_drift)) c "
+            + "WHERE u.id = c.id "
+            + "AND c.followers - u.follower_count = c.followers_drift "
+            + "AND c.following - u.following_count = c.following_drift")
+    Mono<Integer> reconcileFollowCounts(UUID[] ids, Integer[] followersDrift, Integer[] followingDrift);
+
+    // ── Bulk re-publish (see ProfileRepublisher) ──────────────────────────────
+
+    /** One page of a profile re-publish; only the fields of {@code user.profile.updated} are read. */
+    @Query("SELECT id, username, display_name, avatar_url FROM users "
+            + "WHERE is_deleted = false AND id > :afterId ORDER BY id LIMIT :limit")
+    Flux<User> findProfilesAfter(UUID afterId, int limit);
 }
@@ -0,0 +1,172 @@
+package io.github.lvoxx.user_service.search;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.user_service.properties.SearchProperties;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Per-pod, in-memory prefix index for search-box autocomplete.
+ *
+ * <p>
+ * Terms are the lower-cased username, display name and each display-name word,
+ * stored as {@code term + '\0' + userId} in a sorted map so a prefix lookup is
+ * one {@code subMap} range scan with no database round trip. Seeded on startup
+ * with the {@code sssm.search.prefix-index-max-users} most-followed accounts and
+ * kept fresh from {@code user.profile.updated}.
+ *
+ * <p>
+ * Accounts are created and deleted outside this service, so, like
+ * {@code UserExistenceFilter}, a catch-up every
+ * {@code prefix-index-catch-up-interval} admits new accounts and drops deleted
+ * ones by {@code created_at} / {@code deleted_at}. Until then a deleted user
+ * may still be suggested; callers hydrate ids through the profile cache, which
+ * drops them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrefixIndex {
+
+    private static final int MAX_WORDS = 4;
+
+    private final UserRepository userRepo;
+    private final SearchProperties props;
+
+    private final ConcurrentSkipListMap<String, UUID> terms = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<UUID, List<String>> termsByUser = new ConcurrentHashMap<>();
+
+    /** Start of the last successful seed or catch-up; {@code null} until seeded. */
+    private volatile Instant caughtUpTo;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Instant startedAt = Instant.now();
+        userRepo.findMostFollowed(props.getPrefixIndexMaxUsers())
+                .doOnNext(u -> upsert(u.getId(), u.getUsername(), u.getDisplayName()))
+                .count()
+                .subscribe(
+                        n -> {
+                            caughtUpTo = startedAt;
+                            log.info("User prefix index seeded with {} users", n);
+                        },
+                        e -> log.warn("User prefix index warm-up failed: {}", e.getMessage()));
+    }
+
+    /**
+     * Admits accounts created and drops accounts deleted since the last
+     * catch-up.
+     *
+     * @return number of rows read
+     */
+    @Scheduled(fixedDelayString = "${sssm.search.prefix-index-catch-up-interval:PT5S}")
+    public Mono<Long> catchUp() {
+        return Mono.defer(() -> {
+            Instant from = caughtUpTo;
+            if (from == null) {
+                return Mono.just(0L);
+            }
+            Instant startedAt = Instant.now();
+            return userRepo.findSearchKeysChangedSince(from.minus(props.getPrefixIndexCatchUpOverlap()))
+                    .doOnNext(u -> {
+                        if (Boolean.TRUE.equals(u.getIsDeleted())) {
+                            remove(u.getId());
+                        } else {
+                            upsert(u.getId(), u.getUsername(), u.getDisplayName());
+                        }
+                    })
+                    .count()
+                    .doOnNext(n -> caughtUpTo = startedAt)
+                    .onErrorResume(e -> {
+                        log.warn("User prefix index catch-up failed: {}", e.getMessage());
+                        return Mono.just(0L);
+                    });
+        });
+    }
+
+    /**
+     * Replaces a user's terms. New users are only admitted while the index is
+     * below its size cap; users already indexed are always refreshed.
+     */
+    public void upsert(UUID userId, String username, String displayName) {
+        if (!termsByUser.containsKey(userId) && termsByUser.size() >= props.getPrefixIndexMaxUsers()) {
+            return;
+        }
+        List<String> next = termsOf(username, displayName);
+        List<String> previous = termsByUser.put(userId, next);
+        if (previous != null) {
+            previous.stream().filter(t -> !next.contains(t)).forEach(t -> terms.remove(key(t, userId)));
+        }
+        next.forEach(t -> terms.put(key(t, userId), userId));
+    }
+
+    public void remove(UUID userId) {
+        List<String> previous = termsByUser.remove(userId);
+        if (previous != null) {
+            previous.forEach(t -> terms.remove(key(t, userId)));
+        }
+    }
+
+    /**
+     * @return up to {@code limit} distinct user ids with a term starting with
+     *         {@code prefix}, in term order
+     */
+    public List<UUID> suggest(String prefix, int limit) {
+        String p = normalize(prefix);
+        if (p.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<UUID> out = new LinkedHashSet<>();
+        for (UUID id : terms.subMap(p, true, p + Character.MAX_VALUE, true).values()) {
+            out.add(id);
+            if (out.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(out);
+    }
+
+    public int size() {
+        return termsByUser.size();
+    }
+
+    private static List<String> termsOf(String username, String displayName) {
+        Set<String> out = new LinkedHashSet<>();
+        if (username != null && !username.isBlank()) {
+            out.add(normalize(username));
+        }
+        if (displayName != null && !displayName.isBlank()) {
+            String name = normalize(displayName);
+            out.add(name);
+            String[] words = name.split("\\s+");
+            for (int i = 1; i < Math.min(words.length, MAX_WORDS); i++) {
+                out.add(words[i]);
+            }
+        }
+        return List.copyOf(out);
+    }
+
+    private static String normalize(String s) {
+        return s.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String key(String term, UUID userId) {
+        return term + '\0' + userId;
+    }
+}
@@ -10,13 +10,17 @@ public interface AccountHistoryService {
 
     /**
      * Appends a new account-history entry (e.g. login, password change, profile update).
-     * Fire-and-forget: callers may subscribe on a separate scheduler and ignore errors.
+     * The entry is buffered and written in batches, so it may take up to
+     * {@code sssm.history.flush-interval} to become visible in {@link #getHistory}.
+     * {@code detail}, if present, must be a JSON document.
      */
     Mono<Void> record(UUID userId, String action, String detail, String ip);
 
     /**
-     * Returns the most recent {@code limit} history entries for a user, newest first.
-     * 404 if the user has no history (returns an empty page, never an error).
+     * Returns a cursor-paginated page of a user's history within
+     * {@code sssm.history.read-window}, newest first. A user with no history
+     * gets an empty page, never an error. {@code limit} is clamped to
+     * [1, {@code sssm.history.max-page-size}].
      */
-    Mono<PageResponse<AccountHistoryResponse>> getHistory(UUID userId, int limit);
+    Mono<PageResponse<AccountHistoryResponse>> getHistory(UUID userId, String cursor, int limit);
 }
@@ -1,5 +1,7 @@
 package io.github.lvoxx.user_service.service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 import reactor.core.publisher.Mono;
@@ -26,7 +28,17 @@ public interface BlockService {
 
     /**
      * Returns {@code true} if either user has blocked the other.
-     * Delegates to two {@link #isBlocked} calls, benefiting from the cache.
+     * Answered from {@code userA}'s cached block set in a single lookup.
      */
     Mono<Boolean> isEitherBlocked(UUID userA, UUID userB);
+
+    /**
+     * Checks a batch of users against {@code viewerId} in both directions.
+     * Loads the viewer's block set (blocked + blocked-by) once, so a page of
+     * N authors costs one cache lookup instead of 2×N.
+     *
+     * @return every id in {@code userIds} mapped to {@code true} if either side
+     *         has blocked the other
+     */
+    Mono<Map<UUID, Boolean>> isBlockedAny(UUID viewerId, Collection<UUID> userIds);
 }
@@ -1,5 +1,6 @@
 package io.github.lvoxx.user_service.service;
 
+import java.util.List;
 import java.util.UUID;
 
 import io.github.lvoxx.common_core.model.PageResponse;
@@ -8,6 +9,15 @@ import reactor.core.publisher.Mono;
 
 public interface FollowRequestService {
 
+    /** Page size of the pending-requests inbox when the client does not ask for one. */
+    int DEFAULT_PAGE_SIZE = 20;
+
+    /** Largest page {@link #getPending} returns; smaller sizes are raised to 1. */
+    int MAX_PAGE_SIZE = 50;
+
+    /** Most request ids accepted by one {@link #respondAll} call. */
+    int MAX_BULK_SIZE = 100;
+
     /**
      * Creates a PENDING follow request from {@code requesterId} to {@code targetId}.
      * 409 if a PENDING request already exists between the pair.
@@ -16,17 +26,30 @@ public interface FollowRequestService {
     Mono<Void> create(UUID requesterId, UUID targetId);
 
     /**
-     * Returns all PENDING follow requests targeting {@code targetUserId}.
-     * Result is cached; evicted when a request is created or responded to.
+     * Returns a cursor-paginated page of PENDING follow requests targeting
+     * {@code targetUserId}, newest first. Only the first page at
+     * {@link #DEFAULT_PAGE_SIZE} is cached — the inbox view most users open —
+     * and it is evicted when a request is created or responded to.
      */
-    Mono<PageResponse<FollowRequestResponse>> getPending(UUID targetUserId);
+    Mono<PageResponse<FollowRequestResponse>> getPending(UUID targetUserId, String cursor, int size);
 
     /**
      * Approves or rejects a PENDING follow request owned by {@code targetUserId}.
      * {@code action} must be {@code "APPROVE"} or {@code "REJECT"} (case-insensitive).
      * 404 if the request is not found, 403 if the caller is not the target,
      * 409 if the request is not in PENDING state, 422 for invalid action.
-     * On APPROVE: creates the Follower row and updates follower/following counts.
+     * On APPROVE: creates the Follower row and, once that has committed,
+     * updates follower/following counts.
      */
     Mono<Void> respond(UUID targetUserId, UUID requestId, String action);
+
+    /**
+     * Applies {@code action} to up to {@link #MAX_BULK_SIZE} requests in one
+     * transaction. Unlike {@link #respond}, ids that are unknown, not owned by
+     * {@code targetUserId} or no longer PENDING are skipped rather than failing
+     * the batch. 422 for an invalid action or too many ids.
+     *
+     * @return number of requests actually actioned
+     */
+    Mono<Integer> respondAll(UUID targetUserId, List<UUID> requestIds, String action);
 }
@@ -1,25 +1,30 @@
 package io.github.lvoxx.user_service.service;
 
+import java.util.List;
 import java.util.UUID;
 
 import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.user_service.dto.RelationshipResponse;
 import io.github.lvoxx.user_service.dto.UserResponse;
 import reactor.core.publisher.Mono;
 
 public interface FollowerService {
 
+    /** Largest page {@link #getFollowers} / {@link #getFollowing} return; smaller sizes are raised to 1. */
+    int MAX_PAGE_SIZE = 50;
+
     /**
      * Creates the follow relationship, increments follower/following counters,
      * and publishes a {@code user.followed} Kafka event.
-     * Acquires a distributed lock per (follower, target) pair.
-     * 409 if the relationship already exists.
+     * Idempotent and lock-free: a single conditional insert decides the
+     * outcome, so following twice completes without counting or publishing.
      */
     Mono<Void> follow(UUID followerId, UUID targetId, String followerUsername);
 
     /**
      * Removes the follow relationship, decrements counters, and publishes
      * a {@code user.unfollowed} Kafka event.
-     * 409 if the relationship does not exist.
+     * Idempotent: unfollowing a user not followed completes without effect.
      */
     Mono<Void> unfollow(UUID followerId, UUID targetId);
 
@@ -30,13 +35,31 @@ public interface FollowerService {
 
     /**
      * Returns a cursor-paginated page of users who follow {@code userId}.
+     * {@code cursor} is the opaque {@code nextCursor} of the previous page
+     * (keyset on {@code created_at, follower_id}); {@code null} for the first page.
      * Result is cached per (userId, cursor, size).
      */
     Mono<PageResponse<UserResponse>> getFollowers(UUID userId, String cursor, int size);
 
     /**
      * Returns a cursor-paginated page of users that {@code userId} follows.
+     * {@code cursor} is the opaque {@code nextCursor} of the previous page
+     * (keyset on {@code created_at, following_id}); {@code null} for the first page.
      * Result is cached per (userId, cursor, size).
      */
     Mono<PageResponse<UserResponse>> getFollowing(UUID userId, String cursor, int size);
+
+    /**
+     * Returns how {@code viewerId} relates to {@code targetId}: follow state in
+     * both directions plus known- and mutual-follower counts. Answered from the
+     * in-memory follow-graph bitmaps; may lag a write by the event relay delay.
+     */
+    Mono<RelationshipResponse> getRelationship(UUID viewerId, UUID targetId);
+
+    /**
+     * Returns up to {@code limit} followers of {@code targetId} whom
+     * {@code viewerId} follows ("followed by people you follow"),
+     * most-followed first.
+     */
+    Mono<List<UserResponse>> getKnownFollowers(UUID viewerId, UUID targetId, int limit);
 }
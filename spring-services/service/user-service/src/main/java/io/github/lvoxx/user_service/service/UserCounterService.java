@@ -0,0 +1,52 @@
+package io.github.lvoxx.user_service.service;
+
+import java.util.UUID;
+
+import io.github.lvoxx.user_service.dto.UserResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Write-behind aggregator for the denormalised {@code users} counters.
+ *
+ * <p>
+ * Deltas are buffered in memory and applied with one multi-row UPDATE per
+ * {@code sssm.counters.flush-interval}, so a burst of follows on one account
+ * no longer serialises on its {@code users} row lock. Deltas lost on a crash
+ * are repaired by {@link #reconcile()}.
+ */
+public interface UserCounterService {
+
+    void addFollowers(UUID userId, int delta);
+
+    void addFollowing(UUID userId, int delta);
+
+    /**
+     * Overlays this instance's not-yet-flushed deltas on a freshly loaded
+     * user, so reads reflect persisted value + pending delta. Returns a copy;
+     * {@code user} is left as is.
+     */
+    UserResponse withPending(UserResponse user);
+
+    /**
+     * Writes all buffered deltas in a single statement. Deltas are re-queued if
+     * the write fails.
+     *
+     * @return number of users updated
+     */
+    Mono<Integer> flush();
+
+    /**
+     * Recomputes follower/following counts from the {@code followers} table in
+     * keyset batches, under a cluster-wide lock.
+     *
+     * <p>
+     * Other pods may still hold deltas for follows the table already shows, so
+     * a drift is only corrected if it is unchanged after
+     * {@code reconcile-settle}, by which time those deltas have been flushed.
+     * The correcting statement excludes concurrent flushes, so no delta lands
+     * between the recount and the write.
+     *
+     * @return number of rows that had drifted and were corrected
+     */
+    Mono<Long> reconcile();
+}
@@ -0,0 +1,32 @@
+package io.github.lvoxx.user_service.service;
+
+import io.github.lvoxx.common_core.security.UserPrincipal;
+import io.github.lvoxx.user_service.dto.EdgeExportRow;
+import io.github.lvoxx.user_service.dto.UserExportRow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Admin-only bulk access for rebuilding search and analytics. Every method
+ * fails with {@code ForbiddenException} for non-admin callers.
+ */
+public interface UserExportService {
+
+    /** Streams every user from one database snapshot, at the caller's reading pace. */
+    Flux<UserExportRow> exportUsers(UserPrincipal principal);
+
+    /** Streams every follow edge from one database snapshot. */
+    Flux<EdgeExportRow> exportFollowers(UserPrincipal principal);
+
+    /** Streams every block edge from one database snapshot. */
+    Flux<EdgeExportRow> exportBlocks(UserPrincipal principal);
+
+    /**
+     * Starts re-sending {@code user.profile.updated} for every live user in the
+     * background. {@code ratePerSecond} defaults to
+     * {@code sssm.export.republish-rate} and is capped at
+     * {@code sssm.export.max-republish-rate}. Fails with
+     * {@code ConflictException} if a re-publish is already running on this pod.
+     */
+    Mono<Void> republishProfiles(UserPrincipal principal, Integer ratePerSecond);
+}
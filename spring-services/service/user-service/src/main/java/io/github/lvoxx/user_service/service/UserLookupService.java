@@ -0,0 +1,21 @@
+package io.github.lvoxx.user_service.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import io.github.lvoxx.user_service.dto.UserResponse;
+import reactor.core.publisher.Mono;
+
+public interface UserLookupService {
+
+    /**
+     * Resolves many user profiles in at most two round trips: one Redis
+     * {@code MGET} on the {@code PROFILE} cache for whatever this pod's L1 does
+     * not hold, then a single {@code IN (...)} query for the misses.
+     * Loaded profiles are written back to the cache.
+     * Deleted or unknown IDs are absent from the returned map; callers join by ID
+     * to keep their own ordering.
+     */
+    Mono<Map<UUID, UserResponse>> findProfiles(Collection<UUID> userIds);
+}
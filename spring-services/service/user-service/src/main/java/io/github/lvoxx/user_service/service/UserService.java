@@ -1,11 +1,13 @@
 package io.github.lvoxx.user_service.service;
 
+import java.util.List;
 import java.util.UUID;
 
 import io.github.lvoxx.common_core.model.PageResponse;
 import io.github.lvoxx.common_core.security.UserPrincipal;
 import io.github.lvoxx.user_service.dto.AccountHistoryResponse;
 import io.github.lvoxx.user_service.dto.FollowRequestResponse;
+import io.github.lvoxx.user_service.dto.RelationshipResponse;
 import io.github.lvoxx.user_service.dto.UpdateProfileRequest;
 import io.github.lvoxx.user_service.dto.UpdateSettingsRequest;
 import io.github.lvoxx.user_service.dto.UserResponse;
@@ -38,17 +40,30 @@ public interface UserService {
 
     Mono<PageResponse<UserResponse>> getFollowing(UUID userId, String cursor, int size);
 
+    Mono<RelationshipResponse> getRelationship(UserPrincipal principal, UUID targetId);
+
+    Mono<List<UserResponse>> getKnownFollowers(UserPrincipal principal, UUID targetId, int size);
+
     // ── Follow requests ───────────────────────────────────────────────────────
 
-    Mono<PageResponse<FollowRequestResponse>> getFollowRequests(UserPrincipal principal);
+    Mono<PageResponse<FollowRequestResponse>> getFollowRequests(UserPrincipal principal, String cursor, int size);
 
     Mono<Void> respondFollowRequest(UserPrincipal principal, UUID reqId, String action);
 
+    Mono<Integer> respondFollowRequests(UserPrincipal principal, List<UUID> reqIds, String action);
+
     // ── History & search ──────────────────────────────────────────────────────
 
-    Mono<PageResponse<AccountHistoryResponse>> getHistory(UserPrincipal principal);
+    Mono<PageResponse<AccountHistoryResponse>> getHistory(UserPrincipal principal, String cursor, int size);
+
+    /**
+     * Ranked substring search. Queries of exactly 2 characters (too short for
+     * trigrams) are answered from the prefix index as a single page.
+     */
+    Mono<PageResponse<UserResponse>> searchUsers(String query, String cursor, int size);
 
-    Mono<PageResponse<UserResponse>> searchUsers(String query, int size);
+    /** Prefix autocomplete from the in-memory index, most-followed first. */
+    Mono<List<UserResponse>> suggestUsers(String prefix, int size);
 
     // ── Verification ──────────────────────────────────────────────────────────
 
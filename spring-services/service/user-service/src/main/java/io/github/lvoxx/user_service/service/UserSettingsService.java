@@ -14,6 +14,12 @@ public interface UserSettingsService {
      */
     Mono<UserSettingsResponse> getOrDefault(UUID userId);
 
+    /**
+     * {@link #getOrDefault} straight from the database, for change
+     * notifications that must not race the cache eviction.
+     */
+    Mono<UserSettingsResponse> reload(UUID userId);
+
     /**
      * Returns settings for the user.
      * 404 {@code ResourceNotFoundException} if no settings row exists.
@@ -29,7 +35,7 @@ public interface UserSettingsService {
     /**
      * Partial update: only non-null fields in the request are applied.
      * Creates the row with defaults if it does not exist yet.
-     * Evicts the settings cache for this user.
+     * Evicts the settings cache for this user and notifies settings watchers.
      */
     Mono<UserSettingsResponse> updateSettings(UUID userId, UpdateUserSettingsRequest req);
 }
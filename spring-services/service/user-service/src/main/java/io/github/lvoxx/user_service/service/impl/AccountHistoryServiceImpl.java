@@ -1,42 +1,113 @@
 package io.github.lvoxx.user_service.service.impl;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.common_core.util.CursorCodec;
 import io.github.lvoxx.common_core.util.UlidGenerator;
 import io.github.lvoxx.user_service.dto.AccountHistoryResponse;
 import io.github.lvoxx.user_service.entity.AccountHistory;
+import io.github.lvoxx.user_service.properties.HistoryProperties;
 import io.github.lvoxx.user_service.repository.AccountHistoryRepository;
 import io.github.lvoxx.user_service.service.AccountHistoryService;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * History rows are audit data nobody reads on the request path, so
+ * {@link #record} only enqueues and a scheduled flush writes them with one
+ * multi-row insert per {@code sssm.history.batch-size} entries. A full queue
+ * falls back to a direct single-row insert rather than dropping the entry.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AccountHistoryServiceImpl implements AccountHistoryService {
 
     private final AccountHistoryRepository historyRepo;
+    private final HistoryProperties props;
+
+    private final BlockingQueue<AccountHistory> pending;
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    public AccountHistoryServiceImpl(AccountHistoryRepository historyRepo, HistoryProperties props) {
+        this.historyRepo = historyRepo;
+        this.props = props;
+        this.pending = new ArrayBlockingQueue<>(props.getQueueCapacity());
+    }
 
     // ── Write ─────────────────────────────────────────────────────────────────
 
     @Override
     public Mono<Void> record(UUID userId, String action, String detail, String ip) {
-        return historyRepo.save(AccountHistory.builder()
-                        .id(UlidGenerator.generateAsUUID())
-                        .userId(userId)
-                        .action(action)
-                        .detail(detail)
-                        .ip(ip)
-                        .createdAt(Instant.now())
-                        .build())
-                .then()
-                .doOnSuccess(v -> log.debug("Recorded history: userId={} action={}", userId, action))
-                .doOnError(e -> log.error("Failed to record history: userId={} action={}", userId, action, e));
+        return Mono.defer(() -> {
+            AccountHistory entry = AccountHistory.builder()
+                    .id(UlidGenerator.generateAsUUID())
+                    .userId(userId)
+                    .action(action)
+                    .detail(detail)
+                    .ip(ip)
+                    .createdAt(Instant.now())
+                    .build();
+            if (!pending.offer(entry)) {
+                log.warn("History queue full, writing directly: userId={} action={}", userId, action);
+                return insert(List.of(entry)).then();
+            }
+            if (pending.size() >= props.getBatchSize()) {
+                flush().subscribe();
+            }
+            return Mono.<Void>empty();
+        }).doOnError(e -> log.error("Failed to record history: userId={} action={}", userId, action, e));
+    }
+
+    /**
+     * Writes everything queued so far in batches of {@code batch-size}. Only one
+     * flush runs at a time; a failed batch is put back for the next run.
+     *
+     * @return number of rows written
+     */
+    @Scheduled(fixedDelayString = "${sssm.history.flush-interval:PT0.5S}")
+    public Mono<Integer> flush() {
+        return Mono.defer(() -> {
+            if (!flushing.compareAndSet(false, true)) {
+                return Mono.just(0);
+            }
+            return Flux.<List<AccountHistory>, Boolean>generate(() -> true, (more, sink) -> {
+                        List<AccountHistory> batch = new ArrayList<>(props.getBatchSize());
+                        pending.drainTo(batch, props.getBatchSize());
+                        if (batch.isEmpty()) {
+                            sink.complete();
+                        } else {
+                            sink.next(batch);
+                        }
+                        return more;
+                    })
+                    .concatMap(batch -> insert(batch).onErrorResume(e -> {
+                        log.warn("History flush failed, re-queueing {} entries: {}", batch.size(), e.getMessage());
+                        requeue(batch);
+                        return Mono.error(e);
+                    }))
+                    .reduce(0, Integer::sum)
+                    .onErrorResume(e -> Mono.just(0))
+                    .doFinally(s -> flushing.set(false));
+        });
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        // Shutdown path, not request path: waiting here is what keeps entries from being lost
+        flush().block(Duration.ofSeconds(10));
     }
 
     // ── Read ──────────────────────────────────────────────────────────────────
@@ -44,13 +115,64 @@ public class AccountHistoryServiceImpl implements AccountHistoryService {
     /**
      * History is append-only and updated on every {@link #record} call, so results
      * are intentionally not cached — staleness would be confusing for audit views.
+     * Reads stop at {@code sssm.history.read-window} so older partitions are pruned.
      */
     @Override
-    public Mono<PageResponse<AccountHistoryResponse>> getHistory(UUID userId, int limit) {
-        return historyRepo.findByUserIdOrderByCreatedAtDesc(userId, limit)
-                .map(h -> new AccountHistoryResponse(
-                        h.getId(), h.getAction(), h.getDetail(), h.getIp(), h.getCreatedAt()))
-                .collectList()
-                .map(items -> PageResponse.of(items, null));
+    public Mono<PageResponse<AccountHistoryResponse>> getHistory(UUID userId, String cursor, int size) {
+        int limit = clampSize(size);
+        return Mono.defer(() -> {
+            CursorCodec.Position after = CursorCodec.decode(cursor);
+            Instant since = Instant.now().minus(props.getReadWindow());
+            Flux<AccountHistory> rows = after == null
+                    ? historyRepo.findRecentByUserId(userId, since, limit + 1)
+                    : historyRepo.findRecentByUserIdBefore(userId, since, after.createdAt(), after.id(), limit + 1);
+            return rows.collectList().map(list -> {
+                boolean hasMore = list.size() > limit;
+                List<AccountHistory> page = hasMore ? list.subList(0, limit) : list;
+                String nextCursor = hasMore
+                        ? CursorCodec.encode(page.getLast().getCreatedAt(), page.getLast().getId())
+                        : null;
+                return PageResponse.of(page.stream()
+                        .map(h -> new AccountHistoryResponse(
+                                h.getId(), h.getAction(), h.getDetail(), h.getIp(), h.getCreatedAt()))
+                        .toList(), nextCursor);
+            });
+        });
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private int clampSize(int size) {
+        return Math.min(Math.max(size, 1), props.getMaxPageSize());
+    }
+
+    private Mono<Integer> insert(List<AccountHistory> batch) {
+        int n = batch.size();
+        UUID[] ids = new UUID[n];
+        UUID[] userIds = new UUID[n];
+        String[] actions = new String[n];
+        String[] details = new String[n];
+        String[] ips = new String[n];
+        Instant[] createdAts = new Instant[n];
+        for (int i = 0; i < n; i++) {
+            AccountHistory h = batch.get(i);
+            ids[i] = h.getId();
+            userIds[i] = h.getUserId();
+            actions[i] = h.getAction();
+            details[i] = h.getDetail();
+            ips[i] = h.getIp();
+            createdAts[i] = h.getCreatedAt();
+        }
+        return historyRepo.insertBatch(ids, userIds, actions, details, ips, createdAts)
+                .doOnNext(written -> log.debug("Flushed {} history entries", written));
+    }
+
+    private void requeue(List<AccountHistory> batch) {
+        for (AccountHistory h : batch) {
+            if (!pending.offer(h)) {
+                log.error("History queue full while re-queueing, dropping: userId={} action={}",
+                        h.getUserId(), h.getAction());
+            }
+        }
     }
 }
@@ -1,10 +1,13 @@
 package io.github.lvoxx.user_service.service.impl;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import io.github.lvoxx.common_core.exception.ConflictException;
@@ -12,6 +15,8 @@ import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
 import io.github.lvoxx.common_keys.CacheKeys;
 import io.github.lvoxx.common_keys.LockKeys;
 import io.github.lvoxx.redis_starter.service.LockService;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
+import io.github.lvoxx.user_service.dto.BlockSet;
 import io.github.lvoxx.user_service.entity.UserBlock;
 import io.github.lvoxx.user_service.repository.BlockRepository;
 import io.github.lvoxx.user_service.service.BlockService;
@@ -26,12 +31,16 @@ public class BlockServiceImpl implements BlockService {
 
     private final BlockRepository blockRepo;
     private final LockService lockService;
+    private final ReactiveCacheService cache;
 
     // ── Write ─────────────────────────────────────────────────────────────────
 
     @Override
-    @CacheEvict(value = CacheKeys.UserService.BLOCK_STATUS,
-            key = "#blockerId + ':' + #blockedId")
+    @Caching(evict = {
+            @CacheEvict(value = CacheKeys.UserService.BLOCK_STATUS, key = "#blockerId + ':' + #blockedId"),
+            @CacheEvict(value = CacheKeys.UserService.BLOCK_SET,    key = "#blockerId"),
+            @CacheEvict(value = CacheKeys.UserService.BLOCK_SET,    key = "#blockedId")
+    })
     public Mono<Void> block(UUID blockerId, UUID blockedId) {
         if (blockerId.equals(blockedId)) {
             return Mono.error(new ConflictException("CANNOT_BLOCK_SELF"));
@@ -52,8 +61,11 @@ public class BlockServiceImpl implements BlockService {
     }
 
     @Override
-    @CacheEvict(value = CacheKeys.UserService.BLOCK_STATUS,
-            key = "#blockerId + ':' + #blockedId")
+    @Caching(evict = {
+            @CacheEvict(value = CacheKeys.UserService.BLOCK_STATUS, key = "#blockerId + ':' + #blockedId"),
+            @CacheEvict(value = CacheKeys.UserService.BLOCK_SET,    key = "#blockerId"),
+            @CacheEvict(value = CacheKeys.UserService.BLOCK_SET,    key = "#blockedId")
+    })
     public Mono<Void> unblock(UUID blockerId, UUID blockedId) {
         return lockService.withLock(LockKeys.block(blockerId, blockedId), () ->
                 blockRepo.existsByBlockerIdAndBlockedId(blockerId, blockedId)
@@ -69,16 +81,33 @@ public class BlockServiceImpl implements BlockService {
     // ── Read ──────────────────────────────────────────────────────────────────
 
     @Override
-    @Cacheable(value = CacheKeys.UserService.BLOCK_STATUS,
-            key = "#blockerId + ':' + #blockedId")
     public Mono<Boolean> isBlocked(UUID blockerId, UUID blockedId) {
-        return blockRepo.existsByBlockerIdAndBlockedId(blockerId, blockedId);
+        // Key matches the @CacheEvict SpEL on block()/unblock()
+        return cache.get(CacheKeys.UserService.BLOCK_STATUS, blockerId + ":" + blockedId, Boolean.class,
+                () -> blockRepo.existsByBlockerIdAndBlockedId(blockerId, blockedId));
     }
 
     @Override
     public Mono<Boolean> isEitherBlocked(UUID userA, UUID userB) {
-        // Reuses isBlocked() to benefit from the cache on both directions.
-        return isBlocked(userA, userB)
-                .flatMap(blocked -> blocked ? Mono.just(true) : isBlocked(userB, userA));
+        return blockSet(userA).map(set -> set.contains(userB));
+    }
+
+    @Override
+    public Mono<Map<UUID, Boolean>> isBlockedAny(UUID viewerId, Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return blockSet(viewerId).map(set -> {
+            Map<UUID, Boolean> result = new HashMap<>(userIds.size() * 2);
+            userIds.forEach(id -> result.put(id, set.contains(id)));
+            return result;
+        });
+    }
+
+    private Mono<BlockSet> blockSet(UUID userId) {
+        return cache.get(CacheKeys.UserService.BLOCK_SET, userId, BlockSet.class,
+                () -> blockRepo.findBlockCounterparts(userId)
+                        .collectList()
+                        .map(BlockSet::of));
     }
 }
@@ -1,12 +1,13 @@
 package io.github.lvoxx.user_service.service.impl;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import io.github.lvoxx.common_core.exception.ConflictException;
 import io.github.lvoxx.common_core.exception.ForbiddenException;
@@ -14,18 +15,21 @@ import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
 import io.github.lvoxx.common_core.exception.ValidationException;
 import io.github.lvoxx.common_core.message.MessageKeys;
 import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.common_core.util.CursorCodec;
 import io.github.lvoxx.common_core.util.UlidGenerator;
 import io.github.lvoxx.common_keys.CacheKeys;
 import io.github.lvoxx.user_service.dto.FollowRequestResponse;
-import io.github.lvoxx.user_service.entity.Follower;
+import io.github.lvoxx.user_service.dto.UserResponse;
 import io.github.lvoxx.user_service.entity.FollowRequest;
 import io.github.lvoxx.user_service.kafka.UserEventPublisher;
 import io.github.lvoxx.user_service.repository.FollowerRepository;
 import io.github.lvoxx.user_service.repository.FollowRequestRepository;
-import io.github.lvoxx.user_service.repository.UserRepository;
 import io.github.lvoxx.user_service.service.FollowRequestService;
+import io.github.lvoxx.user_service.service.UserCounterService;
+import io.github.lvoxx.user_service.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -35,8 +39,14 @@ public class FollowRequestServiceImpl implements FollowRequestService {
 
     private final FollowRequestRepository followReqRepo;
     private final FollowerRepository followerRepo;
-    private final UserRepository userRepo;
+    private final UserLookupService userLookup;
+    private final UserCounterService counters;
     private final UserEventPublisher eventPublisher;
+    private final TransactionalOperator tx;
+
+    /** Requests resolved by a bulk response, and the requesters whose follow edge is new. */
+    private record Resolved(int count, List<UUID> followed) {
+    }
 
     // ── Write ─────────────────────────────────────────────────────────────────
 
@@ -60,14 +70,18 @@ public class FollowRequestServiceImpl implements FollowRequestService {
                 });
     }
 
+    /**
+     * The request, edge and outbox rows commit together; counter deltas are
+     * buffered only after the commit, so a rolled-back approval never moves a
+     * count.
+     */
     @Override
-    @Transactional
     @CacheEvict(value = CacheKeys.UserService.FOLLOW_REQUESTS_LIST, key = "#targetUserId")
     public Mono<Void> respond(UUID targetUserId, UUID requestId, String action) {
         if (!"APPROVE".equalsIgnoreCase(action) && !"REJECT".equalsIgnoreCase(action)) {
             return Mono.error(new ValidationException("INVALID_ACTION"));
         }
-        return followReqRepo.findById(requestId)
+        Mono<FollowRequest> followed = followReqRepo.findById(requestId)
                 .switchIfEmpty(Mono.error(
                         new ResourceNotFoundException("FOLLOW_REQUEST_NOT_FOUND", requestId)))
                 .flatMap(req -> {
@@ -80,37 +94,97 @@ public class FollowRequestServiceImpl implements FollowRequestService {
                     req.setStatus("APPROVE".equalsIgnoreCase(action) ? "APPROVED" : "REJECTED");
 
                     if ("APPROVE".equalsIgnoreCase(action)) {
-                        return followerRepo.save(Follower.builder()
-                                        .followerId(req.getRequesterId())
-                                        .followingId(req.getTargetId())
-                                        .createdAt(Instant.now())
-                                        .build())
-                                .then(userRepo.incrementFollowerCount(req.getTargetId(), 1))
-                                .then(userRepo.incrementFollowingCount(req.getRequesterId(), 1))
-                                .then(followReqRepo.save(req))
-                                .then(eventPublisher.publishFollowed(
-                                        req.getRequesterId(), req.getTargetId(), ""));
+                        return followerRepo.insertIfAbsent(req.getRequesterId(), req.getTargetId())
+                                .flatMap(inserted -> followReqRepo.save(req)
+                                        .then(inserted > 0
+                                                ? eventPublisher.publishFollowed(
+                                                        req.getRequesterId(), req.getTargetId(), "")
+                                                        .thenReturn(req)
+                                                : Mono.empty()));
+                    }
+                    return followReqRepo.save(req).then(Mono.empty());
+                });
+        return tx.transactional(followed)
+                .doOnNext(req -> {
+                    counters.addFollowers(req.getTargetId(), 1);
+                    counters.addFollowing(req.getRequesterId(), 1);
+                })
+                .then();
+    }
+
+    /** Transactional like {@link #respond}: counters move only once the batch has committed. */
+    @Override
+    @CacheEvict(value = CacheKeys.UserService.FOLLOW_REQUESTS_LIST, key = "#targetUserId")
+    public Mono<Integer> respondAll(UUID targetUserId, List<UUID> requestIds, String action) {
+        if (!"APPROVE".equalsIgnoreCase(action) && !"REJECT".equalsIgnoreCase(action)) {
+            return Mono.error(new ValidationException("INVALID_ACTION"));
+        }
+        if (requestIds == null || requestIds.isEmpty()) {
+            return Mono.just(0);
+        }
+        if (requestIds.size() > MAX_BULK_SIZE) {
+            return Mono.error(new ValidationException("BULK_LIMIT_EXCEEDED", MAX_BULK_SIZE));
+        }
+        boolean approve = "APPROVE".equalsIgnoreCase(action);
+        UUID[] ids = requestIds.stream().distinct().toArray(UUID[]::new);
+        Mono<Resolved> resolved = followReqRepo.resolvePending(targetUserId, ids, approve ? "APPROVED" : "REJECTED")
+                .collectList()
+                .flatMap(requesters -> {
+                    if (!approve || requesters.isEmpty()) {
+                        return Mono.just(new Resolved(requesters.size(), List.of()));
                     }
-                    return followReqRepo.save(req).then();
+                    // One insert for all edges; only edges that did not exist yet move counters or emit events
+                    return followerRepo.insertAllIfAbsent(requesters.toArray(UUID[]::new), targetUserId)
+                            .collectList()
+                            .flatMap(followed -> Flux.fromIterable(followed)
+                                    .concatMap(requesterId -> eventPublisher.publishFollowed(
+                                            requesterId, targetUserId, ""))
+                                    .then(Mono.just(new Resolved(requesters.size(), followed))));
                 });
+        return tx.transactional(resolved)
+                .doOnNext(r -> {
+                    if (!r.followed().isEmpty()) {
+                        counters.addFollowers(targetUserId, r.followed().size());
+                        r.followed().forEach(requesterId -> counters.addFollowing(requesterId, 1));
+                    }
+                })
+                .map(Resolved::count)
+                .doOnNext(n -> log.debug("Bulk {} of {} follow requests for {}", action, n, targetUserId));
     }
 
     // ── Read ──────────────────────────────────────────────────────────────────
 
     @Override
-    @Cacheable(value = CacheKeys.UserService.FOLLOW_REQUESTS_LIST, key = "#targetUserId")
-    public Mono<PageResponse<FollowRequestResponse>> getPending(UUID targetUserId) {
-        return followReqRepo.findByTargetIdAndStatus(targetUserId, "PENDING")
-                .flatMap(req -> userRepo.findByIdAndIsDeletedFalse(req.getRequesterId())
-                        .map(u -> new FollowRequestResponse(
-                                req.getId(), req.getRequesterId(),
-                                u.getUsername(), u.getAvatarUrl(),
-                                req.getStatus(), req.getCreatedAt()))
-                        .defaultIfEmpty(new FollowRequestResponse(
-                                req.getId(), req.getRequesterId(),
-                                "[deleted]", null,
-                                req.getStatus(), req.getCreatedAt())))
-                .collectList()
-                .map(items -> PageResponse.of(items, null));
+    @Cacheable(value = CacheKeys.UserService.FOLLOW_REQUESTS_LIST, key = "#targetUserId",
+            condition = "#cursor == null && #size == T(io.github.lvoxx.user_service.service.FollowRequestService).DEFAULT_PAGE_SIZE")
+    public Mono<PageResponse<FollowRequestResponse>> getPending(UUID targetUserId, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return Mono.defer(() -> {
+            CursorCodec.Position after = CursorCodec.decode(cursor);
+            Flux<FollowRequest> rows = after == null
+                    ? followReqRepo.findPendingByTargetId(targetUserId, limit + 1)
+                    : followReqRepo.findPendingByTargetIdBefore(targetUserId, after.createdAt(), after.id(), limit + 1);
+            return rows.collectList().flatMap(list -> {
+                boolean hasMore = list.size() > limit;
+                List<FollowRequest> reqs = hasMore ? list.subList(0, limit) : list;
+                String nextCursor = hasMore
+                        ? CursorCodec.encode(reqs.getLast().getCreatedAt(), reqs.getLast().getId())
+                        : null;
+                if (reqs.isEmpty()) {
+                    return Mono.just(PageResponse.<FollowRequestResponse>of(List.of(), null));
+                }
+                return userLookup.findProfiles(reqs.stream().map(FollowRequest::getRequesterId).toList())
+                        .map(byId -> PageResponse.of(reqs.stream()
+                                .map(req -> {
+                                    UserResponse u = byId.get(req.getRequesterId());
+                                    return new FollowRequestResponse(
+                                            req.getId(), req.getRequesterId(),
+                                            u != null ? u.username() : "[deleted]",
+                                            u != null ? u.avatarUrl() : null,
+                                            req.getStatus(), req.getCreatedAt());
+                                })
+                                .toList(), nextCursor));
+            });
+        });
     }
 }
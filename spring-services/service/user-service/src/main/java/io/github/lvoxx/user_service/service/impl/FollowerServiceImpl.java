@@ -1,29 +1,34 @@
 package io.github.lvoxx.user_service.service.impl;
 
-import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
-import io.github.lvoxx.common_core.exception.ConflictException;
-import io.github.lvoxx.common_core.message.MessageKeys;
 import io.github.lvoxx.common_core.model.PageResponse;
+import io.github.lvoxx.common_core.util.CursorCodec;
 import io.github.lvoxx.common_keys.CacheKeys;
-import io.github.lvoxx.common_keys.LockKeys;
-import io.github.lvoxx.redis_starter.service.LockService;
+import io.github.lvoxx.user_service.dto.RelationshipResponse;
 import io.github.lvoxx.user_service.dto.UserResponse;
 import io.github.lvoxx.user_service.entity.Follower;
-import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.graph.FollowGraphCache;
 import io.github.lvoxx.user_service.kafka.UserEventPublisher;
+import io.github.lvoxx.user_service.properties.FollowGraphProperties;
 import io.github.lvoxx.user_service.repository.FollowerRepository;
-import io.github.lvoxx.user_service.repository.UserRepository;
 import io.github.lvoxx.user_service.service.FollowerService;
+import io.github.lvoxx.user_service.service.UserCounterService;
+import io.github.lvoxx.user_service.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -32,14 +37,20 @@ import reactor.core.publisher.Mono;
 public class FollowerServiceImpl implements FollowerService {
 
     private final FollowerRepository followerRepo;
-    private final UserRepository userRepo;
+    private final UserLookupService userLookup;
+    private final UserCounterService counters;
     private final UserEventPublisher eventPublisher;
-    private final LockService lockService;
+    private final FollowGraphCache graph;
+    private final FollowGraphProperties graphProps;
+    private final TransactionalOperator tx;
 
     // ── Write ─────────────────────────────────────────────────────────────────
 
+    /**
+     * The edge and its outbox row commit together; counter deltas are buffered
+     * only after the commit, so a rolled-back follow never moves a count.
+     */
     @Override
-    @Transactional
     @Caching(evict = {
             @CacheEvict(value = CacheKeys.UserService.FOLLOWERS_LIST,   key = "#targetId"),
             @CacheEvict(value = CacheKeys.UserService.FOLLOWING_LIST,   key = "#followerId"),
@@ -47,27 +58,19 @@ public class FollowerServiceImpl implements FollowerService {
             @CacheEvict(value = CacheKeys.UserService.FOLLOWING_COUNT,  key = "#followerId")
     })
     public Mono<Void> follow(UUID followerId, UUID targetId, String followerUsername) {
-        return lockService.withLock(LockKeys.follow(followerId, targetId), () ->
-                followerRepo.existsByFollowerIdAndFollowingId(followerId, targetId)
-                        .flatMap(exists -> {
-                            if (exists) {
-                                return Mono.error(new ConflictException(
-                                        MessageKeys.ALREADY_FOLLOWING, targetId));
-                            }
-                            return followerRepo.save(Follower.builder()
-                                            .followerId(followerId)
-                                            .followingId(targetId)
-                                            .createdAt(Instant.now())
-                                            .build())
-                                    .then(userRepo.incrementFollowerCount(targetId, 1))
-                                    .then(userRepo.incrementFollowingCount(followerId, 1))
-                                    .then(eventPublisher.publishFollowed(
-                                            followerId, targetId, followerUsername));
-                        }));
+        return tx.transactional(followerRepo.insertIfAbsent(followerId, targetId)
+                        .filter(inserted -> inserted > 0)
+                        .flatMap(inserted -> eventPublisher.publishFollowed(followerId, targetId, followerUsername)
+                                .thenReturn(inserted)))
+                .doOnNext(inserted -> {
+                    counters.addFollowers(targetId, 1);
+                    counters.addFollowing(followerId, 1);
+                })
+                .then();
     }
 
+    /** Counters move after commit, as in {@link #follow}. */
     @Override
-    @Transactional
     @Caching(evict = {
             @CacheEvict(value = CacheKeys.UserService.FOLLOWERS_LIST,   key = "#targetId"),
             @CacheEvict(value = CacheKeys.UserService.FOLLOWING_LIST,   key = "#followerId"),
@@ -75,17 +78,15 @@ public class FollowerServiceImpl implements FollowerService {
             @CacheEvict(value = CacheKeys.UserService.FOLLOWING_COUNT,  key = "#followerId")
     })
     public Mono<Void> unfollow(UUID followerId, UUID targetId) {
-        return followerRepo.existsByFollowerIdAndFollowingId(followerId, targetId)
-                .flatMap(exists -> {
-                    if (!exists) {
-                        return Mono.error(new ConflictException(
-                                MessageKeys.NOT_FOLLOWING, targetId));
-                    }
-                    return followerRepo.deleteByFollowerIdAndFollowingId(followerId, targetId)
-                            .then(userRepo.incrementFollowerCount(targetId, -1))
-                            .then(userRepo.incrementFollowingCount(followerId, -1))
-                            .then(eventPublisher.publishUnfollowed(followerId, targetId));
-                });
+        return tx.transactional(followerRepo.deleteIfPresent(followerId, targetId)
+                        .filter(deleted -> deleted > 0)
+                        .flatMap(deleted -> eventPublisher.publishUnfollowed(followerId, targetId)
+                                .thenReturn(deleted)))
+                .doOnNext(deleted -> {
+                    counters.addFollowers(targetId, -1);
+                    counters.addFollowing(followerId, -1);
+                })
+                .then();
     }
 
     // ── Read ──────────────────────────────────────────────────────────────────
@@ -100,32 +101,100 @@ public class FollowerServiceImpl implements FollowerService {
     @Cacheable(value = CacheKeys.UserService.FOLLOWERS_LIST,
             key = "#userId + ':' + #cursor + ':' + #size")
     public Mono<PageResponse<UserResponse>> getFollowers(UUID userId, String cursor, int size) {
-        return followerRepo.findFollowersByUserId(userId, size)
-                .flatMap(f -> userRepo.findByIdAndIsDeletedFalse(f.getFollowerId()))
-                .map(this::toResponse)
-                .collectList()
-                .map(items -> PageResponse.of(items, items.size() >= size ? "next" : null));
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return Mono.defer(() -> {
+            CursorCodec.Position after = CursorCodec.decode(cursor);
+            Flux<Follower> rows = after == null
+                    ? followerRepo.findFollowersByUserId(userId, limit + 1)
+                    : followerRepo.findFollowersByUserIdBefore(userId, after.createdAt(), after.id(), limit + 1);
+            return toPage(rows, limit, Follower::getFollowerId);
+        });
     }
 
     @Override
     @Cacheable(value = CacheKeys.UserService.FOLLOWING_LIST,
             key = "#userId + ':' + #cursor + ':' + #size")
     public Mono<PageResponse<UserResponse>> getFollowing(UUID userId, String cursor, int size) {
-        return followerRepo.findFollowingByUserId(userId, size)
-                .flatMap(f -> userRepo.findByIdAndIsDeletedFalse(f.getFollowingId()))
-                .map(this::toResponse)
-                .collectList()
-                .map(items -> PageResponse.of(items, items.size() >= size ? "next" : null));
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return Mono.defer(() -> {
+            CursorCodec.Position after = CursorCodec.decode(cursor);
+            Flux<Follower> rows = after == null
+                    ? followerRepo.findFollowingByUserId(userId, limit + 1)
+                    : followerRepo.findFollowingByUserIdBefore(userId, after.createdAt(), after.id(), limit + 1);
+            return toPage(rows, limit, Follower::getFollowingId);
+        });
+    }
+
+    // ── Overlap (follow-graph bitmaps) ────────────────────────────────────────
+
+    @Override
+    public Mono<RelationshipResponse> getRelationship(UUID viewerId, UUID targetId) {
+        return Mono.zip(graph.following(viewerId), graph.followers(viewerId), graph.followers(targetId))
+                .map(sets -> {
+                    RoaringBitmap viewerFollowing = sets.getT1();
+                    RoaringBitmap viewerFollowers = sets.getT2();
+                    RoaringBitmap targetFollowers = sets.getT3();
+                    return new RelationshipResponse(
+                            graph.contains(viewerFollowing, targetId),
+                            graph.contains(viewerFollowers, targetId),
+                            RoaringBitmap.andCardinality(viewerFollowing, targetFollowers),
+                            RoaringBitmap.andCardinality(viewerFollowers, targetFollowers));
+                })
+                // A set too large to cache: answer from Postgres instead
+                .switchIfEmpty(Mono.defer(() -> Mono.zip(
+                        followerRepo.existsByFollowerIdAndFollowingId(viewerId, targetId),
+                        followerRepo.existsByFollowerIdAndFollowingId(targetId, viewerId),
+                        followerRepo.countKnownFollowers(viewerId, targetId),
+                        followerRepo.countMutualFollowers(viewerId, targetId))
+                        .map(t -> new RelationshipResponse(t.getT1(), t.getT2(), t.getT3(), t.getT4()))));
+    }
+
+    @Override
+    public Mono<List<UserResponse>> getKnownFollowers(UUID viewerId, UUID targetId, int limit) {
+        int max = Math.clamp(limit, 1, graphProps.getMaxKnownFollowers());
+        // Over-fetch so the popularity re-rank has something to choose from
+        int candidates = max * 4;
+        return Mono.zip(graph.following(viewerId), graph.followers(targetId))
+                .map(sets -> RoaringBitmap.and(sets.getT1(), sets.getT2()).stream()
+                        .limit(candidates)
+                        .mapToObj(graph::userId)
+                        .filter(Objects::nonNull)
+                        .toList())
+                // A set too large to cache: answer from Postgres instead
+                .switchIfEmpty(Mono.defer(() -> followerRepo.findKnownFollowerIds(viewerId, targetId, candidates)
+                        .collectList()))
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(List.<UserResponse>of())
+                        : userLookup.findProfiles(ids)
+                                .map(found -> found.values().stream()
+                                        .sorted(Comparator.comparing(UserResponse::followerCount,
+                                                Comparator.nullsLast(Comparator.reverseOrder())))
+                                        .limit(max)
+                                        .toList()));
     }
 
     // ── Helpers ───────────────────────────────────────────────────────────────
 
-    private UserResponse toResponse(User u) {
-        return new UserResponse(
-                u.getId(), u.getUsername(), u.getDisplayName(), u.getBio(),
-                u.getAvatarUrl(), u.getBackgroundUrl(), u.getWebsiteUrl(), u.getLocation(),
-                u.getIsVerified(), u.getIsPrivate(),
-                u.getFollowerCount(), u.getFollowingCount(), u.getPostCount(),
-                u.getRole(), u.getCreatedAt());
+    /**
+     * Rows are fetched with {@code limit + 1} to detect a next page; the cursor is
+     * built from the last edge row, so deleted users never break pagination.
+     */
+    private Mono<PageResponse<UserResponse>> toPage(Flux<Follower> rows, int limit,
+            Function<Follower, UUID> otherSide) {
+        return rows.collectList().flatMap(list -> {
+            boolean hasMore = list.size() > limit;
+            List<Follower> page = hasMore ? list.subList(0, limit) : list;
+            String nextCursor = hasMore
+                    ? CursorCodec.encode(page.getLast().getCreatedAt(), otherSide.apply(page.getLast()))
+                    : null;
+            if (page.isEmpty()) {
+                return Mono.just(PageResponse.<UserResponse>of(List.of(), null));
+            }
+            List<UUID> ids = page.stream().map(otherSide).toList();
+            return userLookup.findProfiles(ids)
+                    .map(byId -> PageResponse.of(
+                            ids.stream().map(byId::get).filter(Objects::nonNull).toList(),
+                            nextCursor));
+        });
     }
 }
@@ -0,0 +1,188 @@
+package io.github.lvoxx.user_service.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.github.lvoxx.common_keys.LockKeys;
+import io.github.lvoxx.redis_starter.service.LockService;
+import io.github.lvoxx.user_service.dto.CounterDrift;
+import io.github.lvoxx.user_service.dto.UserResponse;
+import io.github.lvoxx.user_service.properties.CounterProperties;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import io.github.lvoxx.user_service.service.UserCounterService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserCounterServiceImpl implements UserCounterService {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    /** Advisory lock id: shared by every pod's flush, exclusive for reconciliation writes. */
+    public static final long COUNTER_LOCK_KEY = 0x7573_6572_636e_7472L;
+
+    private final UserRepository userRepo;
+    private final LockService lockService;
+    private final TransactionalOperator tx;
+    private final CounterProperties props;
+
+    /**
+     * Pending deltas per user. {@link ConcurrentHashMap#merge} only locks the
+     * key's bin, and {@link ConcurrentHashMap#remove} hands the flusher an
+     * entry no writer can touch any more, so no delta is lost or applied twice.
+     */
+    private final ConcurrentHashMap<UUID, Delta> pending = new ConcurrentHashMap<>();
+
+    // ── Write ─────────────────────────────────────────────────────────────────
+
+    @Override
+    public void addFollowers(UUID userId, int delta) {
+        pending.merge(userId, new Delta(delta, 0), Delta::plus);
+    }
+
+    @Override
+    public void addFollowing(UUID userId, int delta) {
+        pending.merge(userId, new Delta(0, delta), Delta::plus);
+    }
+
+    // ── Read ──────────────────────────────────────────────────────────────────
+
+    @Override
+    public UserResponse withPending(UserResponse user) {
+        Delta d = pending.get(user.id());
+        if (d == null || d.isZero()) {
+            return user;
+        }
+        return new UserResponse(
+                user.id(), user.username(), user.displayName(), user.bio(),
+                user.avatarUrl(), user.backgroundUrl(), user.websiteUrl(), user.location(),
+                user.isVerified(), user.isPrivate(),
+                Math.max(0, nz(user.followerCount()) + d.followers()),
+                Math.max(0, nz(user.followingCount()) + d.following()),
+                user.postCount(), user.role(), user.status(), user.createdAt());
+    }
+
+    // ── Flush ─────────────────────────────────────────────────────────────────
+
+    @Override
+    @Scheduled(fixedDelayString = "${sssm.counters.flush-interval:PT1S}")
+    public Mono<Integer> flush() {
+        return Mono.defer(() -> {
+            Map<UUID, Delta> batch = drain();
+            if (batch.isEmpty()) {
+                return Mono.just(0);
+            }
+            int n = batch.size();
+            UUID[] ids = new UUID[n];
+            Integer[] followers = new Integer[n];
+            Integer[] following = new Integer[n];
+            int i = 0;
+            for (Map.Entry<UUID, Delta> e : batch.entrySet()) {
+                ids[i] = e.getKey();
+                followers[i] = e.getValue().followers();
+                following[i] = e.getValue().following();
+                i++;
+            }
+            return tx.transactional(userRepo.lockCountersShared(COUNTER_LOCK_KEY)
+                    .then(userRepo.applyCounterDeltas(ids, followers, following)))
+                    .doOnNext(updated -> log.debug("Flushed counter deltas for {} users", updated))
+                    .onErrorResume(e -> {
+                        log.warn("Counter flush failed, re-queueing {} deltas: {}", n, e.getMessage());
+                        batch.forEach((id, d) -> pending.merge(id, d, Delta::plus));
+                        return Mono.just(0);
+                    });
+        });
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        // Shutdown path, not request path: waiting here is what keeps deltas from being lost
+        flush().block(Duration.ofSeconds(10));
+    }
+
+    // ── Reconcile ─────────────────────────────────────────────────────────────
+
+    @Override
+    @Scheduled(cron = "${sssm.counters.reconcile-cron:0 30 3 * * *}")
+    public Mono<Long> reconcile() {
+        return lockService.withLock(LockKeys.counterReconcile(), 0L, Duration.ofHours(1).toMillis(),
+                () -> flush().then(reconcileFrom(MIN_UUID, 0L)))
+                .doOnNext(fixed -> log.info("Counter reconciliation corrected {} users", fixed));
+    }
+
+    private Mono<Long> reconcileFrom(UUID afterId, long fixedSoFar) {
+        return userRepo.findIdsAfter(afterId, props.getReconcileBatchSize())
+                .collectList()
+                .flatMap(ids -> {
+                    if (ids.isEmpty()) {
+                        return Mono.just(fixedSoFar);
+                    }
+                    return reconcileBatch(ids)
+                            .flatMap(fixed -> ids.size() < props.getReconcileBatchSize()
+                                    ? Mono.just(fixedSoFar + fixed)
+                                    : reconcileFrom(ids.getLast(), fixedSoFar + fixed));
+                });
+    }
+
+    /**
+     * Corrects the batch's drifted users whose drift survives
+     * {@code reconcile-settle}; a drift that moved was, at least in part, a
+     * delta some pod had not flushed yet.
+     */
+    private Mono<Integer> reconcileBatch(List<UUID> ids) {
+        return userRepo.findCounterDrift(ids.toArray(UUID[]::new))
+                .collectList()
+                .flatMap(drifts -> {
+                    if (drifts.isEmpty()) {
+                        return Mono.just(0);
+                    }
+                    UUID[] driftedIds = drifts.stream().map(CounterDrift::id).toArray(UUID[]::new);
+                    Integer[] followers = drifts.stream().map(CounterDrift::followers).toArray(Integer[]::new);
+                    Integer[] following = drifts.stream().map(CounterDrift::following).toArray(Integer[]::new);
+                    return Mono.delay(props.getReconcileSettle())
+                            .then(tx.transactional(userRepo.lockCountersExclusive(COUNTER_LOCK_KEY)
+                                    .then(userRepo.reconcileFollowCounts(driftedIds, followers, following))));
+                });
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private Map<UUID, Delta> drain() {
+        List<UUID> keys = new ArrayList<>(pending.keySet());
+        Map<UUID, Delta> batch = new HashMap<>(keys.size());
+        for (UUID id : keys) {
+            Delta d = pending.remove(id);
+            if (d != null && !d.isZero()) {
+                batch.put(id, d);
+            }
+        }
+        return batch;
+    }
+
+    private static int nz(Integer v) {
+        return v != null ? v : 0;
+    }
+
+    private record Delta(int followers, int following) {
+        Delta plus(Delta o) {
+            return new Delta(followers + o.followers, following + o.following);
+        }
+
+        boolean isZero() {
+            return followers == 0 && following == 0;
+        }
+    }
+}
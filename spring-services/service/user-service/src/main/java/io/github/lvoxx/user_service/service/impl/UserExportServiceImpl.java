@@ -0,0 +1,59 @@
+package io.github.lvoxx.user_service.service.impl;
+
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.common_core.exception.ForbiddenException;
+import io.github.lvoxx.common_core.message.MessageKeys;
+import io.github.lvoxx.common_core.security.UserPrincipal;
+import io.github.lvoxx.user_service.dto.EdgeExportRow;
+import io.github.lvoxx.user_service.dto.UserExportRow;
+import io.github.lvoxx.user_service.export.UserExportReader;
+import io.github.lvoxx.user_service.kafka.ProfileRepublisher;
+import io.github.lvoxx.user_service.properties.ExportProperties;
+import io.github.lvoxx.user_service.service.UserExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExportServiceImpl implements UserExportService {
+
+    private final UserExportReader reader;
+    private final ProfileRepublisher republisher;
+    private final ExportProperties props;
+
+    @Override
+    public Flux<UserExportRow> exportUsers(UserPrincipal principal) {
+        return requireAdmin(principal, "users").thenMany(Flux.defer(reader::users));
+    }
+
+    @Override
+    public Flux<EdgeExportRow> exportFollowers(UserPrincipal principal) {
+        return requireAdmin(principal, "followers").thenMany(Flux.defer(reader::followers));
+    }
+
+    @Override
+    public Flux<EdgeExportRow> exportBlocks(UserPrincipal principal) {
+        return requireAdmin(principal, "blocks").thenMany(Flux.defer(reader::blocks));
+    }
+
+    @Override
+    public Mono<Void> republishProfiles(UserPrincipal principal, Integer ratePerSecond) {
+        int rate = ratePerSecond != null ? ratePerSecond : props.getRepublishRate();
+        return requireAdmin(principal, "profile re-publish")
+                .then(Mono.defer(() -> republisher.start(Math.clamp(rate, 1, props.getMaxRepublishRate()))));
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private static Mono<Void> requireAdmin(UserPrincipal principal, String what) {
+        if (!principal.isAdmin()) {
+            return Mono.error(new ForbiddenException(MessageKeys.FORBIDDEN));
+        }
+        log.info("Bulk {} requested by {}", what, principal.userId());
+        return Mono.empty();
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.lvoxx.user_service.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
+import io.github.lvoxx.user_service.dto.UserResponse;
+import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import io.github.lvoxx.user_service.service.UserCounterService;
+import io.github.lvoxx.user_service.service.UserLookupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserLookupServiceImpl implements UserLookupService {
+
+    private final UserRepository userRepo;
+    private final UserCounterService counters;
+    private final ReactiveCacheService cacheService;
+
+    /** Per-ID view of the miss batches currently querying Postgres on this pod. */
+    private final ConcurrentMap<UUID, Mono<Map<UUID, UserResponse>>> inflight = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Map<UUID, UserResponse>> findProfiles(Collection<UUID> userIds) {
+        Set<UUID> ids = new LinkedHashSet<>(userIds);
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return cacheService.getAll(CacheKeys.UserService.PROFILE, ids, UserResponse.class)
+                .flatMap(found -> {
+                    List<UUID> misses = ids.stream().filter(id -> !found.containsKey(id)).toList();
+                    if (misses.isEmpty()) {
+                        return Mono.just(found);
+                    }
+                    return loadCoalesced(misses).map(loaded -> {
+                        Map<UUID, UserResponse> all = new HashMap<>(found);
+                        all.putAll(loaded);
+                        return all;
+                    });
+                });
+    }
+
+    /**
+     * Loads cache misses from Postgres, joining any batch already in flight on
+     * this pod for the same IDs instead of querying them again. Each new batch
+     * is one {@code IN (...)} query, shared by every concurrent caller whose
+     * misses overlap it, and back-fills the cache once.
+     */
+    private Mono<Map<UUID, UserResponse>> loadCoalesced(List<UUID> misses) {
+        Set<Mono<Map<UUID, UserResponse>>> batches = new LinkedHashSet<>();
+        List<UUID> own = new ArrayList<>();
+        for (UUID id : misses) {
+            Mono<Map<UUID, UserResponse>> running = inflight.get(id);
+            if (running != null) {
+                batches.add(running);
+            } else {
+                own.add(id);
+            }
+        }
+        if (!own.isEmpty()) {
+            AtomicReference<Mono<Map<UUID, UserResponse>>> self = new AtomicReference<>();
+            Mono<Map<UUID, UserResponse>> load = userRepo.findAllByIdInAndIsDeletedFalse(own)
+                    .map(this::toResponse)
+                    .map(counters::withPending)
+                    .collectMap(UserResponse::id, u -> u)
+                    .flatMap(loaded -> cacheService.putAll(CacheKeys.UserService.PROFILE, loaded)
+                            .thenReturn(loaded))
+                    .doFinally(signal -> own.forEach(id -> inflight.remove(id, self.get())))
+                    .cache();
+            self.set(load);
+            // A lost putIfAbsent race only means that ID is queried twice
+            own.forEach(id -> inflight.putIfAbsent(id, load));
+            batches.add(load);
+        }
+        Set<UUID> wanted = Set.copyOf(misses);
+        return Flux.fromIterable(batches)
+                .flatMap(batch -> batch)
+                .<Map<UUID, UserResponse>>collect(HashMap::new, (acc, batch) ->
+                        batch.forEach((id, u) -> {
+                            if (wanted.contains(id)) {
+                                acc.put(id, u);
+                            }
+                        }));
+    }
+
+    private UserResponse toResponse(User u) {
+        return new UserResponse(
+                u.getId(), u.getUsername(), u.getDisplayName(), u.getBio(),
+                u.getAvatarUrl(), u.getBackgroundUrl(), u.getWebsiteUrl(), u.getLocation(),
+                u.getIsVerified(), u.getIsPrivate(),
+                u.getFollowerCount(), u.getFollowingCount(), u.getPostCount(),
+                u.getRole(), u.getStatus(), u.getCreatedAt());
+    }
+}
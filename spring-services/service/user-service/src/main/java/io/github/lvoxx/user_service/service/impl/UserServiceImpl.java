@@ -1,12 +1,16 @@
 package io.github.lvoxx.user_service.service.impl;
 
 import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,24 +21,35 @@ import io.github.lvoxx.common_core.exception.ValidationException;
 import io.github.lvoxx.common_core.message.MessageKeys;
 import io.github.lvoxx.common_core.model.PageResponse;
 import io.github.lvoxx.common_core.security.UserPrincipal;
+import io.github.lvoxx.common_core.util.CursorCodec;
 import io.github.lvoxx.common_core.util.UlidGenerator;
 import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
 import io.github.lvoxx.user_service.dto.AccountHistoryResponse;
 import io.github.lvoxx.user_service.dto.FollowRequestResponse;
+import io.github.lvoxx.user_service.dto.RelationshipResponse;
 import io.github.lvoxx.user_service.dto.UpdateProfileRequest;
 import io.github.lvoxx.user_service.dto.UpdateSettingsRequest;
 import io.github.lvoxx.user_service.dto.UserResponse;
+import io.github.lvoxx.user_service.dto.UserSearchHit;
 import io.github.lvoxx.user_service.dto.VerificationRequest;
+import io.github.lvoxx.user_service.entity.User;
 import io.github.lvoxx.user_service.entity.Verification;
 import io.github.lvoxx.user_service.kafka.UserEventPublisher;
+import io.github.lvoxx.user_service.lookup.UserExistenceFilter;
+import io.github.lvoxx.user_service.properties.SearchProperties;
 import io.github.lvoxx.user_service.repository.UserRepository;
 import io.github.lvoxx.user_service.repository.VerificationRepository;
+import io.github.lvoxx.user_service.search.UserPrefixIndex;
 import io.github.lvoxx.user_service.service.AccountHistoryService;
 import io.github.lvoxx.user_service.service.FollowRequestService;
 import io.github.lvoxx.user_service.service.FollowerService;
+import io.github.lvoxx.user_service.service.UserCounterService;
+import io.github.lvoxx.user_service.service.UserLookupService;
 import io.github.lvoxx.user_service.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -47,36 +62,59 @@ public class UserServiceImpl implements UserService {
     private final VerificationRepository verificationRepo;
     private final UserEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
+    private final ReactiveCacheService cache;
 
     // ── Delegating services ───────────────────────────────────────────────────
     private final FollowerService followerService;
     private final FollowRequestService followRequestService;
     private final AccountHistoryService historyService;
+    private final UserCounterService counters;
+    private final UserLookupService userLookup;
+
+    // ── Search ────────────────────────────────────────────────────────────────
+    private final UserPrefixIndex prefixIndex;
+    private final SearchProperties searchProps;
+
+    // ── Negative lookups ──────────────────────────────────────────────────────
+    private final UserExistenceFilter existenceFilter;
 
     // ── Profile ───────────────────────────────────────────────────────────────
 
     @Override
-    @Cacheable(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#username")
+    @Cacheable(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#username",
+            condition = "@userExistenceFilter.mightExistByUsername(#username)")
     public Mono<UserResponse> getByUsername(String username) {
+        if (!existenceFilter.admit(UserExistenceFilter.Kind.USERNAME, username)) {
+            return Mono.error(new ResourceNotFoundException(MessageKeys.USER_NOT_FOUND, username));
+        }
         return userRepo.findByUsernameAndIsDeletedFalse(username)
+                .switchIfEmpty(Mono.fromRunnable(
+                        () -> existenceFilter.recordFalsePositive(UserExistenceFilter.Kind.USERNAME)))
                 .switchIfEmpty(Mono.error(
                         new ResourceNotFoundException(MessageKeys.USER_NOT_FOUND, username)))
                 .map(this::toResponse);
     }
 
     @Override
-    @Cacheable(value = CacheKeys.UserService.PROFILE, key = "#userId")
     public Mono<UserResponse> getById(UUID userId) {
-        return userRepo.findByIdAndIsDeletedFalse(userId)
+        if (!existenceFilter.admit(UserExistenceFilter.Kind.ID, userId)) {
+            return Mono.error(new ResourceNotFoundException(MessageKeys.USER_NOT_FOUND, userId));
+        }
+        return cache.get(CacheKeys.UserService.PROFILE, userId, UserResponse.class,
+                () -> userRepo.findByIdAndIsDeletedFalse(userId)
+                        .switchIfEmpty(Mono.fromRunnable(
+                                () -> existenceFilter.recordFalsePositive(UserExistenceFilter.Kind.ID)))
+                        .map(this::toResponse))
                 .switchIfEmpty(Mono.error(
-                        new ResourceNotFoundException(MessageKeys.USER_NOT_FOUND, userId)))
-                .map(this::toResponse);
+                        new ResourceNotFoundException(MessageKeys.USER_NOT_FOUND, userId)));
     }
 
     @Override
+    @Transactional
     @Caching(evict = {
             @CacheEvict(value = CacheKeys.UserService.PROFILE,          key = "#principal.userId()"),
-            @CacheEvict(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#principal.username()")
+            @CacheEvict(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#principal.username()"),
+            @CacheEvict(value = CacheKeys.UserService.PROFILE_RESPONSE, key = "#principal.username()")
     })
     public Mono<UserResponse> updateProfile(UserPrincipal principal, UpdateProfileRequest req) {
         return userRepo.findByIdAndIsDeletedFalse(principal.userId())
@@ -95,9 +133,11 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     @Caching(evict = {
             @CacheEvict(value = CacheKeys.UserService.PROFILE,          key = "#principal.userId()"),
-            @CacheEvict(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#principal.username()")
+            @CacheEvict(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#principal.username()"),
+            @CacheEvict(value = CacheKeys.UserService.PROFILE_RESPONSE, key = "#principal.username()")
     })
     public Mono<UserResponse> updateAvatar(UserPrincipal principal, String mediaId) {
         return userRepo.findByIdAndIsDeletedFalse(principal.userId())
@@ -112,9 +152,11 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     @Caching(evict = {
             @CacheEvict(value = CacheKeys.UserService.PROFILE,          key = "#principal.userId()"),
-            @CacheEvict(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#principal.username()")
+            @CacheEvict(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#principal.username()"),
+            @CacheEvict(value = CacheKeys.UserService.PROFILE_RESPONSE, key = "#principal.username()")
     })
     public Mono<UserResponse> updateBackground(UserPrincipal principal, String mediaId) {
         return userRepo.findByIdAndIsDeletedFalse(principal.userId())
@@ -131,7 +173,8 @@ public class UserServiceImpl implements UserService {
     @Override
     @Caching(evict = {
             @CacheEvict(value = CacheKeys.UserService.PROFILE,          key = "#principal.userId()"),
-            @CacheEvict(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#principal.username()")
+            @CacheEvict(value = CacheKeys.UserService.PROFILE_USERNAME, key = "#principal.username()"),
+            @CacheEvict(value = CacheKeys.UserService.PROFILE_RESPONSE, key = "#principal.username()")
     })
     public Mono<UserResponse> updateSettings(UserPrincipal principal, UpdateSettingsRequest req) {
         return userRepo.findByIdAndIsDeletedFalse(principal.userId())
@@ -186,11 +229,22 @@ public class UserServiceImpl implements UserService {
         return followerService.getFollowing(userId, cursor, size);
     }
 
+    @Override
+    public Mono<RelationshipResponse> getRelationship(UserPrincipal principal, UUID targetId) {
+        return followerService.getRelationship(principal.userId(), targetId);
+    }
+
+    @Override
+    public Mono<List<UserResponse>> getKnownFollowers(UserPrincipal principal, UUID targetId, int size) {
+        return followerService.getKnownFollowers(principal.userId(), targetId, size);
+    }
+
     // ── Follow requests ── delegates to FollowRequestService ─────────────────
 
     @Override
-    public Mono<PageResponse<FollowRequestResponse>> getFollowRequests(UserPrincipal principal) {
-        return followRequestService.getPending(principal.userId());
+    public Mono<PageResponse<FollowRequestResponse>> getFollowRequests(UserPrincipal principal, String cursor,
+            int size) {
+        return followRequestService.getPending(principal.userId(), cursor, size);
     }
 
     @Override
@@ -198,24 +252,73 @@ public class UserServiceImpl implements UserService {
         return followRequestService.respond(principal.userId(), reqId, action);
     }
 
+    @Override
+    public Mono<Integer> respondFollowRequests(UserPrincipal principal, List<UUID> reqIds, String action) {
+        return followRequestService.respondAll(principal.userId(), reqIds, action);
+    }
+
     // ── History ── delegates to AccountHistoryService ─────────────────────────
 
     @Override
-    public Mono<PageResponse<AccountHistoryResponse>> getHistory(UserPrincipal principal) {
-        return historyService.getHistory(principal.userId(), 50);
+    public Mono<PageResponse<AccountHistoryResponse>> getHistory(UserPrincipal principal, String cursor, int size) {
+        return historyService.getHistory(principal.userId(), cursor, size);
     }
 
     // ── Search ────────────────────────────────────────────────────────────────
 
     @Override
-    public Mono<PageResponse<UserResponse>> searchUsers(String query, int size) {
-        if (query == null || query.length() < 2) {
+    public Mono<PageResponse<UserResponse>> searchUsers(String query, String cursor, int size) {
+        String q = query != null ? query.strip() : "";
+        if (q.length() < 2) {
             return Mono.just(PageResponse.empty());
         }
-        return userRepo.searchByUsernameOrDisplayName(query, size)
-                .map(this::toResponse)
-                .collectList()
-                .map(items -> PageResponse.of(items, items.size() >= size ? "next" : null));
+        int limit = clampSize(size);
+        if (q.length() < 3) {
+            // No trigrams in a 2-char query — the GIN index can't help, the prefix index can
+            return suggestUsers(q, limit).map(items -> PageResponse.of(items, null));
+        }
+        String pattern = "%" + escapeLike(q) + "%";
+        return Mono.defer(() -> {
+            CursorCodec.ScorePosition after = CursorCodec.decodeScore(cursor);
+            Flux<UserSearchHit> rows = after == null
+                    ? userRepo.searchRanked(q, pattern, limit + 1)
+                    : userRepo.searchRankedAfter(q, pattern, after.score(), after.id(), limit + 1);
+            return rows.collectList().flatMap(list -> {
+                boolean hasMore = list.size() > limit;
+                List<UserSearchHit> page = hasMore ? list.subList(0, limit) : list;
+                String next = hasMore
+                        ? CursorCodec.encode(page.getLast().searchRank(), page.getLast().id())
+                        : null;
+                List<UUID> ids = page.stream().map(UserSearchHit::id).toList();
+                // Users deleted since the query drop out; the cursor still resumes after them
+                return userLookup.findProfiles(ids)
+                        .map(found -> PageResponse.of(ids.stream()
+                                .map(found::get)
+                                .filter(Objects::nonNull)
+                                .toList(), next));
+            });
+        });
+    }
+
+    @Override
+    public Mono<List<UserResponse>> suggestUsers(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return Mono.just(List.of());
+        }
+        int limit = clampSize(size);
+        // Over-fetch so the popularity re-rank has something to choose from
+        List<UUID> ids = prefixIndex.suggest(prefix, limit * 4);
+        if (ids.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return userLookup.findProfiles(ids)
+                .map(found -> ids.stream()
+                        .map(found::get)
+                        .filter(Objects::nonNull)
+                        .sorted(Comparator.comparing(UserResponse::followerCount,
+                                Comparator.nullsLast(Comparator.reverseOrder())))
+                        .limit(limit)
+                        .toList());
     }
 
     // ── Verification ──────────────────────────────────────────────────────────
@@ -244,12 +347,21 @@ public class UserServiceImpl implements UserService {
 
     // ── Helpers ───────────────────────────────────────────────────────────────
 
+    private int clampSize(int size) {
+        return Math.min(Math.max(size, 1), searchProps.getMaxPageSize());
+    }
+
+    /** Escapes LIKE metacharacters so user input matches literally. */
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private UserResponse toResponse(io.github.lvoxx.user_service.entity.User u) {
-        return new UserResponse(
+        return counters.withPending(new UserResponse(
                 u.getId(), u.getUsername(), u.getDisplayName(), u.getBio(),
                 u.getAvatarUrl(), u.getBackgroundUrl(), u.getWebsiteUrl(), u.getLocation(),
                 u.getIsVerified(), u.getIsPrivate(),
                 u.getFollowerCount(), u.getFollowingCount(), u.getPostCount(),
-                u.getRole(), u.getCreatedAt());
+                u.getRole(), u.getStatus(), u.getCreatedAt()));
     }
 }
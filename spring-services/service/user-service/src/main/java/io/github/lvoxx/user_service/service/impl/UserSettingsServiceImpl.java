@@ -2,8 +2,10 @@ package io.github.lvoxx.user_service.service.impl;
 
 import java.util.UUID;
 
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
@@ -11,11 +13,13 @@ import io.github.lvoxx.common_keys.CacheKeys;
 import io.github.lvoxx.user_service.dto.UpdateUserSettingsRequest;
 import io.github.lvoxx.user_service.dto.UserSettingsResponse;
 import io.github.lvoxx.user_service.entity.UserSettings;
+import io.github.lvoxx.user_service.grpc.UserSettingsWatchHub;
 import io.github.lvoxx.user_service.repository.UserSettingsRepository;
 import io.github.lvoxx.user_service.service.UserSettingsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
@@ -23,12 +27,20 @@ import reactor.core.publisher.Mono;
 public class UserSettingsServiceImpl implements UserSettingsService {
 
     private final UserSettingsRepository settingsRepo;
+    // Published straight to the channel: the hub reads through this service, so it cannot be injected here
+    private final ReactiveStringRedisTemplate redis;
+    private final CacheManager cacheManager;
 
     // ── Read ──────────────────────────────────────────────────────────────────
 
     @Override
     @Cacheable(value = CacheKeys.UserService.USER_SETTINGS_KEY, key = "#userId")
     public Mono<UserSettingsResponse> getOrDefault(UUID userId) {
+        return reload(userId);
+    }
+
+    @Override
+    public Mono<UserSettingsResponse> reload(UUID userId) {
         return settingsRepo.findByUserId(userId)
                 .map(this::toResponse)
                 .defaultIfEmpty(defaultResponse(userId));
@@ -54,7 +66,6 @@ public class UserSettingsServiceImpl implements UserSettingsService {
     }
 
     @Override
-    @CacheEvict(value = CacheKeys.UserService.USER_SETTINGS_KEY, key = "#userId")
     public Mono<UserSettingsResponse> updateSettings(UUID userId, UpdateUserSettingsRequest req) {
         return settingsRepo.findByUserId(userId)
                 .defaultIfEmpty(defaultEntity(userId))
@@ -67,11 +78,35 @@ public class UserSettingsServiceImpl implements UserSettingsService {
                         settings.setNotificationLevel(req.notificationLevel());
                     return settingsRepo.save(settings);
                 })
+                // Evicted before watchers hear of the change: a client that misses in
+                // between would otherwise reload the old value and keep it for the TTL
+                .flatMap(saved -> evict(userId)
+                        .then(Mono.defer(() -> announce(userId)))
+                        .thenReturn(saved))
                 .map(this::toResponse);
     }
 
     // ── Helpers ───────────────────────────────────────────────────────────────
 
+    /** Tells every pod's {@link UserSettingsWatchHub} that {@code userId}'s settings changed; fire-and-forget. */
+    private Mono<Void> announce(UUID userId) {
+        return redis.convertAndSend(UserSettingsWatchHub.CHANNEL, userId.toString())
+                .doOnError(e -> log.warn("Settings change publish failed for {}: {}", userId, e.getMessage()))
+                .onErrorComplete()
+                .then();
+    }
+
+    private Mono<Void> evict(UUID userId) {
+        Cache cache = cacheManager.getCache(CacheKeys.UserService.USER_SETTINGS_KEY);
+        if (cache == null) {
+            return Mono.empty();
+        }
+        // Cache.evict writes to Redis synchronously
+        return Mono.fromRunnable(() -> cache.evict(userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
     private UserSettings defaultEntity(UUID userId) {
         return UserSettings.builder()
                 .userId(userId)
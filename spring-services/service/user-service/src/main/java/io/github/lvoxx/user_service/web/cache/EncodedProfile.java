@@ -0,0 +1,14 @@
+package io.github.lvoxx.user_service.web.cache;
+
+import java.io.Serializable;
+
+/**
+ * A public profile already encoded as the JSON of
+ * {@link io.github.lvoxx.user_service.dto.UserResponse}, with a strong ETag
+ * derived from those bytes.
+ *
+ * @param json UTF-8 JSON of the profile; shared, never mutate
+ * @param etag quoted ETag value, e.g. {@code "\"5d41...\""}
+ */
+public record EncodedProfile(byte[] json, String etag) implements Serializable {
+}
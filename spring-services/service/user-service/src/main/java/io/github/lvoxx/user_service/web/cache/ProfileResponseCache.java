@@ -0,0 +1,111 @@
+package io.github.lvoxx.user_service.web.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import io.github.lvoxx.common_core.model.ApiMeta;
+import io.github.lvoxx.common_core.model.ApiResponse;
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.user_service.dto.UserResponse;
+import io.github.lvoxx.user_service.service.UserService;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serves {@code GET /api/v1/users/{username}} from profile JSON that was
+ * encoded once, when the cache entry was filled, instead of running Jackson
+ * over {@link UserResponse} on every request.
+ *
+ * <p>
+ * The {@link ApiResponse} envelope carries a per-request {@link ApiMeta}, so
+ * only the envelope is encoded per request; the cached profile bytes are
+ * wrapped, not copied, between its head and tail. A matching
+ * {@code If-None-Match} short-circuits to 304 without touching the body.
+ *
+ * <p>
+ * Entries live in {@link CacheKeys.UserService#PROFILE_RESPONSE} and are
+ * evicted together with {@link CacheKeys.UserService#PROFILE_USERNAME}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileResponseCache {
+
+    private static final String DATA_PLACEHOLDER = "__sssm_profile_data__";
+    private static final byte[] QUOTED_PLACEHOLDER =
+            ('"' + DATA_PLACEHOLDER + '"').getBytes(StandardCharsets.UTF_8);
+
+    private final UserService userService;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * @return the encoded public profile; errors as
+     *         {@link UserService#getByUsername} does
+     */
+    @Cacheable(value = CacheKeys.UserService.PROFILE_RESPONSE, key = "#username",
+            condition = "@userExistenceFilter.mightExistByUsername(#username)")
+    public Mono<EncodedProfile> get(String username) {
+        return userService.getByUsername(username).map(this::encode);
+    }
+
+    public EncodedProfile encode(UserResponse user) {
+        byte[] json = jsonMapper.writeValueAsBytes(user);
+        return new EncodedProfile(json, '"' + DigestUtils.md5DigestAsHex(json) + '"');
+    }
+
+    /**
+     * Writes {@code profile} inside a fresh {@code ApiResponse.success} envelope,
+     * or 304 if the client already holds this version.
+     */
+    public Mono<ServerResponse> render(ServerRequest req, EncodedProfile profile) {
+        List<String> ifNoneMatch = req.headers().header(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch.stream().anyMatch(v -> v.contains(profile.etag()) || v.strip().equals("*"))) {
+            return ServerResponse.status(304).eTag(profile.etag()).build();
+        }
+        DataBufferFactory buffers = req.exchange().getResponse().bufferFactory();
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(profile.etag())
+                .body(BodyInserters.fromDataBuffers(Mono.fromSupplier(() -> toBuffer(buffers, profile))));
+    }
+
+    /**
+     * @return {@code ApiResponse.success(profile)} as one buffer whose middle
+     *         segment is {@code profile.json()} itself
+     */
+    public DataBuffer toBuffer(DataBufferFactory buffers, EncodedProfile profile) {
+        byte[] env = jsonMapper.writeValueAsBytes(
+                new ApiResponse<>(true, DATA_PLACEHOLDER, null, ApiMeta.now()));
+        int at = indexOf(env, QUOTED_PLACEHOLDER);
+        int tail = at + QUOTED_PLACEHOLDER.length;
+        return buffers.join(List.of(
+                buffers.wrap(ByteBuffer.wrap(env, 0, at)),
+                buffers.wrap(profile.json()),
+                buffers.wrap(ByteBuffer.wrap(env, tail, env.length - tail))));
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new IllegalStateException("Envelope placeholder not found");
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.lvoxx.user_service.web.handler;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import io.github.lvoxx.common_core.util.ReactiveContextUtil;
+import io.github.lvoxx.user_service.dto.EdgeExportRow;
+import io.github.lvoxx.user_service.dto.UserExportRow;
+import io.github.lvoxx.user_service.service.UserExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux functional handler for admin-only bulk endpoints.
+ *
+ * <p>
+ * Exports are newline-delimited JSON, one row per line, streamed with chunked
+ * transfer encoding from a database cursor: the response starts immediately,
+ * and a client reading slowly slows the cursor down instead of buffering rows
+ * on the server.
+ *
+ * @see UserExportService
+ */
+@Component
+@RequiredArgsConstructor
+@Tag(name = "User admin", description = "Bulk export and event re-publish for rebuilding downstream projections")
+@SecurityRequirement(name = "bearerAuth")
+public class UserAdminHandler {
+
+    private final UserExportService exportService;
+
+    // ── Export ────────────────────────────────────────────────────────────────
+
+    /**
+     * Streams every user as NDJSON, soft-deleted ones included and flagged.
+     *
+     * @param req the server request (principal resolved from Reactor context)
+     * @return 200 with one {@link UserExportRow} per line, 403 for non-admins
+     */
+    @Operation(summary = "Export users", description = "Admin only. Streams every user as NDJSON from one database snapshot.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "NDJSON stream")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Caller is not an admin")
+    public Mono<ServerResponse> exportUsers(ServerRequest req) {
+        return ReactiveContextUtil.getCurrentUser()
+                .flatMap(p -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(exportService.exportUsers(p), UserExportRow.class));
+    }
+
+    /**
+     * Streams every follow edge as NDJSON: {@code from} follows {@code to}.
+     *
+     * @param req the server request (principal resolved from Reactor context)
+     * @return 200 with one {@link EdgeExportRow} per line, 403 for non-admins
+     */
+    @Operation(summary = "Export follow edges", description = "Admin only. Streams every follower edge as NDJSON from one database snapshot.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "NDJSON stream")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Caller is not an admin")
+    public Mono<ServerResponse> exportFollowers(ServerRequest req) {
+        return ReactiveContextUtil.getCurrentUser()
+                .flatMap(p -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(exportService.exportFollowers(p), EdgeExportRow.class));
+    }
+
+    /**
+     * Streams every block edge as NDJSON: {@code from} blocks {@code to}.
+     *
+     * @param req the server request (principal resolved from Reactor context)
+     * @return 200 with one {@link EdgeExportRow} per line, 403 for non-admins
+     */
+    @Operation(summary = "Export block edges", description = "Admin only. Streams every user block as NDJSON from one database snapshot.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "NDJSON stream")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Caller is not an admin")
+    public Mono<ServerResponse> exportBlocks(ServerRequest req) {
+        return ReactiveContextUtil.getCurrentUser()
+                .flatMap(p -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(exportService.exportBlocks(p), EdgeExportRow.class));
+    }
+
+    // ── Re-publish ────────────────────────────────────────────────────────────
+
+    /**
+     * Starts re-sending {@code user.profile.updated} for every live user.
+     *
+     * @param req query: {@code rate} — events per second (optional)
+     * @return 202 Accepted (the run continues in the background),
+     *         409 if a run is already in progress on the pod
+     */
+    @Operation(summary = "Re-publish profile events", description = "Admin only. Re-sends user.profile.updated for every live user, "
+            + "throttled to the given rate, so consumers can rebuild their projections.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Re-publish started")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Caller is not an admin")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Re-publish already running")
+    public Mono<ServerResponse> republishProfiles(ServerRequest req) {
+        Integer rate = req.queryParam("rate").map(Integer::parseInt).orElse(null);
+        return ReactiveContextUtil.getCurrentUser()
+                .flatMap(p -> exportService.republishProfiles(p, rate))
+                .then(ServerResponse.status(HttpStatus.ACCEPTED).build());
+    }
+}
@@ -10,10 +10,12 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 
 import io.github.lvoxx.common_core.model.ApiResponse;
 import io.github.lvoxx.common_core.util.ReactiveContextUtil;
+import io.github.lvoxx.user_service.dto.RespondFollowRequestsRequest;
 import io.github.lvoxx.user_service.dto.UpdateProfileRequest;
 import io.github.lvoxx.user_service.dto.UpdateSettingsRequest;
 import io.github.lvoxx.user_service.dto.VerificationRequest;
 import io.github.lvoxx.user_service.service.UserService;
+import io.github.lvoxx.user_service.web.cache.ProfileResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -48,6 +50,7 @@ import reactor.core.publisher.Mono;
 public class UserHandler {
 
     private final UserService userService;
+    private final ProfileResponseCache profileResponses;
 
     // ── Profile ───────────────────────────────────────────────────────────────
 
@@ -57,15 +60,16 @@ public class UserHandler {
      * @param req the server request containing the {@code username} path variable
      * @return 200 with
      *         {@link io.github.lvoxx.user_service.application.dto.UserResponse},
+     *         304 if {@code If-None-Match} matches the current ETag,
      *         404 if the user does not exist
      */
-    @Operation(summary = "Get public profile by username", description = "Returns public profile fields for any active user. Cached for 5 minutes.")
+    @Operation(summary = "Get public profile by username", description = "Returns public profile fields for any active user. Cached for 5 minutes; supports If-None-Match.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Profile found")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found")
     public Mono<ServerResponse> getByUsername(ServerRequest req) {
         String username = req.pathVariable("username");
-        return userService.getByUsername(username)
-                .flatMap(u -> ServerResponse.ok().bodyValue(ApiResponse.success(u)));
+        return profileResponses.get(username)
+                .flatMap(profile -> profileResponses.render(req, profile));
     }
 
     /**
@@ -195,6 +199,39 @@ public class UserHandler {
                 .flatMap(page -> ServerResponse.ok().bodyValue(ApiResponse.success(page)));
     }
 
+    /**
+     * Returns how the authenticated user relates to another user: follow state
+     * in both directions ("follows you") and overlap counts.
+     *
+     * @param req path: {@code userId}
+     * @return 200 with {@link io.github.lvoxx.user_service.dto.RelationshipResponse}
+     */
+    @Operation(summary = "Get relationship", description = "Whether the caller follows / is followed by the user, "
+            + "plus counts of followers the caller knows and followers they share.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Relationship")
+    public Mono<ServerResponse> getRelationship(ServerRequest req) {
+        UUID targetId = UUID.fromString(req.pathVariable("userId"));
+        return ReactiveContextUtil.getCurrentUser()
+                .flatMap(p -> userService.getRelationship(p, targetId))
+                .flatMap(r -> ServerResponse.ok().bodyValue(ApiResponse.success(r)));
+    }
+
+    /**
+     * Returns followers of a user whom the authenticated user follows.
+     *
+     * @param req path: {@code userId}; query: {@code size} (default 3)
+     * @return 200 with up to {@code size} user summaries, most-followed first
+     */
+    @Operation(summary = "Get followers you know", description = "Followers of the specified user that the caller also follows.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Known followers")
+    public Mono<ServerResponse> getKnownFollowers(ServerRequest req) {
+        UUID targetId = UUID.fromString(req.pathVariable("userId"));
+        int size = Integer.parseInt(req.queryParam("size").orElse("3"));
+        return ReactiveContextUtil.getCurrentUser()
+                .flatMap(p -> userService.getKnownFollowers(p, targetId, size))
+                .flatMap(items -> ServerResponse.ok().bodyValue(ApiResponse.success(items)));
+    }
+
     /**
      * Follows a user. For private accounts, creates a follow request instead.
      * Rate-limited to 50 calls/hour per user. Publishes {@code user.followed} Avro
@@ -233,16 +270,19 @@ public class UserHandler {
     // ── Follow requests ───────────────────────────────────────────────────────
 
     /**
-     * Returns pending follow requests received by the authenticated user.
+     * Returns a cursor-paginated list of pending follow requests received by the
+     * authenticated user.
      *
-     * @param req server request
-     * @return 200 with list of pending follow requests
+     * @param req query: {@code cursor} (optional), {@code size} (default 20)
+     * @return 200 with a page of pending follow requests
      */
-    @Operation(summary = "Get incoming follow requests", description = "Returns all PENDING follow requests targeting the authenticated user.")
+    @Operation(summary = "Get incoming follow requests", description = "Returns PENDING follow requests targeting the authenticated user, newest first, cursor-paginated.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Follow request list")
     public Mono<ServerResponse> getFollowRequests(ServerRequest req) {
+        String cursor = req.queryParam("cursor").orElse(null);
+        int size = Integer.parseInt(req.queryParam("size").orElse("20"));
         return ReactiveContextUtil.getCurrentUser()
-                .flatMap(p -> userService.getFollowRequests(p))
+                .flatMap(p -> userService.getFollowRequests(p, cursor, size))
                 .flatMap(page -> ServerResponse.ok().bodyValue(ApiResponse.success(page)));
     }
 
@@ -264,22 +304,40 @@ public class UserHandler {
                 .then(ServerResponse.status(HttpStatus.NO_CONTENT).build());
     }
 
+    /**
+     * Approves or rejects many follow requests at once.
+     *
+     * @param req body: {@code {"requestIds": [...], "action": "APPROVE"|"REJECT"}}
+     * @return 200 with {@code {"actioned": n}}
+     */
+    @Operation(summary = "Respond to follow requests in bulk", description = "Approves or rejects up to 100 pending follow requests in one transaction. Requests that are not pending or not addressed to the caller are skipped.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Number of requests actioned")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "Invalid action or too many ids")
+    public Mono<ServerResponse> respondFollowRequests(ServerRequest req) {
+        return ReactiveContextUtil.getCurrentUser()
+                .flatMap(p -> req.bodyToMono(RespondFollowRequestsRequest.class)
+                        .flatMap(body -> userService.respondFollowRequests(p, body.requestIds(), body.action())))
+                .flatMap(n -> ServerResponse.ok().bodyValue(ApiResponse.success(Map.of("actioned", n))));
+    }
+
     // ── History & Verification ────────────────────────────────────────────────
 
     /**
      * Returns the account action history of the authenticated user (login events,
      * password changes, profile updates).
      *
-     * @param req server request
-     * @return 200 with list of
-     *         {@link io.github.lvoxx.user_service.domain.entity.AccountHistory}
+     * @param req query: {@code cursor} (optional), {@code size} (default 50)
+     * @return 200 with a page of
+     *         {@link io.github.lvoxx.user_service.dto.AccountHistoryResponse}
      *         entries
      */
-    @Operation(summary = "Get account history", description = "Returns the last 100 account events (login, password change, profile update) for the caller.")
+    @Operation(summary = "Get account history", description = "Returns the caller's account events (login, password change, profile update) from the last 90 days, newest first, cursor-paginated.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Account history")
     public Mono<ServerResponse> getHistory(ServerRequest req) {
+        String cursor = req.queryParam("cursor").orElse(null);
+        int size = Integer.parseInt(req.queryParam("size").orElse("50"));
         return ReactiveContextUtil.getCurrentUser()
-                .flatMap(p -> userService.getHistory(p))
+                .flatMap(p -> userService.getHistory(p, cursor, size))
                 .flatMap(page -> ServerResponse.ok().bodyValue(ApiResponse.success(page)));
     }
 
@@ -303,17 +361,36 @@ public class UserHandler {
     }
 
     /**
-     * Searches for users by username prefix or display name.
+     * Searches users by username or display name, ranked by trigram similarity.
      *
-     * @param req query param: {@code q} (minimum 2 chars)
-     * @return 200 with matching user summaries
+     * @param req query params: {@code q} (minimum 2 chars), {@code cursor}
+     *            (optional), {@code size}
+     * @return 200 with a cursor page of matching user summaries
      */
-    @Operation(summary = "Search users", description = "Prefix search on username and displayName. Minimum query length: 2 characters.")
+    @Operation(summary = "Search users", description = "Ranked substring search on username and displayName. "
+            + "Minimum query length: 2 characters. Page with the returned cursor.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search results")
     public Mono<ServerResponse> searchUsers(ServerRequest req) {
         String q = req.queryParam("q").orElse("");
+        String cursor = req.queryParam("cursor").orElse(null);
         int size = Integer.parseInt(req.queryParam("size").orElse("20"));
-        return userService.searchUsers(q, size)
+        return userService.searchUsers(q, cursor, size)
                 .flatMap(page -> ServerResponse.ok().bodyValue(ApiResponse.success(page)));
     }
+
+    /**
+     * Autocomplete: users whose username or display-name word starts with
+     * {@code q}, served from the in-memory prefix index.
+     *
+     * @param req query params: {@code q}, {@code size}
+     * @return 200 with up to {@code size} user summaries, most-followed first
+     */
+    @Operation(summary = "Suggest users", description = "Prefix autocomplete on username and displayName words.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Suggestions")
+    public Mono<ServerResponse> suggestUsers(ServerRequest req) {
+        String q = req.queryParam("q").orElse("");
+        int size = Integer.parseInt(req.queryParam("size").orElse("10"));
+        return userService.suggestUsers(q, size)
+                .flatMap(items -> ServerResponse.ok().bodyValue(ApiResponse.success(items)));
+    }
 }
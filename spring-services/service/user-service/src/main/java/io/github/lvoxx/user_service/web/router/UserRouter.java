@@ -8,6 +8,7 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
 import io.github.lvoxx.common_keys.RouterPaths;
+import io.github.lvoxx.user_service.web.handler.UserAdminHandler;
 import io.github.lvoxx.user_service.web.handler.UserHandler;
 
 @Configuration
@@ -18,19 +19,33 @@ public class UserRouter {
         return route()
                 .GET(RouterPaths.UserService.ABOUTME, h::getMe)
                 .GET(RouterPaths.UserService.SEARCH, h::searchUsers)
+                .GET(RouterPaths.UserService.SEARCH_SUGGEST, h::suggestUsers)
                 .GET(RouterPaths.UserService.HISTORY, h::getHistory)
                 .GET(RouterPaths.UserService.FOLLOW_REQUESTS, h::getFollowRequests)
                 .GET(RouterPaths.UserService.BY_USERNAME, h::getByUsername)
                 .GET(RouterPaths.UserService.FOLLOWERS, h::getFollowers)
                 .GET(RouterPaths.UserService.FOLLOWING, h::getFollowing)
+                .GET(RouterPaths.UserService.KNOWN_FOLLOWERS, h::getKnownFollowers)
+                .GET(RouterPaths.UserService.RELATIONSHIP, h::getRelationship)
                 .PUT(RouterPaths.UserService.ABOUTME, h::updateProfile)
                 .PUT(RouterPaths.UserService.UPDATE_AVATAR, h::updateAvatar)
                 .PUT(RouterPaths.UserService.UPDATE_BACKGROUND, h::updateBackground)
                 .PUT(RouterPaths.UserService.UPDATE_SETTINGS, h::updateSettings)
                 .PUT(RouterPaths.UserService.RESPOND_FOLLOW_REQUEST, h::respondFollowRequest)
+                .POST(RouterPaths.UserService.RESPOND_FOLLOW_REQUESTS_BULK, h::respondFollowRequests)
                 .POST(RouterPaths.UserService.SUBMIT_VERIFICATION, h::submitVerification)
                 .POST(RouterPaths.UserService.FOLLOW, h::follow)
                 .DELETE(RouterPaths.UserService.FOLLOW, h::unfollow)
                 .build();
     }
+
+    @Bean
+    public RouterFunction<ServerResponse> userAdminRoutes(UserAdminHandler h) {
+        return route()
+                .GET(RouterPaths.UserService.ADMIN_EXPORT_USERS, h::exportUsers)
+                .GET(RouterPaths.UserService.ADMIN_EXPORT_FOLLOWERS, h::exportFollowers)
+                .GET(RouterPaths.UserService.ADMIN_EXPORT_BLOCKS, h::exportBlocks)
+                .POST(RouterPaths.UserService.ADMIN_REPUBLISH_PROFILES, h::republishProfiles)
+                .build();
+    }
 }
@@ -0,0 +1,86 @@
+package io.github.lvoxx.user_service.benchmark;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import io.github.lvoxx.common_core.model.ApiResponse;
+import io.github.lvoxx.user_service.dto.UserResponse;
+import io.github.lvoxx.user_service.web.cache.EncodedProfile;
+import io.github.lvoxx.user_service.web.cache.ProfileResponseCache;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Cost of producing the {@code GET /api/v1/users/{username}} body on a cache
+ * hit: encoding {@code ApiResponse.success(UserResponse)} per request versus
+ * splicing the pre-encoded profile bytes into a per-request envelope.
+ *
+ * <p>
+ * Not part of the test run. Build test classes, then start {@link #main} from
+ * the IDE or with the test classpath:
+ *
+ * <pre>{@code
+ * mvn -pl service/user-service -am test-compile
+ * mvn -pl service/user-service exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=io.github.lvoxx.user_service.benchmark.ProfileEncodingBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfileEncodingBenchmark {
+
+    private final DefaultDataBufferFactory buffers = DefaultDataBufferFactory.sharedInstance;
+
+    private JsonMapper jsonMapper;
+    private ProfileResponseCache profiles;
+    private UserResponse user;
+    private EncodedProfile encoded;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        profiles = new ProfileResponseCache(null, jsonMapper);
+        user = new UserResponse(UUID.randomUUID(), "alice", "Alice Nguyen",
+                "Photographer, coffee, long walks. Opinions are my own.",
+                "https://cdn.example.com/avatars/alice.jpg", "https://cdn.example.com/bg/alice.jpg",
+                "https://alice.example.com", "Ho Chi Minh City", true, false,
+                128_430, 312, 2_045, "USER", "ACTIVE", Instant.parse("2021-03-14T09:26:53Z"));
+        encoded = profiles.encode(user);
+    }
+
+    @Benchmark
+    public DataBuffer serializePerRequest() {
+        return buffers.wrap(jsonMapper.writeValueAsBytes(ApiResponse.success(user)));
+    }
+
+    @Benchmark
+    public DataBuffer preEncoded() {
+        return profiles.toBuffer(buffers, encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProfileEncodingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
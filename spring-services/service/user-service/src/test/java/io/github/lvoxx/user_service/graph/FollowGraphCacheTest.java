@@ -0,0 +1,93 @@
+package io.github.lvoxx.user_service.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+
+import io.github.lvoxx.user_service.properties.FollowGraphProperties;
+import io.github.lvoxx.user_service.repository.FollowerRepository;
+import reactor.core.publisher.Flux;
+
+@Tag("unit")
+@DisplayName("FollowGraphCache — bitmap adjacency kept fresh from follow events")
+@ExtendWith(MockitoExtension.class)
+class FollowGraphCacheTest {
+
+    @Mock private FollowerRepository followerRepo;
+
+    private FollowGraphProperties props;
+    private FollowGraphCache graph;
+
+    private UUID alice;
+    private UUID bob;
+
+    @BeforeEach
+    void setUp() {
+        props = new FollowGraphProperties();
+        graph = new FollowGraphCache(followerRepo, props);
+        alice = UUID.randomUUID();
+        bob = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("followers: given loaded set → dense ids map back to user ids")
+    void followers_givenLoadedSet_roundTripsIds() {
+        when(followerRepo.findAllFollowerIds(alice)).thenReturn(Flux.just(bob));
+        RoaringBitmap followers = graph.followers(alice).block();
+
+        assertThat(followers.getCardinality()).isEqualTo(1);
+        assertThat(graph.userId(followers.first())).isEqualTo(bob);
+    }
+
+    @Test
+    @DisplayName("onFollowed/onUnfollowed: given cached sets → both directions patched without reloading")
+    void onFollowEvents_givenCachedSets_patchInPlace() {
+        when(followerRepo.findAllFollowerIds(alice)).thenReturn(Flux.empty());
+        when(followerRepo.findAllFollowingIds(bob)).thenReturn(Flux.empty());
+        RoaringBitmap before = graph.followers(alice).block();
+        graph.following(bob).block();
+
+        graph.onFollowed(bob, alice);
+
+        assertThat(graph.contains(graph.followers(alice).block(), bob)).isTrue();
+        assertThat(graph.contains(graph.following(bob).block(), alice)).isTrue();
+        assertThat(before.isEmpty()).as("published bitmaps are never mutated").isTrue();
+
+        graph.onUnfollowed(bob, alice);
+
+        assertThat(graph.followers(alice).block().isEmpty()).isTrue();
+        verify(followerRepo, times(1)).findAllFollowerIds(alice);
+    }
+
+    @Test
+    @DisplayName("onFollowed: given sets not cached → nothing loaded, later load reads the database")
+    void onFollowed_givenUncachedSets_isIgnored() {
+        graph.onFollowed(bob, alice);
+
+        verifyNoInteractions(followerRepo);
+    }
+
+    @Test
+    @DisplayName("followers: given set over max-set-size → not cached, not rescanned, no ids assigned")
+    void followers_givenOversizedSet_isRefused() {
+        props.setMaxSetSize(1);
+        UUID carol = UUID.randomUUID();
+        when(followerRepo.findAllFollowerIds(alice)).thenReturn(Flux.just(bob, carol));
+
+        assertThat(graph.followers(alice).block()).isNull();
+        assertThat(graph.followers(alice).block()).isNull();
+
+        verify(followerRepo, times(1)).findAllFollowerIds(alice);
+        assertThat(graph.contains(RoaringBitmap.bitmapOf(0, 1), bob)).isFalse();
+    }
+}
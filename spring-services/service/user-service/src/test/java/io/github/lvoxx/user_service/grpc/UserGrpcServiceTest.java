@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
 import io.github.lvoxx.proto.user.CheckUserBlockedRequest;
+import io.github.lvoxx.proto.user.CheckUsersBlockedRequest;
 import io.github.lvoxx.proto.user.FindUserByIdRequest;
 import io.github.lvoxx.proto.user.FindUsersByIdsRequest;
 import io.github.lvoxx.proto.user.GetNotifPreferencesRequest;
@@ -25,6 +27,7 @@ import io.github.lvoxx.user_service.dto.UserSettingsResponse;
 import io.github.lvoxx.user_service.entity.User;
 import io.github.lvoxx.user_service.repository.UserRepository;
 import io.github.lvoxx.user_service.service.BlockService;
+import io.github.lvoxx.user_service.service.UserLookupService;
 import io.github.lvoxx.user_service.service.UserSettingsService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -41,6 +44,10 @@ class UserGrpcServiceTest {
     private BlockService blockService;
     @Mock
     private UserSettingsService userSettingsService;
+    @Mock
+    private UserLookupService userLookup;
+    @Mock
+    private UserSettingsWatchHub settingsWatch;
 
     private UserGrpcService userGrpcService;
 
@@ -49,7 +56,8 @@ class UserGrpcServiceTest {
 
     @BeforeEach
     void setUp() {
-        userGrpcService = new UserGrpcService(userRepository, blockService, userSettingsService);
+        userGrpcService = new UserGrpcService(userRepository, blockService, userSettingsService, userLookup,
+                settingsWatch);
 
         userId = UUID.randomUUID();
         testUser = User.builder()
@@ -103,28 +111,42 @@ class UserGrpcServiceTest {
     // ── findUsersByIds ────────────────────────────────────────────────────────
 
     @Test
-    void findUsersByIds_givenListOfIds_returnsUserList() {
+    void findUsersByIds_givenListOfIds_returnsUsersInRequestOrderFromLookup() {
         UUID userId2 = UUID.randomUUID();
-        User user2 = User.builder()
-                .id(userId2)
-                .username("bob")
-                .displayName("Bob")
-                .isVerified(false)
-                .isPrivate(false)
-                .role("USER")
-                .status("ACTIVE")
-                .createdAt(Instant.now())
+        UUID unknownId = UUID.randomUUID();
+
+        FindUsersByIdsRequest request = FindUsersByIdsRequest.newBuilder()
+                .addAllUserIds(List.of(userId2.toString(), unknownId.toString(), userId.toString()))
                 .build();
 
+        when(userLookup.findProfiles(List.of(userId2, unknownId, userId)))
+                .thenReturn(Mono.just(Map.of(
+                        userId, profile(userId, "alice"),
+                        userId2, profile(userId2, "bob"))));
+
+        StepVerifier.create(userGrpcService.findUsersByIds(Mono.just(request)))
+                .expectNextMatches(r -> r.getUsersCount() == 2
+                        && "bob".equals(r.getUsers(0).getUsername())
+                        && "alice".equals(r.getUsers(1).getUsername())
+                        && "ACTIVE".equals(r.getUsers(1).getStatus()))
+                .verifyComplete();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("findUsersByIds: given a suspended user → status is mapped through, not defaulted")
+    void findUsersByIds_givenSuspendedUser_mapsRealStatus() {
         FindUsersByIdsRequest request = FindUsersByIdsRequest.newBuilder()
-                .addAllUserIds(List.of(userId.toString(), userId2.toString()))
+                .addUserIds(userId.toString())
                 .build();
 
-        when(userRepository.findAllById(anyList()))
-                .thenReturn(Flux.just(testUser, user2));
+        when(userLookup.findProfiles(List.of(userId)))
+                .thenReturn(Mono.just(Map.of(userId, profile(userId, "alice", "SUSPENDED"))));
 
         StepVerifier.create(userGrpcService.findUsersByIds(Mono.just(request)))
-                .expectNextMatches(r -> r.getUsersCount() == 2)
+                .expectNextMatches(r -> r.getUsersCount() == 1
+                        && "SUSPENDED".equals(r.getUsers(0).getStatus()))
                 .verifyComplete();
     }
 
@@ -162,6 +184,31 @@ class UserGrpcServiceTest {
                 .verifyComplete();
     }
 
+    // ── checkUsersBlocked ─────────────────────────────────────────────────────
+
+    @Test
+    void checkUsersBlocked_givenTwoPages_returnsBlockedSubsetPerPageInOrder() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        CheckUsersBlockedRequest page1 = CheckUsersBlockedRequest.newBuilder()
+                .setViewerId(userId.toString())
+                .addAllUserIds(List.of(a.toString(), b.toString()))
+                .build();
+        CheckUsersBlockedRequest page2 = CheckUsersBlockedRequest.newBuilder()
+                .setViewerId(userId.toString())
+                .addUserIds(c.toString())
+                .build();
+
+        when(blockService.isBlockedAny(userId, List.of(a, b))).thenReturn(Mono.just(Map.of(a, false, b, true)));
+        when(blockService.isBlockedAny(userId, List.of(c))).thenReturn(Mono.just(Map.of(c, false)));
+
+        StepVerifier.create(userGrpcService.checkUsersBlocked(Flux.just(page1, page2)))
+                .expectNextMatches(r -> r.getBlockedUserIdsList().equals(List.of(b.toString())))
+                .expectNextMatches(r -> r.getBlockedUserIdsCount() == 0)
+                .verifyComplete();
+    }
+
     // ── getUserSettings ───────────────────────────────────────────────────────
 
     @Test
@@ -239,4 +286,13 @@ class UserGrpcServiceTest {
                         && !r.getEmailEnabled())
                 .verifyComplete();
     }
+
+    private static io.github.lvoxx.user_service.dto.UserResponse profile(UUID id, String username) {
+        return profile(id, username, "ACTIVE");
+    }
+
+    private static io.github.lvoxx.user_service.dto.UserResponse profile(UUID id, String username, String status) {
+        return new io.github.lvoxx.user_service.dto.UserResponse(id, username, null, null, null, null,
+                null, null, false, false, 0, 0, 0, "USER", status, Instant.now());
+    }
 }
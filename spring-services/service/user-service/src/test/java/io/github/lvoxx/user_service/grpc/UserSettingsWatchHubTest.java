@@ -0,0 +1,106 @@
+package io.github.lvoxx.user_service.grpc;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import io.github.lvoxx.user_service.dto.UserSettingsResponse;
+import io.github.lvoxx.user_service.service.UserSettingsService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.retry.Retry;
+
+@Tag("unit")
+@DisplayName("UserSettingsWatchHub — cross-pod settings change fan-out")
+@ExtendWith(MockitoExtension.class)
+class UserSettingsWatchHubTest {
+
+    @Mock private ReactiveStringRedisTemplate redis;
+    @Mock private UserSettingsService settingsService;
+
+    private Sinks.Many<ReactiveSubscription.Message<String, String>> channel;
+    private UserSettingsWatchHub hub;
+
+    @BeforeEach
+    void setUp() {
+        channel = Sinks.many().multicast().directBestEffort();
+        doReturn(channel.asFlux(), Flux.never()).when(redis).listenToChannel(UserSettingsWatchHub.CHANNEL);
+        hub = new UserSettingsWatchHub(redis, settingsService);
+        hub.subscribe();
+    }
+
+    @Test
+    @DisplayName("watch: given change published → marker first, then fresh settings")
+    void watch_givenChange_emitsMarkerThenSnapshot() {
+        UUID userId = UUID.randomUUID();
+        when(settingsService.reload(userId))
+                .thenReturn(Mono.just(new UserSettingsResponse(userId, false, true, "MENTIONS")));
+
+        StepVerifier.create(hub.watch())
+                .expectNextMatches(marker -> marker.getUserId().isEmpty())
+                .then(() -> channel.tryEmitNext(
+                        new ReactiveSubscription.ChannelMessage<>(UserSettingsWatchHub.CHANNEL, userId.toString())))
+                .expectNextMatches(c -> c.getUserId().equals(userId.toString())
+                        && !c.getSettings().getReadReceipts()
+                        && "MENTIONS".equals(c.getSettings().getNotificationLevel()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("watch: given channel subscription drops → active watcher errors")
+    void watch_givenChannelError_errorsWatcher() {
+        StepVerifier.create(hub.watch())
+                .expectNextMatches(marker -> marker.getUserId().isEmpty())
+                .then(() -> channel.tryEmitError(new IllegalStateException("connection reset")))
+                .expectErrorMatches(e -> e.getMessage().contains("interrupted"))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("watch: given channel subscription completes → active watcher errors")
+    void watch_givenChannelComplete_errorsWatcher() {
+        StepVerifier.create(hub.watch())
+                .expectNextMatches(marker -> marker.getUserId().isEmpty())
+                .then(channel::tryEmitComplete)
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("subscribe: given channel error → resubscribes and serves new watchers again")
+    void subscribe_givenChannelError_resubscribes() {
+        channel.tryEmitError(new IllegalStateException("connection reset"));
+
+        verify(redis, timeout(5_000).times(2)).listenToChannel(UserSettingsWatchHub.CHANNEL);
+        // The resubscription may still be completing; a client would simply reconnect
+        StepVerifier.create(hub.watch().retryWhen(Retry.fixedDelay(50, Duration.ofMillis(100))))
+                .expectNextMatches(marker -> marker.getUserId().isEmpty())
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("watch: given hub closed → refuses new watchers")
+    void watch_givenClosed_errors() {
+        hub.close();
+
+        StepVerifier.create(hub.watch())
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+}
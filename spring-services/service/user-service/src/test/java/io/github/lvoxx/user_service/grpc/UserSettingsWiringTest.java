@@ -0,0 +1,88 @@
+package io.github.lvoxx.user_service.grpc;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.user_service.dto.UpdateUserSettingsRequest;
+import io.github.lvoxx.user_service.entity.UserSettings;
+import io.github.lvoxx.user_service.repository.UserSettingsRepository;
+import io.github.lvoxx.user_service.service.UserSettingsService;
+import io.github.lvoxx.user_service.service.impl.UserSettingsServiceImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Wires the real {@link UserSettingsWatchHub} and {@link UserSettingsServiceImpl}
+ * together, so a constructor cycle between them fails here rather than at
+ * application startup.
+ */
+@Tag("unit")
+@DisplayName("UserSettingsWatchHub + UserSettingsService — bean wiring")
+@SpringJUnitConfig(UserSettingsWiringTest.Config.class)
+class UserSettingsWiringTest {
+
+    @Configuration
+    @Import({ UserSettingsWatchHub.class, UserSettingsServiceImpl.class })
+    static class Config {
+
+        @Bean
+        ReactiveStringRedisTemplate redis() {
+            ReactiveStringRedisTemplate redis = mock(ReactiveStringRedisTemplate.class);
+            // The hub subscribes while the context starts
+            doReturn(Flux.never()).when(redis).listenToChannel(UserSettingsWatchHub.CHANNEL);
+            return redis;
+        }
+
+        @Bean
+        UserSettingsRepository settingsRepo() {
+            return mock(UserSettingsRepository.class);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheKeys.UserService.USER_SETTINGS_KEY);
+        }
+    }
+
+    @Autowired private UserSettingsWatchHub hub;
+    @Autowired private UserSettingsService settingsService;
+    @Autowired private ReactiveStringRedisTemplate redis;
+    @Autowired private UserSettingsRepository settingsRepo;
+
+    @Test
+    @DisplayName("context: both beans are created and an update is announced on the hub's channel")
+    void context_givenBothBeans_wiresAndAnnouncesUpdates() {
+        UUID userId = UUID.randomUUID();
+        UserSettings settings = UserSettings.builder()
+                .userId(userId).readReceipts(true).onlineStatus(true).notificationLevel("ALL").build();
+        when(settingsRepo.findByUserId(userId)).thenReturn(Mono.just(settings));
+        when(settingsRepo.save(any(UserSettings.class))).thenReturn(Mono.just(settings));
+        when(redis.convertAndSend(UserSettingsWatchHub.CHANNEL, userId.toString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(hub.watch())
+                .expectNextMatches(marker -> marker.getUserId().isEmpty())
+                .thenCancel()
+                .verify();
+        StepVerifier.create(settingsService.updateSettings(userId, new UpdateUserSettingsRequest(false, null, null)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(redis).convertAndSend(UserSettingsWatchHub.CHANNEL, userId.toString());
+    }
+}
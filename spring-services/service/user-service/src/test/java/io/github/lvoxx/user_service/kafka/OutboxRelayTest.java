@@ -0,0 +1,197 @@
+package io.github.lvoxx.user_service.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.github.lvoxx.user.UserUnfollowedEvent;
+import io.github.lvoxx.user_service.entity.OutboxEvent;
+import io.github.lvoxx.user_service.properties.OutboxProperties;
+import io.github.lvoxx.user_service.repository.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.SenderResult;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("OutboxRelay — ordered, at-least-once relay to Kafka")
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock private OutboxRepository outboxRepo;
+    @Mock private ReactiveKafkaProducerTemplate<String, SpecificRecord> kafka;
+    @Mock private TransactionalOperator tx;
+
+    private SimpleMeterRegistry registry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxRepo, kafka, tx, new OutboxProperties(), registry);
+        lenient().when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        lenient().when(outboxRepo.findOldestCreatedAt()).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("relay: given another pod holds the lock → publishes nothing")
+    void relay_givenLockHeldElsewhere_skips() {
+        when(outboxRepo.tryRelayLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(relay.relay())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(outboxRepo, never()).claimNextBatch(anyInt(), anyLong());
+        verifyNoInteractions(kafka);
+    }
+
+    @Test
+    @DisplayName("relay: given batch → sends each key in insert order, deletes acknowledged rows")
+    void relay_givenBatch_publishesInOrderAndDeletes() {
+        when(outboxRepo.tryRelayLock(anyLong())).thenReturn(Mono.just(true));
+        when(outboxRepo.claimNextBatch(eq(200), anyLong())).thenReturn(Flux.just(
+                row(3L, "a", "f3"), row(1L, "a", "f1"), row(2L, "b", "f2")));
+        List<String> sentForA = new ArrayList<>();
+        when(kafka.send(eq("user.unfollowed"), anyString(), any(SpecificRecord.class))).thenAnswer(inv -> {
+            if ("a".equals(inv.getArgument(1))) {
+                sentForA.add(((UserUnfollowedEvent) inv.getArgument(2)).getFollowingId().toString());
+            }
+            return Mono.just(mock(SenderResult.class));
+        });
+        when(outboxRepo.deleteByIds(any(Long[].class))).thenReturn(Mono.just(3));
+
+        StepVerifier.create(relay.relay())
+                .expectNext(3)
+                .verifyComplete();
+
+        assertThat(sentForA).containsExactly("f1", "f3");
+        verify(outboxRepo).deleteByIds(argThat(ids -> List.of(ids).containsAll(List.of(1L, 2L, 3L))));
+        assertThat(registry.counter("user.outbox.published").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("relay: given send failure → failed row backs off, later rows of that key released, other keys relayed")
+    void relay_givenSendFailure_haltsOnlyThatKey() {
+        when(outboxRepo.tryRelayLock(anyLong())).thenReturn(Mono.just(true));
+        when(outboxRepo.claimNextBatch(eq(200), anyLong())).thenReturn(Flux.just(
+                row(1L, "a", "f1"), row(2L, "b", "f2"), row(3L, "a", "f3")));
+        when(kafka.send(anyString(), eq("a"), any(SpecificRecord.class)))
+                .thenReturn(Mono.error(new RuntimeException("broker down")));
+        when(kafka.send(anyString(), eq("b"), any(SpecificRecord.class)))
+                .thenReturn(Mono.just(mock(SenderResult.class)));
+        when(outboxRepo.recordFailure(anyLong(), anyString(), anyLong(), anyBoolean())).thenReturn(Mono.just(1));
+        when(outboxRepo.releaseByIds(any(Long[].class))).thenReturn(Mono.just(1));
+        when(outboxRepo.deleteByIds(any(Long[].class))).thenReturn(Mono.just(1));
+
+        StepVerifier.create(relay.relay())
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(kafka, times(1)).send(anyString(), eq("a"), any(SpecificRecord.class));
+        verify(outboxRepo).recordFailure(eq(1L), contains("broker down"), eq(1_000L), eq(false));
+        verify(outboxRepo).releaseByIds(new Long[] { 3L });
+        verify(outboxRepo).deleteByIds(new Long[] { 2L });
+        assertThat(registry.counter("user.outbox.parked").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("relay: given repeated failures → back-off doubles up to the cap, row parked at max attempts")
+    void relay_givenMaxAttemptsReached_parksRow() {
+        when(outboxRepo.tryRelayLock(anyLong())).thenReturn(Mono.just(true));
+        OutboxEvent retried = row(1L, "a", "f1");
+        retried.setAttempts(3);
+        OutboxEvent exhausted = row(2L, "b", "f2");
+        exhausted.setAttempts(14);
+        when(outboxRepo.claimNextBatch(eq(200), anyLong())).thenReturn(Flux.just(retried, exhausted));
+        when(kafka.send(anyString(), anyString(), any(SpecificRecord.class)))
+                .thenReturn(Mono.error(new RuntimeException("broker down")));
+        when(outboxRepo.recordFailure(anyLong(), anyString(), anyLong(), anyBoolean())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(relay.relay())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(outboxRepo).recordFailure(eq(1L), anyString(), eq(8_000L), eq(false));
+        verify(outboxRepo).recordFailure(eq(2L), anyString(), eq(300_000L), eq(true));
+        verify(outboxRepo, never()).releaseByIds(any(Long[].class));
+        verify(outboxRepo, never()).deleteByIds(any(Long[].class));
+        assertThat(registry.counter("user.outbox.parked").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("relay: given undecodable or oversized row → parked on the first attempt, later rows released")
+    void relay_givenPoisonRow_parksImmediately() {
+        when(outboxRepo.tryRelayLock(anyLong())).thenReturn(Mono.just(true));
+        OutboxEvent undecodable = row(1L, "a", "f1");
+        undecodable.setEventClass("io.github.lvoxx.user.NoSuchEvent");
+        when(outboxRepo.claimNextBatch(eq(200), anyLong())).thenReturn(Flux.just(
+                undecodable, row(2L, "b", "f2"), row(3L, "a", "f3")));
+        when(kafka.send(anyString(), eq("b"), any(SpecificRecord.class)))
+                .thenReturn(Mono.error(new KafkaException(new RecordTooLargeException("too large"))));
+        when(outboxRepo.recordFailure(anyLong(), anyString(), anyLong(), anyBoolean())).thenReturn(Mono.just(1));
+        when(outboxRepo.releaseByIds(any(Long[].class))).thenReturn(Mono.just(1));
+
+        StepVerifier.create(relay.relay())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(outboxRepo).recordFailure(eq(1L), anyString(), anyLong(), eq(true));
+        verify(outboxRepo).recordFailure(eq(2L), contains("too large"), anyLong(), eq(true));
+        verify(outboxRepo).releaseByIds(new Long[] { 3L });
+        assertThat(registry.counter("user.outbox.parked").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("relay: given old unrelayed event → lag gauge reports its age")
+    void relay_givenBacklog_updatesLagGauge() {
+        when(outboxRepo.tryRelayLock(anyLong())).thenReturn(Mono.just(false));
+        when(outboxRepo.findOldestCreatedAt()).thenReturn(Mono.just(Instant.now().minusSeconds(30)));
+
+        StepVerifier.create(relay.relay())
+                .expectNext(0)
+                .verifyComplete();
+
+        assertThat(registry.get("user.outbox.lag").gauge().value()).isGreaterThanOrEqualTo(29.0);
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private static OutboxEvent row(long id, String key, String followingId) {
+        UserUnfollowedEvent event = UserUnfollowedEvent.newBuilder()
+                .setEventId("e" + id)
+                .setEventType("USER_UNFOLLOWED")
+                .setVersion("1")
+                .setTimestamp(Instant.now())
+                .setProducerService("user-service")
+                .setFollowerId(key)
+                .setFollowingId(followingId)
+                .build();
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateKey(key)
+                .topic("user.unfollowed")
+                .eventClass(UserUnfollowedEvent.class.getName())
+                .payload(OutboxCodec.encode(event))
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.lvoxx.user_service.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+
+import io.github.lvoxx.common_core.exception.ConflictException;
+import io.github.lvoxx.user.UserProfileUpdatedEvent;
+import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.properties.ExportProperties;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.SenderResult;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("ProfileRepublisher — throttled bulk re-publish of profile events")
+@ExtendWith(MockitoExtension.class)
+class ProfileRepublisherTest {
+
+    @Mock private UserRepository userRepo;
+    @Mock private ReactiveKafkaProducerTemplate<String, SpecificRecord> kafka;
+
+    private ExportProperties props;
+    private SimpleMeterRegistry registry;
+    private ProfileRepublisher republisher;
+
+    @BeforeEach
+    void setUp() {
+        props = new ExportProperties();
+        registry = new SimpleMeterRegistry();
+        republisher = new ProfileRepublisher(userRepo, kafka, props, registry);
+    }
+
+    @Test
+    @DisplayName("run: given users across several pages → one event per user, keyed by id")
+    void run_givenPagedUsers_sendsOneEventPerUser() {
+        props.setRepublishBatchSize(2);
+        List<User> users = users(3);
+        when(userRepo.findProfilesAfter(any(UUID.class), eq(2)))
+                .thenReturn(Flux.just(users.get(0), users.get(1)))
+                .thenReturn(Flux.just(users.get(2)));
+        when(kafka.send(anyString(), anyString(), any(SpecificRecord.class)))
+                .thenReturn(Mono.just(mock(SenderResult.class)));
+
+        StepVerifier.withVirtualTime(() -> republisher.run(1000))
+                .thenAwait(Duration.ofSeconds(1))
+                .expectNext(3L)
+                .verifyComplete();
+
+        ArgumentCaptor<SpecificRecord> events = ArgumentCaptor.forClass(SpecificRecord.class);
+        verify(kafka).send(eq("user.profile.updated"), eq(users.get(2).getId().toString()), events.capture());
+        assertThat(((UserProfileUpdatedEvent) events.getValue()).getUsername()).isEqualTo("user2");
+        verify(userRepo).findProfilesAfter(users.get(1).getId(), 2);
+        assertThat(registry.counter("user.republish.published").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("run: given more users than one slice → paced to the requested rate")
+    void run_givenRate_spreadsSendsOverTime() {
+        // 100/s is sent as 10 users every 100 ms, so 30 users take 300 ms
+        when(userRepo.findProfilesAfter(any(UUID.class), anyInt())).thenReturn(Flux.fromIterable(users(30)));
+        when(kafka.send(anyString(), anyString(), any(SpecificRecord.class)))
+                .thenReturn(Mono.just(mock(SenderResult.class)));
+
+        StepVerifier.withVirtualTime(() -> republisher.run(100))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(250))
+                .thenAwait(Duration.ofMillis(50))
+                .expectNext(30L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("run: given Kafka send fails → run stops with the error")
+    void run_givenSendFailure_stops() {
+        when(userRepo.findProfilesAfter(any(UUID.class), anyInt())).thenReturn(Flux.fromIterable(users(1)));
+        when(kafka.send(anyString(), anyString(), any(SpecificRecord.class)))
+                .thenReturn(Mono.error(new RuntimeException("broker down")));
+
+        StepVerifier.withVirtualTime(() -> republisher.run(100))
+                .thenAwait(Duration.ofSeconds(1))
+                .verifyErrorMessage("broker down");
+    }
+
+    @Test
+    @DisplayName("start: given a run in progress → ConflictException")
+    void start_givenRunInProgress_throwsConflict() {
+        when(userRepo.findProfilesAfter(any(UUID.class), anyInt())).thenReturn(Flux.fromIterable(users(1)));
+        when(kafka.send(anyString(), anyString(), any(SpecificRecord.class))).thenReturn(Mono.never());
+
+        StepVerifier.create(republisher.start(100)).verifyComplete();
+        assertThat(republisher.isRunning()).isTrue();
+
+        StepVerifier.create(republisher.start(100))
+                .expectError(ConflictException.class)
+                .verify();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private static List<User> users(int n) {
+        return IntStream.range(0, n)
+                .<User>mapToObj(i -> User.builder().id(UUID.randomUUID()).username("user" + i).build())
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.lvoxx.user_service.kafka;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -9,30 +10,31 @@ import org.apache.avro.specific.SpecificRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
 
+import io.github.lvoxx.user.UserAvatarChangedEvent;
+import io.github.lvoxx.user_service.entity.OutboxEvent;
 import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.repository.OutboxRepository;
 import reactor.core.publisher.Mono;
-import reactor.kafka.sender.SenderResult;
 import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class UserEventPublisherTest {
 
         @Mock
-        private ReactiveKafkaProducerTemplate<String, SpecificRecord> kafka;
+        private OutboxRepository outbox;
 
         private UserEventPublisher userEventPublisher;
 
         private UUID userId;
         private User testUser;
 
-        @SuppressWarnings("unchecked")
         @BeforeEach
         void setUp() {
-                userEventPublisher = new UserEventPublisher(kafka);
+                userEventPublisher = new UserEventPublisher(outbox);
 
                 userId = UUID.randomUUID();
                 testUser = User.builder()
@@ -43,10 +45,8 @@ class UserEventPublisherTest {
                                 .backgroundUrl("http://example.com/alice-bg.jpg")
                                 .build();
 
-                SenderResult<Void> senderResult = mock(SenderResult.class);
-
-                when(kafka.send(anyString(), anyString(), any(SpecificRecord.class)))
-                                .thenReturn(Mono.just(senderResult));
+                when(outbox.save(any(OutboxEvent.class)))
+                                .thenAnswer(inv -> Mono.just(inv.getArgument(0)));
         }
 
         // ── publishProfileUpdated ─────────────────────────────────────────────────
@@ -56,7 +56,7 @@ class UserEventPublisherTest {
                 StepVerifier.create(userEventPublisher.publishProfileUpdated(testUser))
                                 .verifyComplete();
 
-                verify(kafka).send(eq("user.profile.updated"), eq(userId.toString()), any(SpecificRecord.class));
+                queued("user.profile.updated", userId.toString());
         }
 
         // ── publishAvatarChanged ──────────────────────────────────────────────────
@@ -66,7 +66,7 @@ class UserEventPublisherTest {
                 StepVerifier.create(userEventPublisher.publishAvatarChanged(testUser))
                                 .verifyComplete();
 
-                verify(kafka).send(eq("user.avatar.changed"), eq(userId.toString()), any(SpecificRecord.class));
+                queued("user.avatar.changed", userId.toString());
         }
 
         @Test
@@ -80,7 +80,8 @@ class UserEventPublisherTest {
                 StepVerifier.create(userEventPublisher.publishAvatarChanged(userWithNullAvatar))
                                 .verifyComplete();
 
-                verify(kafka).send(eq("user.avatar.changed"), eq(userId.toString()), any(SpecificRecord.class));
+                UserAvatarChangedEvent event = (UserAvatarChangedEvent) queued("user.avatar.changed", userId.toString());
+                assertThat(event.getAvatarUrl()).isEmpty();
         }
 
         // ── publishBackgroundChanged ──────────────────────────────────────────────
@@ -90,7 +91,7 @@ class UserEventPublisherTest {
                 StepVerifier.create(userEventPublisher.publishBackgroundChanged(testUser))
                                 .verifyComplete();
 
-                verify(kafka).send(eq("user.background.changed"), eq(userId.toString()), any(SpecificRecord.class));
+                queued("user.background.changed", userId.toString());
         }
 
         @Test
@@ -104,7 +105,7 @@ class UserEventPublisherTest {
                 StepVerifier.create(userEventPublisher.publishBackgroundChanged(userWithNullBg))
                                 .verifyComplete();
 
-                verify(kafka).send(eq("user.background.changed"), eq(userId.toString()), any(SpecificRecord.class));
+                queued("user.background.changed", userId.toString());
         }
 
         // ── publishFollowed ───────────────────────────────────────────────────────
@@ -117,7 +118,7 @@ class UserEventPublisherTest {
                 StepVerifier.create(userEventPublisher.publishFollowed(followerId, followingId, "bob"))
                                 .verifyComplete();
 
-                verify(kafka).send(eq("user.followed"), eq(followerId.toString()), any(SpecificRecord.class));
+                queued("user.followed", followerId.toString());
         }
 
         @Test
@@ -128,7 +129,7 @@ class UserEventPublisherTest {
                 StepVerifier.create(userEventPublisher.publishFollowed(followerId, followingId, null))
                                 .verifyComplete();
 
-                verify(kafka).send(eq("user.followed"), eq(followerId.toString()), any(SpecificRecord.class));
+                queued("user.followed", followerId.toString());
         }
 
         // ── publishUnfollowed ─────────────────────────────────────────────────────
@@ -141,6 +142,19 @@ class UserEventPublisherTest {
                 StepVerifier.create(userEventPublisher.publishUnfollowed(followerId, followingId))
                                 .verifyComplete();
 
-                verify(kafka).send(eq("user.unfollowed"), eq(followerId.toString()), any(SpecificRecord.class));
+                queued("user.unfollowed", followerId.toString());
+        }
+
+        // ── Helpers ───────────────────────────────────────────────────────────────
+
+        /** Asserts exactly one event was queued for {@code topic}/{@code key} and decodes it. */
+        private SpecificRecord queued(String topic, String key) {
+                ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+                verify(outbox).save(captor.capture());
+                OutboxEvent row = captor.getValue();
+                assertThat(row.getTopic()).isEqualTo(topic);
+                assertThat(row.getAggregateKey()).isEqualTo(key);
+                assertThat(row.getCreatedAt()).isNotNull();
+                return OutboxCodec.decode(row.getEventClass(), row.getPayload());
         }
 }
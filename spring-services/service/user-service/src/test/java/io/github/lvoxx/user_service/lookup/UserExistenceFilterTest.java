@@ -0,0 +1,129 @@
+package io.github.lvoxx.user_service.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.properties.ExistenceFilterProperties;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("UserExistenceFilter — negative lookups for unknown users")
+@ExtendWith(MockitoExtension.class)
+class UserExistenceFilterTest {
+
+    @Mock private UserRepository userRepo;
+
+    private ExistenceFilterProperties props;
+    private SimpleMeterRegistry registry;
+    private UserExistenceFilter filter;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        props = new ExistenceFilterProperties();
+        props.setRebuildBatchSize(2);
+        registry = new SimpleMeterRegistry();
+        filter = new UserExistenceFilter(userRepo, props, registry);
+        alice = user("alice");
+        lenient().when(userRepo.findKeysCreatedSince(any())).thenReturn(Flux.empty());
+    }
+
+    @Test
+    @DisplayName("mightExist: given filter not built yet → admits everything")
+    void mightExist_givenNotBuilt_failsOpen() {
+        assertThat(filter.mightExistByUsername("anyone")).isTrue();
+        assertThat(filter.mightExistById(UUID.randomUUID())).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild: given users across several pages → all ids and usernames admitted, others rejected")
+    void rebuild_givenPagedUsers_admitsOnlyKnownUsers() {
+        User bob = user("bob");
+        User carol = user("carol");
+        when(userRepo.countByIsDeletedFalse()).thenReturn(Mono.just(3L));
+        when(userRepo.findActiveKeysAfter(any(UUID.class), eq(2)))
+                .thenReturn(Flux.just(alice, bob))
+                .thenReturn(Flux.just(carol));
+
+        StepVerifier.create(filter.rebuild())
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertThat(filter.mightExistByUsername("alice")).isTrue();
+        assertThat(filter.mightExistByUsername("carol")).isTrue();
+        assertThat(filter.mightExistById(bob.getId())).isTrue();
+        assertThat(filter.mightExistByUsername("mallory")).isFalse();
+        assertThat(filter.mightExistById(UUID.randomUUID())).isFalse();
+        verify(userRepo).findActiveKeysAfter(bob.getId(), 2);
+    }
+
+    @Test
+    @DisplayName("catchUp: given user created after rebuild → admitted")
+    void catchUp_givenNewUser_admitsIt() {
+        buildWith(alice);
+        User dave = user("dave");
+        when(userRepo.findKeysCreatedSince(any())).thenReturn(Flux.just(dave));
+
+        StepVerifier.create(filter.catchUp())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertThat(filter.mightExistByUsername("dave")).isTrue();
+    }
+
+    @Test
+    @DisplayName("mightExist: given catch-up stale beyond max-staleness → admits everything")
+    void mightExist_givenStale_failsOpen() {
+        buildWith(alice);
+        assertThat(filter.mightExistByUsername("mallory")).isFalse();
+
+        props.setMaxStaleness(Duration.ZERO.minusSeconds(1));
+
+        assertThat(filter.mightExistByUsername("mallory")).isTrue();
+    }
+
+    @Test
+    @DisplayName("admit: given known and unknown values → counts admitted and rejected per kind")
+    void admit_givenMixedLookups_countsOutcomes() {
+        buildWith(alice);
+
+        assertThat(filter.admit(UserExistenceFilter.Kind.USERNAME, "alice")).isTrue();
+        assertThat(filter.admit(UserExistenceFilter.Kind.USERNAME, "mallory")).isFalse();
+        filter.recordFalsePositive(UserExistenceFilter.Kind.ID);
+
+        assertThat(registry.counter("user.existence_filter.admitted", "kind", "username").count()).isEqualTo(1.0);
+        assertThat(registry.counter("user.existence_filter.rejected", "kind", "username").count()).isEqualTo(1.0);
+        assertThat(registry.counter("user.existence_filter.false_positive", "kind", "id").count()).isEqualTo(1.0);
+        assertThat(registry.get("user.existence_filter.entries").gauge().value()).isEqualTo(2.0);
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private void buildWith(User... users) {
+        when(userRepo.countByIsDeletedFalse()).thenReturn(Mono.just((long) users.length));
+        when(userRepo.findActiveKeysAfter(any(UUID.class), anyInt())).thenReturn(Flux.just(users));
+        filter.rebuild().block();
+    }
+
+    private static User user(String username) {
+        return User.builder().id(UUID.randomUUID()).username(username).build();
+    }
+}
@@ -3,6 +3,7 @@ package io.github.lvoxx.user_service.repository;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,72 +25,80 @@ class AccountHistoryRepositoryIT extends AbstractDatabaseTestContainer {
     private AccountHistoryRepository accountHistoryRepository;
 
     private UUID userId;
+    private Instant base;
+    private UUID middleId;
 
     @BeforeEach
     void setUp() {
         userId = UUID.randomUUID();
-        Instant base = Instant.now();
-
-        // oldest
-        accountHistoryRepository.save(AccountHistory.builder()
-                .id(UUID.randomUUID())
-                .userId(userId)
-                .action("LOGIN")
-                .detail("First login")
-                .ip("10.0.0.1")
-                .createdAt(base.minusSeconds(120))
-                .build()).block();
-
-        // middle
-        accountHistoryRepository.save(AccountHistory.builder()
-                .id(UUID.randomUUID())
-                .userId(userId)
-                .action("PROFILE_UPDATE")
-                .detail("Changed bio")
-                .ip("10.0.0.1")
-                .createdAt(base.minusSeconds(60))
-                .build()).block();
-
-        // newest
-        accountHistoryRepository.save(AccountHistory.builder()
-                .id(UUID.randomUUID())
-                .userId(userId)
-                .action("PASSWORD_CHANGE")
-                .detail("New password set")
-                .ip("10.0.0.2")
-                .createdAt(base)
-                .build()).block();
+        middleId = UUID.randomUUID();
+        // TIMESTAMPTZ keeps microseconds; truncate so keyset comparisons round-trip exactly
+        base = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        accountHistoryRepository.insertBatch(
+                new UUID[] { UUID.randomUUID(), middleId, UUID.randomUUID(), UUID.randomUUID() },
+                new UUID[] { userId, userId, userId, userId },
+                new String[] { "LOGIN", "PROFILE_UPDATE", "PASSWORD_CHANGE", "LOGIN" },
+                new String[] { "{\"device\":\"web\"}", "{\"fields\":[\"bio\"]}", null, "{\"device\":\"ios\"}" },
+                new String[] { "10.0.0.1", "10.0.0.1", "10.0.0.2", null },
+                new Instant[] { base.minusSeconds(120), base.minusSeconds(60), base,
+                        base.minus(400, ChronoUnit.DAYS) })
+                .block();
+    }
+
+    // ── insertBatch ───────────────────────────────────────────────────────────
+
+    @Test
+    void insertBatch_givenRows_roundTripsDetailAndIp() {
+        StepVerifier.create(accountHistoryRepository
+                .findRecentByUserIdBefore(userId, base.minusSeconds(3600), base.minusSeconds(30), UUID.randomUUID(), 1))
+                .expectNextMatches(h -> h.getId().equals(middleId)
+                        && "{\"fields\": [\"bio\"]}".equals(h.getDetail())
+                        && "10.0.0.1".equals(h.getIp()))
+                .verifyComplete();
     }
 
-    // ── findByUserIdOrderByCreatedAtDesc ──────────────────────────────────────
+    // ── findRecentByUserId ────────────────────────────────────────────────────
 
     @Test
-    void findByUserIdOrderByCreatedAtDesc_givenUserId_returnsInDescOrder() {
+    void findRecentByUserId_givenUserId_returnsInDescOrderWithinWindow() {
         StepVerifier.create(accountHistoryRepository
-                .findByUserIdOrderByCreatedAtDesc(userId, 50).collectList())
+                .findRecentByUserId(userId, base.minus(90, ChronoUnit.DAYS), 50).collectList())
                 .expectNextMatches(list -> {
-                    assertThat(list).hasSize(3);
-                    assertThat(list.get(0).getAction()).isEqualTo("PASSWORD_CHANGE");
-                    assertThat(list.get(1).getAction()).isEqualTo("PROFILE_UPDATE");
-                    assertThat(list.get(2).getAction()).isEqualTo("LOGIN");
+                    assertThat(list).extracting(AccountHistory::getAction)
+                            .containsExactly("PASSWORD_CHANGE", "PROFILE_UPDATE", "LOGIN");
                     return true;
                 })
                 .verifyComplete();
     }
 
     @Test
-    void findByUserIdOrderByCreatedAtDesc_givenLimit_respectsLimit() {
+    void findRecentByUserId_givenLimit_respectsLimit() {
         StepVerifier.create(accountHistoryRepository
-                .findByUserIdOrderByCreatedAtDesc(userId, 2).collectList())
+                .findRecentByUserId(userId, base.minus(90, ChronoUnit.DAYS), 2).collectList())
                 .expectNextMatches(list -> list.size() == 2)
                 .verifyComplete();
     }
 
     @Test
-    void findByUserIdOrderByCreatedAtDesc_givenDifferentUser_returnsEmpty() {
+    void findRecentByUserId_givenDifferentUser_returnsEmpty() {
         StepVerifier.create(accountHistoryRepository
-                .findByUserIdOrderByCreatedAtDesc(UUID.randomUUID(), 50).collectList())
+                .findRecentByUserId(UUID.randomUUID(), base.minus(90, ChronoUnit.DAYS), 50).collectList())
                 .expectNextMatches(List::isEmpty)
                 .verifyComplete();
     }
+
+    // ── findRecentByUserIdBefore ──────────────────────────────────────────────
+
+    @Test
+    void findRecentByUserIdBefore_givenPosition_returnsStrictlyOlderRows() {
+        StepVerifier.create(accountHistoryRepository
+                .findRecentByUserIdBefore(userId, base.minus(90, ChronoUnit.DAYS),
+                        base.minusSeconds(60), middleId, 50).collectList())
+                .expectNextMatches(list -> {
+                    assertThat(list).extracting(AccountHistory::getAction).containsExactly("LOGIN");
+                    return true;
+                })
+                .verifyComplete();
+    }
 }
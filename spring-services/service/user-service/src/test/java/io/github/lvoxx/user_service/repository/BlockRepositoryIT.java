@@ -84,4 +84,16 @@ class BlockRepositoryIT extends AbstractDatabaseTestContainer {
                 .expectNext(false)
                 .verifyComplete();
     }
+
+    // ── findBlockCounterparts ─────────────────────────────────────────────────
+
+    @Test
+    void findBlockCounterparts_givenBlockInEitherDirection_returnsOtherSide() {
+        StepVerifier.create(blockRepository.findBlockCounterparts(blockerId))
+                .expectNext(blockedId)
+                .verifyComplete();
+        StepVerifier.create(blockRepository.findBlockCounterparts(blockedId))
+                .expectNext(blockerId)
+                .verifyComplete();
+    }
 }
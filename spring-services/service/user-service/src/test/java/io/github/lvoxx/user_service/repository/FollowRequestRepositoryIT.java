@@ -59,30 +59,64 @@ class FollowRequestRepositoryIT extends AbstractDatabaseTestContainer {
         return userRepository.save(user).block().getId();
     }
 
-    // ── findByTargetIdAndStatus ───────────────────────────────────────────────
+    // ── findPendingByTargetId / Before ────────────────────────────────────────
 
     @Test
-    void findByTargetIdAndStatus_givenPendingStatus_returnsCorrectRequests() {
-        StepVerifier.create(followRequestRepository.findByTargetIdAndStatus(targetId, "PENDING").collectList())
-                .expectNextMatches(list -> !list.isEmpty()
-                        && list.stream().allMatch(r -> "PENDING".equals(r.getStatus()))
-                        && list.stream().anyMatch(r -> r.getRequesterId().equals(requesterId)))
+    void findPendingByTargetId_givenPendingRequest_returnsIt() {
+        StepVerifier.create(followRequestRepository.findPendingByTargetId(targetId, 10).collectList())
+                .expectNextMatches(list -> list.size() == 1
+                        && "PENDING".equals(list.get(0).getStatus())
+                        && list.get(0).getRequesterId().equals(requesterId))
                 .verifyComplete();
     }
 
     @Test
-    void findByTargetIdAndStatus_givenDifferentStatus_returnsEmpty() {
-        StepVerifier.create(followRequestRepository.findByTargetIdAndStatus(targetId, "APPROVED").collectList())
+    void findPendingByTargetId_givenNonMatchingTarget_returnsEmpty() {
+        UUID otherTarget = createUser("other_" + UUID.randomUUID().toString().substring(0, 8));
+
+        StepVerifier.create(followRequestRepository.findPendingByTargetId(otherTarget, 10).collectList())
                 .expectNextMatches(list -> list.isEmpty())
                 .verifyComplete();
     }
 
     @Test
-    void findByTargetIdAndStatus_givenNonMatchingTarget_returnsEmpty() {
-        UUID otherTarget = createUser("other_" + UUID.randomUUID().toString().substring(0, 8));
+    void findPendingByTargetIdBefore_givenNewestPosition_returnsOnlyOlder() {
+        UUID olderRequester = createUser("older_" + UUID.randomUUID().toString().substring(0, 8));
+        followRequestRepository.save(FollowRequest.builder()
+                .id(UUID.randomUUID())
+                .requesterId(olderRequester)
+                .targetId(targetId)
+                .status("PENDING")
+                .createdAt(Instant.now().minusSeconds(60))
+                .build()).block();
+        FollowRequest newest = followRequestRepository.findPendingByTargetId(targetId, 1).blockFirst();
 
-        StepVerifier.create(followRequestRepository.findByTargetIdAndStatus(otherTarget, "PENDING").collectList())
-                .expectNextMatches(list -> list.isEmpty())
+        StepVerifier.create(followRequestRepository
+                .findPendingByTargetIdBefore(targetId, newest.getCreatedAt(), newest.getId(), 10).collectList())
+                .expectNextMatches(list -> list.size() == 1 && list.get(0).getRequesterId().equals(olderRequester))
+                .verifyComplete();
+    }
+
+    // ── resolvePending ────────────────────────────────────────────────────────
+
+    @Test
+    void resolvePending_givenOwnPendingRequest_transitionsAndReturnsRequester() {
+        UUID reqId = followRequestRepository.findPendingByTargetId(targetId, 1).blockFirst().getId();
+
+        StepVerifier.create(followRequestRepository.resolvePending(targetId, new UUID[] { reqId }, "APPROVED"))
+                .expectNext(requesterId)
+                .verifyComplete();
+
+        // Second call finds nothing pending
+        StepVerifier.create(followRequestRepository.resolvePending(targetId, new UUID[] { reqId }, "APPROVED"))
+                .verifyComplete();
+    }
+
+    @Test
+    void resolvePending_givenOtherUsersRequest_skipsIt() {
+        UUID reqId = followRequestRepository.findPendingByTargetId(targetId, 1).blockFirst().getId();
+
+        StepVerifier.create(followRequestRepository.resolvePending(requesterId, new UUID[] { reqId }, "REJECTED"))
                 .verifyComplete();
     }
 
@@ -1,5 +1,7 @@
 package io.github.lvoxx.user_service.repository;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -12,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 import io.github.lvoxx.user_service.entity.Follower;
 import io.github.lvoxx.user_service.entity.User;
 import io.github.lvoxx.user_service.testcontainers.AbstractDatabaseTestContainer;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 @ActiveProfiles("test")
@@ -76,11 +79,38 @@ class FollowerRepositoryIT extends AbstractDatabaseTestContainer {
                 .verifyComplete();
     }
 
-    // ── deleteByFollowerIdAndFollowingId ──────────────────────────────────────
+    // ── insertIfAbsent / deleteIfPresent ──────────────────────────────────────
+
+    @Test
+    void insertIfAbsent_givenExistingRow_reportsNoChange() {
+        StepVerifier.create(followerRepository.insertIfAbsent(userId1, userId2))
+                .expectNext(0)
+                .verifyComplete();
+    }
+
+    @Test
+    void insertIfAbsent_givenNewPair_insertsRow() {
+        StepVerifier.create(followerRepository.insertIfAbsent(userId1, userId3))
+                .expectNext(1)
+                .verifyComplete();
+
+        StepVerifier.create(followerRepository.existsByFollowerIdAndFollowingId(userId1, userId3))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void insertAllIfAbsent_givenMixOfNewAndExisting_returnsOnlyNewFollowers() {
+        // userId1 → userId2 already exists; userId3 → userId2 is new
+        StepVerifier.create(followerRepository.insertAllIfAbsent(new UUID[] { userId1, userId3 }, userId2))
+                .expectNext(userId3)
+                .verifyComplete();
+    }
 
     @Test
-    void deleteByFollowerIdAndFollowingId_givenExistingRow_removesRow() {
-        StepVerifier.create(followerRepository.deleteByFollowerIdAndFollowingId(userId1, userId2))
+    void deleteIfPresent_givenExistingRow_removesRow() {
+        StepVerifier.create(followerRepository.deleteIfPresent(userId1, userId2))
+                .expectNext(1)
                 .verifyComplete();
 
         StepVerifier.create(followerRepository.existsByFollowerIdAndFollowingId(userId1, userId2))
@@ -88,6 +118,27 @@ class FollowerRepositoryIT extends AbstractDatabaseTestContainer {
                 .verifyComplete();
     }
 
+    @Test
+    void deleteIfPresent_givenMissingRow_reportsNoChange() {
+        StepVerifier.create(followerRepository.deleteIfPresent(userId1, userId3))
+                .expectNext(0)
+                .verifyComplete();
+    }
+
+    @Test
+    void insertIfAbsentAndDeleteIfPresent_givenConcurrentCallsOnSamePair_netChangeMatchesFinalRow() {
+        // Sum of +inserted / -deleted is exactly what the counters would apply
+        Integer net = Flux.range(0, 400)
+                .flatMap(i -> i % 2 == 0
+                        ? followerRepository.insertIfAbsent(userId1, userId3)
+                        : followerRepository.deleteIfPresent(userId1, userId3).map(n -> -n), 32)
+                .reduce(0, Integer::sum)
+                .block();
+
+        boolean exists = followerRepository.existsByFollowerIdAndFollowingId(userId1, userId3).block();
+        assertThat(net).isEqualTo(exists ? 1 : 0);
+    }
+
     // ── findFollowersByUserId ─────────────────────────────────────────────────
 
     @Test
@@ -114,6 +165,25 @@ class FollowerRepositoryIT extends AbstractDatabaseTestContainer {
                 .verifyComplete();
     }
 
+    @Test
+    void findFollowersByUserIdBefore_givenLastRow_returnsOnlyOlderRows() {
+        Instant older = Instant.now().minusSeconds(60);
+        followerRepository.save(Follower.builder()
+                .followerId(userId3)
+                .followingId(userId2)
+                .createdAt(older)
+                .build()).block();
+
+        // Page 1 (size 1) is userId1 (newest); seeking past it must yield userId3 only
+        Follower first = followerRepository.findFollowersByUserId(userId2, 1).blockFirst();
+
+        StepVerifier.create(followerRepository
+                        .findFollowersByUserIdBefore(userId2, first.getCreatedAt(), first.getFollowerId(), 10)
+                        .collectList())
+                .expectNextMatches(list -> list.size() == 1 && list.get(0).getFollowerId().equals(userId3))
+                .verifyComplete();
+    }
+
     // ── findFollowingByUserId ─────────────────────────────────────────────────
 
     @Test
@@ -0,0 +1,149 @@
+package io.github.lvoxx.user_service.repository;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.lvoxx.user_service.entity.OutboxEvent;
+import io.github.lvoxx.user_service.testcontainers.AbstractDatabaseTestContainer;
+import reactor.test.StepVerifier;
+
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class OutboxRepositoryIT extends AbstractDatabaseTestContainer {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    private Long firstId;
+    private Long secondId;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll().block();
+        firstId = save("key-a", Instant.now().minusSeconds(10));
+        secondId = save("key-b", Instant.now());
+    }
+
+    private Long save(String key, Instant createdAt) {
+        return outboxRepository.save(OutboxEvent.builder()
+                .aggregateKey(key)
+                .topic("user.followed")
+                .eventClass("io.github.lvoxx.user.UserFollowedEvent")
+                .payload(new byte[] { 1, 2, 3 })
+                .createdAt(createdAt)
+                .build()).block().getId();
+    }
+
+    // ── claimNextBatch ────────────────────────────────────────────────────────
+
+    @Test
+    void claimNextBatch_givenRows_claimsInInsertOrderUpToLimit() {
+        StepVerifier.create(outboxRepository.claimNextBatch(1, 60_000))
+                .expectNextMatches(e -> e.getId().equals(firstId) && e.getPayload().length == 3
+                        && e.getClaimedUntil().isAfter(Instant.now()))
+                .verifyComplete();
+    }
+
+    @Test
+    void claimNextBatch_givenClaimedRows_skipsThemUntilReleased() {
+        outboxRepository.claimNextBatch(10, 60_000).blockLast();
+
+        StepVerifier.create(outboxRepository.claimNextBatch(10, 60_000))
+                .verifyComplete();
+
+        outboxRepository.releaseByIds(new Long[] { secondId }).block();
+
+        StepVerifier.create(outboxRepository.claimNextBatch(10, 60_000))
+                .expectNextMatches(e -> e.getId().equals(secondId))
+                .verifyComplete();
+    }
+
+    @Test
+    void claimNextBatch_givenEarlierRowOfKeyClaimed_holdsBackLaterRows() {
+        Long laterId = save("key-a", Instant.now());
+        outboxRepository.claimNextBatch(1, 60_000).blockLast();
+
+        StepVerifier.create(outboxRepository.claimNextBatch(10, 60_000))
+                .expectNextMatches(e -> e.getId().equals(secondId))
+                .verifyComplete();
+
+        outboxRepository.releaseByIds(new Long[] { firstId, secondId }).block();
+
+        StepVerifier.create(outboxRepository.claimNextBatch(10, 60_000).map(OutboxEvent::getId).sort())
+                .expectNext(firstId, secondId, laterId)
+                .verifyComplete();
+    }
+
+    // ── recordFailure ─────────────────────────────────────────────────────────
+
+    @Test
+    void recordFailure_givenRetry_countsAttemptAndBacksOff() {
+        outboxRepository.recordFailure(firstId, "broker down", 60_000, false).block();
+
+        StepVerifier.create(outboxRepository.findById(firstId))
+                .expectNextMatches(e -> e.getAttempts() == 1 && "broker down".equals(e.getLastError())
+                        && e.getClaimedUntil().isAfter(Instant.now()) && e.getParkedAt() == null)
+                .verifyComplete();
+        StepVerifier.create(outboxRepository.claimNextBatch(10, 60_000))
+                .expectNextMatches(e -> e.getId().equals(secondId))
+                .verifyComplete();
+    }
+
+    @Test
+    void recordFailure_givenPark_skipsRowAndReleasesItsKey() {
+        Long laterId = save("key-a", Instant.now());
+
+        outboxRepository.recordFailure(firstId, "record too large", 0, true).block();
+
+        StepVerifier.create(outboxRepository.claimNextBatch(10, 60_000).map(OutboxEvent::getId).sort())
+                .expectNext(secondId, laterId)
+                .verifyComplete();
+        StepVerifier.create(outboxRepository.findOldestCreatedAt())
+                .expectNextMatches(t -> t.isAfter(Instant.now().minusSeconds(5)))
+                .verifyComplete();
+    }
+
+    // ── deleteByIds ───────────────────────────────────────────────────────────
+
+    @Test
+    void deleteByIds_givenIds_removesOnlyThoseRows() {
+        StepVerifier.create(outboxRepository.deleteByIds(new Long[] { firstId }))
+                .expectNext(1)
+                .verifyComplete();
+
+        StepVerifier.create(outboxRepository.claimNextBatch(10, 60_000))
+                .expectNextMatches(e -> e.getId().equals(secondId))
+                .verifyComplete();
+    }
+
+    // ── findOldestCreatedAt ───────────────────────────────────────────────────
+
+    @Test
+    void findOldestCreatedAt_givenRows_returnsFirstInsertedTimestamp() {
+        StepVerifier.create(outboxRepository.findOldestCreatedAt())
+                .expectNextMatches(t -> t.isBefore(Instant.now().minusSeconds(5)))
+                .verifyComplete();
+    }
+
+    @Test
+    void findOldestCreatedAt_givenEmptyTable_completesEmpty() {
+        outboxRepository.deleteAll().block();
+
+        StepVerifier.create(outboxRepository.findOldestCreatedAt())
+                .verifyComplete();
+    }
+
+    // ── tryRelayLock ──────────────────────────────────────────────────────────
+
+    @Test
+    void tryRelayLock_givenNoHolder_acquires() {
+        StepVerifier.create(outboxRepository.tryRelayLock(42L))
+                .expectNext(true)
+                .verifyComplete();
+    }
+}
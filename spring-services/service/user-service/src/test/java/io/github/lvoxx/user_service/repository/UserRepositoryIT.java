@@ -2,6 +2,9 @@ package io.github.lvoxx.user_service.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 
+import io.github.lvoxx.user_service.dto.UserSearchHit;
 import io.github.lvoxx.user_service.entity.User;
 import io.github.lvoxx.user_service.testcontainers.AbstractDatabaseTestContainer;
 import reactor.test.StepVerifier;
@@ -115,27 +119,28 @@ class UserRepositoryIT extends AbstractDatabaseTestContainer {
                 .verifyComplete();
     }
 
-    // ── searchByUsernameOrDisplayName ─────────────────────────────────────────
+    // ── searchRanked ──────────────────────────────────────────────────────────
 
     @Test
-    void searchByUsernameOrDisplayName_givenMatchingUsername_returnsUser() {
+    void searchRanked_givenMatchingUsername_returnsIdWithRank() {
         String username = userRepository.findById(savedUserId).block().getUsername();
         String prefix = username.substring(0, 5);
 
-        StepVerifier.create(userRepository.searchByUsernameOrDisplayName(prefix, 10).collectList())
-                .expectNextMatches(list -> list.stream().anyMatch(u -> u.getId().equals(savedUserId)))
+        StepVerifier.create(userRepository.searchRanked(prefix, "%" + prefix + "%", 10).collectList())
+                .expectNextMatches(list -> list.stream().anyMatch(u -> u.id().equals(savedUserId)
+                        && u.searchRank() > 0))
                 .verifyComplete();
     }
 
     @Test
-    void searchByUsernameOrDisplayName_givenMatchingDisplayName_returnsUser() {
-        StepVerifier.create(userRepository.searchByUsernameOrDisplayName("Alice Test", 10).collectList())
-                .expectNextMatches(list -> list.stream().anyMatch(u -> u.getId().equals(savedUserId)))
+    void searchRanked_givenMatchingDisplayName_returnsUser() {
+        StepVerifier.create(userRepository.searchRanked("Alice Test", "%Alice Test%", 10).collectList())
+                .expectNextMatches(list -> list.stream().anyMatch(u -> u.id().equals(savedUserId)))
                 .verifyComplete();
     }
 
     @Test
-    void searchByUsernameOrDisplayName_givenLimit_respectsLimit() {
+    void searchRanked_givenLimit_respectsLimit() {
         for (int i = 0; i < 3; i++) {
             User user = User.builder()
                     .id(UUID.randomUUID())
@@ -154,11 +159,79 @@ class UserRepositoryIT extends AbstractDatabaseTestContainer {
             userRepository.save(user).block();
         }
 
-        StepVerifier.create(userRepository.searchByUsernameOrDisplayName("alice", 2).collectList())
+        StepVerifier.create(userRepository.searchRanked("alice", "%alice%", 2).collectList())
                 .expectNextMatches(list -> list.size() <= 2)
                 .verifyComplete();
     }
 
+    @Test
+    void searchRankedAfter_givenLastRowOfFirstPage_returnsOnlyLaterRows() {
+        List<UserSearchHit> all = userRepository.searchRanked("alice", "%alice%", 100).collectList().block();
+        UserSearchHit first = all.get(0);
+
+        StepVerifier.create(userRepository
+                .searchRankedAfter("alice", "%alice%", first.searchRank(), first.id(), 100)
+                .collectList())
+                .expectNextMatches(list -> list.size() == all.size() - 1
+                        && list.stream().noneMatch(u -> u.id().equals(first.id())))
+                .verifyComplete();
+    }
+
+    // ── Existence filter keys ─────────────────────────────────────────────────
+
+    @Test
+    void findActiveKeysAfter_givenDeletedUser_skipsIt() {
+        User saved = userRepository.findById(savedUserId).block();
+        saved.setIsDeleted(true);
+        userRepository.save(saved).block();
+
+        StepVerifier.create(userRepository.findActiveKeysAfter(new UUID(0L, 0L), 10_000).collectList())
+                .expectNextMatches(list -> list.stream().noneMatch(u -> u.getId().equals(savedUserId)))
+                .verifyComplete();
+    }
+
+    @Test
+    void findKeysCreatedSince_givenRecentUser_returnsIdAndUsername() {
+        StepVerifier.create(userRepository.findKeysCreatedSince(Instant.now().minusSeconds(60))
+                .filter(u -> u.getId().equals(savedUserId)))
+                .expectNextMatches(u -> u.getUsername().startsWith("alice_"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findSearchKeysChangedSince_givenRecentlyCreatedAndDeletedUsers_returnsBothWithDeletedFlag() {
+        User gone = userRepository.save(User.builder()
+                .id(UUID.randomUUID())
+                .keycloakId(UUID.randomUUID())
+                .username("gone_" + UUID.randomUUID().toString().substring(0, 8))
+                .isDeleted(true)
+                .deletedAt(Instant.now())
+                .build()).block();
+
+        StepVerifier.create(userRepository.findSearchKeysChangedSince(Instant.now().minusSeconds(60))
+                .filter(u -> u.getId().equals(savedUserId) || u.getId().equals(gone.getId()))
+                .collectMap(User::getId, User::getIsDeleted))
+                .expectNext(Map.of(savedUserId, false, gone.getId(), true))
+                .verifyComplete();
+    }
+
+    // ── Bulk re-publish ───────────────────────────────────────────────────────
+
+    @Test
+    void findProfilesAfter_givenLiveUser_returnsEventFields() {
+        StepVerifier.create(userRepository.findProfilesAfter(new UUID(0L, 0L), 10_000)
+                .filter(u -> u.getId().equals(savedUserId)))
+                .expectNextMatches(u -> u.getUsername().startsWith("alice_") && u.getDisplayName() != null)
+                .verifyComplete();
+    }
+
+    @Test
+    void findProfilesAfter_givenItsOwnId_excludesIt() {
+        StepVerifier.create(userRepository.findProfilesAfter(savedUserId, 10_000)
+                .filter(u -> u.getId().equals(savedUserId)))
+                .verifyComplete();
+    }
+
     // ── incrementFollowerCount ────────────────────────────────────────────────
 
     @Test
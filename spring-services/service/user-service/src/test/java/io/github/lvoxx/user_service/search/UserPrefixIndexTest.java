@@ -0,0 +1,144 @@
+package io.github.lvoxx.user_service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.properties.SearchProperties;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("UserPrefixIndex — in-memory autocomplete")
+@ExtendWith(MockitoExtension.class)
+class UserPrefixIndexTest {
+
+    @Mock private UserRepository userRepo;
+
+    private SearchProperties props;
+    private UserPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        props = new SearchProperties();
+        index = new UserPrefixIndex(userRepo, props);
+    }
+
+    @Test
+    @DisplayName("suggest: given username and display-name word prefixes → matches case-insensitively")
+    void suggest_givenPrefixes_matchesCaseInsensitively() {
+        UUID alice = UUID.randomUUID();
+        index.upsert(alice, "alice", "Alice Nguyen");
+
+        assertThat(index.suggest("AL", 10)).containsExactly(alice);
+        assertThat(index.suggest("ngu", 10)).containsExactly(alice);
+        assertThat(index.suggest("bob", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest: given user matching several terms → returned once, capped at limit")
+    void suggest_givenSeveralTermsPerUser_deduplicatesAndLimits() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        index.upsert(a, "anna", "Anna");
+        index.upsert(b, "annie", "Annie");
+
+        assertThat(index.suggest("ann", 10)).containsExactlyInAnyOrder(a, b);
+        assertThat(index.suggest("ann", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("upsert: given renamed user → old terms no longer match")
+    void upsert_givenRename_dropsOldTerms() {
+        UUID id = UUID.randomUUID();
+        index.upsert(id, "oldname", null);
+        index.upsert(id, "newname", null);
+
+        assertThat(index.suggest("old", 10)).isEmpty();
+        assertThat(index.suggest("new", 10)).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("upsert: given index at capacity → new users skipped, existing users still refreshed")
+    void upsert_givenCapacityReached_skipsNewUsers() {
+        props.setPrefixIndexMaxUsers(1);
+        UUID first = UUID.randomUUID();
+        index.upsert(first, "first", null);
+        index.upsert(UUID.randomUUID(), "second", null);
+        index.upsert(first, "renamed", null);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.suggest("sec", 10)).isEmpty();
+        assertThat(index.suggest("ren", 10)).containsExactly(first);
+    }
+
+    @Test
+    @DisplayName("remove: given indexed user → no longer suggested")
+    void remove_givenIndexedUser_dropsAllTerms() {
+        UUID id = UUID.randomUUID();
+        index.upsert(id, "alice", "Alice");
+        index.remove(id);
+
+        assertThat(index.suggest("al", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    // ── catchUp ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("catchUp: given not yet seeded → reads nothing")
+    void catchUp_givenNotSeeded_isNoOp() {
+        StepVerifier.create(index.catchUp())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(userRepo, never()).findSearchKeysChangedSince(any());
+    }
+
+    @Test
+    @DisplayName("catchUp: given accounts created and deleted elsewhere → new ones suggested, deleted ones dropped")
+    void catchUp_givenCreatedAndDeletedAccounts_admitsAndRemoves() {
+        UUID gone = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        when(userRepo.findMostFollowed(anyInt()))
+                .thenReturn(Flux.just(User.builder().id(gone).username("alice").build()));
+        when(userRepo.findSearchKeysChangedSince(any())).thenReturn(Flux.just(
+                User.builder().id(gone).username("alice").isDeleted(true).build(),
+                User.builder().id(fresh).username("alina").displayName("Alina").isDeleted(false).build()));
+        index.warmUp();
+
+        StepVerifier.create(index.catchUp())
+                .expectNext(2L)
+                .verifyComplete();
+
+        assertThat(index.suggest("ali", 10)).containsExactly(fresh);
+    }
+
+    @Test
+    @DisplayName("catchUp: given query failure → swallowed, index unchanged")
+    void catchUp_givenQueryFailure_keepsIndex() {
+        UUID id = UUID.randomUUID();
+        when(userRepo.findMostFollowed(anyInt()))
+                .thenReturn(Flux.just(User.builder().id(id).username("alice").build()));
+        when(userRepo.findSearchKeysChangedSince(any())).thenReturn(Flux.error(new RuntimeException("db down")));
+        index.warmUp();
+
+        StepVerifier.create(index.catchUp())
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertThat(index.suggest("al", 10)).containsExactly(id);
+    }
+}
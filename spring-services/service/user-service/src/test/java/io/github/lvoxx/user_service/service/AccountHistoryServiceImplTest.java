@@ -14,7 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.github.lvoxx.common_core.util.CursorCodec;
 import io.github.lvoxx.user_service.entity.AccountHistory;
+import io.github.lvoxx.user_service.properties.HistoryProperties;
 import io.github.lvoxx.user_service.repository.AccountHistoryRepository;
 import io.github.lvoxx.user_service.service.impl.AccountHistoryServiceImpl;
 import reactor.core.publisher.Flux;
@@ -22,111 +24,206 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 @Tag("unit")
-@DisplayName("AccountHistoryService — record and retrieve account history")
+@DisplayName("AccountHistoryService — buffered record and keyset retrieval")
 @ExtendWith(MockitoExtension.class)
 class AccountHistoryServiceImplTest {
 
     @Mock
     private AccountHistoryRepository historyRepo;
 
+    private HistoryProperties props;
     private AccountHistoryServiceImpl accountHistoryService;
 
     private UUID userId;
 
     @BeforeEach
     void setUp() {
-        accountHistoryService = new AccountHistoryServiceImpl(historyRepo);
+        props = new HistoryProperties();
+        accountHistoryService = new AccountHistoryServiceImpl(historyRepo, props);
         userId = UUID.randomUUID();
     }
 
     // ── record ────────────────────────────────────────────────────────────────
 
     @Test
-    @DisplayName("record: given valid input → saves AccountHistory with all provided fields")
-    void record_givenValidInput_savesAccountHistory() {
-        AccountHistory saved = AccountHistory.builder()
-                .id(UUID.randomUUID())
-                .userId(userId)
-                .action("LOGIN")
-                .detail("Browser login")
-                .ip("192.168.1.1")
-                .createdAt(Instant.now())
-                .build();
+    @DisplayName("record: given valid input → buffers without touching the database")
+    void record_givenValidInput_buffersEntry() {
+        StepVerifier.create(accountHistoryService.record(userId, "LOGIN", "Browser login", "192.168.1.1"))
+                .verifyComplete();
 
-        when(historyRepo.save(any(AccountHistory.class))).thenReturn(Mono.just(saved));
+        verifyNoInteractions(historyRepo);
+    }
 
-        StepVerifier.create(accountHistoryService.record(userId, "LOGIN", "Browser login", "192.168.1.1"))
+    @Test
+    @DisplayName("record: given full queue → writes the entry directly")
+    void record_givenFullQueue_insertsDirectly() {
+        props.setQueueCapacity(1);
+        accountHistoryService = new AccountHistoryServiceImpl(historyRepo, props);
+        when(historyRepo.insertBatch(any(), any(), any(), any(), any(), any())).thenReturn(Mono.just(1));
+
+        accountHistoryService.record(userId, "LOGIN", null, "10.0.0.1").block();
+        StepVerifier.create(accountHistoryService.record(userId, "PASSWORD_CHANGE", null, "10.0.0.1"))
                 .verifyComplete();
 
-        verify(historyRepo).save(argThat(h ->
-                userId.equals(h.getUserId())
-                        && "LOGIN".equals(h.getAction())
-                        && "Browser login".equals(h.getDetail())
-                        && "192.168.1.1".equals(h.getIp())));
+        verify(historyRepo).insertBatch(any(), any(),
+                argThat(actions -> actions.length == 1 && "PASSWORD_CHANGE".equals(actions[0])),
+                any(), any(), any());
     }
 
+    // ── flush ─────────────────────────────────────────────────────────────────
+
     @Test
-    @DisplayName("record: given null detail → saves AccountHistory with null detail field")
-    void record_givenNullDetail_savesWithNullDetail() {
-        AccountHistory saved = AccountHistory.builder()
-                .id(UUID.randomUUID())
-                .userId(userId)
-                .action("PASSWORD_CHANGE")
-                .detail(null)
-                .ip("10.0.0.1")
-                .createdAt(Instant.now())
-                .build();
+    @DisplayName("flush: given buffered entries → one multi-row insert with all provided fields")
+    void flush_givenBufferedEntries_insertsBatch() {
+        when(historyRepo.insertBatch(any(), any(), any(), any(), any(), any())).thenReturn(Mono.just(2));
+        accountHistoryService.record(userId, "LOGIN", "Browser login", "192.168.1.1").block();
+        accountHistoryService.record(userId, "PASSWORD_CHANGE", null, "10.0.0.1").block();
+
+        StepVerifier.create(accountHistoryService.flush())
+                .expectNext(2)
+                .verifyComplete();
 
-        when(historyRepo.save(any(AccountHistory.class))).thenReturn(Mono.just(saved));
+        verify(historyRepo).insertBatch(
+                argThat(ids -> ids.length == 2),
+                argThat(users -> users[0].equals(userId) && users[1].equals(userId)),
+                argThat(actions -> "LOGIN".equals(actions[0]) && "PASSWORD_CHANGE".equals(actions[1])),
+                argThat(details -> "Browser login".equals(details[0]) && details[1] == null),
+                argThat(ips -> "192.168.1.1".equals(ips[0])),
+                argThat(times -> times[0] != null));
+    }
 
-        StepVerifier.create(accountHistoryService.record(userId, "PASSWORD_CHANGE", null, "10.0.0.1"))
+    @Test
+    @DisplayName("flush: given more entries than batch size → split into several inserts")
+    void flush_givenMoreThanBatchSize_splitsBatches() {
+        when(historyRepo.insertBatch(any(), any(), any(), any(), any(), any()))
+                .thenAnswer(inv -> Mono.just(((UUID[]) inv.getArgument(0)).length));
+        // Buffer first so the size-triggered early flush does not race the explicit one
+        for (int i = 0; i < 5; i++) {
+            accountHistoryService.record(userId, "LOGIN", null, null).block();
+        }
+        props.setBatchSize(2);
+
+        StepVerifier.create(accountHistoryService.flush())
+                .expectNext(5)
                 .verifyComplete();
 
-        verify(historyRepo).save(argThat(h -> h.getDetail() == null));
+        verify(historyRepo, times(3)).insertBatch(any(), any(), any(), any(), any(), any());
     }
 
-    // ── getHistory ────────────────────────────────────────────────────────────
+    @Test
+    @DisplayName("flush: given insert failure → entries re-queued and written on the next flush")
+    void flush_givenInsertFailure_requeues() {
+        when(historyRepo.insertBatch(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.error(new RuntimeException("db down")))
+                .thenReturn(Mono.just(1));
+        accountHistoryService.record(userId, "LOGIN", null, null).block();
+
+        StepVerifier.create(accountHistoryService.flush())
+                .expectNext(0)
+                .verifyComplete();
+        StepVerifier.create(accountHistoryService.flush())
+                .expectNext(1)
+                .verifyComplete();
+    }
 
     @Test
-    @DisplayName("getHistory: given userId → returns PageResponse with actions in order")
-    void getHistory_givenUserId_returnsMappedPageResponse() {
-        AccountHistory h1 = AccountHistory.builder()
-                .id(UUID.randomUUID())
-                .userId(userId)
-                .action("LOGIN")
-                .detail("Mobile login")
-                .ip("10.0.0.2")
-                .createdAt(Instant.now())
-                .build();
+    @DisplayName("flush: given empty queue → no insert")
+    void flush_givenEmptyQueue_doesNothing() {
+        StepVerifier.create(accountHistoryService.flush())
+                .expectNext(0)
+                .verifyComplete();
 
-        AccountHistory h2 = AccountHistory.builder()
-                .id(UUID.randomUUID())
-                .userId(userId)
-                .action("PROFILE_UPDATE")
-                .detail("Updated bio")
-                .ip("10.0.0.2")
-                .createdAt(Instant.now().minusSeconds(60))
-                .build();
+        verifyNoInteractions(historyRepo);
+    }
 
-        when(historyRepo.findByUserIdOrderByCreatedAtDesc(userId, 50))
-                .thenReturn(Flux.just(h1, h2));
+    // ── getHistory ────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getHistory: given more rows than limit → first page plus next cursor")
+    void getHistory_givenMoreThanLimit_returnsPageWithCursor() {
+        AccountHistory h1 = entry("LOGIN", Instant.now());
+        AccountHistory h2 = entry("PROFILE_UPDATE", Instant.now().minusSeconds(60));
+        AccountHistory h3 = entry("PASSWORD_CHANGE", Instant.now().minusSeconds(120));
+
+        when(historyRepo.findRecentByUserId(eq(userId), any(Instant.class), eq(3)))
+                .thenReturn(Flux.just(h1, h2, h3));
 
-        StepVerifier.create(accountHistoryService.getHistory(userId, 50))
+        StepVerifier.create(accountHistoryService.getHistory(userId, null, 2))
                 .expectNextMatches(page ->
                         page.items().size() == 2
                                 && "LOGIN".equals(page.items().get(0).action())
-                                && "PROFILE_UPDATE".equals(page.items().get(1).action()))
+                                && "PROFILE_UPDATE".equals(page.items().get(1).action())
+                                && CursorCodec.encode(h2.getCreatedAt(), h2.getId()).equals(page.nextCursor()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getHistory: given cursor → reads strictly before that position within the read window")
+    void getHistory_givenCursor_readsBeforePosition() {
+        Instant at = Instant.now().minusSeconds(60);
+        UUID id = UUID.randomUUID();
+        when(historyRepo.findRecentByUserIdBefore(eq(userId), any(Instant.class), any(Instant.class), eq(id), eq(51)))
+                .thenReturn(Flux.just(entry("LOGIN", at.minusSeconds(1))));
+
+        StepVerifier.create(accountHistoryService.getHistory(userId, CursorCodec.encode(at, id), 50))
+                .expectNextMatches(page -> page.items().size() == 1 && page.nextCursor() == null)
                 .verifyComplete();
+
+        verify(historyRepo).findRecentByUserIdBefore(eq(userId),
+                argThat(since -> since.isBefore(Instant.now().minus(props.getReadWindow()).plusSeconds(5))),
+                any(Instant.class), eq(id), eq(51));
     }
 
     @Test
     @DisplayName("getHistory: given no history records → returns empty PageResponse")
     void getHistory_givenNoHistory_returnsEmptyPage() {
-        when(historyRepo.findByUserIdOrderByCreatedAtDesc(userId, 50))
+        when(historyRepo.findRecentByUserId(eq(userId), any(Instant.class), eq(51)))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(accountHistoryService.getHistory(userId, null, 50))
+                .expectNextMatches(page -> page.items().isEmpty() && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getHistory: given size 0 or negative → one row per page, no crash")
+    void getHistory_givenNonPositiveSize_clampsToOne() {
+        AccountHistory h1 = entry("LOGIN", Instant.now());
+        AccountHistory h2 = entry("PROFILE_UPDATE", Instant.now().minusSeconds(60));
+        when(historyRepo.findRecentByUserId(eq(userId), any(Instant.class), eq(2)))
+                .thenReturn(Flux.just(h1, h2));
+
+        StepVerifier.create(accountHistoryService.getHistory(userId, null, 0))
+                .expectNextMatches(page -> page.items().size() == 1
+                        && CursorCodec.encode(h1.getCreatedAt(), h1.getId()).equals(page.nextCursor()))
+                .verifyComplete();
+        StepVerifier.create(accountHistoryService.getHistory(userId, null, -5))
+                .expectNextMatches(page -> page.items().size() == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getHistory: given size above the maximum → capped at max-page-size")
+    void getHistory_givenOversizedLimit_capsAtMaxPageSize() {
+        when(historyRepo.findRecentByUserId(eq(userId), any(Instant.class), eq(51)))
                 .thenReturn(Flux.empty());
 
-        StepVerifier.create(accountHistoryService.getHistory(userId, 50))
+        StepVerifier.create(accountHistoryService.getHistory(userId, null, 10_000))
                 .expectNextMatches(page -> page.items().isEmpty())
                 .verifyComplete();
+
+        verify(historyRepo).findRecentByUserId(eq(userId), any(Instant.class), eq(51));
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private AccountHistory entry(String action, Instant createdAt) {
+        return AccountHistory.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .action(action)
+                .ip("10.0.0.2")
+                .createdAt(createdAt)
+                .build();
     }
 }
@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -14,13 +15,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import io.github.lvoxx.common_core.exception.ConflictException;
 import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
 import io.github.lvoxx.redis_starter.service.LockService;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
 import io.github.lvoxx.user_service.entity.UserBlock;
 import io.github.lvoxx.user_service.repository.BlockRepository;
 import io.github.lvoxx.user_service.service.impl.BlockServiceImpl;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -39,13 +44,14 @@ class BlockServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        blockService = new BlockServiceImpl(blockRepo, lockService);
+        blockService = new BlockServiceImpl(blockRepo, lockService, new ReactiveCacheService(
+                new ConcurrentMapCacheManager(), new TwoTierCacheProperties()));
 
         blockerId = UUID.randomUUID();
         blockedId = UUID.randomUUID();
 
         // Lock executes the supplier immediately
-        when(lockService.withLock(anyString(), any()))
+        lenient().when(lockService.withLock(anyString(), any()))
                 .thenAnswer(inv -> ((Supplier<Mono<?>>) inv.getArgument(1)).get());
     }
 
@@ -137,9 +143,9 @@ class BlockServiceImplTest {
     // ── isEitherBlocked ───────────────────────────────────────────────────────
 
     @Test
-    @DisplayName("isEitherBlocked: given A blocks B → returns true without checking reverse")
+    @DisplayName("isEitherBlocked: given A blocks B → returns true")
     void isEitherBlocked_givenABlocksB_returnsTrue() {
-        when(blockRepo.existsByBlockerIdAndBlockedId(blockerId, blockedId)).thenReturn(Mono.just(true));
+        when(blockRepo.findBlockCounterparts(blockerId)).thenReturn(Flux.just(blockedId));
 
         StepVerifier.create(blockService.isEitherBlocked(blockerId, blockedId))
                 .expectNext(true)
@@ -149,10 +155,10 @@ class BlockServiceImplTest {
     @Test
     @DisplayName("isEitherBlocked: given only B blocks A → returns true")
     void isEitherBlocked_givenBBlocksA_returnsTrue() {
-        when(blockRepo.existsByBlockerIdAndBlockedId(blockerId, blockedId)).thenReturn(Mono.just(false));
-        when(blockRepo.existsByBlockerIdAndBlockedId(blockedId, blockerId)).thenReturn(Mono.just(true));
+        // counterparts include users who blocked A, so the reverse edge is covered
+        when(blockRepo.findBlockCounterparts(blockedId)).thenReturn(Flux.just(blockerId));
 
-        StepVerifier.create(blockService.isEitherBlocked(blockerId, blockedId))
+        StepVerifier.create(blockService.isEitherBlocked(blockedId, blockerId))
                 .expectNext(true)
                 .verifyComplete();
     }
@@ -160,11 +166,39 @@ class BlockServiceImplTest {
     @Test
     @DisplayName("isEitherBlocked: given neither blocks the other → returns false")
     void isEitherBlocked_givenNeitherBlocks_returnsFalse() {
-        when(blockRepo.existsByBlockerIdAndBlockedId(blockerId, blockedId)).thenReturn(Mono.just(false));
-        when(blockRepo.existsByBlockerIdAndBlockedId(blockedId, blockerId)).thenReturn(Mono.just(false));
+        when(blockRepo.findBlockCounterparts(blockerId)).thenReturn(Flux.empty());
 
         StepVerifier.create(blockService.isEitherBlocked(blockerId, blockedId))
                 .expectNext(false)
                 .verifyComplete();
     }
+
+    // ── isBlockedAny ──────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("isBlockedAny: given a page of users → flags each from one block-set load")
+    void isBlockedAny_givenPage_loadsBlockSetOnce() {
+        UUID other = UUID.randomUUID();
+        UUID stranger = UUID.randomUUID();
+        when(blockRepo.findBlockCounterparts(blockerId)).thenReturn(Flux.just(blockedId, other));
+
+        StepVerifier.create(blockService.isBlockedAny(blockerId, List.of(blockedId, other, stranger)))
+                .expectNextMatches(m -> m.get(blockedId) && m.get(other) && !m.get(stranger))
+                .verifyComplete();
+        StepVerifier.create(blockService.isBlockedAny(blockerId, List.of(stranger)))
+                .expectNextMatches(m -> !m.get(stranger))
+                .verifyComplete();
+
+        verify(blockRepo, times(1)).findBlockCounterparts(blockerId);
+    }
+
+    @Test
+    @DisplayName("isBlockedAny: given empty input → empty map without I/O")
+    void isBlockedAny_givenEmptyInput_returnsEmptyMap() {
+        StepVerifier.create(blockService.isBlockedAny(blockerId, List.of()))
+                .expectNextMatches(m -> m.isEmpty())
+                .verifyComplete();
+
+        verifyNoInteractions(blockRepo);
+    }
 }
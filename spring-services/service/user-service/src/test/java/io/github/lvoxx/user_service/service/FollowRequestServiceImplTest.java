@@ -4,7 +4,11 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,32 +17,33 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import io.github.lvoxx.common_core.exception.ConflictException;
 import io.github.lvoxx.common_core.exception.ForbiddenException;
 import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
 import io.github.lvoxx.common_core.exception.ValidationException;
-import io.github.lvoxx.user_service.entity.Follower;
+import io.github.lvoxx.user_service.dto.UserResponse;
 import io.github.lvoxx.user_service.entity.FollowRequest;
-import io.github.lvoxx.user_service.entity.User;
 import io.github.lvoxx.user_service.kafka.UserEventPublisher;
 import io.github.lvoxx.user_service.repository.FollowerRepository;
 import io.github.lvoxx.user_service.repository.FollowRequestRepository;
-import io.github.lvoxx.user_service.repository.UserRepository;
 import io.github.lvoxx.user_service.service.impl.FollowRequestServiceImpl;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 @Tag("unit")
-@DisplayName("FollowRequestService — create, respond and pending list")
+@DisplayName("FollowRequestService — create, respond, bulk respond and pending list")
 @ExtendWith(MockitoExtension.class)
 class FollowRequestServiceImplTest {
 
     @Mock private FollowRequestRepository followReqRepo;
     @Mock private FollowerRepository followerRepo;
-    @Mock private UserRepository userRepo;
+    @Mock private UserLookupService userLookup;
+    @Mock private UserCounterService counters;
     @Mock private UserEventPublisher eventPublisher;
+    @Mock private TransactionalOperator tx;
 
     private FollowRequestServiceImpl followRequestService;
 
@@ -48,7 +53,8 @@ class FollowRequestServiceImplTest {
     @BeforeEach
     void setUp() {
         followRequestService = new FollowRequestServiceImpl(
-                followReqRepo, followerRepo, userRepo, eventPublisher);
+                followReqRepo, followerRepo, userLookup, counters, eventPublisher, tx);
+        lenient().when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
 
         requesterId = UUID.randomUUID();
         targetId    = UUID.randomUUID();
@@ -140,25 +146,61 @@ class FollowRequestServiceImplTest {
         UUID reqId = UUID.randomUUID();
         FollowRequest req = FollowRequest.builder()
                 .id(reqId).requesterId(requesterId).targetId(targetId).status("PENDING").build();
-        Follower savedFollower = Follower.builder()
-                .followerId(requesterId).followingId(targetId).createdAt(Instant.now()).build();
 
         when(followReqRepo.findById(reqId)).thenReturn(Mono.just(req));
-        when(followerRepo.save(any(Follower.class))).thenReturn(Mono.just(savedFollower));
-        when(userRepo.incrementFollowerCount(targetId, 1)).thenReturn(Mono.empty());
-        when(userRepo.incrementFollowingCount(requesterId, 1)).thenReturn(Mono.empty());
+        when(followerRepo.insertIfAbsent(requesterId, targetId)).thenReturn(Mono.just(1));
         when(followReqRepo.save(any(FollowRequest.class))).thenReturn(Mono.just(req));
         when(eventPublisher.publishFollowed(requesterId, targetId, "")).thenReturn(Mono.empty());
 
         StepVerifier.create(followRequestService.respond(targetId, reqId, "APPROVE"))
                 .verifyComplete();
 
-        verify(followerRepo).save(any(Follower.class));
-        verify(userRepo).incrementFollowerCount(targetId, 1);
-        verify(userRepo).incrementFollowingCount(requesterId, 1);
+        verify(followerRepo).insertIfAbsent(requesterId, targetId);
+        verify(counters).addFollowers(targetId, 1);
+        verify(counters).addFollowing(requesterId, 1);
         verify(eventPublisher).publishFollowed(requesterId, targetId, "");
     }
 
+    @Test
+    @DisplayName("respond: given APPROVE whose transaction fails to commit → counters untouched")
+    void respond_givenCommitFailure_doesNotMoveCounters() {
+        UUID reqId = UUID.randomUUID();
+        FollowRequest req = FollowRequest.builder()
+                .id(reqId).requesterId(requesterId).targetId(targetId).status("PENDING").build();
+
+        when(followReqRepo.findById(reqId)).thenReturn(Mono.just(req));
+        when(followerRepo.insertIfAbsent(requesterId, targetId)).thenReturn(Mono.just(1));
+        when(followReqRepo.save(any(FollowRequest.class))).thenReturn(Mono.just(req));
+        when(eventPublisher.publishFollowed(requesterId, targetId, "")).thenReturn(Mono.empty());
+        // The chain runs, then the commit fails
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> ((Mono<?>) inv.getArgument(0))
+                .then(Mono.error(new IllegalStateException("commit failed"))));
+
+        StepVerifier.create(followRequestService.respond(targetId, reqId, "APPROVE"))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verifyNoInteractions(counters);
+    }
+
+    @Test
+    @DisplayName("respond: given APPROVE for a user already followed → marks approved, no counter change or event")
+    void respond_givenApproveWhenAlreadyFollowing_doesNotRecount() {
+        UUID reqId = UUID.randomUUID();
+        FollowRequest req = FollowRequest.builder()
+                .id(reqId).requesterId(requesterId).targetId(targetId).status("PENDING").build();
+
+        when(followReqRepo.findById(reqId)).thenReturn(Mono.just(req));
+        when(followerRepo.insertIfAbsent(requesterId, targetId)).thenReturn(Mono.just(0));
+        when(followReqRepo.save(any(FollowRequest.class))).thenReturn(Mono.just(req));
+
+        StepVerifier.create(followRequestService.respond(targetId, reqId, "APPROVE"))
+                .verifyComplete();
+
+        verify(followReqRepo).save(argThat(r -> "APPROVED".equals(r.getStatus())));
+        verifyNoInteractions(counters, eventPublisher);
+    }
+
     @Test
     @DisplayName("respond: given REJECT action → updates status to REJECTED, does not create Follower")
     void respond_givenRejectAction_updatesStatusOnly() {
@@ -172,7 +214,7 @@ class FollowRequestServiceImplTest {
         StepVerifier.create(followRequestService.respond(targetId, reqId, "REJECT"))
                 .verifyComplete();
 
-        verify(followerRepo, never()).save(any());
+        verify(followerRepo, never()).insertIfAbsent(any(), any());
         verify(eventPublisher, never()).publishFollowed(any(), any(), any());
         verify(followReqRepo).save(argThat(r -> "REJECTED".equals(r.getStatus())));
     }
@@ -185,13 +227,13 @@ class FollowRequestServiceImplTest {
         FollowRequest req = FollowRequest.builder()
                 .id(UUID.randomUUID()).requesterId(requesterId).targetId(targetId)
                 .status("PENDING").createdAt(Instant.now()).build();
-        User requesterUser = User.builder()
-                .id(requesterId).username("bob").avatarUrl("http://example.com/bob.jpg").build();
+        UserResponse requesterUser = new UserResponse(requesterId, "bob", null, null,
+                "http://example.com/bob.jpg", null, null, null, false, false, 0, 0, 0, "USER", "ACTIVE", null);
 
-        when(followReqRepo.findByTargetIdAndStatus(targetId, "PENDING")).thenReturn(Flux.just(req));
-        when(userRepo.findByIdAndIsDeletedFalse(requesterId)).thenReturn(Mono.just(requesterUser));
+        when(followReqRepo.findPendingByTargetId(targetId, 21)).thenReturn(Flux.just(req));
+        when(userLookup.findProfiles(List.of(requesterId))).thenReturn(Mono.just(Map.of(requesterId, requesterUser)));
 
-        StepVerifier.create(followRequestService.getPending(targetId))
+        StepVerifier.create(followRequestService.getPending(targetId, null, 20))
                 .expectNextMatches(page -> page.items().size() == 1
                         && "bob".equals(page.items().get(0).requesterUsername()))
                 .verifyComplete();
@@ -204,12 +246,144 @@ class FollowRequestServiceImplTest {
                 .id(UUID.randomUUID()).requesterId(requesterId).targetId(targetId)
                 .status("PENDING").createdAt(Instant.now()).build();
 
-        when(followReqRepo.findByTargetIdAndStatus(targetId, "PENDING")).thenReturn(Flux.just(req));
-        when(userRepo.findByIdAndIsDeletedFalse(requesterId)).thenReturn(Mono.empty());
+        when(followReqRepo.findPendingByTargetId(targetId, 21)).thenReturn(Flux.just(req));
+        when(userLookup.findProfiles(List.of(requesterId))).thenReturn(Mono.just(Map.of()));
 
-        StepVerifier.create(followRequestService.getPending(targetId))
+        StepVerifier.create(followRequestService.getPending(targetId, null, 20))
                 .expectNextMatches(page -> page.items().size() == 1
                         && "[deleted]".equals(page.items().get(0).requesterUsername()))
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("getPending: given more requests than size → first page plus cursor; cursor reads strictly older")
+    void getPending_givenMoreThanSize_returnsCursorAndPagesBefore() {
+        FollowRequest newer = FollowRequest.builder()
+                .id(UUID.randomUUID()).requesterId(requesterId).targetId(targetId)
+                .status("PENDING").createdAt(Instant.now().truncatedTo(ChronoUnit.MICROS)).build();
+        FollowRequest older = FollowRequest.builder()
+                .id(UUID.randomUUID()).requesterId(UUID.randomUUID()).targetId(targetId)
+                .status("PENDING").createdAt(Instant.now().minusSeconds(60)).build();
+
+        when(followReqRepo.findPendingByTargetId(targetId, 2)).thenReturn(Flux.just(newer, older));
+        when(userLookup.findProfiles(List.of(requesterId))).thenReturn(Mono.just(Map.of()));
+
+        String cursor = followRequestService.getPending(targetId, null, 1).block().nextCursor();
+
+        when(followReqRepo.findPendingByTargetIdBefore(targetId, newer.getCreatedAt(), newer.getId(), 2))
+                .thenReturn(Flux.just(older));
+        when(userLookup.findProfiles(List.of(older.getRequesterId()))).thenReturn(Mono.just(Map.of()));
+
+        StepVerifier.create(followRequestService.getPending(targetId, cursor, 1))
+                .expectNextMatches(page -> page.items().size() == 1
+                        && page.items().get(0).id().equals(older.getId())
+                        && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getPending: given size 0 or negative → one request per page, no crash")
+    void getPending_givenNonPositiveSize_clampsToOne() {
+        FollowRequest newer = FollowRequest.builder()
+                .id(UUID.randomUUID()).requesterId(requesterId).targetId(targetId)
+                .status("PENDING").createdAt(Instant.now()).build();
+        FollowRequest older = FollowRequest.builder()
+                .id(UUID.randomUUID()).requesterId(UUID.randomUUID()).targetId(targetId)
+                .status("PENDING").createdAt(Instant.now().minusSeconds(60)).build();
+
+        when(followReqRepo.findPendingByTargetId(targetId, 2)).thenReturn(Flux.just(newer, older));
+        when(userLookup.findProfiles(List.of(requesterId))).thenReturn(Mono.just(Map.of()));
+
+        StepVerifier.create(followRequestService.getPending(targetId, null, 0))
+                .expectNextMatches(page -> page.items().size() == 1 && page.nextCursor() != null)
+                .verifyComplete();
+        StepVerifier.create(followRequestService.getPending(targetId, null, -3))
+                .expectNextMatches(page -> page.items().size() == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getPending: given size above the maximum → capped at MAX_PAGE_SIZE")
+    void getPending_givenOversizedPage_capsSize() {
+        when(followReqRepo.findPendingByTargetId(targetId, FollowRequestService.MAX_PAGE_SIZE + 1))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(followRequestService.getPending(targetId, null, 10_000))
+                .expectNextMatches(page -> page.items().isEmpty())
+                .verifyComplete();
+    }
+
+    // ── respondAll ────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("respondAll: given approvals → one batched insert, one aggregated follower delta, events per new edge")
+    void respondAll_givenApprovals_batchesInsertAndCounters() {
+        UUID other = UUID.randomUUID();
+        UUID alreadyFollowing = UUID.randomUUID();
+        List<UUID> reqIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        when(followReqRepo.resolvePending(eq(targetId), any(UUID[].class), eq("APPROVED")))
+                .thenReturn(Flux.just(requesterId, other, alreadyFollowing));
+        when(followerRepo.insertAllIfAbsent(new UUID[] { requesterId, other, alreadyFollowing }, targetId))
+                .thenReturn(Flux.just(requesterId, other));
+        when(eventPublisher.publishFollowed(any(), eq(targetId), any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(followRequestService.respondAll(targetId, reqIds, "approve"))
+                .expectNext(3)
+                .verifyComplete();
+
+        verify(counters).addFollowers(targetId, 2);
+        verify(counters).addFollowing(requesterId, 1);
+        verify(counters).addFollowing(other, 1);
+        verify(counters, never()).addFollowing(eq(alreadyFollowing), anyInt());
+        verify(eventPublisher, times(2)).publishFollowed(any(), eq(targetId), any());
+        verify(followerRepo, never()).insertIfAbsent(any(), any());
+    }
+
+    @Test
+    @DisplayName("respondAll: given rejections → status update only, no follower rows")
+    void respondAll_givenRejections_onlyUpdatesStatus() {
+        when(followReqRepo.resolvePending(eq(targetId), any(UUID[].class), eq("REJECTED")))
+                .thenReturn(Flux.just(requesterId));
+
+        StepVerifier.create(followRequestService.respondAll(targetId, List.of(UUID.randomUUID()), "REJECT"))
+                .expectNext(1)
+                .verifyComplete();
+
+        verifyNoInteractions(followerRepo, counters, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("respondAll: given ids already actioned or not owned → skipped, nothing inserted")
+    void respondAll_givenNothingPending_returnsZero() {
+        when(followReqRepo.resolvePending(eq(targetId), any(UUID[].class), eq("APPROVED")))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(followRequestService.respondAll(targetId, List.of(UUID.randomUUID()), "APPROVE"))
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(followerRepo, counters);
+    }
+
+    @Test
+    @DisplayName("respondAll: given more ids than the bulk limit → throws ValidationException")
+    void respondAll_givenTooManyIds_throwsValidationException() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID)
+                .limit(FollowRequestService.MAX_BULK_SIZE + 1).toList();
+
+        StepVerifier.create(followRequestService.respondAll(targetId, ids, "APPROVE"))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(followReqRepo);
+    }
+
+    @Test
+    @DisplayName("respondAll: given invalid action → throws ValidationException")
+    void respondAll_givenInvalidAction_throwsValidationException() {
+        StepVerifier.create(followRequestService.respondAll(targetId, List.of(UUID.randomUUID()), "MAYBE"))
+                .expectError(ValidationException.class)
+                .verify();
+    }
 }
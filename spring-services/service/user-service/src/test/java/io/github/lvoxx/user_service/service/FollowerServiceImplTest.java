@@ -1,11 +1,23 @@
 package io.github.lvoxx.user_service.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.function.Supplier;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,14 +26,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
-import io.github.lvoxx.common_core.exception.ConflictException;
-import io.github.lvoxx.redis_starter.service.LockService;
+import io.github.lvoxx.common_core.exception.ValidationException;
+import io.github.lvoxx.common_core.util.CursorCodec;
 import io.github.lvoxx.user_service.entity.Follower;
-import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.dto.RelationshipResponse;
+import io.github.lvoxx.user_service.dto.UserResponse;
+import io.github.lvoxx.user_service.graph.FollowGraphCache;
 import io.github.lvoxx.user_service.kafka.UserEventPublisher;
+import io.github.lvoxx.user_service.properties.FollowGraphProperties;
 import io.github.lvoxx.user_service.repository.FollowerRepository;
-import io.github.lvoxx.user_service.repository.UserRepository;
 import io.github.lvoxx.user_service.service.impl.FollowerServiceImpl;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -33,10 +48,12 @@ import reactor.test.StepVerifier;
 class FollowerServiceImplTest {
 
     @Mock private FollowerRepository followerRepo;
-    @Mock private UserRepository userRepo;
+    @Mock private UserLookupService userLookup;
+    @Mock private UserCounterService counters;
+    @Mock private TransactionalOperator tx;
     @Mock private UserEventPublisher eventPublisher;
-    @Mock private LockService lockService;
 
+    private FollowGraphProperties graphProps;
     private FollowerServiceImpl followerService;
 
     private UUID followerId;
@@ -44,81 +61,130 @@ class FollowerServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        followerService = new FollowerServiceImpl(followerRepo, userRepo, eventPublisher, lockService);
+        graphProps = new FollowGraphProperties();
+        followerService = new FollowerServiceImpl(followerRepo, userLookup, counters, eventPublisher,
+                new FollowGraphCache(followerRepo, graphProps), graphProps, tx);
+        lenient().when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
 
         followerId = UUID.randomUUID();
         targetId   = UUID.randomUUID();
-
-        // Lock executes the supplier immediately (no real Redis in unit tests)
-        when(lockService.withLock(anyString(), any()))
-                .thenAnswer(inv -> ((Supplier<Mono<?>>) inv.getArgument(1)).get());
     }
 
     // ── follow ────────────────────────────────────────────────────────────────
 
     @Test
-    @DisplayName("follow: given already following → throws ConflictException")
-    void follow_givenAlreadyFollowing_throwsConflictException() {
-        when(followerRepo.existsByFollowerIdAndFollowingId(followerId, targetId))
-                .thenReturn(Mono.just(true));
+    @DisplayName("follow: given already following → completes without counting or publishing")
+    void follow_givenAlreadyFollowing_isNoOp() {
+        when(followerRepo.insertIfAbsent(followerId, targetId)).thenReturn(Mono.just(0));
 
         StepVerifier.create(followerService.follow(followerId, targetId, "alice"))
-                .expectError(ConflictException.class)
-                .verify();
+                .verifyComplete();
+
+        verifyNoInteractions(counters, eventPublisher);
     }
 
     @Test
-    @DisplayName("follow: given new follow → saves Follower, increments both counters, publishes event")
-    void follow_givenNotFollowing_savesAndIncrementsCountsAndPublishesEvent() {
-        Follower saved = Follower.builder()
-                .followerId(followerId).followingId(targetId).createdAt(Instant.now()).build();
-
-        when(followerRepo.existsByFollowerIdAndFollowingId(followerId, targetId)).thenReturn(Mono.just(false));
-        when(followerRepo.save(any(Follower.class))).thenReturn(Mono.just(saved));
-        when(userRepo.incrementFollowerCount(targetId, 1)).thenReturn(Mono.empty());
-        when(userRepo.incrementFollowingCount(followerId, 1)).thenReturn(Mono.empty());
+    @DisplayName("follow: given new follow → inserts edge, buffers both counter deltas, publishes event")
+    void follow_givenNotFollowing_insertsAndIncrementsCountsAndPublishesEvent() {
+        when(followerRepo.insertIfAbsent(followerId, targetId)).thenReturn(Mono.just(1));
         when(eventPublisher.publishFollowed(followerId, targetId, "alice")).thenReturn(Mono.empty());
 
         StepVerifier.create(followerService.follow(followerId, targetId, "alice"))
                 .verifyComplete();
 
-        verify(followerRepo).save(any(Follower.class));
-        verify(userRepo).incrementFollowerCount(targetId, 1);
-        verify(userRepo).incrementFollowingCount(followerId, 1);
+        verify(counters).addFollowers(targetId, 1);
+        verify(counters).addFollowing(followerId, 1);
         verify(eventPublisher).publishFollowed(followerId, targetId, "alice");
     }
 
+    @Test
+    @DisplayName("follow: given the transaction fails to commit → no counter delta buffered")
+    void follow_givenCommitFailure_doesNotMoveCounters() {
+        when(followerRepo.insertIfAbsent(followerId, targetId)).thenReturn(Mono.just(1));
+        when(eventPublisher.publishFollowed(followerId, targetId, "alice")).thenReturn(Mono.empty());
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> ((Mono<?>) inv.getArgument(0))
+                .then(Mono.error(new IllegalStateException("commit failed"))));
+
+        StepVerifier.create(followerService.follow(followerId, targetId, "alice"))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verifyNoInteractions(counters);
+    }
+
     // ── unfollow ──────────────────────────────────────────────────────────────
 
     @Test
-    @DisplayName("unfollow: given not following → throws ConflictException")
-    void unfollow_givenNotFollowing_throwsConflictException() {
-        when(followerRepo.existsByFollowerIdAndFollowingId(followerId, targetId))
-                .thenReturn(Mono.just(false));
+    @DisplayName("unfollow: given not following → completes without counting or publishing")
+    void unfollow_givenNotFollowing_isNoOp() {
+        when(followerRepo.deleteIfPresent(followerId, targetId)).thenReturn(Mono.just(0));
 
         StepVerifier.create(followerService.unfollow(followerId, targetId))
-                .expectError(ConflictException.class)
-                .verify();
+                .verifyComplete();
+
+        verifyNoInteractions(counters, eventPublisher);
     }
 
     @Test
-    @DisplayName("unfollow: given following → deletes row, decrements both counters, publishes event")
+    @DisplayName("unfollow: given following → deletes edge, buffers both counter decrements, publishes event")
     void unfollow_givenFollowing_deletesAndDecrementsCountsAndPublishesEvent() {
-        when(followerRepo.existsByFollowerIdAndFollowingId(followerId, targetId)).thenReturn(Mono.just(true));
-        when(followerRepo.deleteByFollowerIdAndFollowingId(followerId, targetId)).thenReturn(Mono.empty());
-        when(userRepo.incrementFollowerCount(targetId, -1)).thenReturn(Mono.empty());
-        when(userRepo.incrementFollowingCount(followerId, -1)).thenReturn(Mono.empty());
+        when(followerRepo.deleteIfPresent(followerId, targetId)).thenReturn(Mono.just(1));
         when(eventPublisher.publishUnfollowed(followerId, targetId)).thenReturn(Mono.empty());
 
         StepVerifier.create(followerService.unfollow(followerId, targetId))
                 .verifyComplete();
 
-        verify(followerRepo).deleteByFollowerIdAndFollowingId(followerId, targetId);
-        verify(userRepo).incrementFollowerCount(targetId, -1);
-        verify(userRepo).incrementFollowingCount(followerId, -1);
+        verify(counters).addFollowers(targetId, -1);
+        verify(counters).addFollowing(followerId, -1);
         verify(eventPublisher).publishUnfollowed(followerId, targetId);
     }
 
+    @Test
+    @DisplayName("follow/unfollow: given many threads racing on one pair → counter deltas match the final edge")
+    void followUnfollow_givenConcurrentCallsOnSamePair_countsStayConsistent() throws Exception {
+        // The table is the only arbiter, as in Postgres: insert/delete report whether they changed it
+        Set<String> edges = ConcurrentHashMap.newKeySet();
+        String edge = followerId + ":" + targetId;
+        when(followerRepo.insertIfAbsent(followerId, targetId))
+                .thenAnswer(inv -> Mono.fromCallable(() -> edges.add(edge) ? 1 : 0));
+        when(followerRepo.deleteIfPresent(followerId, targetId))
+                .thenAnswer(inv -> Mono.fromCallable(() -> edges.remove(edge) ? 1 : 0));
+        AtomicInteger followers = new AtomicInteger();
+        AtomicInteger following = new AtomicInteger();
+        doAnswer(inv -> followers.addAndGet(inv.getArgument(1))).when(counters).addFollowers(eq(targetId), anyInt());
+        doAnswer(inv -> following.addAndGet(inv.getArgument(1))).when(counters).addFollowing(eq(followerId), anyInt());
+        when(eventPublisher.publishFollowed(any(), any(), any())).thenReturn(Mono.empty());
+        when(eventPublisher.publishUnfollowed(any(), any())).thenReturn(Mono.empty());
+
+        int threads = 16;
+        int opsPerThread = 500;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < opsPerThread; i++) {
+                    Mono<Void> op = (i + seed) % 2 == 0
+                            ? followerService.follow(followerId, targetId, "alice")
+                            : followerService.unfollow(followerId, targetId);
+                    op.block();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        int expected = edges.contains(edge) ? 1 : 0;
+        assertThat(followers.get()).isEqualTo(expected);
+        assertThat(following.get()).isEqualTo(expected);
+    }
+
     // ── isFollowing ───────────────────────────────────────────────────────────
 
     @Test
@@ -151,13 +217,10 @@ class FollowerServiceImplTest {
         UUID followerUserId = UUID.randomUUID();
         Follower followerRecord = Follower.builder()
                 .followerId(followerUserId).followingId(targetId).createdAt(Instant.now()).build();
-        User followerUser = User.builder()
-                .id(followerUserId).username("bob")
-                .isVerified(false).isPrivate(false)
-                .followerCount(0).followingCount(0).postCount(0).role("USER").build();
 
-        when(followerRepo.findFollowersByUserId(targetId, 20)).thenReturn(Flux.just(followerRecord));
-        when(userRepo.findByIdAndIsDeletedFalse(followerUserId)).thenReturn(Mono.just(followerUser));
+        when(followerRepo.findFollowersByUserId(targetId, 21)).thenReturn(Flux.just(followerRecord));
+        when(userLookup.findProfiles(List.of(followerUserId)))
+                .thenReturn(Mono.just(Map.of(followerUserId, user(followerUserId, "bob"))));
 
         StepVerifier.create(followerService.getFollowers(targetId, null, 20))
                 .expectNextMatches(page -> page.items().size() == 1
@@ -165,6 +228,99 @@ class FollowerServiceImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("getFollowers: given more rows than size → returns size items and keyset cursor of last row")
+    void getFollowers_givenMoreRowsThanSize_returnsCursorOfLastRow() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Follower newer = follower(UUID.randomUUID(), targetId, now);
+        Follower older = follower(UUID.randomUUID(), targetId, now.minusSeconds(1));
+
+        when(followerRepo.findFollowersByUserId(targetId, 2)).thenReturn(Flux.just(newer, older));
+        when(userLookup.findProfiles(List.of(newer.getFollowerId())))
+                .thenReturn(Mono.just(Map.of(newer.getFollowerId(), user(newer.getFollowerId(), "bob"))));
+
+        StepVerifier.create(followerService.getFollowers(targetId, null, 1))
+                .expectNextMatches(page -> page.items().size() == 1
+                        && page.hasMore()
+                        && CursorCodec.decode(page.nextCursor())
+                                .equals(new CursorCodec.Position(now, newer.getFollowerId())))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getFollowers: given non-positive size → clamped to one row per page")
+    void getFollowers_givenNonPositiveSize_clampsToOne() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Follower newer = follower(UUID.randomUUID(), targetId, now);
+        Follower older = follower(UUID.randomUUID(), targetId, now.minusSeconds(1));
+
+        when(followerRepo.findFollowersByUserId(targetId, 2)).thenReturn(Flux.just(newer, older));
+        when(userLookup.findProfiles(List.of(newer.getFollowerId())))
+                .thenReturn(Mono.just(Map.of(newer.getFollowerId(), user(newer.getFollowerId(), "bob"))));
+
+        StepVerifier.create(followerService.getFollowers(targetId, null, 0))
+                .expectNextMatches(page -> page.items().size() == 1 && page.nextCursor() != null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getFollowing: given size above the maximum → capped at MAX_PAGE_SIZE")
+    void getFollowing_givenOversizedPage_capsSize() {
+        when(followerRepo.findFollowingByUserId(followerId, FollowerService.MAX_PAGE_SIZE + 1)).thenReturn(Flux.empty());
+
+        StepVerifier.create(followerService.getFollowing(followerId, null, 10_000))
+                .expectNextMatches(page -> page.items().isEmpty() && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getFollowers: given cursor → seeks past the encoded (created_at, follower_id)")
+    void getFollowers_givenCursor_queriesRowsBeforePosition() {
+        Instant at = Instant.parse("2025-01-01T00:00:00.123456Z");
+        UUID lastId = UUID.randomUUID();
+        String cursor = CursorCodec.encode(at, lastId);
+
+        when(followerRepo.findFollowersByUserIdBefore(targetId, at, lastId, 21)).thenReturn(Flux.empty());
+
+        StepVerifier.create(followerService.getFollowers(targetId, cursor, 20))
+                .expectNextMatches(page -> page.items().isEmpty() && !page.hasMore() && page.nextCursor() == null)
+                .verifyComplete();
+
+        verify(followerRepo, never()).findFollowersByUserId(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("getFollowers: given malformed cursor → throws ValidationException")
+    void getFollowers_givenMalformedCursor_throwsValidationException() {
+        StepVerifier.create(followerService.getFollowers(targetId, "not-a-cursor", 20))
+                .expectError(ValidationException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("getFollowers: given page rows → hydrates once in row order and skips deleted users")
+    void getFollowers_givenDeletedUserInPage_hydratesInOrderAndSkipsMissing() {
+        Instant now = Instant.now();
+        UUID first = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+
+        when(followerRepo.findFollowersByUserId(targetId, 21)).thenReturn(Flux.just(
+                follower(first, targetId, now),
+                follower(deleted, targetId, now.minusSeconds(1)),
+                follower(last, targetId, now.minusSeconds(2))));
+        when(userLookup.findProfiles(List.of(first, deleted, last)))
+                .thenReturn(Mono.just(Map.of(last, user(last, "zed"), first, user(first, "amy"))));
+
+        StepVerifier.create(followerService.getFollowers(targetId, null, 20))
+                .expectNextMatches(page -> page.items().size() == 2
+                        && "amy".equals(page.items().get(0).username())
+                        && "zed".equals(page.items().get(1).username()))
+                .verifyComplete();
+
+        verify(userLookup, times(1)).findProfiles(anyCollection());
+    }
+
     // ── getFollowing ──────────────────────────────────────────────────────────
 
     @Test
@@ -173,17 +329,127 @@ class FollowerServiceImplTest {
         UUID followingUserId = UUID.randomUUID();
         Follower followingRecord = Follower.builder()
                 .followerId(followerId).followingId(followingUserId).createdAt(Instant.now()).build();
-        User followingUser = User.builder()
-                .id(followingUserId).username("charlie")
-                .isVerified(false).isPrivate(false)
-                .followerCount(0).followingCount(0).postCount(0).role("USER").build();
 
-        when(followerRepo.findFollowingByUserId(followerId, 20)).thenReturn(Flux.just(followingRecord));
-        when(userRepo.findByIdAndIsDeletedFalse(followingUserId)).thenReturn(Mono.just(followingUser));
+        when(followerRepo.findFollowingByUserId(followerId, 21)).thenReturn(Flux.just(followingRecord));
+        when(userLookup.findProfiles(List.of(followingUserId)))
+                .thenReturn(Mono.just(Map.of(followingUserId, user(followingUserId, "charlie"))));
 
         StepVerifier.create(followerService.getFollowing(followerId, null, 20))
                 .expectNextMatches(page -> page.items().size() == 1
                         && "charlie".equals(page.items().get(0).username()))
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("getFollowing: given cursor → seeks past the encoded (created_at, following_id)")
+    void getFollowing_givenCursor_queriesRowsBeforePosition() {
+        Instant at = Instant.now();
+        UUID lastId = UUID.randomUUID();
+        Follower next = follower(followerId, UUID.randomUUID(), at.minusSeconds(5));
+
+        when(followerRepo.findFollowingByUserIdBefore(eq(followerId), any(Instant.class), eq(lastId), eq(21)))
+                .thenReturn(Flux.just(next));
+        when(userLookup.findProfiles(List.of(next.getFollowingId())))
+                .thenReturn(Mono.just(Map.of(next.getFollowingId(), user(next.getFollowingId(), "dave"))));
+
+        StepVerifier.create(followerService.getFollowing(followerId, CursorCodec.encode(at, lastId), 20))
+                .expectNextMatches(page -> page.items().size() == 1 && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    // ── getRelationship ───────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getRelationship: given overlapping graphs → follow flags and intersection counts")
+    void getRelationship_givenOverlap_returnsFlagsAndCounts() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        when(followerRepo.findAllFollowingIds(followerId)).thenReturn(Flux.just(targetId, alice));
+        when(followerRepo.findAllFollowerIds(followerId)).thenReturn(Flux.just(targetId, bob));
+        when(followerRepo.findAllFollowerIds(targetId)).thenReturn(Flux.just(alice, bob, followerId));
+
+        StepVerifier.create(followerService.getRelationship(followerId, targetId))
+                .expectNextMatches(r -> r.following() && r.followedBy()
+                        && r.knownFollowerCount() == 1 && r.mutualFollowerCount() == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getRelationship: given repeated calls → adjacency loaded once per user and direction")
+    void getRelationship_givenRepeatedCalls_loadsAdjacencyOnce() {
+        when(followerRepo.findAllFollowingIds(followerId)).thenReturn(Flux.empty());
+        when(followerRepo.findAllFollowerIds(any(UUID.class))).thenReturn(Flux.empty());
+
+        followerService.getRelationship(followerId, targetId).block();
+        followerService.getRelationship(followerId, targetId).block();
+
+        verify(followerRepo, times(1)).findAllFollowingIds(followerId);
+        verify(followerRepo, times(1)).findAllFollowerIds(targetId);
+    }
+
+    @Test
+    @DisplayName("getRelationship: given a set over max-set-size → answered from Postgres")
+    void getRelationship_givenOversizedSet_fallsBackToSql() {
+        graphProps.setMaxSetSize(1);
+        when(followerRepo.findAllFollowingIds(followerId)).thenReturn(Flux.just(targetId));
+        when(followerRepo.findAllFollowerIds(any(UUID.class)))
+                .thenReturn(Flux.just(UUID.randomUUID(), UUID.randomUUID()));
+        when(followerRepo.existsByFollowerIdAndFollowingId(followerId, targetId)).thenReturn(Mono.just(true));
+        when(followerRepo.existsByFollowerIdAndFollowingId(targetId, followerId)).thenReturn(Mono.just(false));
+        when(followerRepo.countKnownFollowers(followerId, targetId)).thenReturn(Mono.just(7L));
+        when(followerRepo.countMutualFollowers(followerId, targetId)).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(followerService.getRelationship(followerId, targetId))
+                .expectNext(new RelationshipResponse(true, false, 7, 3))
+                .verifyComplete();
+    }
+
+    // ── getKnownFollowers ─────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getKnownFollowers: given shared users → only those the viewer follows, most-followed first")
+    void getKnownFollowers_givenOverlap_returnsIntersectionByPopularity() {
+        UUID small = UUID.randomUUID();
+        UUID big = UUID.randomUUID();
+        UUID stranger = UUID.randomUUID();
+        when(followerRepo.findAllFollowingIds(followerId)).thenReturn(Flux.just(small, big));
+        when(followerRepo.findAllFollowerIds(targetId)).thenReturn(Flux.just(small, big, stranger));
+        when(userLookup.findProfiles(argThat(ids -> ids.size() == 2 && !ids.contains(stranger))))
+                .thenReturn(Mono.just(Map.of(
+                        small, user(small, "small", 10),
+                        big, user(big, "big", 5_000))));
+
+        StepVerifier.create(followerService.getKnownFollowers(followerId, targetId, 3))
+                .expectNextMatches(list -> list.stream().map(UserResponse::username).toList()
+                        .equals(List.of("big", "small")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getKnownFollowers: given no overlap → empty without profile lookup")
+    void getKnownFollowers_givenNoOverlap_returnsEmpty() {
+        when(followerRepo.findAllFollowingIds(followerId)).thenReturn(Flux.just(UUID.randomUUID()));
+        when(followerRepo.findAllFollowerIds(targetId)).thenReturn(Flux.just(UUID.randomUUID()));
+
+        StepVerifier.create(followerService.getKnownFollowers(followerId, targetId, 3))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        verifyNoInteractions(userLookup);
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private static Follower follower(UUID followerId, UUID followingId, Instant createdAt) {
+        return Follower.builder().followerId(followerId).followingId(followingId).createdAt(createdAt).build();
+    }
+
+    private static UserResponse user(UUID id, String username) {
+        return user(id, username, 0);
+    }
+
+    private static UserResponse user(UUID id, String username, int followerCount) {
+        return new UserResponse(id, username, null, null, null, null, null, null,
+                false, false, followerCount, 0, 0, "USER", "ACTIVE", null);
+    }
 }
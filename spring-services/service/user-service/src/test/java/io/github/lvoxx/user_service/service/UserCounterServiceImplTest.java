@@ -0,0 +1,180 @@
+package io.github.lvoxx.user_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.github.lvoxx.redis_starter.service.LockService;
+import io.github.lvoxx.user_service.dto.CounterDrift;
+import io.github.lvoxx.user_service.dto.UserResponse;
+import io.github.lvoxx.user_service.properties.CounterProperties;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import io.github.lvoxx.user_service.service.impl.UserCounterServiceImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("UserCounterService — write-behind counter deltas and reconciliation")
+@ExtendWith(MockitoExtension.class)
+class UserCounterServiceImplTest {
+
+    @Mock private UserRepository userRepo;
+    @Mock private LockService lockService;
+    @Mock private TransactionalOperator tx;
+
+    private CounterProperties props;
+    private UserCounterServiceImpl counters;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        props = new CounterProperties();
+        props.setReconcileSettle(Duration.ofMillis(10));
+        counters = new UserCounterServiceImpl(userRepo, lockService, tx, props);
+        userId = UUID.randomUUID();
+        lenient().when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        lenient().when(userRepo.lockCountersShared(anyLong())).thenReturn(Mono.just(true));
+        lenient().when(userRepo.lockCountersExclusive(anyLong())).thenReturn(Mono.just(true));
+    }
+
+    // ── flush ─────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("flush: given many deltas for one user → one UPDATE carrying the summed delta")
+    void flush_givenRepeatedDeltas_appliesSummedDeltaInOneStatement() {
+        for (int i = 0; i < 1_000; i++) {
+            counters.addFollowers(userId, 1);
+        }
+        counters.addFollowers(userId, -10);
+        counters.addFollowing(userId, 2);
+        when(userRepo.applyCounterDeltas(any(), any(), any())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(counters.flush()).expectNext(1).verifyComplete();
+
+        ArgumentCaptor<UUID[]> ids = ArgumentCaptor.forClass(UUID[].class);
+        ArgumentCaptor<Integer[]> followers = ArgumentCaptor.forClass(Integer[].class);
+        ArgumentCaptor<Integer[]> following = ArgumentCaptor.forClass(Integer[].class);
+        verify(userRepo, times(1)).applyCounterDeltas(ids.capture(), followers.capture(), following.capture());
+        assertThat(ids.getValue()).containsExactly(userId);
+        assertThat(followers.getValue()).containsExactly(990);
+        assertThat(following.getValue()).containsExactly(2);
+        verify(userRepo).lockCountersShared(UserCounterServiceImpl.COUNTER_LOCK_KEY);
+    }
+
+    @Test
+    @DisplayName("flush: given nothing pending → no DB call")
+    void flush_givenNoDeltas_skipsDatabase() {
+        StepVerifier.create(counters.flush()).expectNext(0).verifyComplete();
+
+        verifyNoInteractions(userRepo);
+    }
+
+    @Test
+    @DisplayName("flush: given DB failure → deltas re-queued and applied by the next flush")
+    void flush_givenDatabaseError_requeuesDeltas() {
+        counters.addFollowers(userId, 3);
+        when(userRepo.applyCounterDeltas(any(), any(), any()))
+                .thenReturn(Mono.error(new RuntimeException("db down")))
+                .thenReturn(Mono.just(1));
+
+        StepVerifier.create(counters.flush()).expectNext(0).verifyComplete();
+        StepVerifier.create(counters.flush()).expectNext(1).verifyComplete();
+
+        ArgumentCaptor<Integer[]> followers = ArgumentCaptor.forClass(Integer[].class);
+        verify(userRepo, times(2)).applyCounterDeltas(any(), followers.capture(), any());
+        assertThat(followers.getAllValues().get(1)).containsExactly(3);
+    }
+
+    // ── withPending ───────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("withPending: given unflushed deltas → copy with persisted + pending, floored at 0; input untouched")
+    void withPending_givenPendingDeltas_overlaysThemOnACopy() {
+        counters.addFollowers(userId, 5);
+        counters.addFollowing(userId, -7);
+        UserResponse cached = response(10, 3);
+
+        UserResponse read = counters.withPending(cached);
+
+        assertThat(read.followerCount()).isEqualTo(15);
+        assertThat(read.followingCount()).isZero();
+        assertThat(read.username()).isEqualTo("alice");
+        assertThat(cached.followerCount()).isEqualTo(10);
+        assertThat(cached.followingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("withPending: given nothing pending → same instance")
+    void withPending_givenNoDeltas_returnsInput() {
+        UserResponse cached = response(10, 3);
+
+        assertThat(counters.withPending(cached)).isSameAs(cached);
+    }
+
+    // ── reconcile ─────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("reconcile: given two batches → walks users by id and sums corrected rows")
+    void reconcile_givenTwoBatches_walksAllUsers() {
+        props.setReconcileBatchSize(2);
+        UUID a = new UUID(0L, 1L);
+        UUID b = new UUID(0L, 2L);
+        UUID c = new UUID(0L, 3L);
+        stubLock();
+        when(userRepo.findIdsAfter(new UUID(0L, 0L), 2)).thenReturn(Flux.fromIterable(List.of(a, b)));
+        when(userRepo.findIdsAfter(b, 2)).thenReturn(Flux.just(c));
+        when(userRepo.findCounterDrift(any())).thenReturn(Flux.just(new CounterDrift(a, 2, 0)), Flux.empty());
+        when(userRepo.reconcileFollowCounts(any(), any(), any())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(counters.reconcile()).expectNext(1L).verifyComplete();
+
+        verify(userRepo, times(2)).findCounterDrift(any());
+        verify(userRepo, times(1)).reconcileFollowCounts(new UUID[] { a }, new Integer[] { 2 }, new Integer[] { 0 });
+        verify(userRepo).lockCountersExclusive(UserCounterServiceImpl.COUNTER_LOCK_KEY);
+    }
+
+    @Test
+    @DisplayName("reconcile: given no drift → nothing written, no exclusive lock")
+    void reconcile_givenNoDrift_writesNothing() {
+        stubLock();
+        UUID a = new UUID(0L, 1L);
+        when(userRepo.findIdsAfter(new UUID(0L, 0L), 500)).thenReturn(Flux.just(a));
+        when(userRepo.findCounterDrift(any())).thenReturn(Flux.empty());
+
+        StepVerifier.create(counters.reconcile()).expectNext(0L).verifyComplete();
+
+        verify(userRepo, never()).reconcileFollowCounts(any(), any(), any());
+        verify(userRepo, never()).lockCountersExclusive(anyLong());
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private void stubLock() {
+        when(lockService.withLock(anyString(), anyLong(), anyLong(), any()))
+                .thenAnswer(inv -> ((Supplier<Mono<?>>) inv.getArgument(3)).get());
+    }
+
+    private UserResponse response(int followers, int following) {
+        return new UserResponse(userId, "alice", "Alice", null, null, null, null, null,
+                false, false, followers, following, 0, "USER", "ACTIVE", Instant.now());
+    }
+}
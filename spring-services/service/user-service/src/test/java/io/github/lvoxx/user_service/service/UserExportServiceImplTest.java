@@ -0,0 +1,102 @@
+package io.github.lvoxx.user_service.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.lvoxx.common_core.enums.UserRole;
+import io.github.lvoxx.common_core.exception.ForbiddenException;
+import io.github.lvoxx.common_core.security.UserPrincipal;
+import io.github.lvoxx.user_service.dto.EdgeExportRow;
+import io.github.lvoxx.user_service.export.UserExportReader;
+import io.github.lvoxx.user_service.kafka.ProfileRepublisher;
+import io.github.lvoxx.user_service.properties.ExportProperties;
+import io.github.lvoxx.user_service.service.impl.UserExportServiceImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("UserExportService — admin-only export and re-publish")
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceImplTest {
+
+    @Mock private UserExportReader reader;
+    @Mock private ProfileRepublisher republisher;
+
+    private ExportProperties props;
+    private UserExportServiceImpl exportService;
+
+    private UserPrincipal admin;
+    private UserPrincipal user;
+
+    @BeforeEach
+    void setUp() {
+        props = new ExportProperties();
+        exportService = new UserExportServiceImpl(reader, republisher, props);
+        admin = new UserPrincipal(UUID.randomUUID(), "root", Set.of(UserRole.ADMIN), "127.0.0.1");
+        user = new UserPrincipal(UUID.randomUUID(), "alice", Set.of(UserRole.USER), "127.0.0.1");
+    }
+
+    @Test
+    @DisplayName("exportFollowers: given admin → streams reader rows")
+    void exportFollowers_givenAdmin_streamsRows() {
+        EdgeExportRow edge = new EdgeExportRow(UUID.randomUUID(), UUID.randomUUID(), Instant.now());
+        when(reader.followers()).thenReturn(Flux.just(edge));
+
+        StepVerifier.create(exportService.exportFollowers(admin))
+                .expectNext(edge)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("exportUsers: given non-admin → ForbiddenException, nothing read")
+    void exportUsers_givenNonAdmin_throwsForbidden() {
+        StepVerifier.create(exportService.exportUsers(user))
+                .expectError(ForbiddenException.class)
+                .verify();
+
+        verify(reader, never()).users();
+    }
+
+    @Test
+    @DisplayName("republishProfiles: given no rate → starts at the configured default")
+    void republishProfiles_givenNoRate_usesDefault() {
+        when(republisher.start(anyInt())).thenReturn(Mono.empty());
+
+        StepVerifier.create(exportService.republishProfiles(admin, null)).verifyComplete();
+
+        verify(republisher).start(props.getRepublishRate());
+    }
+
+    @Test
+    @DisplayName("republishProfiles: given rate above the maximum → capped")
+    void republishProfiles_givenExcessiveRate_capsIt() {
+        when(republisher.start(anyInt())).thenReturn(Mono.empty());
+
+        StepVerifier.create(exportService.republishProfiles(admin, 1_000_000)).verifyComplete();
+
+        verify(republisher).start(props.getMaxRepublishRate());
+    }
+
+    @Test
+    @DisplayName("republishProfiles: given non-admin → ForbiddenException, nothing started")
+    void republishProfiles_givenNonAdmin_throwsForbidden() {
+        StepVerifier.create(exportService.republishProfiles(user, 100))
+                .expectError(ForbiddenException.class)
+                .verify();
+
+        verify(republisher, never()).start(anyInt());
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.lvoxx.user_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
+import io.github.lvoxx.user_service.dto.UserResponse;
+import io.github.lvoxx.user_service.entity.User;
+import io.github.lvoxx.user_service.repository.UserRepository;
+import io.github.lvoxx.user_service.service.impl.UserLookupServiceImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@Tag("unit")
+@DisplayName("UserLookupService — batched profile hydration")
+@ExtendWith(MockitoExtension.class)
+class UserLookupServiceImplTest {
+
+    @Mock
+    private UserRepository userRepo;
+
+    @Mock
+    private UserCounterService counters;
+
+    private CacheManager cacheManager;
+    private UserLookupServiceImpl userLookup;
+
+    private UUID cachedId;
+    private UUID missId;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = RedisBackedCaches.manager();
+        userLookup = new UserLookupServiceImpl(userRepo, counters,
+                new ReactiveCacheService(cacheManager, new TwoTierCacheProperties()));
+
+        cachedId = UUID.randomUUID();
+        missId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("findProfiles: given all IDs cached → no DB query")
+    void findProfiles_givenAllCached_skipsDatabase() {
+        cacheManager.getCache(CacheKeys.UserService.PROFILE).put(cachedId, response(cachedId, "cached"));
+
+        StepVerifier.create(userLookup.findProfiles(List.of(cachedId)))
+                .expectNextMatches(map -> "cached".equals(map.get(cachedId).username()))
+                .verifyComplete();
+
+        verifyNoInteractions(userRepo);
+    }
+
+    @Test
+    @DisplayName("findProfiles: given cache misses → one batched query for misses only, results cached")
+    void findProfiles_givenMisses_loadsMissesInOneQueryAndCachesThem() {
+        cacheManager.getCache(CacheKeys.UserService.PROFILE).put(cachedId, response(cachedId, "cached"));
+        when(userRepo.findAllByIdInAndIsDeletedFalse(List.of(missId)))
+                .thenReturn(Flux.just(user(missId, "loaded")));
+        when(counters.withPending(any(UserResponse.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        StepVerifier.create(userLookup.findProfiles(List.of(cachedId, missId, cachedId)))
+                .expectNextMatches(map -> map.size() == 2
+                        && "cached".equals(map.get(cachedId).username())
+                        && "loaded".equals(map.get(missId).username()))
+                .verifyComplete();
+
+        verify(userRepo, times(1)).findAllByIdInAndIsDeletedFalse(anyCollection());
+        assertThat(cacheManager.getCache(CacheKeys.UserService.PROFILE).get(missId, UserResponse.class))
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("findProfiles: given profiles loaded once → second lookup served from cache")
+    void findProfiles_givenLoadedOnce_secondLookupSkipsDatabase() {
+        when(userRepo.findAllByIdInAndIsDeletedFalse(List.of(missId)))
+                .thenReturn(Flux.just(user(missId, "loaded")));
+        when(counters.withPending(any(UserResponse.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        StepVerifier.create(userLookup.findProfiles(List.of(missId)))
+                .expectNextMatches(map -> "loaded".equals(map.get(missId).username()))
+                .verifyComplete();
+        StepVerifier.create(userLookup.findProfiles(List.of(missId)))
+                .expectNextMatches(map -> "loaded".equals(map.get(missId).username()))
+                .verifyComplete();
+
+        verify(userRepo, times(1)).findAllByIdInAndIsDeletedFalse(anyCollection());
+    }
+
+    @Test
+    @DisplayName("findProfiles: given deleted user → absent from result")
+    void findProfiles_givenDeletedUser_omitsIt() {
+        when(userRepo.findAllByIdInAndIsDeletedFalse(List.of(missId))).thenReturn(Flux.empty());
+
+        StepVerifier.create(userLookup.findProfiles(List.of(missId)))
+                .expectNextMatches(map -> map.isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findProfiles: given empty input → empty map without I/O")
+    void findProfiles_givenEmptyInput_returnsEmptyMap() {
+        StepVerifier.create(userLookup.findProfiles(List.of()))
+                .expectNextMatches(map -> map.isEmpty())
+                .verifyComplete();
+
+        verifyNoInteractions(userRepo);
+    }
+
+    @Test
+    @DisplayName("findProfiles: given overlapping concurrent lookups → shared IDs queried once")
+    void findProfiles_givenOverlappingConcurrentLookups_joinsInFlightBatch() {
+        UUID otherId = UUID.randomUUID();
+        Sinks.Many<User> firstBatch = Sinks.many().unicast().onBackpressureBuffer();
+        when(userRepo.findAllByIdInAndIsDeletedFalse(List.of(missId))).thenReturn(firstBatch.asFlux());
+        when(userRepo.findAllByIdInAndIsDeletedFalse(List.of(otherId)))
+                .thenReturn(Flux.just(user(otherId, "other")));
+        when(counters.withPending(any(UserResponse.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        Mono<Map<UUID, UserResponse>> first = userLookup.findProfiles(List.of(missId)).cache();
+        first.subscribe();
+        Mono<Map<UUID, UserResponse>> second = userLookup.findProfiles(List.of(missId, otherId));
+
+        firstBatch.tryEmitNext(user(missId, "loaded"));
+        firstBatch.tryEmitComplete();
+
+        StepVerifier.create(second)
+                .expectNextMatches(map -> map.size() == 2
+                        && "loaded".equals(map.get(missId).username())
+                        && "other".equals(map.get(otherId).username()))
+                .verifyComplete();
+        StepVerifier.create(first)
+                .expectNextMatches(map -> map.size() == 1)
+                .verifyComplete();
+
+        verify(userRepo, times(1)).findAllByIdInAndIsDeletedFalse(List.of(missId));
+        verify(userRepo, times(1)).findAllByIdInAndIsDeletedFalse(List.of(otherId));
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private static User user(UUID id, String username) {
+        return User.builder()
+                .id(id).username(username)
+                .isVerified(false).isPrivate(false)
+                .followerCount(0).followingCount(0).postCount(0).role("USER").build();
+    }
+
+    private static UserResponse response(UUID id, String username) {
+        return new UserResponse(id, username, null, null, null, null, null, null,
+                false, false, 0, 0, 0, "USER", "ACTIVE", null);
+    }
+}
@@ -3,7 +3,10 @@ package io.github.lvoxx.user_service.service;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -23,17 +26,24 @@ import io.github.lvoxx.common_core.exception.ConflictException;
 import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
 import io.github.lvoxx.common_core.model.PageResponse;
 import io.github.lvoxx.common_core.security.UserPrincipal;
+import io.github.lvoxx.common_core.util.CursorCodec;
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
 import io.github.lvoxx.user_service.dto.AccountHistoryResponse;
 import io.github.lvoxx.user_service.dto.FollowRequestResponse;
 import io.github.lvoxx.user_service.dto.UpdateProfileRequest;
 import io.github.lvoxx.user_service.dto.UpdateSettingsRequest;
 import io.github.lvoxx.user_service.dto.UserResponse;
+import io.github.lvoxx.user_service.dto.UserSearchHit;
 import io.github.lvoxx.user_service.dto.VerificationRequest;
 import io.github.lvoxx.user_service.entity.User;
 import io.github.lvoxx.user_service.entity.Verification;
 import io.github.lvoxx.user_service.kafka.UserEventPublisher;
+import io.github.lvoxx.user_service.lookup.UserExistenceFilter;
+import io.github.lvoxx.user_service.properties.SearchProperties;
 import io.github.lvoxx.user_service.repository.UserRepository;
 import io.github.lvoxx.user_service.repository.VerificationRepository;
+import io.github.lvoxx.user_service.search.UserPrefixIndex;
 import io.github.lvoxx.user_service.service.impl.UserServiceImpl;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -50,6 +60,10 @@ class UserServiceImplTest {
     @Mock private FollowerService followerService;
     @Mock private FollowRequestService followRequestService;
     @Mock private AccountHistoryService historyService;
+    @Mock private UserCounterService counters;
+    @Mock private UserLookupService userLookup;
+    @Mock private UserPrefixIndex prefixIndex;
+    @Mock private UserExistenceFilter existenceFilter;
 
     private ObjectMapper objectMapper = new ObjectMapper();
     private UserServiceImpl userService;
@@ -61,8 +75,13 @@ class UserServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        ReactiveCacheService cache = new ReactiveCacheService(
+                RedisBackedCaches.manager(), new TwoTierCacheProperties());
         userService = new UserServiceImpl(userRepo, verificationRepo, eventPublisher,
-                objectMapper, followerService, followRequestService, historyService);
+                objectMapper, cache, followerService, followRequestService, historyService, counters,
+                userLookup, prefixIndex, new SearchProperties(), existenceFilter);
+        lenient().when(existenceFilter.admit(any(), any())).thenReturn(true);
+        lenient().when(counters.withPending(any(UserResponse.class))).thenAnswer(inv -> inv.getArgument(0));
 
         userId   = UUID.randomUUID();
         targetId = UUID.randomUUID();
@@ -95,6 +114,20 @@ class UserServiceImplTest {
         StepVerifier.create(userService.getByUsername("unknown"))
                 .expectError(ResourceNotFoundException.class)
                 .verify();
+
+        verify(existenceFilter).recordFalsePositive(UserExistenceFilter.Kind.USERNAME);
+    }
+
+    @Test
+    @DisplayName("getByUsername: given username rejected by existence filter → 404 without DB query")
+    void getByUsername_givenFilterRejects_skipsDatabase() {
+        when(existenceFilter.admit(UserExistenceFilter.Kind.USERNAME, "scraped")).thenReturn(false);
+
+        StepVerifier.create(userService.getByUsername("scraped"))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(userRepo);
     }
 
     // ── getById ───────────────────────────────────────────────────────────────
@@ -119,6 +152,34 @@ class UserServiceImplTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("getById: given id rejected by existence filter → 404 without cache or DB lookup")
+    void getById_givenFilterRejects_skipsDatabase() {
+        when(existenceFilter.admit(UserExistenceFilter.Kind.ID, userId)).thenReturn(false);
+
+        StepVerifier.create(userService.getById(userId))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(userRepo);
+    }
+
+    @Test
+    @DisplayName("getById: given concurrent misses → one DB query, later reads served from cache")
+    void getById_givenConcurrentMisses_queriesDatabaseOnce() {
+        when(userRepo.findByIdAndIsDeletedFalse(userId))
+                .thenReturn(Mono.just(testUser).delayElement(Duration.ofMillis(50)));
+
+        StepVerifier.create(Mono.zip(userService.getById(userId), userService.getById(userId)))
+                .expectNextMatches(t -> t.getT1().id().equals(userId) && t.getT2().id().equals(userId))
+                .verifyComplete();
+        StepVerifier.create(userService.getById(userId))
+                .expectNextMatches(r -> r.id().equals(userId))
+                .verifyComplete();
+
+        verify(userRepo, times(1)).findByIdAndIsDeletedFalse(userId);
+    }
+
     // ── updateProfile ─────────────────────────────────────────────────────────
 
     @Test
@@ -305,9 +366,9 @@ class UserServiceImplTest {
     @DisplayName("getFollowRequests: given principal → delegates to FollowRequestService.getPending")
     void getFollowRequests_givenPrincipal_delegatesToFollowRequestService() {
         PageResponse<FollowRequestResponse> page = PageResponse.empty();
-        when(followRequestService.getPending(userId)).thenReturn(Mono.just(page));
+        when(followRequestService.getPending(userId, null, 20)).thenReturn(Mono.just(page));
 
-        StepVerifier.create(userService.getFollowRequests(principal))
+        StepVerifier.create(userService.getFollowRequests(principal, null, 20))
                 .expectNext(page)
                 .verifyComplete();
     }
@@ -327,12 +388,12 @@ class UserServiceImplTest {
     // ── getHistory ────────────────────────────────────────────────────────────
 
     @Test
-    @DisplayName("getHistory: given principal → delegates to AccountHistoryService with limit 50")
+    @DisplayName("getHistory: given principal → delegates to AccountHistoryService with cursor and size")
     void getHistory_givenPrincipal_delegatesToHistoryService() {
         PageResponse<AccountHistoryResponse> page = PageResponse.empty();
-        when(historyService.getHistory(userId, 50)).thenReturn(Mono.just(page));
+        when(historyService.getHistory(userId, null, 50)).thenReturn(Mono.just(page));
 
-        StepVerifier.create(userService.getHistory(principal))
+        StepVerifier.create(userService.getHistory(principal, null, 50))
                 .expectNext(page)
                 .verifyComplete();
     }
@@ -342,33 +403,130 @@ class UserServiceImplTest {
     @Test
     @DisplayName("searchUsers: given query shorter than 2 chars → returns empty page without querying DB")
     void searchUsers_givenQueryLessThan2Chars_returnsEmptyPage() {
-        StepVerifier.create(userService.searchUsers("a", 10))
+        StepVerifier.create(userService.searchUsers("a", null, 10))
                 .expectNextMatches(page -> page.items().isEmpty())
                 .verifyComplete();
 
-        verify(userRepo, never()).searchByUsernameOrDisplayName(any(), anyInt());
+        verify(userRepo, never()).searchRanked(any(), any(), anyInt());
     }
 
     @Test
     @DisplayName("searchUsers: given null query → returns empty page without querying DB")
     void searchUsers_givenNullQuery_returnsEmptyPage() {
-        StepVerifier.create(userService.searchUsers(null, 10))
+        StepVerifier.create(userService.searchUsers(null, null, 10))
                 .expectNextMatches(page -> page.items().isEmpty())
                 .verifyComplete();
     }
 
     @Test
-    @DisplayName("searchUsers: given valid 3-char query → returns mapped UserResponse list")
-    void searchUsers_givenValidQuery_returnsMappedResults() {
-        when(userRepo.searchByUsernameOrDisplayName("ali", 10))
-                .thenReturn(Flux.just(testUser));
+    @DisplayName("searchUsers: given valid 3-char query → hydrates ranked ids through the profile lookup, in rank order")
+    void searchUsers_givenValidQuery_returnsHydratedResultsInRankOrder() {
+        when(userRepo.searchRanked("ali", "%ali%", 11)).thenReturn(Flux.just(
+                new UserSearchHit(targetId, 0.6f), new UserSearchHit(userId, 0.5f)));
+        when(userLookup.findProfiles(List.of(targetId, userId))).thenReturn(Mono.just(Map.of(
+                userId, userResponse(userId, "alice", 0), targetId, userResponse(targetId, "alina", 0))));
+
+        StepVerifier.create(userService.searchUsers("ali", null, 10))
+                .expectNextMatches(page -> page.items().size() == 2
+                        && "alina".equals(page.items().get(0).username())
+                        && "alice".equals(page.items().get(1).username())
+                        && page.nextCursor() == null)
+                .verifyComplete();
+    }
 
-        StepVerifier.create(userService.searchUsers("ali", 10))
+    @Test
+    @DisplayName("searchUsers: given a hit deleted before hydration → dropped from the page")
+    void searchUsers_givenHitNoLongerFound_isSkipped() {
+        when(userRepo.searchRanked("ali", "%ali%", 11)).thenReturn(Flux.just(
+                new UserSearchHit(targetId, 0.6f), new UserSearchHit(userId, 0.5f)));
+        when(userLookup.findProfiles(List.of(targetId, userId)))
+                .thenReturn(Mono.just(Map.of(userId, userResponse(userId, "alice", 0))));
+
+        StepVerifier.create(userService.searchUsers("ali", null, 10))
                 .expectNextMatches(page -> page.items().size() == 1
                         && "alice".equals(page.items().get(0).username()))
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("searchUsers: given more rows than page size → returns rank cursor that resumes after last row")
+    void searchUsers_givenMoreRows_returnsRankCursor() {
+        when(userRepo.searchRanked("ali", "%ali%", 2)).thenReturn(Flux.just(
+                new UserSearchHit(userId, 0.5f), new UserSearchHit(targetId, 0.4f)));
+        when(userLookup.findProfiles(List.of(userId)))
+                .thenReturn(Mono.just(Map.of(userId, userResponse(userId, "alice", 0))));
+
+        StepVerifier.create(userService.searchUsers("ali", null, 1))
+                .expectNextMatches(page -> page.items().size() == 1
+                        && CursorCodec.decodeScore(page.nextCursor())
+                                .equals(new CursorCodec.ScorePosition(0.5f, userId)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("searchUsers: given cursor → queries rows after the cursor position")
+    void searchUsers_givenCursor_queriesAfterPosition() {
+        String cursor = CursorCodec.encode(0.5f, userId);
+        when(userRepo.searchRankedAfter("ali", "%ali%", 0.5f, userId, 11)).thenReturn(Flux.empty());
+        when(userLookup.findProfiles(List.of())).thenReturn(Mono.just(Map.of()));
+
+        StepVerifier.create(userService.searchUsers("ali", cursor, 10))
+                .expectNextMatches(page -> page.items().isEmpty() && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("searchUsers: given LIKE metacharacters → escapes them in the pattern")
+    void searchUsers_givenLikeMetacharacters_escapesPattern() {
+        when(userRepo.searchRanked("a_%", "%a\\_\\%%", 11)).thenReturn(Flux.empty());
+        when(userLookup.findProfiles(List.of())).thenReturn(Mono.just(Map.of()));
+
+        StepVerifier.create(userService.searchUsers("a_%", null, 10))
+                .expectNextMatches(page -> page.items().isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("searchUsers: given 2-char query → served from prefix index, no DB scan")
+    void searchUsers_givenTwoCharQuery_usesPrefixIndex() {
+        when(prefixIndex.suggest("al", 40)).thenReturn(List.of(userId));
+        when(userLookup.findProfiles(List.of(userId)))
+                .thenReturn(Mono.just(Map.of(userId, userResponse(userId, "alice", 3))));
+
+        StepVerifier.create(userService.searchUsers("al", null, 10))
+                .expectNextMatches(page -> page.items().size() == 1 && page.nextCursor() == null)
+                .verifyComplete();
+
+        verify(userRepo, never()).searchRanked(any(), any(), anyInt());
+    }
+
+    // ── suggestUsers ──────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("suggestUsers: given prefix matches → ranks hydrated profiles by follower count")
+    void suggestUsers_givenMatches_ranksByFollowerCount() {
+        when(prefixIndex.suggest("al", 8)).thenReturn(List.of(userId, targetId));
+        when(userLookup.findProfiles(List.of(userId, targetId))).thenReturn(Mono.just(Map.of(
+                userId, userResponse(userId, "alice", 3),
+                targetId, userResponse(targetId, "alina", 900))));
+
+        StepVerifier.create(userService.suggestUsers("al", 2))
+                .expectNextMatches(list -> list.size() == 2 && "alina".equals(list.get(0).username()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("suggestUsers: given no indexed match → empty list without hydration")
+    void suggestUsers_givenNoMatch_returnsEmpty() {
+        when(prefixIndex.suggest("zz", 40)).thenReturn(List.of());
+
+        StepVerifier.create(userService.suggestUsers("zz", 10))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        verify(userLookup, never()).findProfiles(any());
+    }
+
     // ── submitVerification ────────────────────────────────────────────────────
 
     @Test
@@ -407,4 +565,9 @@ class UserServiceImplTest {
 
         verify(verificationRepo).save(any(Verification.class));
     }
+
+    private static UserResponse userResponse(UUID id, String username, int followers) {
+        return new UserResponse(id, username, null, null, null, null, null, null,
+                false, false, followers, 0, 0, "USER", "ACTIVE", Instant.now());
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.lvoxx.user_service.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -12,11 +13,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 
 import io.github.lvoxx.common_core.exception.ResourceNotFoundException;
+import io.github.lvoxx.common_keys.CacheKeys;
 import io.github.lvoxx.user_service.dto.UpdateUserSettingsRequest;
+import io.github.lvoxx.user_service.dto.UserSettingsResponse;
 import io.github.lvoxx.user_service.entity.UserSettings;
 import io.github.lvoxx.user_service.repository.UserSettingsRepository;
+import io.github.lvoxx.user_service.grpc.UserSettingsWatchHub;
 import io.github.lvoxx.user_service.service.impl.UserSettingsServiceImpl;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -28,7 +35,10 @@ class UserSettingsServiceImplTest {
 
     @Mock
     private UserSettingsRepository settingsRepo;
+    @Mock
+    private ReactiveStringRedisTemplate redis;
 
+    private ConcurrentMapCacheManager cacheManager;
     private UserSettingsServiceImpl userSettingsService;
 
     private UUID userId;
@@ -36,7 +46,9 @@ class UserSettingsServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        userSettingsService = new UserSettingsServiceImpl(settingsRepo);
+        cacheManager = new ConcurrentMapCacheManager(CacheKeys.UserService.USER_SETTINGS_KEY);
+        userSettingsService = new UserSettingsServiceImpl(settingsRepo, redis, cacheManager);
+        lenient().when(redis.convertAndSend(eq(UserSettingsWatchHub.CHANNEL), anyString())).thenReturn(Mono.just(1L));
 
         userId = UUID.randomUUID();
         existingSettings = UserSettings.builder()
@@ -157,6 +169,41 @@ class UserSettingsServiceImplTest {
         verify(settingsRepo).save(argThat(s ->
                 Boolean.TRUE.equals(s.getReadReceipts())
                         && "MENTIONS".equals(s.getNotificationLevel())));
+        verify(redis).convertAndSend(UserSettingsWatchHub.CHANNEL, userId.toString());
+    }
+
+    @Test
+    @DisplayName("updateSettings: given cached settings → evicted before watchers are told")
+    void updateSettings_givenCachedSettings_evictsBeforePublishing() {
+        Cache cache = cacheManager.getCache(CacheKeys.UserService.USER_SETTINGS_KEY);
+        cache.put(userId, new UserSettingsResponse(userId, false, true, "MENTIONS"));
+        when(settingsRepo.findByUserId(userId)).thenReturn(Mono.just(existingSettings));
+        when(settingsRepo.save(any(UserSettings.class))).thenReturn(Mono.just(existingSettings));
+        when(redis.convertAndSend(UserSettingsWatchHub.CHANNEL, userId.toString())).thenAnswer(inv -> {
+            assertThat(cache.get(userId)).isNull();
+            return Mono.just(1L);
+        });
+
+        StepVerifier.create(userSettingsService.updateSettings(userId,
+                        new UpdateUserSettingsRequest(true, null, null)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(redis).convertAndSend(UserSettingsWatchHub.CHANNEL, userId.toString());
+    }
+
+    @Test
+    @DisplayName("updateSettings: given change announcement fails → still returns the saved settings")
+    void updateSettings_givenPublishFailure_completes() {
+        when(settingsRepo.findByUserId(userId)).thenReturn(Mono.just(existingSettings));
+        when(settingsRepo.save(any(UserSettings.class))).thenReturn(Mono.just(existingSettings));
+        when(redis.convertAndSend(UserSettingsWatchHub.CHANNEL, userId.toString()))
+                .thenReturn(Mono.error(new RuntimeException("redis down")));
+
+        StepVerifier.create(userSettingsService.updateSettings(userId,
+                        new UpdateUserSettingsRequest(true, null, null)))
+                .expectNextCount(1)
+                .verifyComplete();
     }
 
     @Test
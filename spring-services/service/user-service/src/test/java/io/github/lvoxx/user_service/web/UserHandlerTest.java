@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
@@ -26,11 +27,14 @@ import io.github.lvoxx.common_core.security.UserPrincipal;
 import io.github.lvoxx.common_core.util.ReactiveContextUtil;
 import io.github.lvoxx.user_service.dto.AccountHistoryResponse;
 import io.github.lvoxx.user_service.dto.FollowRequestResponse;
+import io.github.lvoxx.user_service.dto.RelationshipResponse;
 import io.github.lvoxx.user_service.dto.UserResponse;
 import io.github.lvoxx.user_service.service.UserService;
 import io.github.lvoxx.user_service.web.handler.UserHandler;
+import io.github.lvoxx.user_service.web.cache.ProfileResponseCache;
 import io.github.lvoxx.user_service.web.router.UserRouter;
 import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Unit tests for {@link UserHandler} HTTP endpoints.
@@ -62,7 +66,8 @@ class UserHandlerTest {
         userId = UUID.randomUUID();
         testPrincipal = new UserPrincipal(userId, "alice", Set.of(UserRole.USER), "127.0.0.1");
 
-        UserHandler handler = new UserHandler(userService);
+        UserHandler handler = new UserHandler(userService,
+                new ProfileResponseCache(userService, JsonMapper.builder().build()));
         client = WebTestClient
                 .bindToRouterFunction(new UserRouter().userRoutes(handler))
                 .webFilter((exchange, chain) -> chain.filter(exchange)
@@ -74,7 +79,7 @@ class UserHandlerTest {
     private UserResponse buildUserResponse() {
         return new UserResponse(
                 userId, "alice", "Alice", "Bio", null, null, null,
-                null, false, false, 0, 0, 0, "USER", Instant.now());
+                null, false, false, 0, 0, 0, "USER", "ACTIVE", Instant.now());
     }
 
     // ── GET /api/v1/users/{username} ──────────────────────────────────────────
@@ -89,7 +94,28 @@ class UserHandlerTest {
                 .expectStatus().isOk()
                 .expectBody()
                 .jsonPath("$.success").isEqualTo(true)
-                .jsonPath("$.data.username").isEqualTo("alice");
+                .jsonPath("$.data.username").isEqualTo("alice")
+                .jsonPath("$.meta.requestId").isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{username}: given matching If-None-Match → returns 304 with same ETag")
+    void getByUsername_givenMatchingEtag_returns304() {
+        when(userService.getByUsername("alice")).thenReturn(Mono.just(buildUserResponse()));
+
+        String etag = client.get().uri("/api/v1/users/alice")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        client.get().uri("/api/v1/users/alice")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().isEmpty();
     }
 
     @Test
@@ -217,6 +243,39 @@ class UserHandlerTest {
                 .expectStatus().isOk();
     }
 
+    // ── GET /api/v1/users/{userId}/relationship ───────────────────────────────
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/relationship: given principal → returns 200 with flags and counts")
+    void getRelationship_givenPrincipal_returns200() {
+        UUID targetId = UUID.randomUUID();
+        when(userService.getRelationship(testPrincipal, targetId))
+                .thenReturn(Mono.just(new RelationshipResponse(true, true, 4, 2)));
+
+        client.get().uri("/api/v1/users/{userId}/relationship", targetId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.followedBy").isEqualTo(true)
+                .jsonPath("$.data.knownFollowerCount").isEqualTo(4);
+    }
+
+    // ── GET /api/v1/users/{userId}/followers/known ────────────────────────────
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/followers/known: given no size → requests 3")
+    void getKnownFollowers_givenDefaultSize_returns200() {
+        UUID targetId = UUID.randomUUID();
+        when(userService.getKnownFollowers(testPrincipal, targetId, 3))
+                .thenReturn(Mono.just(List.of(buildUserResponse())));
+
+        client.get().uri("/api/v1/users/{userId}/followers/known", targetId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data[0].username").isEqualTo("alice");
+    }
+
     // ── POST /api/v1/users/{userId}/follow ────────────────────────────────────
 
     @Test
@@ -249,7 +308,7 @@ class UserHandlerTest {
     @DisplayName("GET /api/v1/users/me/follow-requests: given principal → returns 200 with pending requests")
     void getFollowRequests_givenPrincipal_returns200() {
         PageResponse<FollowRequestResponse> page = PageResponse.empty();
-        when(userService.getFollowRequests(testPrincipal)).thenReturn(Mono.just(page));
+        when(userService.getFollowRequests(testPrincipal, null, 20)).thenReturn(Mono.just(page));
 
         client.get().uri("/api/v1/users/me/follow-requests")
                 .exchange()
@@ -274,13 +333,33 @@ class UserHandlerTest {
                 .expectStatus().isNoContent();
     }
 
+    // ── POST /api/v1/users/me/follow-requests/bulk ────────────────────────────
+
+    @Test
+    @DisplayName("POST /api/v1/users/me/follow-requests/bulk: given ids and action → returns 200 with actioned count")
+    void respondFollowRequests_givenIds_returns200WithCount() {
+        UUID reqId = UUID.randomUUID();
+        when(userService.respondFollowRequests(testPrincipal, List.of(reqId), "APPROVE"))
+                .thenReturn(Mono.just(1));
+
+        client.post().uri("/api/v1/users/me/follow-requests/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"requestIds":["%s"],"action":"APPROVE"}
+                        """.formatted(reqId))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.actioned").isEqualTo(1);
+    }
+
     // ── GET /api/v1/users/me/history ──────────────────────────────────────────
 
     @Test
     @DisplayName("GET /api/v1/users/me/history: given principal → returns 200 with account history")
     void getHistory_givenPrincipal_returns200() {
         PageResponse<AccountHistoryResponse> page = PageResponse.empty();
-        when(userService.getHistory(testPrincipal)).thenReturn(Mono.just(page));
+        when(userService.getHistory(testPrincipal, null, 50)).thenReturn(Mono.just(page));
 
         client.get().uri("/api/v1/users/me/history")
                 .exchange()
@@ -309,7 +388,7 @@ class UserHandlerTest {
     @DisplayName("GET /api/v1/users/search: given query param → returns 200 with matching users")
     void searchUsers_givenQuery_returns200() {
         PageResponse<UserResponse> page = PageResponse.of(List.of(buildUserResponse()), null);
-        when(userService.searchUsers("alice", 10)).thenReturn(Mono.just(page));
+        when(userService.searchUsers("alice", null, 10)).thenReturn(Mono.just(page));
 
         client.get().uri(uriBuilder -> uriBuilder
                         .path("/api/v1/users/search")
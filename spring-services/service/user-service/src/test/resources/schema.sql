@@ -30,6 +30,11 @@ CREATE TABLE IF NOT EXISTS users (
     deleted_at            TIMESTAMPTZ,
     deleted_by            UUID
 );
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING GIN (username gin_trgm_ops) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_users_display_name_trgm ON users USING GIN (display_name gin_trgm_ops) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users(created_at);
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at ON users(deleted_at) WHERE deleted_at IS NOT NULL;
 
 CREATE TABLE IF NOT EXISTS followers (
     follower_id   UUID        NOT NULL,
@@ -37,7 +42,8 @@ CREATE TABLE IF NOT EXISTS followers (
     created_at    TIMESTAMPTZ NOT NULL DEFAULT NOW(),
     PRIMARY KEY (follower_id, following_id)
 );
-CREATE INDEX IF NOT EXISTS idx_followers_following_id ON followers(following_id);
+CREATE INDEX IF NOT EXISTS idx_followers_following_created ON followers(following_id, created_at DESC, follower_id DESC);
+CREATE INDEX IF NOT EXISTS idx_followers_follower_created ON followers(follower_id, created_at DESC, following_id DESC);
 
 CREATE TABLE IF NOT EXISTS verifications (
     id            UUID        PRIMARY KEY DEFAULT gen_random_uuid(),
@@ -52,14 +58,17 @@ CREATE TABLE IF NOT EXISTS verifications (
 CREATE INDEX IF NOT EXISTS idx_verifications_user_id ON verifications(user_id);
 
 CREATE TABLE IF NOT EXISTS account_history (
-    id          UUID        PRIMARY KEY DEFAULT gen_random_uuid(),
+    id          UUID        NOT NULL DEFAULT gen_random_uuid(),
     user_id     UUID        NOT NULL,
     action      VARCHAR(50) NOT NULL,
     detail      JSONB,
     ip          INET,
-    created_at  TIMESTAMPTZ NOT NULL DEFAULT NOW()
-);
-CREATE INDEX IF NOT EXISTS idx_account_history_user_id ON account_history(user_id);
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (created_at, id)
+) PARTITION BY RANGE (created_at);
+CREATE INDEX IF NOT EXISTS idx_account_history_user_created ON account_history(user_id, created_at DESC, id DESC);
+-- Tests do not depend on the partition manager; a default partition accepts any month
+CREATE TABLE IF NOT EXISTS account_history_default PARTITION OF account_history DEFAULT;
 
 CREATE TABLE IF NOT EXISTS follow_requests (
     id            UUID        PRIMARY KEY DEFAULT gen_random_uuid(),
@@ -69,6 +78,7 @@ CREATE TABLE IF NOT EXISTS follow_requests (
     created_at    TIMESTAMPTZ NOT NULL DEFAULT NOW()
 );
 CREATE UNIQUE INDEX IF NOT EXISTS idx_follow_req_unique ON follow_requests(requester_id, target_id) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_follow_req_target_pending ON follow_requests(target_id, created_at DESC, id DESC) WHERE status = 'PENDING';
 
 CREATE TABLE IF NOT EXISTS user_blocks (
     blocker_id UUID        NOT NULL,
@@ -77,3 +87,16 @@ CREATE TABLE IF NOT EXISTS user_blocks (
     PRIMARY KEY (blocker_id, blocked_id)
 );
 CREATE INDEX IF NOT EXISTS idx_user_blocks_blocked_id ON user_blocks(blocked_id);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id            BIGSERIAL    PRIMARY KEY,
+    aggregate_key VARCHAR(64)  NOT NULL,
+    topic         VARCHAR(128) NOT NULL,
+    event_class   VARCHAR(255) NOT NULL,
+    payload       BYTEA        NOT NULL,
+    created_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    claimed_until TIMESTAMPTZ,
+    attempts      INT          NOT NULL DEFAULT 0,
+    last_error    TEXT,
+    parked_at     TIMESTAMPTZ
+);
@@ -0,0 +1,50 @@
+package io.github.lvoxx.grpc_starter.client;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.github.lvoxx.grpc_starter.properties.GrpcClientBatchProperties;
+import io.github.lvoxx.proto.user.FindUsersByIdsRequest;
+import io.github.lvoxx.proto.user.ReactorUserServiceGrpc;
+import io.github.lvoxx.proto.user.UserListResponse;
+import io.github.lvoxx.proto.user.UserResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * user-service client for hydrating author data.
+ *
+ * <p>
+ * {@link #findUserById} calls made within
+ * {@code sssm.grpc.client.batch.window} of each other are sent as one
+ * {@code FindUsersByIds} RPC, so rendering a page of N posts costs one round
+ * trip instead of N. Unlike the {@code FindUserById} RPC, an unknown or deleted
+ * user completes empty rather than failing with {@code NOT_FOUND}.
+ */
+public class BatchingUserClient {
+
+    private final ReactorUserServiceGrpc.ReactorUserServiceStub stub;
+    private final MicroBatcher<String, UserResponse> byId;
+
+    public BatchingUserClient(ReactorUserServiceGrpc.ReactorUserServiceStub stub, GrpcClientBatchProperties props) {
+        this.stub = stub;
+        this.byId = new MicroBatcher<>(this::fetch, props.getWindow(), props.getMaxBatchSize());
+    }
+
+    public Mono<UserResponse> findUserById(String userId) {
+        return byId.load(userId);
+    }
+
+    /** Sent as-is; callers that already hold a batch of IDs skip the window. */
+    public Mono<UserListResponse> findUsersByIds(Collection<String> userIds) {
+        return stub.findUsersByIds(FindUsersByIdsRequest.newBuilder().addAllUserIds(userIds).build());
+    }
+
+    private Mono<Map<String, UserResponse>> fetch(Set<String> userIds) {
+        return findUsersByIds(userIds)
+                .map(list -> list.getUsersList().stream()
+                        .collect(Collectors.toMap(UserResponse::getUserId, Function.identity(), (a, b) -> a)));
+    }
+}
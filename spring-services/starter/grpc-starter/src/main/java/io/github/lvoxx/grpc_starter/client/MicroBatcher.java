@@ -0,0 +1,103 @@
+package io.github.lvoxx.grpc_starter.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Merges single-key lookups issued within a short window into one batch call.
+ *
+ * <p>
+ * The first key of a batch starts a {@code window} timer; every key arriving
+ * before it fires joins the same batch, and a batch reaching
+ * {@code maxBatchSize} is sent straight away. Duplicate keys share one result.
+ * Keys missing from the batch result complete empty; a failed batch fails
+ * every caller in it. Cancelling a caller does not cancel the batch.
+ *
+ * @param <K> lookup key
+ * @param <V> looked-up value
+ */
+@Slf4j
+public class MicroBatcher<K, V> {
+
+    private final Function<Set<K>, Mono<Map<K, V>>> batchLoader;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Scheduler scheduler;
+
+    /** Guarded by {@code this}. */
+    private Map<K, Sinks.One<V>> pending = new LinkedHashMap<>();
+
+    public MicroBatcher(Function<Set<K>, Mono<Map<K, V>>> batchLoader, Duration window, int maxBatchSize) {
+        this(batchLoader, window, maxBatchSize, Schedulers.parallel());
+    }
+
+    public MicroBatcher(Function<Set<K>, Mono<Map<K, V>>> batchLoader, Duration window, int maxBatchSize,
+            Scheduler scheduler) {
+        this.batchLoader = batchLoader;
+        this.window = window;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.scheduler = scheduler;
+    }
+
+    public Mono<V> load(K key) {
+        return Mono.defer(() -> {
+            Sinks.One<V> sink;
+            Map<K, Sinks.One<V>> full = null;
+            boolean opened;
+            synchronized (this) {
+                opened = pending.isEmpty();
+                sink = pending.computeIfAbsent(key, k -> Sinks.one());
+                if (pending.size() >= maxBatchSize) {
+                    full = pending;
+                    pending = new LinkedHashMap<>();
+                }
+            }
+            if (full != null) {
+                dispatch(full);
+            } else if (opened) {
+                // A stale timer only flushes whatever batch is open at that point, early
+                scheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return sink.asMono();
+        });
+    }
+
+    private void flush() {
+        Map<K, Sinks.One<V>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<K, Sinks.One<V>> batch) {
+        Mono.defer(() -> batchLoader.apply(Set.copyOf(batch.keySet()))).subscribe(
+                found -> batch.forEach((key, sink) -> {
+                    V value = found.get(key);
+                    if (value != null) {
+                        sink.tryEmitValue(value);
+                    } else {
+                        sink.tryEmitEmpty();
+                    }
+                }),
+                e -> {
+                    log.warn("Batch lookup of {} keys failed: {}", batch.size(), e.getMessage());
+                    batch.values().forEach(sink -> sink.tryEmitError(e));
+                },
+                () -> batch.values().forEach(Sinks.One::tryEmitEmpty));
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.lvoxx.grpc_starter.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.lvoxx.grpc_starter.properties.GrpcClientSettingsCacheProperties;
+import io.github.lvoxx.proto.user.GetNotifPreferencesRequest;
+import io.github.lvoxx.proto.user.GetUserSettingsRequest;
+import io.github.lvoxx.proto.user.NotifPreferencesResponse;
+import io.github.lvoxx.proto.user.ReactorUserServiceGrpc;
+import io.github.lvoxx.proto.user.UserSettingsChange;
+import io.github.lvoxx.proto.user.UserSettingsResponse;
+import io.github.lvoxx.proto.user.WatchUserSettingsRequest;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * user-service client for per-message settings lookups, served from a local
+ * cache that one {@code WatchUserSettings} stream keeps current.
+ *
+ * <p>
+ * Notification preferences are not cached: they include device tokens that
+ * user-service does not announce changes of, so each read is an RPC.
+ *
+ * <p>
+ * Entries are cached only while the stream is live. Its first (empty) message
+ * marks it live and clears anything cached before; a change replaces the
+ * cached values of users already cached. When the stream breaks, the cache is
+ * cleared and every read goes to user-service until the stream is re-opened.
+ * Concurrent misses for one user share a single RPC.
+ */
+@Slf4j
+public class UserSettingsNearCache implements AutoCloseable {
+
+    private final ReactorUserServiceGrpc.ReactorUserServiceStub stub;
+    private final GrpcClientSettingsCacheProperties props;
+    private final String clientName;
+
+    private final AsyncCache<String, UserSettingsResponse> settings;
+
+    private volatile boolean live;
+    private Disposable watch;
+
+    public UserSettingsNearCache(ReactorUserServiceGrpc.ReactorUserServiceStub stub,
+            GrpcClientSettingsCacheProperties props, String clientName) {
+        this.stub = stub;
+        this.props = props;
+        this.clientName = clientName;
+        this.settings = newCache(props);
+    }
+
+    /** Opens the watch stream; reads are served remotely until it is live. */
+    public void start() {
+        watch = stub.watchUserSettings(WatchUserSettingsRequest.newBuilder().setClientName(clientName).build())
+                .doOnNext(this::apply)
+                .doOnError(e -> {
+                    log.warn("Settings watch stream broke, serving reads remotely: {}", e.getMessage());
+                    goStale();
+                })
+                // Completion means the server went away; treat it like an error so we reconnect
+                .concatWith(Mono.error(() -> new IllegalStateException("Settings watch stream completed")))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, props.getReconnectBackoff())
+                        .maxBackoff(props.getMaxReconnectBackoff())
+                        // A stream that was live starts over from the initial backoff
+                        .transientErrors(true))
+                .subscribe();
+    }
+
+    @Override
+    public void close() {
+        if (watch != null) {
+            watch.dispose();
+        }
+        goStale();
+    }
+
+    public Mono<UserSettingsResponse> getUserSettings(String userId) {
+        return read(settings, userId, () -> stub.getUserSettings(
+                GetUserSettingsRequest.newBuilder().setUserId(userId).build()));
+    }
+
+    public Mono<NotifPreferencesResponse> getNotifPreferences(String userId) {
+        return stub.getNotifPreferences(GetNotifPreferencesRequest.newBuilder().setUserId(userId).build());
+    }
+
+    /** Whether reads are currently served from the local cache. */
+    public boolean isLive() {
+        return live;
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private void apply(UserSettingsChange change) {
+        if (change.getUserId().isEmpty()) {
+            settings.synchronous().invalidateAll();
+            live = true;
+            log.info("Settings watch stream live");
+            return;
+        }
+        // Replacing the future also supersedes a load still in flight for this user
+        settings.asMap().computeIfPresent(change.getUserId(),
+                (k, v) -> CompletableFuture.completedFuture(change.getSettings()));
+    }
+
+    private void goStale() {
+        live = false;
+        settings.synchronous().invalidateAll();
+    }
+
+    private <V> Mono<V> read(AsyncCache<String, V> cache, String userId,
+            Supplier<Mono<V>> remote) {
+        if (!live) {
+            return remote.get();
+        }
+        // The future is shared by concurrent callers; one cancelling must not abort it
+        return Mono.fromFuture(() -> cache.get(userId, (k, executor) -> remote.get().toFuture()), true);
+    }
+
+    private static <V> AsyncCache<String, V> newCache(GrpcClientSettingsCacheProperties props) {
+        return Caffeine.newBuilder()
+                .maximumSize(props.getMaxSize())
+                .expireAfterWrite(props.getTtl())
+                .buildAsync();
+    }
+}
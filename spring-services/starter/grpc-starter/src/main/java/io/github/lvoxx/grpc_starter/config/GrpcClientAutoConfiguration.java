@@ -0,0 +1,50 @@
+package io.github.lvoxx.grpc_starter.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import io.github.lvoxx.grpc_starter.client.BatchingUserClient;
+import io.github.lvoxx.grpc_starter.client.UserSettingsNearCache;
+import io.github.lvoxx.grpc_starter.properties.GrpcClientBatchProperties;
+import io.github.lvoxx.grpc_starter.properties.GrpcClientSettingsCacheProperties;
+import io.github.lvoxx.proto.user.ReactorUserServiceGrpc;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
+
+/**
+ * Registers batching and near-caching clients for services whose stubs are on
+ * the classpath and whose channel is configured, e.g.
+ * {@code grpc.client.user-service.address}.
+ */
+@AutoConfiguration(afterName = "net.devh.boot.grpc.client.autoconfigure.GrpcClientAutoConfiguration")
+@ConditionalOnClass({ ReactorUserServiceGrpc.class, GrpcChannelFactory.class })
+@EnableConfigurationProperties({ GrpcClientBatchProperties.class, GrpcClientSettingsCacheProperties.class })
+public class GrpcClientAutoConfiguration {
+
+    public static final String USER_SERVICE_CHANNEL = "user-service";
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "grpc.client." + USER_SERVICE_CHANNEL, name = "address")
+    public BatchingUserClient batchingUserClient(GrpcChannelFactory channelFactory, GrpcClientBatchProperties props) {
+        return new BatchingUserClient(
+                ReactorUserServiceGrpc.newReactorStub(channelFactory.createChannel(USER_SERVICE_CHANNEL)),
+                props);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "grpc.client." + USER_SERVICE_CHANNEL, name = "address")
+    @ConditionalOnProperty(prefix = "sssm.grpc.client.settings-cache", name = "enabled", matchIfMissing = true)
+    public UserSettingsNearCache userSettingsNearCache(GrpcChannelFactory channelFactory,
+            GrpcClientSettingsCacheProperties props,
+            @Value("${spring.application.name:unknown}") String applicationName) {
+        return new UserSettingsNearCache(
+                ReactorUserServiceGrpc.newReactorStub(channelFactory.createChannel(USER_SERVICE_CHANNEL)),
+                props, applicationName);
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.lvoxx.grpc_starter.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "sssm.grpc.client.batch")
+public class GrpcClientBatchProperties {
+
+    /** How long single-ID lookups are held back to be merged into one batch call. */
+    private Duration window = Duration.ofMillis(5);
+
+    /** A batch is sent as soon as it holds this many distinct IDs. */
+    private int maxBatchSize = 100;
+}
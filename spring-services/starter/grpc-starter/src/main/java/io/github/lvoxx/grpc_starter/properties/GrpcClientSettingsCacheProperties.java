@@ -0,0 +1,26 @@
+package io.github.lvoxx.grpc_starter.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "sssm.grpc.client.settings-cache")
+public class GrpcClientSettingsCacheProperties {
+
+    /** Serve user settings from a local cache kept fresh by WatchUserSettings. */
+    private boolean enabled = true;
+
+    /** Users whose settings are held in the cache. */
+    private long maxSize = 100_000;
+
+    /** Safety net only: entries are replaced on change, this bounds the damage of a missed one. */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /** First delay before re-opening a broken watch stream; doubles up to {@code max-reconnect-backoff}. */
+    private Duration reconnectBackoff = Duration.ofSeconds(1);
+
+    private Duration maxReconnectBackoff = Duration.ofSeconds(30);
+}
@@ -0,0 +1,70 @@
+package io.github.lvoxx.redis_starter.cache;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+
+/**
+ * Broadcasts L1 invalidations between pods over a Redis pub/sub channel.
+ *
+ * <p>
+ * Wire format is {@code op|origin|cacheName|key}, where {@code op} is
+ * {@code E} (evict one key) or {@code C} (clear the cache). Messages whose
+ * origin is this instance are ignored — the local L1 was already updated
+ * synchronously. Publishing is fire-and-forget: a lost message only costs one
+ * L1 TTL of staleness.
+ */
+@Slf4j
+public class CacheInvalidationBus {
+
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    private final ReactiveStringRedisTemplate redis;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBus(ReactiveStringRedisTemplate redis, String channel) {
+        this.redis = redis;
+        this.channel = channel;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(String.join("|", EVICT, instanceId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(String.join("|", CLEAR, instanceId, cacheName, ""));
+    }
+
+    /**
+     * Subscribes to invalidations from other pods.
+     *
+     * @param onEvict receives {@code (cacheName, key)}; a {@code null} key means
+     *                clear the whole cache
+     */
+    public Disposable subscribe(BiConsumer<String, String> onEvict) {
+        return redis.listenToChannel(channel)
+                .map(msg -> msg.getMessage().split("\\|", 4))
+                .filter(parts -> parts.length == 4 && !instanceId.equals(parts[1]))
+                .doOnNext(parts -> onEvict.accept(parts[2], CLEAR.equals(parts[0]) ? null : parts[3]))
+                .onErrorContinue((e, msg) -> log.warn("Dropped cache invalidation {}: {}", msg, e.getMessage()))
+                .subscribe(ignored -> {
+                }, logError("Cache invalidation subscription terminated"));
+    }
+
+    private void publish(String message) {
+        redis.convertAndSend(channel, message)
+                .subscribe(ignored -> {
+                }, logError("Cache invalidation publish failed"));
+    }
+
+    private static Consumer<Throwable> logError(String what) {
+        return e -> log.warn("{}: {}", what, e.getMessage());
+    }
+}
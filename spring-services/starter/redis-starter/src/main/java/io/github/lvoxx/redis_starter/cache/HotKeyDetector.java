@@ -0,0 +1,100 @@
+package io.github.lvoxx.redis_starter.cache;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.lvoxx.common_core.util.CountMinSketch;
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds the keys of one cache that this pod reads far more often than the
+ * rest.
+ *
+ * <p>
+ * A random {@code sample-rate} of reads is counted in a count-min sketch that
+ * is replaced every {@code window}, so memory stays fixed however many keys
+ * are read. A key whose scaled-up estimate reaches {@code threshold} reads
+ * per second is hot for the next {@code hold}; every sample still over the
+ * threshold extends that.
+ *
+ * <p>
+ * Metrics, tagged {@code cache}: {@code cache.hot_keys} (gauge, keys hot now)
+ * and {@code cache.hot_keys.detected} (keys that turned hot).
+ */
+@Slf4j
+public class HotKeyDetector {
+
+    private record Window(CountMinSketch sketch, long endsAt) {
+    }
+
+    private final String cacheName;
+    private final TwoTierCacheProperties.HotKeys props;
+    private final long sampledThreshold;
+    private final AtomicReference<Window> window = new AtomicReference<>();
+    private final Cache<String, Boolean> hot;
+    private final Counter detected;
+
+    public HotKeyDetector(String cacheName, TwoTierCacheProperties.HotKeys props, MeterRegistry registry) {
+        this.cacheName = cacheName;
+        this.props = props;
+        // Samples of one key within a window that correspond to `threshold` reads per second
+        this.sampledThreshold = Math.max(1,
+                (long) (props.getThreshold() * props.getWindow().toMillis() / 1000.0 * props.getSampleRate()));
+        this.hot = Caffeine.newBuilder()
+                .maximumSize(props.getMaxHotKeys())
+                .expireAfterWrite(props.getHold())
+                .build();
+        this.detected = registry.counter("cache.hot_keys.detected", "cache", cacheName);
+        registry.gauge("cache.hot_keys", Tags.of("cache", cacheName), hot, Cache::estimatedSize);
+    }
+
+    /**
+     * Records one read of {@code key}.
+     *
+     * @return whether the key is hot
+     */
+    public boolean record(String key) {
+        if (ThreadLocalRandom.current().nextDouble() < props.getSampleRate()
+                && current().sketch().add(key, 1) >= sampledThreshold) {
+            if (hot.asMap().put(key, Boolean.TRUE) == null) {
+                detected.increment();
+                log.info("Hot cache key {}{} (over {} reads/s on this pod)", cacheName, key, props.getThreshold());
+            }
+            return true;
+        }
+        return isHot(key);
+    }
+
+    public boolean isHot(String key) {
+        return hot.getIfPresent(key) != null;
+    }
+
+    /** Keys hot now, for diagnostics. */
+    public Set<String> hotKeys() {
+        return Set.copyOf(hot.asMap().keySet());
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private Window current() {
+        long now = System.currentTimeMillis();
+        Window w = window.get();
+        while (w == null || now >= w.endsAt()) {
+            Window next = new Window(CountMinSketch.create(props.getSketchEpsilon(), 0.01),
+                    now + props.getWindow().toMillis());
+            if (window.compareAndSet(w, next)) {
+                return next;
+            }
+            w = window.get();
+        }
+        return w;
+    }
+}
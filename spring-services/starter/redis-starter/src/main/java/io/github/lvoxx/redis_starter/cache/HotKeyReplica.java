@@ -0,0 +1,27 @@
+package io.github.lvoxx.redis_starter.cache;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+/**
+ * Key of one Redis copy of a hot cache entry. Its string form differs from
+ * the original key, so copies hash to other slots — and, in a cluster, other
+ * shards.
+ */
+public record HotKeyReplica(Object key, int replica) {
+
+    /**
+     * Redis TTL function for a cache: {@code entryTtl} for entries, and the
+     * shorter of it and {@code replicaTtl} for copies.
+     */
+    public static RedisCacheWriter.TtlFunction ttl(Duration entryTtl, Duration replicaTtl) {
+        Duration copyTtl = entryTtl.isZero() || replicaTtl.compareTo(entryTtl) < 0 ? replicaTtl : entryTtl;
+        return (key, value) -> key instanceof HotKeyReplica ? copyTtl : entryTtl;
+    }
+
+    @Override
+    public String toString() {
+        return key + "#hot" + replica;
+    }
+}
@@ -0,0 +1,410 @@
+package io.github.lvoxx.redis_starter.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link Cache} that serves reads from a per-pod Caffeine L1 and falls back to
+ * the shared Redis L2, populating L1 on the way back.
+ *
+ * <p>
+ * L1 entries are keyed by {@code String.valueOf(key)} so that an invalidation
+ * received over pub/sub (which only carries the string form) hits the same
+ * entry. Evictions and clears go to both tiers and are broadcast through
+ * {@link CacheInvalidationBus} so other pods drop their L1 copy too.
+ *
+ * <p>
+ * With hot-key handling on, every read is offered to a {@link HotKeyDetector}.
+ * Values of hot keys are also kept in a separate local cache with a longer
+ * TTL than L1's, and — with {@code replicas} set — read from one of that many
+ * Redis copies chosen at random, so a viral key's reads spread over shards.
+ * Copies are written on a copy miss and expire after {@code replica-ttl}.
+ * Every put or evict of the key deletes them, and deletes them again after
+ * {@code replica-evict-delay} in case another pod was filling one from the
+ * old value. On this pod, a fill that overlaps a write is dropped instead.
+ * Copy writes run on the manager's replica executor, never on a Redis I/O
+ * thread.
+ *
+ * <p>
+ * Metrics, tagged {@code cache}: {@code cache.hot_keys.local_hits} and
+ * {@code cache.hot_keys.replica_reads} (tagged {@code result} {@code hit} /
+ * {@code miss}).
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache l2;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final CacheInvalidationBus bus;
+    private final HotKeyTier hot;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /** Striped write counters fencing copy fills; a shared stripe only means a skipped fill. */
+    private static final int GENERATION_STRIPES = 1024;
+
+    /**
+     * Hot-key handling of one cache: detection, pinned local copies and Redis
+     * copies, written and re-evicted on {@code replicaWriter}.
+     */
+    public record HotKeyTier(HotKeyDetector detector,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> pinned,
+            int replicas, Duration replicaEvictDelay, ScheduledExecutorService replicaWriter,
+            Counter localHits, Counter replicaHits, Counter replicaMisses) {
+
+        public HotKeyTier(HotKeyDetector detector, com.github.benmanes.caffeine.cache.Cache<String, Object> pinned,
+                int replicas, Duration replicaEvictDelay, ScheduledExecutorService replicaWriter,
+                String cacheName, MeterRegistry registry) {
+            this(detector, pinned, replicas, replicaEvictDelay, replicaWriter,
+                    registry.counter("cache.hot_keys.local_hits", "cache", cacheName),
+                    registry.counter("cache.hot_keys.replica_reads", "cache", cacheName, "result", "hit"),
+                    registry.counter("cache.hot_keys.replica_reads", "cache", cacheName, "result", "miss"));
+        }
+    }
+
+    public TwoTierCache(Cache l2, com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+            CacheInvalidationBus bus) {
+        this(l2, l1, bus, null);
+    }
+
+    /** @param hot hot-key handling, or {@code null} for none */
+    public TwoTierCache(Cache l2, com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+            CacheInvalidationBus bus, HotKeyTier hot) {
+        this.l2 = l2;
+        this.l1 = l1;
+        this.bus = bus;
+        this.hot = hot;
+    }
+
+    @Override
+    public String getName() {
+        return l2.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    // ── Reads ─────────────────────────────────────────────────────────────────
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String k = l1Key(key);
+        boolean isHot = recordRead(k);
+        Object local = local(k, isHot);
+        if (local != null) {
+            return new SimpleValueWrapper(local);
+        }
+        ValueWrapper remote = isHot && hot.replicas() > 0 ? getReplicated(key) : l2.get(key);
+        if (remote != null && remote.get() != null) {
+            keepLocal(k, remote.get(), isHot);
+        }
+        return remote;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        @SuppressWarnings("unchecked")
+        T typed = (T) value;
+        return typed;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String k = l1Key(key);
+        boolean isHot = recordRead(k);
+        @SuppressWarnings("unchecked")
+        T local = (T) local(k, isHot);
+        if (local != null) {
+            return local;
+        }
+        T value = l2.get(key, valueLoader);
+        if (value != null) {
+            keepLocal(k, value, isHot);
+        }
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        String k = l1Key(key);
+        boolean isHot = recordRead(k);
+        Object local = local(k, isHot);
+        if (local != null) {
+            return CompletableFuture.completedFuture(new SimpleValueWrapper(local));
+        }
+        CompletableFuture<?> remote = isHot && hot.replicas() > 0 ? retrieveReplicated(key) : l2.retrieve(key);
+        if (remote == null) {
+            return null;
+        }
+        return remote.thenApply(value -> {
+            Object unwrapped = unwrap(value);
+            if (unwrapped != null) {
+                keepLocal(k, unwrapped, isHot);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        String k = l1Key(key);
+        boolean isHot = recordRead(k);
+        @SuppressWarnings("unchecked")
+        T local = (T) local(k, isHot);
+        if (local != null) {
+            return CompletableFuture.completedFuture(local);
+        }
+        return l2.retrieve(key, valueLoader).thenApply(value -> {
+            if (value != null) {
+                keepLocal(k, value, isHot);
+            }
+            return value;
+        });
+    }
+
+    // ── Writes ────────────────────────────────────────────────────────────────
+
+    @Override
+    public void put(Object key, Object value) {
+        try {
+            l2.put(key, value);
+            invalidateReplicas(key);
+        } finally {
+            // The value is current even if Redis refused it; this pod can still serve it
+            if (value != null) {
+                String k = l1Key(key);
+                keepLocal(k, value, hot != null && hot.detector().isHot(k));
+            }
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        if (existing == null) {
+            invalidateReplicas(key);
+        }
+        Object current = existing != null ? existing.get() : value;
+        if (current != null) {
+            String k = l1Key(key);
+            keepLocal(k, current, hot != null && hot.detector().isHot(k));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictLocal(l1Key(key));
+        l2.evict(key);
+        invalidateReplicas(key);
+        bus.publishEvict(getName(), l1Key(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictLocal(l1Key(key));
+        boolean present = l2.evictIfPresent(key);
+        invalidateReplicas(key);
+        bus.publishEvict(getName(), l1Key(key));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        clearLocal();
+        l2.clear();
+        bus.publishClear(getName());
+    }
+
+    // ── Batch reads (see ReactiveCacheService#getAll) ─────────────────────────
+
+    /** The Redis tier. */
+    public Cache getRemote() {
+        return l2;
+    }
+
+    /**
+     * The value this pod holds for {@code key}, or {@code null}; counted as a
+     * read for hot-key detection, like any other read.
+     */
+    public Object getLocal(Object key) {
+        String k = l1Key(key);
+        return local(k, recordRead(k));
+    }
+
+    /** Keeps a value just read from the Redis tier, as {@link #retrieve(Object)} would. */
+    public void putLocal(Object key, Object value) {
+        String k = l1Key(key);
+        keepLocal(k, value, hot != null && hot.detector().isHot(k));
+    }
+
+    // ── Invalidation from other pods ──────────────────────────────────────────
+
+    void evictLocal(String key) {
+        generations.incrementAndGet(stripe(key));
+        l1.invalidate(key);
+        if (hot != null) {
+            hot.pinned().invalidate(key);
+        }
+    }
+
+    void clearLocal() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        l1.invalidateAll();
+        if (hot != null) {
+            hot.pinned().invalidateAll();
+        }
+    }
+
+    // ── Hot keys ──────────────────────────────────────────────────────────────
+
+    private boolean recordRead(String key) {
+        return hot != null && hot.detector().record(key);
+    }
+
+    private Object local(String key, boolean isHot) {
+        if (isHot) {
+            Object pinned = hot.pinned().getIfPresent(key);
+            if (pinned != null) {
+                hot.localHits().increment();
+                return pinned;
+            }
+        }
+        return l1.getIfPresent(key);
+    }
+
+    private void keepLocal(String key, Object value, boolean isHot) {
+        l1.put(key, value);
+        if (isHot) {
+            hot.pinned().put(key, value);
+        }
+    }
+
+    private ValueWrapper getReplicated(Object key) {
+        HotKeyReplica copy = randomReplica(key);
+        long generation = generations.get(stripe(l1Key(key)));
+        ValueWrapper replicated = l2.get(copy);
+        if (replicated != null && replicated.get() != null) {
+            hot.replicaHits().increment();
+            return replicated;
+        }
+        hot.replicaMisses().increment();
+        ValueWrapper remote = l2.get(key);
+        if (remote != null && remote.get() != null) {
+            writeReplica(copy, remote.get(), generation);
+        }
+        return remote;
+    }
+
+    private CompletableFuture<?> retrieveReplicated(Object key) {
+        HotKeyReplica copy = randomReplica(key);
+        long generation = generations.get(stripe(l1Key(key)));
+        CompletableFuture<?> replicated = l2.retrieve(copy);
+        if (replicated == null) {
+            return l2.retrieve(key);
+        }
+        return replicated.thenCompose(value -> {
+            if (unwrap(value) != null) {
+                hot.replicaHits().increment();
+                return CompletableFuture.completedFuture(value);
+            }
+            hot.replicaMisses().increment();
+            CompletableFuture<?> remote = l2.retrieve(key);
+            if (remote == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return remote.thenApply(primary -> {
+                Object unwrapped = unwrap(primary);
+                if (unwrapped != null) {
+                    // Cache.put blocks; this callback may run on the Redis client's I/O thread
+                    submit(() -> writeReplica(copy, unwrapped, generation));
+                }
+                return primary;
+            });
+        });
+    }
+
+    /**
+     * Writes a copy read from the primary, unless the key was written or
+     * evicted on this pod since {@code generation} was taken — before the
+     * primary read. A write landing during the put removes the copy again.
+     */
+    private void writeReplica(HotKeyReplica copy, Object value, long generation) {
+        int stripe = stripe(l1Key(copy.key()));
+        if (generations.get(stripe) != generation) {
+            return;
+        }
+        l2.put(copy, value);
+        if (generations.get(stripe) != generation) {
+            l2.evict(copy);
+        }
+    }
+
+    /** After a put or evict: drops the key's copies now and once more after {@code replica-evict-delay}. */
+    private void invalidateReplicas(Object key) {
+        if (hot == null || hot.replicas() == 0) {
+            return;
+        }
+        generations.incrementAndGet(stripe(l1Key(key)));
+        evictReplicas(key);
+        // Another pod may have read the old value just before this write and still be filling a copy
+        try {
+            hot.replicaWriter().schedule(() -> evictReplicas(key),
+                    hot.replicaEvictDelay().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the copies expire after replica-ttl
+        }
+    }
+
+    private void evictReplicas(Object key) {
+        // Any pod may have made copies, so they go whether or not the key is hot here
+        for (int i = 0; i < hot.replicas(); i++) {
+            l2.evict(new HotKeyReplica(key, i));
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            hot.replicaWriter().execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the next copy miss fills it
+        }
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    private HotKeyReplica randomReplica(Object key) {
+        return new HotKeyReplica(key, ThreadLocalRandom.current().nextInt(hot.replicas()));
+    }
+
+    private static Object unwrap(Object value) {
+        return value instanceof ValueWrapper w ? w.get() : value;
+    }
+
+    private static String l1Key(Object key) {
+        return String.valueOf(key);
+    }
+}
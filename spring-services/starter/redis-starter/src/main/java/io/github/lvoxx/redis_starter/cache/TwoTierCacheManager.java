@@ -0,0 +1,134 @@
+package io.github.lvoxx.redis_starter.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+
+/**
+ * {@link CacheManager} that puts a size-bounded Caffeine L1 in front of each
+ * {@link RedisCacheManager} cache.
+ *
+ * <p>
+ * The L1 TTL is {@code sssm.cache.l1.ttl} capped at the cache's Redis TTL, so
+ * a pod never serves an entry longer than Redis would have. With L1 disabled
+ * the Redis caches are returned as-is.
+ *
+ * <p>
+ * With {@code sssm.cache.hot-keys.enabled}, each cache also gets its own
+ * {@link HotKeyDetector}; see {@link TwoTierCache} for how hot keys are served.
+ * Redis copies of hot keys are written on a small executor owned by the
+ * manager and shut down with it.
+ */
+public class TwoTierCacheManager implements CacheManager, InitializingBean, DisposableBean {
+
+    private final RedisCacheManager l2;
+    private final TwoTierCacheProperties props;
+    private final CacheInvalidationBus bus;
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService replicaWriter;
+
+    private Disposable subscription;
+
+    public TwoTierCacheManager(RedisCacheManager l2, TwoTierCacheProperties props, CacheInvalidationBus bus,
+            MeterRegistry registry) {
+        this.l2 = l2;
+        this.props = props;
+        this.bus = bus;
+        this.registry = registry;
+        TwoTierCacheProperties.HotKeys hotKeys = props.getHotKeys();
+        this.replicaWriter = hotKeys.isEnabled() && hotKeys.getReplicas() > 0
+                ? Executors.newScheduledThreadPool(Math.max(1, hotKeys.getReplicaWriterThreads()),
+                        Thread.ofPlatform().name("cache-replica-", 0).daemon().factory())
+                : null;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remote = l2.getCache(name);
+        if (remote == null || !props.getL1().isEnabled()) {
+            return remote;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(remote, newL1(n), bus, newHotKeyTier(n)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return l2.getCacheNames();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (props.getL1().isEnabled()) {
+            subscription = bus.subscribe(this::evictLocal);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (replicaWriter != null) {
+            replicaWriter.shutdown();
+        }
+    }
+
+    private void evictLocal(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> newL1(String name) {
+        Duration ttl = props.getL1().getTtl();
+        Duration remoteTtl = props.ttlFor(name);
+        if (!remoteTtl.isZero() && remoteTtl.compareTo(ttl) < 0) {
+            ttl = remoteTtl;
+        }
+        return Caffeine.newBuilder()
+                .maximumSize(props.getL1().getMaxSize())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    private TwoTierCache.HotKeyTier newHotKeyTier(String name) {
+        TwoTierCacheProperties.HotKeys hotKeys = props.getHotKeys();
+        if (!hotKeys.isEnabled()) {
+            return null;
+        }
+        // The pinned copy may outlive L1, but never the Redis entry
+        Duration ttl = hotKeys.getLocalTtl();
+        Duration remoteTtl = props.ttlFor(name);
+        if (!remoteTtl.isZero() && remoteTtl.compareTo(ttl) < 0) {
+            ttl = remoteTtl;
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> pinned = Caffeine.newBuilder()
+                .maximumSize(hotKeys.getMaxHotKeys())
+                .expireAfterWrite(ttl)
+                .build();
+        return new TwoTierCache.HotKeyTier(new HotKeyDetector(name, hotKeys, registry), pinned,
+                hotKeys.getReplicas(), hotKeys.getReplicaEvictDelay(), replicaWriter, name, registry);
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.lvoxx.redis_starter.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.lvoxx.common_keys.CacheKeys;
+import io.github.lvoxx.redis_starter.cache.CacheInvalidationBus;
+import io.github.lvoxx.redis_starter.cache.HotKeyReplica;
+import io.github.lvoxx.redis_starter.cache.TwoTierCacheManager;
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
+import io.github.lvoxx.redis_starter.service.ReactiveCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+
+/**
+ * Replaces Spring Boot's plain Redis {@link CacheManager} with a Caffeine L1 +
+ * Redis L2 {@link TwoTierCacheManager}. Runs before Boot's cache
+ * auto-configuration so the latter backs off.
+ *
+ * <p>
+ * A {@link RedisCacheConfiguration} bean, if present, is used as the base
+ * configuration (serializers etc.); otherwise {@link #defaultCacheConfig()}.
+ * TTLs are always applied per cache from
+ * {@link TwoTierCacheProperties#ttlFor(String)}, with hot-key copies capped at
+ * {@code sssm.cache.hot-keys.replica-ttl}.
+ */
+@AutoConfiguration(
+        after = RedisAutoConfiguration.class,
+        afterName = {
+                "org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration",
+                "org.springframework.boot.data.redis.autoconfigure.DataRedisReactiveAutoConfiguration" },
+        beforeName = "org.springframework.boot.cache.autoconfigure.CacheAutoConfiguration")
+@ConditionalOnClass({ Caffeine.class, RedisCacheManager.class })
+@EnableConfigurationProperties(TwoTierCacheProperties.class)
+public class TwoTierCacheAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ReactiveStringRedisTemplate.class)
+    public CacheInvalidationBus cacheInvalidationBus(
+            ReactiveStringRedisTemplate redisTemplate,
+            TwoTierCacheProperties props) {
+        return new CacheInvalidationBus(redisTemplate, props.getInvalidationChannel());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(CacheManager.class)
+    @ConditionalOnBean({ RedisConnectionFactory.class, CacheInvalidationBus.class })
+    public TwoTierCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            ObjectProvider<RedisCacheConfiguration> baseConfig,
+            CacheInvalidationBus bus,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            TwoTierCacheProperties props) {
+        RedisCacheConfiguration defaults = baseConfig
+                .getIfAvailable(TwoTierCacheAutoConfiguration::defaultCacheConfig)
+                .prefixCacheNameWith(props.getKeyPrefix())
+                .disableCachingNullValues();
+
+        Set<String> names = new HashSet<>(CacheKeys.TTLS.keySet());
+        names.addAll(props.getTtl().keySet());
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        Duration replicaTtl = props.getHotKeys().getReplicaTtl();
+        names.forEach(name -> perCache.put(name,
+                defaults.entryTtl(HotKeyReplica.ttl(props.ttlFor(name), replicaTtl))));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults.entryTtl(HotKeyReplica.ttl(props.getDefaultTtl(), replicaTtl)))
+                .withInitialCacheConfigurations(perCache)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        return new TwoTierCacheManager(redisCacheManager, props, bus,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Boot's defaults with values stored as JSON carrying their class name, so
+     * cached DTOs — records, which are not {@code Serializable} — round-trip
+     * without JDK serialization. Only classes of this project and the JDK are
+     * accepted when reading.
+     */
+    public static RedisCacheConfiguration defaultCacheConfig() {
+        GenericJacksonJsonRedisSerializer values = GenericJacksonJsonRedisSerializer.builder()
+                .enableDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("io.github.lvoxx.")
+                        .allowIfSubType("java.")
+                        .build())
+                .build();
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(SerializationPair.fromSerializer(values));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(CacheManager.class)
+    public ReactiveCacheService reactiveCacheService(CacheManager cacheManager, TwoTierCacheProperties props,
+            ObjectProvider<ReactiveRedisConnectionFactory> redisFactory) {
+        return new ReactiveCacheService(cacheManager, props, redisFactory.getIfAvailable());
+    }
+}
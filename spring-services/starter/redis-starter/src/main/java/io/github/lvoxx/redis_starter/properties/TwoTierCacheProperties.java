@@ -0,0 +1,108 @@
+package io.github.lvoxx.redis_starter.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.github.lvoxx.common_keys.CacheKeys;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "sssm.cache")
+public class TwoTierCacheProperties {
+
+    /** Redis key prefix prepended to every cache name. */
+    private String keyPrefix = "sssm:";
+
+    /** Redis TTL for caches without a {@code CacheKeys.TTLS} entry or override. */
+    private Duration defaultTtl = Duration.ofMinutes(5);
+
+    /** Per-cache Redis TTL overrides, keyed by cache name. */
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    private L1 l1 = new L1();
+
+    private HotKeys hotKeys = new HotKeys();
+
+    /**
+     * Fraction of a cache's TTL after which a hit through
+     * {@code ReactiveCacheService} also triggers a background reload. 0 disables.
+     */
+    private double refreshAheadRatio = 0.8;
+
+    /** Redis pub/sub channel used to drop L1 entries on other pods after an evict. */
+    private String invalidationChannel = "sssm:cache:invalidate";
+
+    /**
+     * Redis TTL for a cache: explicit override, then the {@link CacheKeys#TTLS}
+     * guideline, then {@link #defaultTtl}.
+     */
+    public Duration ttlFor(String cacheName) {
+        Duration override = ttl.get(cacheName);
+        if (override != null) {
+            return override;
+        }
+        return CacheKeys.TTLS.getOrDefault(cacheName, defaultTtl);
+    }
+
+    @Data
+    public static class L1 {
+        private boolean enabled = true;
+
+        /** Max entries per cache before Caffeine starts evicting. */
+        private long maxSize = 10_000;
+
+        /** L1 entry lifetime; capped at the cache's Redis TTL. */
+        private Duration ttl = Duration.ofSeconds(1);
+    }
+
+    /**
+     * Per-pod detection of keys read far more often than the rest, which are
+     * then served from a longer-lived local copy and, optionally, from
+     * several Redis copies so one shard does not take every read.
+     */
+    @Data
+    public static class HotKeys {
+        /** Requires the L1 to be enabled. */
+        private boolean enabled = true;
+
+        /** Fraction of reads fed to the frequency sketch. */
+        private double sampleRate = 0.05;
+
+        /** Reads are counted over tumbling windows of this length. */
+        private Duration window = Duration.ofSeconds(10);
+
+        /** Estimated reads per second of one key, on one pod, that make it hot. */
+        private long threshold = 200;
+
+        /** Over-count bound of the frequency sketch, as a fraction of sampled reads. */
+        private double sketchEpsilon = 0.001;
+
+        /** Hot keys tracked per cache. */
+        private int maxHotKeys = 1_000;
+
+        /** How long a key stays hot after it was last seen over the threshold. */
+        private Duration hold = Duration.ofSeconds(30);
+
+        /** Lifetime of the local copy of a hot key; replaces the L1 TTL for it. */
+        private Duration localTtl = Duration.ofSeconds(5);
+
+        /** Redis copies of each hot key, read at random; 0 reads the key itself. */
+        private int replicas = 0;
+
+        /** Lifetime of a Redis copy; bounds how stale it can be after a {@code put}. */
+        private Duration replicaTtl = Duration.ofSeconds(5);
+
+        /**
+         * Copies are deleted again this long after a put or evict, dropping any
+         * another pod filled from the old value meanwhile. Keep it below
+         * {@code replica-ttl}, or it adds nothing.
+         */
+        private Duration replicaEvictDelay = Duration.ofSeconds(1);
+
+        /** Threads writing and re-evicting copies, shared by every cache of the manager. */
+        private int replicaWriterThreads = 2;
+    }
+}
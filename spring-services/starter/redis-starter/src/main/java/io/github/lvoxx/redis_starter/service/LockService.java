@@ -28,7 +28,9 @@ import java.util.function.Supplier;
  * supplier
  * is never called and the returned {@link Mono} completes empty — callers
  * should
- * use {@link Mono#switchIfEmpty} to surface a domain error.
+ * use {@link Mono#switchIfEmpty} to surface a domain error. A miss is logged at
+ * WARN, except with {@code waitMs == 0}: a leader-only job that finds the lock
+ * taken is expected on every pod but one, so it is logged at DEBUG.
  *
  * <p>
  * The lock is always released in a {@code doFinally} hook regardless of whether
@@ -77,7 +79,12 @@ public class LockService {
         return lock.tryLock(waitMs, leaseMs, TimeUnit.MILLISECONDS)
                 .flatMap(acquired -> {
                     if (!acquired) {
-                        log.warn("Could not acquire lock key={}", key);
+                        // A zero wait is a leader election: losing it is routine
+                        if (waitMs == 0) {
+                            log.debug("Lock key={} held elsewhere, skipping", key);
+                        } else {
+                            log.warn("Could not acquire lock key={}", key);
+                        }
                         return Mono.empty();
                     }
                     return supplier.get()
@@ -0,0 +1,252 @@
+package io.github.lvoxx.redis_starter.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.lvoxx.redis_starter.cache.TwoTierCache;
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Read-through cache for {@link Mono}-returning lookups, with single-flight
+ * miss coalescing and refresh-ahead.
+ *
+ * <p>
+ * Usage — in place of {@code @Cacheable} on a reactive method:
+ *
+ * <pre>{@code
+ * return cache.get(CacheKeys.UserService.PROFILE, userId, UserResponse.class,
+ *         () -> userRepo.findByIdAndIsDeletedFalse(userId).map(this::toResponse));
+ * }</pre>
+ *
+ * <p>
+ * Only resolved values are cached, never publishers. On a miss, every
+ * concurrent caller for the same {@code (cacheName, key)} on this pod joins one
+ * shared upstream subscription, so a hot key expiring costs one query per pod
+ * rather than one per request. Errors and empty results are not cached.
+ *
+ * <p>
+ * Once an entry this pod loaded is older than {@code refresh-ahead-ratio} of
+ * its TTL, a hit still returns the cached value immediately but also triggers
+ * one background reload (stale-while-revalidate), so hot keys are renewed
+ * before they expire. Entries use the same {@link Cache} as the annotations,
+ * so {@code @CacheEvict} keeps working unchanged.
+ *
+ * <p>
+ * {@link #getAll} reads many keys of one cache in a single Redis round trip;
+ * {@link #putAll} writes them back. {@link Cache#put} blocks on Redis, so every
+ * write this service makes runs on {@link Schedulers#boundedElastic()}.
+ */
+@Slf4j
+public class ReactiveCacheService {
+
+    private final CacheManager cacheManager;
+    private final TwoTierCacheProperties props;
+    private final ReactiveRedisConnectionFactory redisFactory;
+
+    /** Templates reading raw cache entries, one per cache, with that cache's serializers. */
+    private final ConcurrentMap<String, ReactiveRedisTemplate<String, Object>> templates = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Mono<?>> inflight = new ConcurrentHashMap<>();
+
+    /**
+     * When this pod last loaded each key; bounded, used only for refresh-ahead.
+     * Entries outlive any cache TTL in {@code CacheKeys.TTLS}; past that the
+     * key simply falls back to a normal miss.
+     */
+    private final com.github.benmanes.caffeine.cache.Cache<String, Long> loadedAt;
+
+    public ReactiveCacheService(CacheManager cacheManager, TwoTierCacheProperties props) {
+        this(cacheManager, props, null);
+    }
+
+    /** @param redisFactory used by {@link #getAll}; {@code null} reads key by key instead */
+    public ReactiveCacheService(CacheManager cacheManager, TwoTierCacheProperties props,
+            ReactiveRedisConnectionFactory redisFactory) {
+        this.cacheManager = cacheManager;
+        this.props = props;
+        this.redisFactory = redisFactory;
+        this.loadedAt = Caffeine.newBuilder()
+                .maximumSize(props.getL1().getMaxSize())
+                .expireAfterWrite(Duration.ofHours(1))
+                .build();
+    }
+
+    /**
+     * Returns the cached value for {@code key}, or subscribes to {@code loader}
+     * once per pod and caches its result.
+     */
+    public <T> Mono<T> get(String cacheName, Object key, Class<T> type, Supplier<Mono<T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return Mono.defer(loader);
+        }
+        String flightKey = cacheName + key;
+        return lookup(cache, key, type)
+                .doOnNext(hit -> refreshIfStale(cache, cacheName, key, flightKey, loader))
+                .switchIfEmpty(Mono.defer(() -> load(cache, key, flightKey, loader)));
+    }
+
+    /**
+     * Reads many keys of one cache: this pod's L1 first, then one Redis
+     * {@code MGET} for the rest. Keys not cached are absent from the result;
+     * nothing is loaded. Caches not backed by Redis are read key by key.
+     */
+    public <K, V> Mono<Map<K, V>> getAll(String cacheName, Collection<K> keys, Class<V> type) {
+        return Mono.defer(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            Map<K, V> found = new HashMap<>();
+            if (cache == null || keys.isEmpty()) {
+                return Mono.just(found);
+            }
+            TwoTierCache twoTier = cache instanceof TwoTierCache t ? t : null;
+            List<K> misses = new ArrayList<>();
+            for (K key : new LinkedHashSet<>(keys)) {
+                Object local = twoTier != null ? twoTier.getLocal(key) : null;
+                if (type.isInstance(local)) {
+                    found.put(key, type.cast(local));
+                } else {
+                    misses.add(key);
+                }
+            }
+            if (misses.isEmpty()) {
+                return Mono.just(found);
+            }
+            Cache remote = twoTier != null ? twoTier.getRemote() : cache;
+            if (!(remote instanceof RedisCache redis) || redisFactory == null) {
+                return Flux.fromIterable(misses)
+                        .flatMap(key -> lookup(cache, key, type).map(value -> Map.entry(key, value)))
+                        .collect(() -> found, (acc, e) -> acc.put(e.getKey(), e.getValue()));
+            }
+            RedisCacheConfiguration config = redis.getCacheConfiguration();
+            List<String> redisKeys = misses.stream().map(key -> redisKey(cacheName, config, key)).toList();
+            return template(cacheName, config).opsForValue().multiGet(redisKeys)
+                    .map(values -> {
+                        for (int i = 0; i < misses.size(); i++) {
+                            Object value = values.get(i);
+                            if (type.isInstance(value)) {
+                                found.put(misses.get(i), type.cast(value));
+                                if (twoTier != null) {
+                                    twoTier.putLocal(misses.get(i), value);
+                                }
+                            }
+                        }
+                        return found;
+                    })
+                    .onErrorResume(e -> {
+                        log.warn("Cache multi-get failed for {}: {}", cacheName, e.getMessage());
+                        return Mono.just(found);
+                    });
+        });
+    }
+
+    /**
+     * Writes {@code entries} to the cache off the event loop. A failed write is
+     * logged, not propagated — the values are still good, only not cached.
+     */
+    public Mono<Void> putAll(String cacheName, Map<?, ?> entries) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || entries.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> entries.forEach(cache::put))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Cache write failed for {}: {}", cacheName, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // ── Internals ─────────────────────────────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> load(Cache cache, Object key, String flightKey, Supplier<Mono<T>> loader) {
+        return (Mono<T>) inflight.computeIfAbsent(flightKey, k -> Mono.defer(loader)
+                .flatMap(value -> Mono.fromRunnable(() -> {
+                    cache.put(key, value);
+                    loadedAt.put(k, System.currentTimeMillis());
+                })
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> {
+                            log.warn("Cache write failed for {}: {}", k, e.getMessage());
+                            return Mono.empty();
+                        })
+                        .thenReturn(value))
+                .doFinally(signal -> inflight.remove(k))
+                .cache());
+    }
+
+    private <T> void refreshIfStale(Cache cache, String cacheName, Object key, String flightKey,
+            Supplier<Mono<T>> loader) {
+        double ratio = props.getRefreshAheadRatio();
+        Long at = loadedAt.getIfPresent(flightKey);
+        if (ratio <= 0 || at == null || inflight.containsKey(flightKey)) {
+            return;
+        }
+        long refreshAfterMs = (long) (props.ttlFor(cacheName).toMillis() * ratio);
+        if (System.currentTimeMillis() - at < refreshAfterMs) {
+            return;
+        }
+        load(cache, key, flightKey, loader).subscribe(
+                refreshed -> log.debug("Refreshed {}{} ahead of expiry", cacheName, key),
+                e -> log.warn("Refresh-ahead failed for {}{}: {}", cacheName, key, e.getMessage()));
+    }
+
+    /** The key {@link RedisCache} stores {@code key} under. */
+    private static String redisKey(String cacheName, RedisCacheConfiguration config, Object key) {
+        String converted = key instanceof String str ? str : config.getConversionService().convert(key, String.class);
+        return config.usePrefix() ? config.getKeyPrefixFor(cacheName) + converted : converted;
+    }
+
+    private ReactiveRedisTemplate<String, Object> template(String cacheName, RedisCacheConfiguration config) {
+        return templates.computeIfAbsent(cacheName, n -> new ReactiveRedisTemplate<>(redisFactory,
+                RedisSerializationContext.<String, Object>newSerializationContext()
+                        .key(config.getKeySerializationPair())
+                        .value(config.getValueSerializationPair())
+                        .hashKey(config.getKeySerializationPair())
+                        .hashValue(config.getValueSerializationPair())
+                        .build()));
+    }
+
+    private <T> Mono<T> lookup(Cache cache, Object key, Class<T> type) {
+        CompletableFuture<?> future;
+        try {
+            future = cache.retrieve(key);
+        } catch (UnsupportedOperationException e) {
+            return Mono.empty();
+        }
+        if (future == null) {
+            return Mono.empty();
+        }
+        return Mono.fromFuture(future)
+                .map(v -> v instanceof Cache.ValueWrapper w ? w.get() : v)
+                .ofType(type)
+                .onErrorResume(e -> {
+                    log.warn("Cache read failed for {}{}: {}", cache.getName(), key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
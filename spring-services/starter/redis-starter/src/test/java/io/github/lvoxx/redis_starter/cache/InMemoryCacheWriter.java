@@ -0,0 +1,100 @@
+package io.github.lvoxx.redis_starter.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+/**
+ * {@link RedisCacheWriter} over a map, standing in for Redis so the real
+ * {@code RedisCache} — serializers included — runs in unit tests.
+ */
+class InMemoryCacheWriter implements RedisCacheWriter {
+
+    final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+    final AtomicInteger reads = new AtomicInteger();
+
+    /** Runs on every read, with the key read, after the value was looked up. */
+    volatile Consumer<String> afterRead = key -> {
+    };
+
+    /** When set, every write fails with it. */
+    volatile RuntimeException writeFailure;
+
+    boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        String k = string(key);
+        reads.incrementAndGet();
+        byte[] value = entries.get(k);
+        afterRead.accept(k);
+        return value;
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return CompletableFuture.completedFuture(get(name, key));
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        if (writeFailure != null) {
+            throw writeFailure;
+        }
+        entries.put(string(key), value);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        put(name, key, value, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return entries.putIfAbsent(string(key), value);
+    }
+
+    @Override
+    public void evict(String name, byte[] key) {
+        entries.remove(string(key));
+    }
+
+    @Override
+    public void clear(String name, byte[] pattern) {
+        entries.clear();
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector collector) {
+        return this;
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return CacheStatisticsCollector.none().getCacheStatistics(cacheName);
+    }
+
+    private static String string(byte[] key) {
+        return new String(key, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.lvoxx.redis_starter.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.lvoxx.redis_starter.config.TwoTierCacheAutoConfiguration;
+import io.github.lvoxx.redis_starter.properties.TwoTierCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Tag("unit")
+@DisplayName("TwoTierCache — Caffeine L1 over a Redis L2")
+class TwoTierCacheTest {
+
+    private static final String CACHE = "profiles";
+    private static final String KEY = "u1";
+    private static final String PRIMARY = CACHE + "::" + KEY;
+    private static final String COPY = CACHE + "::" + new HotKeyReplica(KEY, 0);
+
+    record Profile(UUID id, String name, Instant createdAt, List<String> tags) {
+    }
+
+    private final InMemoryCacheWriter writer = new InMemoryCacheWriter();
+    private final CacheInvalidationBus bus = mock(CacheInvalidationBus.class);
+    private Cache redis;
+    private ScheduledExecutorService replicaWriter;
+
+    @BeforeEach
+    void setUp() {
+        RedisCacheManager manager = RedisCacheManager.builder(writer)
+                .cacheDefaults(TwoTierCacheAutoConfiguration.defaultCacheConfig().disableCachingNullValues())
+                .build();
+        manager.afterPropertiesSet();
+        redis = manager.getCache(CACHE);
+        replicaWriter = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaWriter.shutdownNow();
+    }
+
+    // ── Serialization ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("put: given a record → another pod reads an equal record back from Redis")
+    void put_givenRecord_roundTripsThroughRedis() {
+        Profile profile = profile("alice");
+
+        pod().put(KEY, profile);
+
+        assertThat(writer.contains(PRIMARY)).isTrue();
+        assertThat(pod().get(KEY, Profile.class)).isEqualTo(profile);
+    }
+
+    // ── L2 → L1 ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("get: given value only in Redis → first read populates L1, second read skips Redis")
+    void get_givenRemoteOnly_populatesLocal() {
+        pod().put(KEY, profile("alice"));
+        TwoTierCache other = pod();
+        writer.reads.set(0);
+
+        Profile first = other.get(KEY, Profile.class);
+        Profile second = other.get(KEY, Profile.class);
+
+        assertThat(second).isSameAs(first);
+        assertThat(writer.reads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("retrieve: given value only in Redis → populates L1")
+    void retrieve_givenRemoteOnly_populatesLocal() {
+        Profile profile = profile("alice");
+        pod().put(KEY, profile);
+        TwoTierCache other = pod();
+
+        other.retrieve(KEY).join();
+        writer.reads.set(0);
+
+        assertThat(other.getLocal(KEY)).isEqualTo(profile);
+        assertThat(writer.reads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("put: given Redis write fails → still populates L1 and rethrows")
+    void put_givenRemoteFailure_keepsLocal() {
+        TwoTierCache cache = pod();
+        Profile profile = profile("alice");
+        writer.writeFailure = new IllegalStateException("redis down");
+
+        assertThatThrownBy(() -> cache.put(KEY, profile)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(KEY, Profile.class)).isEqualTo(profile);
+        assertThat(writer.reads).hasValue(0);
+    }
+
+    // ── Hot-key copies ────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("get: given hot key and copy miss → fills the copy from the primary")
+    void get_givenHotKeyCopyMiss_fillsCopy() {
+        TwoTierCache cache = hotPod();
+        redis.put(KEY, profile("alice"));
+
+        assertThat(cache.get(KEY, Profile.class).name()).isEqualTo("alice");
+
+        assertThat(writer.contains(COPY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("get: given put lands between primary read and copy fill → fill is dropped")
+    void get_givenWriteDuringFill_dropsFill() {
+        TwoTierCache cache = hotPod();
+        redis.put(KEY, profile("alice"));
+        writer.afterRead = key -> {
+            if (key.equals(PRIMARY)) {
+                writer.afterRead = ignored -> {
+                };
+                cache.put(KEY, profile("bob"));
+            }
+        };
+
+        cache.get(KEY);
+
+        assertThat(writer.contains(COPY)).isFalse();
+        assertThat(redis.get(KEY, Profile.class).name()).isEqualTo("bob");
+    }
+
+    @Test
+    @DisplayName("put: given hot key with a copy → deletes the copy")
+    void put_givenCopy_deletesCopy() {
+        TwoTierCache cache = hotPod();
+        redis.put(KEY, profile("alice"));
+        cache.get(KEY);
+        assertThat(writer.contains(COPY)).isTrue();
+
+        cache.put(KEY, profile("bob"));
+
+        assertThat(writer.contains(COPY)).isFalse();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private TwoTierCache pod() {
+        return new TwoTierCache(redis, Caffeine.newBuilder().build(), bus);
+    }
+
+    /** A pod on which every key turns hot on its first read, with one Redis copy. */
+    private TwoTierCache hotPod() {
+        TwoTierCacheProperties.HotKeys props = new TwoTierCacheProperties.HotKeys();
+        props.setSampleRate(1.0);
+        props.setThreshold(1);
+        props.setWindow(Duration.ofSeconds(1));
+        props.setReplicas(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TwoTierCache.HotKeyTier tier = new TwoTierCache.HotKeyTier(new HotKeyDetector(CACHE, props, registry),
+                Caffeine.newBuilder().build(), props.getReplicas(), props.getReplicaEvictDelay(), replicaWriter,
+                CACHE, registry);
+        return new TwoTierCache(redis, Caffeine.newBuilder().build(), bus, tier);
+    }
+
+    private static Profile profile(String name) {
+        return new Profile(UUID.randomUUID(), name, Instant.now().truncatedTo(ChronoUnit.MILLIS),
+                Stream.of("a", "b").toList());
+    }
+}